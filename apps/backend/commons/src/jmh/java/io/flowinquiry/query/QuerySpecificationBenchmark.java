@@ -0,0 +1,260 @@
+package io.flowinquiry.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.flowinquiry.modules.teams.domain.Ticket;
+import io.flowinquiry.modules.usermanagement.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+/**
+ * Measures the CPU cost of turning the saved filters of the dashboards into a JPA predicate.
+ *
+ * <p>{@code compiledCold} compiles the plan on every call (cache miss) and {@code compiledWarm} is
+ * the steady state where only the values are bound to a cached plan. {@code baseline} runs {@code
+ * QueryUtils} from another build of this module, e.g. the tree walk used before plans were
+ * compiled, and only runs when that jar is given. No database is needed: Hibernate is bootstrapped
+ * without JDBC metadata access and only builds criteria objects.
+ *
+ * <p>Run with {@code ./gradlew :apps:backend:commons:jmh}, and add {@code -PjmhBaselineJar=<commons
+ * jar>} to compare with a previous build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class QuerySpecificationBenchmark {
+
+    @Param({"teamTickets", "projectTickets", "userSearch"})
+    private String savedFilter;
+
+    private EntityManagerFactory entityManagerFactory;
+
+    private EntityManager entityManager;
+
+    private CriteriaBuilder cb;
+
+    private Class<Object> entityClass;
+
+    private QueryDTO queryDTO;
+
+    private MethodHandle baselineCreateSpecification;
+
+    private Object baselineQueryDTO;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        LocalContainerEntityManagerFactoryBean factoryBean =
+                new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setPackagesToScan("io.flowinquiry");
+        factoryBean.setPersistenceProvider(new HibernatePersistenceProvider());
+        // Never connected: the benchmark only builds criteria queries
+        factoryBean.setDataSource(new SimpleDriverDataSource());
+        factoryBean.setJpaPropertyMap(
+                Map.of(
+                        "hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect",
+                        "hibernate.boot.allow_jdbc_metadata_access", "false",
+                        "hibernate.cache.use_second_level_cache", "false",
+                        "hibernate.hbm2ddl.auto", "none"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        cb = entityManager.getCriteriaBuilder();
+
+        switch (savedFilter) {
+            case "teamTickets" -> {
+                entityClass = (Class<Object>) (Class<?>) Ticket.class;
+                queryDTO = teamTicketsQuery();
+            }
+            case "projectTickets" -> {
+                entityClass = (Class<Object>) (Class<?>) Ticket.class;
+                queryDTO = new QueryDTO();
+                queryDTO.setFilters(List.of(new Filter("project.id", FilterOperator.EQ, 5L)));
+            }
+            case "userSearch" -> {
+                entityClass = (Class<Object>) (Class<?>) User.class;
+                queryDTO = new QueryDTO();
+                queryDTO.setFilters(
+                        List.of(new Filter("firstName,lastName", FilterOperator.LK, "jo")));
+            }
+            default -> throw new IllegalArgumentException("Unknown filter " + savedFilter);
+        }
+
+        String baselineJar = System.getProperty("jmh.baselineJar");
+        if (baselineJar != null) {
+            loadBaseline(Path.of(baselineJar));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Predicate baseline() throws Throwable {
+        return toPredicate(
+                (Specification<Object>) baselineCreateSpecification.invoke(baselineQueryDTO));
+    }
+
+    @Benchmark
+    public Predicate compiledCold() {
+        QueryPlanCompiler.clearCache();
+        return toPredicate(QueryUtils.createSpecification(queryDTO));
+    }
+
+    @Benchmark
+    public Predicate compiledWarm() {
+        return toPredicate(QueryUtils.createSpecification(queryDTO));
+    }
+
+    private Predicate toPredicate(Specification<Object> specification) {
+        CriteriaQuery<Object> query = cb.createQuery(entityClass);
+        Root<Object> root = query.from(entityClass);
+        return specification.toPredicate(root, query, cb);
+    }
+
+    /**
+     * Loads {@code io.flowinquiry.query} from the baseline jar, everything else (entities,
+     * Hibernate, Spring) is shared with this build. The query is copied into the baseline classes
+     * once, so only {@code createSpecification} and the predicate are measured.
+     */
+    private void loadBaseline(Path jar) throws Exception {
+        ClassLoader loader =
+                new BaselineClassLoader(jar.toUri().toURL(), getClass().getClassLoader());
+        Class<?> queryUtils = loader.loadClass(QueryUtils.class.getName());
+        Class<?> baselineQueryClass = loader.loadClass(QueryDTO.class.getName());
+        baselineCreateSpecification =
+                MethodHandles.publicLookup()
+                        .findStatic(
+                                queryUtils,
+                                "createSpecification",
+                                MethodType.methodType(Specification.class, baselineQueryClass));
+        baselineQueryDTO = new ObjectMapper().convertValue(queryDTO, baselineQueryClass);
+    }
+
+    /** The query sent by the team ticket list with every advanced search option selected. */
+    private static QueryDTO teamTicketsQuery() {
+        GroupFilter assigned =
+                group(
+                        LogicalOperator.AND,
+                        List.of(
+                                new Filter("isCompleted", FilterOperator.EQ, false),
+                                new Filter("isNew", FilterOperator.EQ, false)),
+                        List.of());
+        GroupFilter status =
+                group(
+                        LogicalOperator.OR,
+                        List.of(
+                                new Filter("isNew", FilterOperator.EQ, true),
+                                new Filter("isCompleted", FilterOperator.EQ, true)),
+                        List.of(assigned));
+        GroupFilter priority =
+                group(
+                        LogicalOperator.AND,
+                        List.of(new Filter("priority", FilterOperator.EQ, "High")),
+                        List.of());
+        GroupFilter assignee =
+                group(
+                        LogicalOperator.AND,
+                        List.of(new Filter("assignUser.id", FilterOperator.EQ, 3L)),
+                        List.of());
+        GroupFilter dateRange =
+                group(
+                        LogicalOperator.AND,
+                        List.of(
+                                new Filter("createdAt", FilterOperator.GT, "2025-01-01T00:00:00Z"),
+                                new Filter("createdAt", FilterOperator.LT, "2025-06-30T00:00:00Z")),
+                        List.of());
+        GroupFilter search =
+                group(
+                        LogicalOperator.OR,
+                        List.of(
+                                new Filter("requestTitle", FilterOperator.LK, "refund"),
+                                new Filter("requestDescription", FilterOperator.LK, "refund")),
+                        List.of());
+
+        GroupFilter team =
+                group(
+                        LogicalOperator.AND,
+                        List.of(
+                                new Filter("team.id", FilterOperator.EQ, 1L),
+                                new Filter("project", FilterOperator.EQ, null)),
+                        List.of(status, priority, assignee, dateRange, search));
+
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setGroups(List.of(team));
+        return queryDTO;
+    }
+
+    private static GroupFilter group(
+            LogicalOperator operator, List<Filter> filters, List<GroupFilter> groups) {
+        GroupFilter group = new GroupFilter();
+        group.setLogicalOperator(operator);
+        group.setFilters(new ArrayList<>(filters));
+        group.setGroups(new ArrayList<>(groups));
+        return group;
+    }
+
+    /** Child-first for the query package only, the rest comes from this build. */
+    private static final class BaselineClassLoader extends URLClassLoader {
+
+        private static final String QUERY_PACKAGE = QueryDTO.class.getPackageName() + ".";
+
+        BaselineClassLoader(URL jar, ClassLoader parent) {
+            super(new URL[] {jar}, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(QUERY_PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    loaded = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+    }
+}
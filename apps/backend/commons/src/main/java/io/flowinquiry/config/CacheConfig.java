@@ -12,6 +12,9 @@ import org.springframework.context.annotation.Configuration;
 @EnableCaching
 public class CacheConfig {
 
+    /** Mapped tickets, see {@code TicketCache}. */
+    public static final String TICKETS_CACHE = "tickets";
+
     @Bean
     public CacheManager cacheManager() {
         Caffeine<Object, Object> caffeineBuilder =
@@ -21,6 +24,14 @@ public class CacheConfig {
 
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setCaffeine(caffeineBuilder);
+        // Registered up front so the actuator binds its hit/miss metrics (cache.gets) at startup
+        cacheManager.registerCustomCache(
+                TICKETS_CACHE,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(10, TimeUnit.MINUTES)
+                        .maximumSize(10_000)
+                        .recordStats()
+                        .build());
         return cacheManager;
     }
 }
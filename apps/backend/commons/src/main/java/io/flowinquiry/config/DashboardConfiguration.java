@@ -0,0 +1,39 @@
+package io.flowinquiry.config;
+
+import io.flowinquiry.tenant.TenantAwareDelegatingTaskExecutor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor for the sections of the team dashboard. It is bounded by {@code
+ * flowinquiry.dashboard.max-concurrency} so that dashboards can not take more database connections
+ * than that, and it carries the tenant and security context of the request to its threads.
+ */
+@Configuration
+public class DashboardConfiguration {
+
+    @Bean(name = "dashboardTaskExecutor")
+    public TaskExecutor dashboardTaskExecutor(
+            FlowInquiryProperties flowInquiryProperties, Environment environment) {
+        FlowInquiryProperties.Dashboard dashboard = flowInquiryProperties.getDashboard();
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dashboard-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(dashboard.getMaxConcurrency());
+            return new TenantAwareDelegatingTaskExecutor(executor);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dashboard.getMaxConcurrency());
+        executor.setMaxPoolSize(dashboard.getMaxConcurrency());
+        executor.setQueueCapacity(dashboard.getQueueCapacity());
+        executor.setThreadNamePrefix("dashboard-");
+        executor.initialize();
+        return new TenantAwareDelegatingTaskExecutor(executor);
+    }
+}
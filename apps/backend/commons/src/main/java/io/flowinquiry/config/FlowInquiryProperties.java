@@ -25,6 +25,8 @@ public class FlowInquiryProperties {
 
     private final Slack slack = new Slack();
 
+    private final Dashboard dashboard = new Dashboard();
+
     @Getter
     public static class Http {
         private final Cache cache = new Cache();
@@ -59,4 +61,14 @@ public class FlowInquiryProperties {
     public static class Slack {
         private String token;
     }
+
+    @Getter
+    @Setter
+    public static class Dashboard {
+        /** Most dashboard sections running at the same time, across all requests. */
+        private int maxConcurrency = 8;
+
+        /** Sections waiting for a thread before new ones run on the request thread. */
+        private int queueCapacity = 64;
+    }
 }
@@ -0,0 +1,49 @@
+package io.flowinquiry.db;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL full-text search functions used by the {@code ft} filter operator.
+ * Registered through {@code META-INF/services}.
+ *
+ * <p>{@code fw_search_document} is defined by the Liquibase changelog and is immutable, so the
+ * expression indexes built on it are used when a query calls it with the same columns. Text is
+ * parsed with the {@code simple} configuration: no stemming or stop words, which suits tickets
+ * written in any language.
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+
+    /** {@code fw_search_document(text...)}: the tsvector of its arguments, first one weighted A. */
+    public static final String SEARCH_DOCUMENT = "fw_search_document";
+
+    /** {@code fts_match(document, query)}: whether the document matches a web search query. */
+    public static final String MATCH = "fts_match";
+
+    /** {@code fts_rank(document, query)}: relevance of the document for a web search query. */
+    public static final String RANK = "fts_rank";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry basicTypeRegistry =
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions
+                .getFunctionRegistry()
+                .registerNamed(
+                        SEARCH_DOCUMENT, basicTypeRegistry.resolve(StandardBasicTypes.STRING));
+        functionContributions
+                .getFunctionRegistry()
+                .registerPattern(
+                        MATCH,
+                        "(?1 @@ websearch_to_tsquery('simple', ?2))",
+                        basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions
+                .getFunctionRegistry()
+                .registerPattern(
+                        RANK,
+                        "ts_rank(?1, websearch_to_tsquery('simple', ?2))",
+                        basicTypeRegistry.resolve(StandardBasicTypes.DOUBLE));
+    }
+}
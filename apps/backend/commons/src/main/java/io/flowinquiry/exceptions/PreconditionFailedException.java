@@ -0,0 +1,9 @@
+package io.flowinquiry.exceptions;
+
+/** The exception when a conditional request, such as one with If-Match, does not hold */
+public class PreconditionFailedException extends UserException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
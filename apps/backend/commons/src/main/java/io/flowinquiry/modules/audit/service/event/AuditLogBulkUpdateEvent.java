@@ -0,0 +1,38 @@
+package io.flowinquiry.modules.audit.service.event;
+
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.flowinquiry.modules.shared.service.event.DurableEvent;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Audit event for an update applied to many entities at once. The two lists are aligned by index:
+ * {@code previousEntities.get(i)} is the state of {@code updatedEntities.get(i)} before the update.
+ */
+@Getter
+public class AuditLogBulkUpdateEvent extends ApplicationEvent implements DurableEvent {
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+    private final List<?> previousEntities;
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+    private final List<?> updatedEntities;
+
+    @JsonCreator
+    public AuditLogBulkUpdateEvent(
+            @JacksonInject Object source,
+            @JsonProperty("previousEntities") List<?> previousEntities,
+            @JsonProperty("updatedEntities") List<?> updatedEntities) {
+        super(source);
+        if (previousEntities.size() != updatedEntities.size()) {
+            throw new IllegalArgumentException(
+                    "Previous and updated entities must have the same size");
+        }
+        this.previousEntities = previousEntities;
+        this.updatedEntities = updatedEntities;
+    }
+}
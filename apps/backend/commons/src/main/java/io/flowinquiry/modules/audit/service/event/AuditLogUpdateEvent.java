@@ -1,15 +1,27 @@
 package io.flowinquiry.modules.audit.service.event;
 
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.flowinquiry.modules.shared.service.event.DurableEvent;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 @Getter
-public class AuditLogUpdateEvent extends ApplicationEvent {
+public class AuditLogUpdateEvent extends ApplicationEvent implements DurableEvent {
 
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
     private final Object previousEntity;
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
     private final Object updatedEntity;
 
-    public AuditLogUpdateEvent(Object source, Object previousEntity, Object updatedEntity) {
+    @JsonCreator
+    public AuditLogUpdateEvent(
+            @JacksonInject Object source,
+            @JsonProperty("previousEntity") Object previousEntity,
+            @JsonProperty("updatedEntity") Object updatedEntity) {
         super(source);
         this.previousEntity = previousEntity;
         this.updatedEntity = updatedEntity;
@@ -2,19 +2,19 @@ package io.flowinquiry.modules.audit.service.listener;
 
 import io.flowinquiry.modules.audit.service.EntityFieldHandlerRegistry;
 import io.flowinquiry.modules.audit.service.EntityFieldHandlerRegistryFactory;
+import io.flowinquiry.modules.audit.service.event.AuditLogBulkUpdateEvent;
 import io.flowinquiry.modules.audit.service.event.AuditLogUpdateEvent;
 import io.flowinquiry.modules.audit.utils.ActivityLogUtils;
 import io.flowinquiry.modules.audit.utils.AuditUtils;
 import io.flowinquiry.modules.collab.domain.ActivityLog;
-import io.flowinquiry.modules.collab.domain.EntityType;
 import io.flowinquiry.modules.collab.repository.ActivityLogRepository;
 import io.flowinquiry.security.SecurityUtils;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,29 +35,15 @@ public class AuditLogUpdateEventListener {
         this.applicationContext = applicationContext;
     }
 
-    @Async("asyncTaskExecutor")
     @Transactional
     @EventListener
     public void onNewTicketCreated(AuditLogUpdateEvent event) {
         try {
-            Object previousEntity = event.getPreviousEntity();
-            Object updatedEntity = event.getUpdatedEntity();
-            Class<?> entityClass = updatedEntity.getClass();
-            Long entityId = extractEntityId(updatedEntity);
-
-            // Get the registry for the entity
-            EntityFieldHandlerRegistry registry = registryFactory.getRegistry(entityClass);
-
-            // Find changes between the existing DTO and updated entity
-            List<AuditUtils.FieldChange> changes =
-                    AuditUtils.findChanges(previousEntity, updatedEntity, registry);
-
-            if (!changes.isEmpty()) {
-                // Generate HTML content
-                String htmlLog = ActivityLogUtils.generateHtmlLog(changes);
-
+            ActivityLog activityLog =
+                    buildActivityLog(event.getPreviousEntity(), event.getUpdatedEntity());
+            if (activityLog != null) {
                 // Save the aggregated activity log
-                saveActivityLog(registry.getEntityType(), entityId, htmlLog);
+                activityLogRepository.save(activityLog);
             }
         } catch (Exception e) {
             // Log the exception
@@ -65,13 +51,50 @@ public class AuditLogUpdateEventListener {
         }
     }
 
-    private void saveActivityLog(EntityType entityType, Long entityId, String activityDetails) {
+    @Transactional
+    @EventListener
+    public void onBulkUpdate(AuditLogBulkUpdateEvent event) {
+        try {
+            List<?> previousEntities = event.getPreviousEntities();
+            List<?> updatedEntities = event.getUpdatedEntities();
+            List<ActivityLog> activityLogs = new ArrayList<>();
+            for (int i = 0; i < updatedEntities.size(); i++) {
+                ActivityLog activityLog =
+                        buildActivityLog(previousEntities.get(i), updatedEntities.get(i));
+                if (activityLog != null) {
+                    activityLogs.add(activityLog);
+                }
+            }
+            activityLogRepository.saveAll(activityLogs);
+        } catch (Exception e) {
+            log.error("Error in async logEntityChanges for a bulk update", e);
+        }
+    }
+
+    private ActivityLog buildActivityLog(Object previousEntity, Object updatedEntity)
+            throws IllegalAccessException {
+        Class<?> entityClass = updatedEntity.getClass();
+        Long entityId = extractEntityId(updatedEntity);
+
+        // Get the registry for the entity
+        EntityFieldHandlerRegistry registry = registryFactory.getRegistry(entityClass);
+
+        // Find changes between the existing DTO and updated entity
+        List<AuditUtils.FieldChange> changes =
+                AuditUtils.findChanges(previousEntity, updatedEntity, registry);
+        if (changes.isEmpty()) {
+            return null;
+        }
+
+        // Generate HTML content
+        String htmlLog = ActivityLogUtils.generateHtmlLog(changes);
+
         ActivityLog activityLog = new ActivityLog();
-        activityLog.setEntityType(entityType);
+        activityLog.setEntityType(registry.getEntityType());
         activityLog.setEntityId(entityId);
-        activityLog.setContent(activityDetails);
+        activityLog.setContent(htmlLog);
         activityLog.setCreatedBy(SecurityUtils.getCurrentUserAuditorLogin());
-        activityLogRepository.save(activityLog);
+        return activityLog;
     }
 
     private Long extractEntityId(Object entity) {
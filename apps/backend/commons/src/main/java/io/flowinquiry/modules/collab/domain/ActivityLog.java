@@ -14,6 +14,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.Instant;
 import lombok.AllArgsConstructor;
@@ -35,7 +36,11 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 public class ActivityLog extends TenantScopedEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fw_activity_log_id_seq")
+    @SequenceGenerator(
+            name = "fw_activity_log_id_seq",
+            sequenceName = "fw_activity_log_id_seq",
+            allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
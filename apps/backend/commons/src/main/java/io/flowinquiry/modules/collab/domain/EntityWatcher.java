@@ -26,7 +26,11 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 public class EntityWatcher extends TenantScopedEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fw_entity_watchers_id_seq")
+    @SequenceGenerator(
+            name = "fw_entity_watchers_id_seq",
+            sequenceName = "fw_entity_watchers_id_seq",
+            allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -12,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -32,7 +33,11 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 public class Notification extends TenantScopedCreationAuditingEntity<Long> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fw_notification_id_seq")
+    @SequenceGenerator(
+            name = "fw_notification_id_seq",
+            sequenceName = "fw_notification_id_seq",
+            allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
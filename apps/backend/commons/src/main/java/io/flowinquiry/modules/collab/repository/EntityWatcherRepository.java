@@ -35,6 +35,14 @@ public interface EntityWatcherRepository extends JpaRepository<EntityWatcher, Lo
     List<Long> findWatcherIdsByEntity(
             @Param("entityType") EntityType entityType, @Param("entityId") Long entityId);
 
+    @Query(
+            "SELECT ew.entityId FROM EntityWatcher ew WHERE ew.entityType = :entityType "
+                    + "AND ew.entityId IN :entityIds AND ew.watchUser.id = :watchUserId")
+    List<Long> findEntityIdsWatchedByUser(
+            @Param("entityType") EntityType entityType,
+            @Param("entityIds") Collection<Long> entityIds,
+            @Param("watchUserId") Long watchUserId);
+
     @QueryHints({
         @QueryHint(name = "org.hibernate.cacheable", value = "true"),
         @QueryHint(name = "org.hibernate.cacheRegion", value = "queryWatchers")
@@ -48,11 +56,11 @@ public interface EntityWatcherRepository extends JpaRepository<EntityWatcher, Lo
     })
     Page<EntityWatcher> findByWatchUserId(Long userId, Pageable pageable);
 
-    void deleteByEntityTypeAndEntityIdAndWatchUserId(
+    Long deleteByEntityTypeAndEntityIdAndWatchUserId(
             EntityType entityType, Long entityId, Long watchUserId);
 
     @Modifying
     @Transactional
-    void deleteByEntityTypeAndEntityIdAndWatchUser_IdIn(
+    Long deleteByEntityTypeAndEntityIdAndWatchUser_IdIn(
             EntityType entityType, Long entityId, Collection<Long> watchUserIds);
 }
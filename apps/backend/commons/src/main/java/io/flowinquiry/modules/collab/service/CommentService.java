@@ -1,9 +1,12 @@
 package io.flowinquiry.modules.collab.service;
 
+import io.flowinquiry.modules.collab.domain.Comment;
 import io.flowinquiry.modules.collab.domain.EntityType;
 import io.flowinquiry.modules.collab.repository.CommentRepository;
 import io.flowinquiry.modules.collab.service.dto.CommentDTO;
 import io.flowinquiry.modules.collab.service.mapper.CommentMapper;
+import io.flowinquiry.modules.shared.service.outbox.OutboxService;
+import io.flowinquiry.modules.teams.service.TicketCache;
 import io.flowinquiry.modules.teams.service.event.TicketCommentCreatedEvent;
 import java.util.List;
 import org.springframework.context.ApplicationEventPublisher;
@@ -20,19 +23,25 @@ public class CommentService {
 
     private final CommentMapper commentMapper;
 
+    private final TicketCache ticketCache;
+
     public CommentService(
             ApplicationEventPublisher eventPublisher,
             CommentRepository commentRepository,
-            CommentMapper commentMapper) {
-        this.eventPublisher = eventPublisher;
+            CommentMapper commentMapper,
+            TicketCache ticketCache,
+            OutboxService outboxService) {
+        this.eventPublisher = outboxService.publisherFor(eventPublisher);
         this.commentRepository = commentRepository;
         this.commentMapper = commentMapper;
+        this.ticketCache = ticketCache;
     }
 
     public CommentDTO saveComment(CommentDTO comment) {
         CommentDTO savedComment =
                 commentMapper.toDTO(commentRepository.save(commentMapper.toEntity(comment)));
         if (savedComment.getEntityType() == EntityType.Ticket) {
+            ticketCache.evict(savedComment.getEntityId());
             eventPublisher.publishEvent(new TicketCommentCreatedEvent(this, savedComment));
         }
         return savedComment;
@@ -55,9 +64,16 @@ public class CommentService {
     }
 
     public void deleteComment(Long id) {
-        if (!commentRepository.existsById(id)) {
-            throw new IllegalArgumentException("Comment not found with id: " + id);
+        Comment comment =
+                commentRepository
+                        .findById(id)
+                        .orElseThrow(
+                                () ->
+                                        new IllegalArgumentException(
+                                                "Comment not found with id: " + id));
+        if (comment.getEntityType() == EntityType.Ticket) {
+            ticketCache.evict(comment.getEntityId());
         }
-        commentRepository.deleteById(id);
+        commentRepository.delete(comment);
     }
 }
@@ -5,6 +5,9 @@ import io.flowinquiry.modules.collab.domain.EntityWatcher;
 import io.flowinquiry.modules.collab.repository.EntityWatcherRepository;
 import io.flowinquiry.modules.collab.service.mapper.EntityWatcherMapper;
 import io.flowinquiry.modules.fss.service.dto.EntityWatcherDTO;
+import io.flowinquiry.modules.teams.repository.TicketRepository;
+import io.flowinquiry.modules.teams.service.TicketCache;
+import io.flowinquiry.modules.teams.service.TicketViewProjector;
 import io.flowinquiry.modules.usermanagement.domain.User;
 import io.flowinquiry.modules.usermanagement.repository.UserRepository;
 import java.util.List;
@@ -20,14 +23,23 @@ public class EntityWatcherService {
     private final EntityWatcherRepository entityWatcherRepository;
     private final EntityWatcherMapper entityWatcherMapper;
     private final UserRepository userRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketCache ticketCache;
+    private final TicketViewProjector ticketViewProjector;
 
     public EntityWatcherService(
             EntityWatcherRepository entityWatcherRepository,
             EntityWatcherMapper entityWatcherMapper,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            TicketRepository ticketRepository,
+            TicketCache ticketCache,
+            TicketViewProjector ticketViewProjector) {
         this.entityWatcherRepository = entityWatcherRepository;
         this.entityWatcherMapper = entityWatcherMapper;
         this.userRepository = userRepository;
+        this.ticketRepository = ticketRepository;
+        this.ticketCache = ticketCache;
+        this.ticketViewProjector = ticketViewProjector;
     }
 
     @Transactional
@@ -56,12 +68,15 @@ public class EntityWatcherService {
                             .toList();
 
             entityWatcherRepository.saveAll(entityWatchers);
+            adjustWatcherCounter(entityType, entityId, entityWatchers.size());
         }
     }
 
     public void removeWatcher(EntityType entityType, Long entityId, Long userId) {
-        entityWatcherRepository.deleteByEntityTypeAndEntityIdAndWatchUserId(
-                entityType, entityId, userId);
+        long removed =
+                entityWatcherRepository.deleteByEntityTypeAndEntityIdAndWatchUserId(
+                        entityType, entityId, userId);
+        adjustWatcherCounter(entityType, entityId, -removed);
     }
 
     @Transactional(readOnly = true)
@@ -79,7 +94,17 @@ public class EntityWatcherService {
 
     @Transactional
     public void removeWatchers(EntityType entityType, Long entityId, List<Long> watcherIds) {
-        entityWatcherRepository.deleteByEntityTypeAndEntityIdAndWatchUser_IdIn(
-                entityType, entityId, watcherIds);
+        long removed =
+                entityWatcherRepository.deleteByEntityTypeAndEntityIdAndWatchUser_IdIn(
+                        entityType, entityId, watcherIds);
+        adjustWatcherCounter(entityType, entityId, -removed);
+    }
+
+    private void adjustWatcherCounter(EntityType entityType, Long entityId, long delta) {
+        if (entityType == EntityType.Ticket && delta != 0) {
+            ticketRepository.adjustNumberWatchers(entityId, Math.toIntExact(delta));
+            ticketCache.evict(entityId);
+            ticketViewProjector.ticketChanged(entityId);
+        }
     }
 }
@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.context.event.EventListener;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -143,6 +144,20 @@ public class MailService {
                 subject,
                 content);
 
+        try {
+            send(sender, to, subject, content, isMultipart, isHtml);
+        } catch (MailException e) {
+            log.warn("Email could not be sent to user '{}'", to, e);
+        }
+    }
+
+    private void send(
+            JavaMailSender sender,
+            String to,
+            String subject,
+            String content,
+            boolean isMultipart,
+            boolean isHtml) {
         try {
             MimeMessage mimeMessage = sender.createMimeMessage();
             MimeMessageHelper message =
@@ -153,8 +168,8 @@ public class MailService {
             message.setText(content, isHtml);
             sender.send(mimeMessage);
             log.debug("Sent email to User '{}'", to);
-        } catch (MailException | MessagingException e) {
-            log.warn("Email could not be sent to user '{}'", to, e);
+        } catch (MessagingException e) {
+            throw new MailPreparationException(e);
         }
     }
 
@@ -176,6 +191,22 @@ public class MailService {
 
     @Async
     public void sendEmail(EmailContext emailContext) {
+        try {
+            sendEmailSync(emailContext);
+        } catch (MailException e) {
+            log.warn(
+                    "Email could not be sent to user '{}'", emailContext.getToUser().getEmail(), e);
+        }
+    }
+
+    /**
+     * Sends the email on the calling thread. Unlike {@link #sendEmail(EmailContext)}, a failure to
+     * send is thrown, so that the caller can retry it; nothing is sent while mail is not
+     * configured.
+     *
+     * @throws MailException if the email could not be sent
+     */
+    public void sendEmailSync(EmailContext emailContext) {
         if (emailContext.getToUser() == null
                 || emailContext.getToUser().getEmail() == null
                 || emailContext.getSubject() == null) {
@@ -189,12 +220,15 @@ public class MailService {
         String content =
                 templateEngine.process(
                         emailContext.getTemplate(), emailContext.getThymeleafContext());
-        this.sendEmail(
-                emailContext.getToUser().getEmail(),
-                emailContext.getSubject(),
-                content,
-                false,
-                true);
+        if (mailEnabled && mailSender != null) {
+            send(
+                    mailSender,
+                    emailContext.getToUser().getEmail(),
+                    emailContext.getSubject(),
+                    content,
+                    false,
+                    true);
+        }
     }
 
     @Async
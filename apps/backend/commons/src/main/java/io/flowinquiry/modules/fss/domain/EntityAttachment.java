@@ -7,6 +7,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.Instant;
@@ -34,7 +35,11 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 public class EntityAttachment extends TenantScopedCreationAuditingEntity<Long> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fw_entity_attachment_id_seq")
+    @SequenceGenerator(
+            name = "fw_entity_attachment_id_seq",
+            sequenceName = "fw_entity_attachment_id_seq",
+            allocationSize = 50)
     private Long id;
 
     @EqualsAndHashCode.Include
@@ -1,9 +1,13 @@
 package io.flowinquiry.modules.fss.service;
 
+import io.flowinquiry.modules.collab.domain.EntityType;
 import io.flowinquiry.modules.fss.domain.EntityAttachment;
 import io.flowinquiry.modules.fss.repository.EntityAttachmentRepository;
 import io.flowinquiry.modules.fss.service.dto.EntityAttachmentDTO;
 import io.flowinquiry.modules.fss.service.mapper.EntityAttachmentMapper;
+import io.flowinquiry.modules.teams.repository.TicketRepository;
+import io.flowinquiry.modules.teams.service.TicketCache;
+import io.flowinquiry.modules.teams.service.TicketViewProjector;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,14 +23,23 @@ public class EntityAttachmentService {
     private final EntityAttachmentRepository entityAttachmentRepository;
     private final EntityAttachmentMapper entityAttachmentMapper;
     private final StorageService storageService;
+    private final TicketRepository ticketRepository;
+    private final TicketCache ticketCache;
+    private final TicketViewProjector ticketViewProjector;
 
     public EntityAttachmentService(
             EntityAttachmentRepository entityAttachmentRepository,
             EntityAttachmentMapper entityAttachmentMapper,
-            StorageService storageService) {
+            StorageService storageService,
+            TicketRepository ticketRepository,
+            TicketCache ticketCache,
+            TicketViewProjector ticketViewProjector) {
         this.entityAttachmentRepository = entityAttachmentRepository;
         this.entityAttachmentMapper = entityAttachmentMapper;
         this.storageService = storageService;
+        this.ticketRepository = ticketRepository;
+        this.ticketCache = ticketCache;
+        this.ticketViewProjector = ticketViewProjector;
     }
 
     /**
@@ -86,11 +99,20 @@ public class EntityAttachmentService {
         }
 
         // Perform batch insert for all attachments
-        return entityAttachmentRepository.saveAll(attachments);
+        List<EntityAttachment> savedAttachments = entityAttachmentRepository.saveAll(attachments);
+        adjustAttachmentCounter(entityType, entityId, savedAttachments.size());
+        return savedAttachments;
     }
 
+    @Transactional
     public EntityAttachment saveEntityAttachment(EntityAttachment entityAttachment) {
-        return entityAttachmentRepository.save(entityAttachment);
+        boolean isNew = entityAttachment.getId() == null;
+        EntityAttachment savedAttachment = entityAttachmentRepository.save(entityAttachment);
+        if (isNew) {
+            adjustAttachmentCounter(
+                    savedAttachment.getEntityType(), savedAttachment.getEntityId(), 1);
+        }
+        return savedAttachment;
     }
 
     /**
@@ -111,6 +133,7 @@ public class EntityAttachmentService {
      * @param entityType The type of entity (e.g., "ticket", "comment").
      * @param entityId The ID of the entity.
      */
+    @Transactional
     public void deleteAttachments(String entityType, Long entityId) throws Exception {
         List<EntityAttachment> attachments =
                 entityAttachmentRepository.findByEntityTypeAndEntityId(entityType, entityId);
@@ -123,6 +146,7 @@ public class EntityAttachmentService {
 
         // Delete the attachment records from the database
         entityAttachmentRepository.deleteAll(attachments);
+        adjustAttachmentCounter(entityType, entityId, -attachments.size());
     }
 
     /**
@@ -146,6 +170,17 @@ public class EntityAttachmentService {
                             }
 
                             entityAttachmentRepository.deleteById(attachmentId);
+                            adjustAttachmentCounter(
+                                    attachment.getEntityType(), attachment.getEntityId(), -1);
                         });
     }
+
+    /** Keeps the denormalized attachment counter of a ticket in sync with its attachments. */
+    private void adjustAttachmentCounter(String entityType, Long entityId, int delta) {
+        if (EntityType.Ticket.name().equals(entityType) && delta != 0) {
+            ticketRepository.adjustNumberAttachments(entityId, delta);
+            ticketCache.evict(entityId);
+            ticketViewProjector.ticketChanged(entityId);
+        }
+    }
 }
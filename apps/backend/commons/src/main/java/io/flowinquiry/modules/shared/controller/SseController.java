@@ -1,11 +1,21 @@
 package io.flowinquiry.modules.shared.controller;
 
+import static io.flowinquiry.modules.shared.domain.EventPayloadType.DASHBOARD_DELTA;
+
 import io.flowinquiry.modules.shared.domain.EventPayload;
 import io.flowinquiry.modules.shared.domain.EventPayloadType;
+import io.flowinquiry.modules.teams.service.TeamDashboardSubscriptions;
+import io.flowinquiry.modules.teams.service.TeamService;
+import io.flowinquiry.modules.teams.service.dto.TeamDashboardDeltaDTO;
+import io.flowinquiry.modules.usermanagement.service.dto.UserKey;
+import io.flowinquiry.security.SecurityUtils;
 import io.flowinquiry.sse.UserEventSinkManager;
+import io.flowinquiry.tenant.TenantContext;
 import java.util.List;
+import java.util.UUID;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,20 +26,55 @@ public class SseController {
 
     private final UserEventSinkManager sinkManager;
 
-    public SseController(UserEventSinkManager sinkManager) {
+    private final TeamDashboardSubscriptions dashboardSubscriptions;
+
+    private final TeamService teamService;
+
+    public SseController(
+            UserEventSinkManager sinkManager,
+            TeamDashboardSubscriptions dashboardSubscriptions,
+            TeamService teamService) {
         this.sinkManager = sinkManager;
+        this.dashboardSubscriptions = dashboardSubscriptions;
+        this.teamService = teamService;
     }
 
     @GetMapping(value = "/sse/events/{userId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public Flux<ServerSentEvent<EventPayload>> streamEvents(@PathVariable Long userId) {
         return sinkManager
                 .getSink(userId)
-                .map(
+                .filter(payload -> payload.getType() != DASHBOARD_DELTA)
+                .map(SseController::toServerSentEvent);
+    }
+
+    /**
+     * Streams the {@link TeamDashboardDeltaDTO}s of the team to the user while the stream is open.
+     * Clients load the dashboard once the stream is open and apply the deltas to it, and load it
+     * again when they reconnect, since the deltas sent in between are lost.
+     *
+     * <p>Only the user themselves can open the stream, and only for a team they belong to.
+     */
+    @GetMapping(
+            value = "/sse/events/{userId}/teams/{teamId}/dashboard",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<EventPayload>> streamTeamDashboard(
+            @PathVariable Long userId, @PathVariable Long teamId) {
+        Long currentUserId = SecurityUtils.getCurrentUserLogin().map(UserKey::getId).orElse(null);
+        if (!userId.equals(currentUserId) || !teamService.isMember(userId, teamId)) {
+            throw new AccessDeniedException(
+                    "User " + currentUserId + " can not stream the dashboard of team " + teamId);
+        }
+        UUID tenantId = TenantContext.findTenantId().orElse(null);
+        return sinkManager
+                .getSink(userId)
+                .filter(
                         payload ->
-                                ServerSentEvent.<EventPayload>builder()
-                                        .event(payload.getType().name())
-                                        .data(payload)
-                                        .build());
+                                payload.getData() instanceof TeamDashboardDeltaDTO delta
+                                        && teamId.equals(delta.teamId()))
+                .map(SseController::toServerSentEvent)
+                .doOnSubscribe(
+                        subscription -> dashboardSubscriptions.subscribe(tenantId, teamId, userId))
+                .doFinally(signal -> dashboardSubscriptions.unsubscribe(tenantId, teamId, userId));
     }
 
     public void sendEventToUser(Long userId, EventPayloadType type, Object data) {
@@ -43,4 +88,11 @@ public class SseController {
     public void broadcastEvent(EventPayloadType type, Object data) {
         sinkManager.broadcast(new EventPayload(type, data));
     }
+
+    private static ServerSentEvent<EventPayload> toServerSentEvent(EventPayload payload) {
+        return ServerSentEvent.<EventPayload>builder()
+                .event(payload.getType().name())
+                .data(payload)
+                .build();
+    }
 }
@@ -6,5 +6,6 @@ public enum EventPayloadType {
     NEW_TICKET,
     NEW_TICKET_COMMENT,
     NEW_PROJECT,
-    NOTIFICATION
+    NOTIFICATION,
+    DASHBOARD_DELTA
 }
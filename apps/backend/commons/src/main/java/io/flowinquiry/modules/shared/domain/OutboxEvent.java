@@ -0,0 +1,73 @@
+package io.flowinquiry.modules.shared.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A domain event waiting to be delivered to its listeners. Rows are written in the transaction that
+ * publishes the event and deleted in the transaction that delivers it.
+ *
+ * <p>Not tenant scoped: the dispatcher reads the rows of every tenant and restores {@link
+ * #tenantId} while delivering.
+ */
+@Entity
+@Table(name = "fw_outbox_event")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fw_outbox_event_id_seq")
+    @SequenceGenerator(
+            name = "fw_outbox_event_id_seq",
+            sequenceName = "fw_outbox_event_id_seq",
+            allocationSize = 50)
+    private Long id;
+
+    @Column(name = "tenant_id")
+    private UUID tenantId;
+
+    /** Class name of the event. */
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxEventStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    /** The user whose request published the event. */
+    @Column(name = "created_by")
+    private Long createdBy;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,8 @@
+package io.flowinquiry.modules.shared.domain;
+
+public enum OutboxEventStatus {
+    /** Waiting for delivery, possibly after failed attempts. */
+    PENDING,
+    /** Gave up after too many failed attempts; kept for inspection. */
+    FAILED
+}
@@ -0,0 +1,84 @@
+package io.flowinquiry.modules.shared.reppository;
+
+import io.flowinquiry.modules.shared.domain.OutboxEvent;
+import io.flowinquiry.modules.shared.domain.OutboxEventStatus;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Claims up to {@code limit} pending events that are due, oldest first, by moving their next
+     * attempt to {@code leaseUntil}. Rows locked by a concurrent claim are skipped rather than
+     * waited for, so dispatchers on several nodes take disjoint batches; a claimed event that is
+     * neither delivered nor failed before the lease ends (e.g. its node died) is claimed again.
+     *
+     * <p>Not {@link Modifying}, which can not return the rows, so the table is declared as the
+     * query space instead: Hibernate then knows this query writes {@code fw_outbox_event}, flushes
+     * pending changes of that table only and invalidates cached results that read it.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "fw_outbox_event"))
+    @Query(
+            value =
+                    """
+                UPDATE fw_outbox_event
+                SET next_attempt_at = :leaseUntil
+                WHERE id IN (
+                    SELECT id FROM fw_outbox_event
+                    WHERE status = 'PENDING' AND next_attempt_at <= :now
+                    ORDER BY id
+                    LIMIT :limit
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING *
+            """,
+            nativeQuery = true)
+    List<OutboxEvent> claimDueEvents(
+            @Param("now") Instant now,
+            @Param("leaseUntil") Instant leaseUntil,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id = :id")
+    void deleteDelivered(@Param("id") Long id);
+
+    /**
+     * Records that the step {@code stepKey} of delivering event {@code eventId} is done. The steps
+     * of an event are removed with it.
+     *
+     * @return 1 if the step was recorded, 0 if it already was by an earlier delivery
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "fw_outbox_step"))
+    @Query(
+            value =
+                    """
+                INSERT INTO fw_outbox_step (outbox_event_id, step_key, completed_at)
+                VALUES (:eventId, :stepKey, :completedAt)
+                ON CONFLICT DO NOTHING
+            """,
+            nativeQuery = true)
+    int insertStep(
+            @Param("eventId") Long eventId,
+            @Param("stepKey") String stepKey,
+            @Param("completedAt") Instant completedAt);
+
+    @Modifying
+    @Query(
+            "UPDATE OutboxEvent e SET e.status = :status, e.attempts = :attempts,"
+                    + " e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError"
+                    + " WHERE e.id = :id")
+    void recordFailedAttempt(
+            @Param("id") Long id,
+            @Param("status") OutboxEventStatus status,
+            @Param("attempts") int attempts,
+            @Param("nextAttemptAt") Instant nextAttemptAt,
+            @Param("lastError") String lastError);
+}
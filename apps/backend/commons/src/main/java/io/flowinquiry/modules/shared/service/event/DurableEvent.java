@@ -0,0 +1,15 @@
+package io.flowinquiry.modules.shared.service.event;
+
+import io.flowinquiry.modules.shared.service.outbox.OutboxDispatcher;
+import io.flowinquiry.modules.shared.service.outbox.OutboxService;
+
+/**
+ * Marks an application event that is delivered through the outbox. Published inside a transaction
+ * by a service using {@link OutboxService#publisherFor}, the event is stored together with the
+ * changes it announces and only reaches its listeners once {@link OutboxDispatcher} picks up the
+ * committed row.
+ *
+ * <p>Events are stored as JSON, so implementations need a {@code @JsonCreator} constructor that
+ * receives the event source as an injected value.
+ */
+public interface DurableEvent {}
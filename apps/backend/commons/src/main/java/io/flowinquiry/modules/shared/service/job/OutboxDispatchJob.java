@@ -0,0 +1,32 @@
+package io.flowinquiry.modules.shared.service.job;
+
+import io.flowinquiry.modules.shared.service.outbox.OutboxDispatcher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("!test")
+public class OutboxDispatchJob {
+
+    private final OutboxDispatcher outboxDispatcher;
+
+    public OutboxDispatchJob(OutboxDispatcher outboxDispatcher) {
+        this.outboxDispatcher = outboxDispatcher;
+    }
+
+    /**
+     * Scheduled job to deliver the events waiting in the outbox.
+     *
+     * <p>Deliberately not guarded by a scheduler lock: the dispatcher claims events with {@code
+     * SKIP LOCKED}, so every node polls and they share the delivery work. Each node delivers one
+     * event at a time; a full batch is followed by the next one right away.
+     */
+    @Scheduled(fixedDelay = 1000) // Polls every second
+    public void dispatchOutboxEvents() {
+        int claimed;
+        do {
+            claimed = outboxDispatcher.dispatchDueEvents();
+        } while (claimed == OutboxDispatcher.BATCH_SIZE);
+    }
+}
@@ -0,0 +1,169 @@
+package io.flowinquiry.modules.shared.service.outbox;
+
+import io.flowinquiry.modules.shared.domain.OutboxEvent;
+import io.flowinquiry.modules.shared.domain.OutboxEventStatus;
+import io.flowinquiry.modules.shared.reppository.OutboxEventRepository;
+import io.flowinquiry.modules.usermanagement.service.dto.UserKey;
+import io.flowinquiry.security.SecurityUtils;
+import io.flowinquiry.tenant.TenantContext;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Delivers the events stored by {@link OutboxService} to their listeners.
+ *
+ * <p>Each call claims a bounded batch of due events, so a burst of writes is spread over several
+ * polls instead of flooding the listeners, and several nodes can dispatch at once without taking
+ * the same events. Every event is then delivered in its own transaction, which the transactional
+ * listeners join and which also deletes the row: either the listeners' changes and the removal from
+ * the outbox commit together, or the attempt is recorded and retried later with a growing delay.
+ * Side effects that a rollback can not undo are kept from repeating when a later listener fails:
+ * the SSE pushes wait for that commit, and mail and AI work runs as steps of the delivery (see
+ * {@link OutboxService#runOnce}), each committed on its own and skipped when the event is retried.
+ *
+ * <p>Delivery is at least once: an event whose node stops after the listeners ran but before the
+ * commit, or whose listener has side effects outside the database, can be seen again.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    public static final int BATCH_SIZE = 100;
+
+    public static final int MAX_ATTEMPTS = 10;
+
+    /** How long a claimed event stays hidden from other dispatchers. */
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private static final Duration FIRST_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    /** The id of the event being delivered on this thread. */
+    private static final ThreadLocal<Long> deliveringEventId = new ThreadLocal<>();
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final OutboxEventCodec outboxEventCodec;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public OutboxDispatcher(
+            OutboxEventRepository outboxEventRepository,
+            OutboxEventCodec outboxEventCodec,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxEventCodec = outboxEventCodec;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Delivers one batch of due events.
+     *
+     * @return the number of events claimed, delivered or not
+     */
+    public int dispatchDueEvents() {
+        Instant now = Instant.now();
+        List<OutboxEvent> events =
+                transactionTemplate.execute(
+                        status ->
+                                outboxEventRepository.claimDueEvents(
+                                        now, now.plus(LEASE), BATCH_SIZE));
+        events.stream().sorted(Comparator.comparing(OutboxEvent::getId)).forEach(this::deliver);
+        return events.size();
+    }
+
+    /** Returns the id of the event whose listeners run on this thread, if any. */
+    static Optional<Long> deliveringEventId() {
+        return Optional.ofNullable(deliveringEventId.get());
+    }
+
+    private void deliver(OutboxEvent event) {
+        TenantContext.setTenantId(event.getTenantId());
+        SecurityContextHolder.setContext(securityContextOf(event));
+        deliveringEventId.set(event.getId());
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        eventPublisher.publishEvent(
+                                outboxEventCodec.decode(
+                                        event.getEventType(), event.getPayload(), this));
+                        outboxEventRepository.deleteDelivered(event.getId());
+                    });
+        } catch (RuntimeException e) {
+            recordFailedAttempt(event, e);
+        } finally {
+            deliveringEventId.remove();
+            TenantContext.clear();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private void recordFailedAttempt(OutboxEvent event, RuntimeException error) {
+        int attempts = event.getAttempts() + 1;
+        OutboxEventStatus status =
+                attempts >= MAX_ATTEMPTS ? OutboxEventStatus.FAILED : OutboxEventStatus.PENDING;
+        if (status == OutboxEventStatus.FAILED) {
+            log.error(
+                    "Giving up on outbox event {} ({}) after {} attempts",
+                    event.getId(),
+                    event.getEventType(),
+                    attempts,
+                    error);
+        } else {
+            log.warn(
+                    "Delivery of outbox event {} ({}) failed, attempt {}",
+                    event.getId(),
+                    event.getEventType(),
+                    attempts,
+                    error);
+        }
+        String lastError = String.valueOf(error);
+        transactionTemplate.executeWithoutResult(
+                s ->
+                        outboxEventRepository.recordFailedAttempt(
+                                event.getId(),
+                                status,
+                                attempts,
+                                Instant.now().plus(retryDelay(attempts)),
+                                lastError.substring(
+                                        0, Math.min(lastError.length(), MAX_ERROR_LENGTH))));
+    }
+
+    /** 30 seconds after the first failure, doubling with every further one up to an hour. */
+    private static Duration retryDelay(int attempts) {
+        Duration delay = FIRST_RETRY_DELAY.multipliedBy(1L << Math.min(attempts - 1, 16));
+        return delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay;
+    }
+
+    /**
+     * Rebuilds an authentication carrying the publishing user, for listeners that record who made
+     * the change (see {@link SecurityUtils#getCurrentUserAuditorLogin()}).
+     */
+    private static SecurityContext securityContextOf(OutboxEvent event) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        if (event.getCreatedBy() != null && event.getTenantId() != null) {
+            UserKey publisher = new UserKey(event.getCreatedBy(), null, event.getTenantId());
+            context.setAuthentication(
+                    UsernamePasswordAuthenticationToken.authenticated(publisher, null, List.of()));
+        }
+        return context;
+    }
+}
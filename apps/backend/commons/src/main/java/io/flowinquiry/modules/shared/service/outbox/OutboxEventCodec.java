@@ -0,0 +1,59 @@
+package io.flowinquiry.modules.shared.service.outbox;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.flowinquiry.modules.shared.service.event.DurableEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Converts {@link DurableEvent}s to the JSON stored in the outbox and back. The event source is not
+ * stored (it is usually the publishing service); decoded events get the given source instead.
+ */
+@Component
+public class OutboxEventCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventCodec(ObjectMapper objectMapper) {
+        this.objectMapper =
+                objectMapper.copy().addMixIn(ApplicationEvent.class, ApplicationEventMixIn.class);
+    }
+
+    public String encode(ApplicationEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(
+                    "Can not store event " + event.getClass().getName() + " in the outbox", e);
+        }
+    }
+
+    public ApplicationEvent decode(String eventType, String payload, Object source) {
+        Class<?> type;
+        try {
+            type = ClassUtils.forName(eventType, getClass().getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unknown outbox event type " + eventType, e);
+        }
+        if (!ApplicationEvent.class.isAssignableFrom(type)
+                || !DurableEvent.class.isAssignableFrom(type)) {
+            throw new IllegalStateException(eventType + " is not a durable event");
+        }
+        try {
+            return (ApplicationEvent)
+                    objectMapper
+                            .readerFor(type)
+                            .with(new InjectableValues.Std().addValue(Object.class, source))
+                            .readValue(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Can not read outbox event " + eventType, e);
+        }
+    }
+
+    @JsonIgnoreProperties({"source", "timestamp"})
+    private abstract static class ApplicationEventMixIn {}
+}
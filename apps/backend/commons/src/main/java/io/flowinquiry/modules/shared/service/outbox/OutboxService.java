@@ -0,0 +1,107 @@
+package io.flowinquiry.modules.shared.service.outbox;
+
+import io.flowinquiry.modules.shared.domain.OutboxEvent;
+import io.flowinquiry.modules.shared.domain.OutboxEventStatus;
+import io.flowinquiry.modules.shared.reppository.OutboxEventRepository;
+import io.flowinquiry.modules.shared.service.event.DurableEvent;
+import io.flowinquiry.modules.usermanagement.service.dto.UserKey;
+import io.flowinquiry.security.SecurityUtils;
+import io.flowinquiry.tenant.TenantContext;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes {@link DurableEvent}s to the outbox. Listeners of such events used to run on the async
+ * executor right away, possibly before the publishing transaction committed, and queued tasks were
+ * lost when the node stopped. Stored in the publishing transaction instead, an event exists exactly
+ * when the changes it announces do, and {@link OutboxDispatcher} delivers it afterwards.
+ */
+@Service
+@Slf4j
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final OutboxEventCodec outboxEventCodec;
+
+    private final TransactionTemplate stepTransactionTemplate;
+
+    public OutboxService(
+            OutboxEventRepository outboxEventRepository,
+            OutboxEventCodec outboxEventCodec,
+            PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxEventCodec = outboxEventCodec;
+        this.stepTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.stepTransactionTemplate.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Returns a publisher that stores durable events published inside a transaction in the outbox
+     * and passes every other event to {@code delegate}.
+     */
+    public ApplicationEventPublisher publisherFor(ApplicationEventPublisher delegate) {
+        return event -> {
+            if (event instanceof DurableEvent
+                    && TransactionSynchronizationManager.isActualTransactionActive()) {
+                append((ApplicationEvent) event);
+            } else {
+                delegate.publishEvent(event);
+            }
+        };
+    }
+
+    /**
+     * Runs {@code step}, a part of a listener with side effects that a rollback can not undo, at
+     * most once per delivered event.
+     *
+     * <p>While {@link OutboxDispatcher} delivers an event, the step runs in a transaction of its
+     * own that also records {@code stepKey} for the event. A failing step rolls back and fails the
+     * delivery, so the event is retried; a step that succeeded commits its changes and its key at
+     * once, and is skipped when the event is delivered again because another listener failed.
+     * Outside of a delivery the step just runs.
+     *
+     * @param stepKey identifies the step among all steps of the event's listeners, e.g. the
+     *     listener and the recipient
+     */
+    public void runOnce(String stepKey, Runnable step) {
+        Long eventId = OutboxDispatcher.deliveringEventId().orElse(null);
+        if (eventId == null) {
+            step.run();
+            return;
+        }
+        stepTransactionTemplate.executeWithoutResult(
+                status -> {
+                    if (outboxEventRepository.insertStep(eventId, stepKey, Instant.now()) == 0) {
+                        log.debug("Step {} of outbox event {} is already done", stepKey, eventId);
+                        return;
+                    }
+                    step.run();
+                });
+    }
+
+    /** Stores {@code event} in the outbox as part of the current transaction. */
+    public void append(ApplicationEvent event) {
+        Instant now = Instant.now();
+        Long createdBy = SecurityUtils.getCurrentUserLogin().map(UserKey::getId).orElse(null);
+        outboxEventRepository.save(
+                OutboxEvent.builder()
+                        .tenantId(TenantContext.findTenantId().orElse(null))
+                        .eventType(event.getClass().getName())
+                        .payload(outboxEventCodec.encode(event))
+                        .status(OutboxEventStatus.PENDING)
+                        .attempts(0)
+                        .nextAttemptAt(now)
+                        .createdBy(createdBy)
+                        .createdAt(now)
+                        .build());
+    }
+}
@@ -6,6 +6,7 @@ import io.flowinquiry.modules.teams.service.TeamService;
 import io.flowinquiry.modules.teams.service.dto.TeamDTO;
 import io.flowinquiry.modules.usermanagement.service.dto.UserDTO;
 import io.flowinquiry.modules.usermanagement.service.dto.UserWithTeamRoleDTO;
+import io.flowinquiry.query.CountMode;
 import io.flowinquiry.query.QueryDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -221,8 +222,11 @@ public class TeamController {
     public Page<TeamDTO> findTeams(
             @Parameter(description = "Query parameters for filtering teams") @Valid @RequestBody
                     Optional<QueryDTO> queryDTO,
-            @Parameter(description = "Pagination information") Pageable pageable) {
-        return teamService.findTeams(queryDTO, pageable);
+            @Parameter(description = "Pagination information") Pageable pageable,
+            @Parameter(description = "How to count the total: exact, estimate or none")
+                    @RequestParam(value = "count", defaultValue = "exact")
+                    String count) {
+        return teamService.findTeams(queryDTO, pageable, CountMode.fromValue(count));
     }
 
     @Operation(
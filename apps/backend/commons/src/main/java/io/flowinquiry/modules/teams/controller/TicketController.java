@@ -1,19 +1,37 @@
 package io.flowinquiry.modules.teams.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.flowinquiry.modules.teams.domain.WorkflowTransitionHistoryStatus;
+import io.flowinquiry.modules.teams.service.TeamDashboardService;
+import io.flowinquiry.modules.teams.service.TicketDailyRollupService;
+import io.flowinquiry.modules.teams.service.TicketExportService;
 import io.flowinquiry.modules.teams.service.TicketService;
+import io.flowinquiry.modules.teams.service.TicketViewService;
 import io.flowinquiry.modules.teams.service.WorkflowTransitionHistoryService;
 import io.flowinquiry.modules.teams.service.dto.PriorityDistributionDTO;
+import io.flowinquiry.modules.teams.service.dto.TeamDashboardDTO;
 import io.flowinquiry.modules.teams.service.dto.TeamTicketPriorityDistributionDTO;
 import io.flowinquiry.modules.teams.service.dto.TicketActionCountByDateDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketBulkUpdateDTO;
 import io.flowinquiry.modules.teams.service.dto.TicketDTO;
 import io.flowinquiry.modules.teams.service.dto.TicketDistributionDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketExportFormat;
+import io.flowinquiry.modules.teams.service.dto.TicketListItemDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketNeighborsDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketPatchResult;
+import io.flowinquiry.modules.teams.service.dto.TicketRollupDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketRollupGranularity;
+import io.flowinquiry.modules.teams.service.dto.TicketViewDTO;
 import io.flowinquiry.modules.teams.service.dto.TransitionItemCollectionDTO;
 import io.flowinquiry.modules.usermanagement.service.dto.TicketStatisticsDTO;
+import io.flowinquiry.query.CountMode;
+import io.flowinquiry.query.CursorSlice;
 import io.flowinquiry.query.QueryDTO;
 import io.flowinquiry.utils.DateUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -22,11 +40,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -36,10 +60,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/tickets")
@@ -48,13 +74,27 @@ import org.springframework.web.bind.annotation.RestController;
         description = "API endpoints for managing tickets and ticket-related operations")
 public class TicketController {
 
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final TicketService ticketService;
+    private final TicketExportService ticketExportService;
+    private final TicketViewService ticketViewService;
+    private final TicketDailyRollupService ticketDailyRollupService;
+    private final TeamDashboardService teamDashboardService;
     private final WorkflowTransitionHistoryService workflowTransitionHistoryService;
 
     public TicketController(
             TicketService ticketService,
+            TicketExportService ticketExportService,
+            TicketViewService ticketViewService,
+            TicketDailyRollupService ticketDailyRollupService,
+            TeamDashboardService teamDashboardService,
             WorkflowTransitionHistoryService workflowTransitionHistoryService) {
         this.ticketService = ticketService;
+        this.ticketExportService = ticketExportService;
+        this.ticketViewService = ticketViewService;
+        this.ticketDailyRollupService = ticketDailyRollupService;
+        this.teamDashboardService = teamDashboardService;
         this.workflowTransitionHistoryService = workflowTransitionHistoryService;
     }
 
@@ -76,8 +116,153 @@ public class TicketController {
     public Page<TicketDTO> findTickets(
             @Parameter(description = "Query parameters for filtering tickets") @Valid @RequestBody
                     QueryDTO queryDTO,
+            @Parameter(description = "Pagination information") Pageable pageable,
+            @Parameter(description = "How to count the total: exact, estimate or none")
+                    @RequestParam(value = "count", defaultValue = "exact")
+                    String count) {
+        return ticketService.findTickets(queryDTO, pageable, CountMode.fromValue(count));
+    }
+
+    @Operation(
+            summary = "Search tickets for a list view",
+            description =
+                    "Search for tickets based on query criteria with pagination, returning only the"
+                            + " requested fields. Unrequested fields are omitted from the response")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully retrieved tickets",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = Page.class))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Bad request - invalid query or unknown field",
+                        content = @Content)
+            })
+    @PostMapping(value = "/search", params = "fields")
+    public Page<TicketListItemDTO> findTicketListItems(
+            @Parameter(description = "Query parameters for filtering tickets") @Valid @RequestBody
+                    QueryDTO queryDTO,
+            @Parameter(
+                            description =
+                                    "Comma separated ticket fields to return, e.g."
+                                            + " requestTitle,priority,assignUserName")
+                    @RequestParam("fields")
+                    List<String> fields,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        return ticketService.findTickets(queryDTO, pageable);
+        return ticketService.findTicketListItems(queryDTO, fields, pageable);
+    }
+
+    @Operation(
+            summary = "Search the ticket view",
+            description =
+                    "Search for tickets in the denormalized ticket view, which holds the names of"
+                            + " users, states, iterations and epics and the SLA status, so no"
+                            + " joins are needed. The view is updated shortly after tickets"
+                            + " change and may lag behind them; use it for read-only lists and"
+                            + " boards")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully retrieved tickets",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = Page.class))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Bad request - invalid query or field not in the view",
+                        content = @Content)
+            })
+    @PostMapping("/search/view")
+    public Page<TicketViewDTO> findTicketsInView(
+            @Parameter(description = "Query parameters for filtering tickets") @Valid @RequestBody
+                    QueryDTO queryDTO,
+            @Parameter(description = "Pagination information") Pageable pageable,
+            @Parameter(description = "How to count the total: exact, estimate or none")
+                    @RequestParam(value = "count", defaultValue = "exact")
+                    String count) {
+        return ticketViewService.findTickets(queryDTO, pageable, CountMode.fromValue(count));
+    }
+
+    @Operation(
+            summary = "Export tickets",
+            description =
+                    "Export all tickets matching the query criteria as CSV or newline delimited"
+                            + " JSON. Rows are streamed, there is no pagination")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Tickets exported"),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Bad request - invalid query, field or format",
+                        content = @Content)
+            })
+    @PostMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTickets(
+            @Parameter(description = "Query parameters for filtering tickets") @Valid @RequestBody
+                    QueryDTO queryDTO,
+            @Parameter(description = "Export format, csv or ndjson")
+                    @RequestParam(value = "format", defaultValue = "csv")
+                    String format,
+            @Parameter(description = "Comma separated ticket fields to export, all by default")
+                    @RequestParam(value = "fields", required = false)
+                    List<String> fields,
+            @Parameter(description = "Sort criteria") Sort sort) {
+        TicketExportFormat exportFormat = TicketExportFormat.fromValue(format);
+        StreamingResponseBody body =
+                ticketExportService.exportTickets(queryDTO, fields, exportFormat, sort);
+        return ResponseEntity.ok()
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename("tickets." + exportFormat.getExtension())
+                                .build()
+                                .toString())
+                .contentType(exportFormat.getMediaType())
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Search tickets with a cursor",
+            description =
+                    "Search for tickets based on query criteria using keyset pagination. The"
+                            + " response carries an opaque cursor for the next slice and no"
+                            + " total count")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully retrieved tickets",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = CursorSlice.class))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Bad request - invalid query or cursor",
+                        content = @Content)
+            })
+    @PostMapping("/search/cursor")
+    public CursorSlice<TicketDTO> findTicketsByCursor(
+            @Parameter(description = "Query parameters for filtering tickets") @Valid @RequestBody
+                    QueryDTO queryDTO,
+            @Parameter(description = "Cursor returned with the previous slice")
+                    @RequestParam(value = "after", required = false)
+                    String after,
+            @Parameter(description = "Maximum number of tickets to return")
+                    @RequestParam(value = "size", defaultValue = "20")
+                    int size,
+            @Parameter(
+                            description =
+                                    "Sort by id, projectTicketNumber or priority, the ticket id is"
+                                            + " used as tie-breaker")
+                    Sort sort) {
+        return ticketService.findTicketsByCursor(queryDTO, after, size, sort);
     }
 
     @Operation(summary = "Get ticket by ID", description = "Retrieves a ticket by its ID")
@@ -103,6 +288,42 @@ public class TicketController {
         return ticketService.getTicketById(id);
     }
 
+    @Operation(
+            summary = "Get tickets by IDs",
+            description =
+                    "Retrieves the tickets with the given IDs in one request, in the order of the"
+                            + " IDs. IDs of tickets that do not exist are skipped")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully retrieved tickets",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        array =
+                                                @ArraySchema(
+                                                        schema =
+                                                                @Schema(
+                                                                        implementation =
+                                                                                TicketDTO.class)))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Bad request - too many IDs",
+                        content = @Content)
+            })
+    @GetMapping(params = "ids")
+    public List<TicketDTO> getTicketsByIds(
+            @Parameter(
+                            description =
+                                    "IDs of the tickets to retrieve, at most "
+                                            + TicketService.MAX_TICKETS_BY_IDS,
+                            required = true)
+                    @RequestParam("ids")
+                    List<Long> ids) {
+        return ticketService.getTicketsByIds(ids);
+    }
+
     @Operation(
             summary = "Create a new ticket",
             description = "Creates a new ticket with the provided information")
@@ -162,6 +383,86 @@ public class TicketController {
         return ticketService.updateTicket(ticketDTO);
     }
 
+    @Operation(
+            summary = "Patch a ticket",
+            description =
+                    "Applies a JSON merge patch (RFC 7396) to a ticket. Only the fields sent are"
+                            + " changed, and a null value clears a field. The response holds the"
+                            + " fields whose value changed and the new version of the ticket in"
+                            + " the ETag header")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Ticket successfully patched",
+                        content = @Content(mediaType = "application/json")),
+                @ApiResponse(
+                        responseCode = "400",
+                        description =
+                                "Bad request - not an object, unknown or read-only field, or"
+                                        + " invalid value",
+                        content = @Content),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "Ticket not found",
+                        content = @Content),
+                @ApiResponse(
+                        responseCode = "412",
+                        description = "Ticket changed since the version in If-Match",
+                        content = @Content)
+            })
+    @PatchMapping(value = "/{id}", consumes = MERGE_PATCH_JSON_VALUE)
+    public ResponseEntity<ObjectNode> patchTicket(
+            @Parameter(description = "ID of the ticket to patch", required = true)
+                    @PathVariable("id")
+                    Long id,
+            @Parameter(description = "Version the patch was made against, from a previous ETag")
+                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                    String ifMatch,
+            @Parameter(description = "Fields to change", required = true) @RequestBody
+                    JsonNode patch) {
+        TicketPatchResult result = ticketService.patchTicket(id, patch, parseVersion(ifMatch));
+        return ResponseEntity.ok().eTag(String.valueOf(result.version())).body(result.changes());
+    }
+
+    @Operation(
+            summary = "Bulk update tickets",
+            description =
+                    "Applies the same state, assignee, priority, iteration or epic change to "
+                            + "several tickets in one transaction")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Tickets successfully updated",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        array =
+                                                @ArraySchema(
+                                                        schema =
+                                                                @Schema(
+                                                                        implementation =
+                                                                                TicketDTO.class)))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description =
+                                "Bad request - no change requested, too many tickets or invalid"
+                                        + " state transition",
+                        content = @Content),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "Ticket or referenced entity not found",
+                        content = @Content)
+            })
+    @PatchMapping("/bulk")
+    public List<TicketDTO> bulkUpdateTickets(
+            @Parameter(description = "Ticket ids and the changes to apply", required = true)
+                    @Valid @RequestBody
+                    TicketBulkUpdateDTO bulkUpdate) {
+        return ticketService.bulkUpdateTickets(bulkUpdate);
+    }
+
     @Operation(summary = "Delete a ticket", description = "Deletes a ticket by its ID")
     @ApiResponses(
             value = {
@@ -241,6 +542,42 @@ public class TicketController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Get neighboring tickets",
+            description =
+                    "Retrieves the id and title of the previous and next tickets of the current"
+                            + " ticket in one call")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully retrieved neighboring tickets",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema =
+                                                @Schema(
+                                                        implementation =
+                                                                TicketNeighborsDTO.class))),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "Current ticket not found",
+                        content = @Content)
+            })
+    @GetMapping("/{currentId}/neighbors")
+    public ResponseEntity<TicketNeighborsDTO> getNeighbors(
+            @Parameter(description = "ID of the current ticket", required = true)
+                    @PathVariable("currentId")
+                    Long currentId,
+            @Parameter(description = "Optional project ID filter")
+                    @RequestParam(value = "projectId", required = false)
+                    Long projectId) {
+        return ticketService
+                .getTicketNeighbors(currentId, projectId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @Operation(
             summary = "Get ticket distribution for a team",
             description =
@@ -484,6 +821,101 @@ public class TicketController {
         return ticketService.getTicketCreationTimeSeries(teamId, days);
     }
 
+    @Operation(
+            summary = "Get the dashboard of a team",
+            description =
+                    "Retrieves the statistics, priority and ticket distributions, overdue ticket"
+                            + " count, ticket creation series and unassigned tickets of a team in"
+                            + " one call. The sections are read concurrently; the time each took"
+                            + " is returned in timings and in the Server-Timing header")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully retrieved the dashboard",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = TeamDashboardDTO.class)))
+            })
+    @GetMapping("/teams/{teamId}/dashboard")
+    public ResponseEntity<TeamDashboardDTO> getTeamDashboard(
+            @Parameter(description = "ID of the team", required = true) @PathVariable("teamId")
+                    Long teamId,
+            @Parameter(description = "Start date for the dashboard calculations")
+                    @RequestParam(value = "fromDate", required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    Instant fromDate,
+            @Parameter(description = "End date for the dashboard calculations")
+                    @RequestParam(value = "toDate", required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    Instant toDate,
+            @Parameter(description = "Predefined date range (alternative to fromDate/toDate)")
+                    @RequestParam(value = "range", required = false)
+                    String range,
+            @Parameter(description = "Number of days to include in the time series", example = "7")
+                    @RequestParam(value = "days", required = false, defaultValue = "7")
+                    int days,
+            @Parameter(description = "Pagination of the unassigned tickets") Pageable pageable) {
+
+        DateRange dateRange = processDateRange(fromDate, toDate, range);
+        TeamDashboardDTO dashboard =
+                teamDashboardService.getDashboard(
+                        teamId, dateRange.from, dateRange.to, days, pageable);
+        String serverTiming =
+                dashboard.timings().entrySet().stream()
+                        .map(timing -> timing.getKey() + ";dur=" + timing.getValue())
+                        .collect(Collectors.joining(", "));
+        return ResponseEntity.ok().header("Server-Timing", serverTiming).body(dashboard);
+    }
+
+    @Operation(
+            summary = "Get ticket rollups",
+            description =
+                    "Retrieves the tickets created, closed and still open of a team per day, week"
+                            + " or month. Days are UTC days and weeks start on Monday; a ticket"
+                            + " counts as open in the period it was created in")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully retrieved ticket rollups",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        array =
+                                                @ArraySchema(
+                                                        schema =
+                                                                @Schema(
+                                                                        implementation =
+                                                                                TicketRollupDTO
+                                                                                        .class)))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Bad request - invalid granularity or range",
+                        content = @Content)
+            })
+    @GetMapping("/teams/{teamId}/rollups")
+    public List<TicketRollupDTO> getTicketRollups(
+            @Parameter(description = "ID of the team", required = true) @PathVariable("teamId")
+                    Long teamId,
+            @Parameter(description = "Length of the periods: day, week or month")
+                    @RequestParam(value = "granularity", defaultValue = "day")
+                    String granularity,
+            @Parameter(description = "First day of the range, 29 days before toDate by default")
+                    @RequestParam(value = "fromDate", required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate fromDate,
+            @Parameter(description = "Last day of the range, today by default")
+                    @RequestParam(value = "toDate", required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate toDate) {
+        LocalDate lastDay = toDate != null ? toDate : LocalDate.now(ZoneOffset.UTC);
+        LocalDate firstDay = fromDate != null ? fromDate : lastDay.minusDays(29);
+        return ticketDailyRollupService.getRollups(
+                teamId, TicketRollupGranularity.fromValue(granularity), firstDay, lastDay);
+    }
+
     @Operation(
             summary = "Get overdue tickets for a user",
             description =
@@ -583,6 +1015,23 @@ public class TicketController {
         return ticketService.updateTicketState(ticketId, newStateId);
     }
 
+    /** Reads the version of an If-Match header, {@code null} when absent or {@code *}. */
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String version = ifMatch.trim();
+        if (version.startsWith("W/")) {
+            version = version.substring(2);
+        }
+        version = version.replace("\"", "");
+        try {
+            return Long.valueOf(version);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+
     /** Helper class to represent a date range */
     private record DateRange(Instant from, Instant to) {}
 
@@ -0,0 +1,73 @@
+package io.flowinquiry.modules.teams.controller;
+
+import io.flowinquiry.modules.teams.service.TicketViewService;
+import io.flowinquiry.modules.teams.service.dto.TicketViewRebuildDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketViewStatusDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/ticket-view")
+@RequiredArgsConstructor
+@Tag(
+        name = "Ticket View Administration",
+        description = "API endpoints for checking and rebuilding the ticket view")
+public class TicketViewController {
+
+    private final TicketViewService ticketViewService;
+
+    @Operation(
+            summary = "Get the ticket view status",
+            description =
+                    "Returns how many tickets of the tenant have a missing or outdated row in the"
+                            + " ticket view, and how long the oldest of them has been waiting")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully retrieved the status",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema =
+                                                @Schema(
+                                                        implementation =
+                                                                TicketViewStatusDTO.class)))
+            })
+    @GetMapping("/status")
+    public TicketViewStatusDTO getStatus() {
+        return ticketViewService.getStatus();
+    }
+
+    @Operation(
+            summary = "Rebuild the ticket view",
+            description =
+                    "Projects every ticket into the ticket view again, rewriting the rows that are"
+                            + " missing or differ from their ticket")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Ticket view successfully rebuilt",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema =
+                                                @Schema(
+                                                        implementation =
+                                                                TicketViewRebuildDTO.class)))
+            })
+    @PostMapping("/rebuild")
+    public TicketViewRebuildDTO rebuild() {
+        return ticketViewService.rebuild();
+    }
+}
@@ -4,6 +4,7 @@ import io.flowinquiry.modules.teams.service.WorkflowService;
 import io.flowinquiry.modules.teams.service.dto.WorkflowDTO;
 import io.flowinquiry.modules.teams.service.dto.WorkflowDetailedDTO;
 import io.flowinquiry.modules.teams.service.dto.WorkflowStateDTO;
+import io.flowinquiry.query.CountMode;
 import io.flowinquiry.query.QueryDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -61,8 +62,11 @@ public class WorkflowController {
     public Page<WorkflowDTO> findWorkflows(
             @Parameter(description = "Query parameters for filtering workflows") @Valid @RequestBody
                     Optional<QueryDTO> queryDTO,
-            @Parameter(description = "Pagination information") Pageable pageable) {
-        return workflowService.findWorkflows(queryDTO, pageable);
+            @Parameter(description = "Pagination information") Pageable pageable,
+            @Parameter(description = "How to count the total: exact, estimate or none")
+                    @RequestParam(value = "count", defaultValue = "exact")
+                    String count) {
+        return workflowService.findWorkflows(queryDTO, pageable, CountMode.fromValue(count));
     }
 
     @Operation(summary = "Get workflow by ID", description = "Retrieves a workflow by its ID")
@@ -7,7 +7,6 @@ import java.util.List;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.Formula;
 
 @Entity
 @Table(name = "fw_project_epic")
@@ -45,9 +44,18 @@ public class ProjectEpic extends TenantScopedAuditingEntity<Long> {
     @OneToMany(mappedBy = "epic", cascade = CascadeType.ALL)
     private List<Ticket> tickets;
 
-    @Formula("(SELECT COUNT(r.id) FROM fw_ticket r WHERE r.epic_id = id)")
+    // Denormalized totals of the tickets in the epic, maintained with deltas by EpicIterationTotals
+    // and repaired by EpicIterationTotalsReconciliationJob. They are neither insertable nor
+    // updatable so a stale instance can not overwrite them.
+    @Column(name = "total_tickets", insertable = false, updatable = false)
     private Long totalTickets;
 
-    @Formula("(SELECT SUM(r.estimate) FROM fw_ticket r WHERE r.epic_id = id)")
+    @Column(name = "total_story_points", insertable = false, updatable = false)
     private Long totalStoryPoints;
+
+    @Column(name = "completed_story_points", insertable = false, updatable = false)
+    private Long completedStoryPoints;
+
+    @Column(name = "remaining_story_points", insertable = false, updatable = false)
+    private Long remainingStoryPoints;
 }
@@ -6,7 +6,6 @@ import java.time.Instant;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.Formula;
 
 @Entity
 @Table(name = "fw_project_iteration")
@@ -43,9 +42,18 @@ public class ProjectIteration extends TenantScopedAuditingEntity<Long> {
     @Column(nullable = false)
     private Instant endDate;
 
-    @Formula("(SELECT COUNT(r.id) FROM fw_ticket r WHERE r.iteration_id = id)")
+    // Denormalized totals of the tickets in the iteration, maintained with deltas by
+    // EpicIterationTotals and repaired by EpicIterationTotalsReconciliationJob. They are neither
+    // insertable nor updatable so a stale instance can not overwrite them.
+    @Column(name = "total_tickets", insertable = false, updatable = false)
     private Long totalTickets;
 
-    @Formula("(SELECT SUM(r.estimate) FROM fw_ticket r WHERE r.iteration_id = id)")
+    @Column(name = "total_story_points", insertable = false, updatable = false)
     private Long totalStoryPoints;
+
+    @Column(name = "completed_story_points", insertable = false, updatable = false)
+    private Long completedStoryPoints;
+
+    @Column(name = "remaining_story_points", insertable = false, updatable = false)
+    private Long remainingStoryPoints;
 }
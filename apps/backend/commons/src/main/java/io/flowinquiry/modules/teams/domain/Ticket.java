@@ -3,6 +3,7 @@ package io.flowinquiry.modules.teams.domain;
 import io.flowinquiry.modules.usermanagement.domain.User;
 import io.flowinquiry.tenant.domain.TenantScopedAuditingEntity;
 import jakarta.persistence.*;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,7 +15,6 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
-import org.hibernate.annotations.Formula;
 
 @EqualsAndHashCode(callSuper = false)
 @Entity
@@ -28,7 +28,11 @@ import org.hibernate.annotations.Formula;
 public class Ticket extends TenantScopedAuditingEntity<Long> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fw_ticket_id_seq")
+    @SequenceGenerator(
+            name = "fw_ticket_id_seq",
+            sequenceName = "fw_ticket_id_seq",
+            allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -88,14 +92,31 @@ public class Ticket extends TenantScopedAuditingEntity<Long> {
     @Column(name = "is_completed", nullable = false)
     private Boolean isCompleted = false;
 
-    @Formula(
-            "(SELECT COUNT(a.id) FROM fw_entity_attachment a WHERE a.entity_type = 'Ticket' AND a.entity_id = id)")
+    // The latest workflow transition of the ticket and its SLA, written along with the history
+    // by TicketRepository.pointToTransitions. Not updatable, for the same reason as the counters.
+    @Column(name = "current_transition_id", updatable = false)
+    private Long currentTransitionId;
+
+    @Column(name = "current_sla_due_date", updatable = false)
+    private Instant currentSlaDueDate;
+
+    @Column(name = "current_sla_status", updatable = false)
+    @Enumerated(EnumType.STRING)
+    private WorkflowTransitionHistoryStatus currentSlaStatus;
+
+    // Denormalized counters, maintained with atomic increments by the attachment and watcher
+    // services. They are not updatable so a stale ticket instance can not overwrite them.
+    @Column(name = "number_attachments", nullable = false, updatable = false)
     private int numberAttachments;
 
-    @Formula(
-            "(SELECT COUNT(a.id) FROM fw_entity_watchers a WHERE a.entity_type = 'Ticket' AND a.entity_id = id)")
+    @Column(name = "number_watchers", nullable = false, updatable = false)
     private int numberWatchers;
 
+    // Not bumped by the counter increments above, which do not change what the ticket says
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToOne(
             mappedBy = "ticket",
             cascade = CascadeType.ALL,
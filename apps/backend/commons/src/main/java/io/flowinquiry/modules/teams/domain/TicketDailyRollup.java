@@ -0,0 +1,51 @@
+package io.flowinquiry.modules.teams.domain;
+
+import io.flowinquiry.tenant.domain.TenantScopedEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Ticket counts of a team for one day, priority and assignee. Rows are written with deltas by
+ * {@code TicketDailyRollups} and only read through JPA.
+ */
+@Entity
+@Immutable
+@Table(name = "fw_ticket_daily_rollup")
+@Getter
+@NoArgsConstructor
+public class TicketDailyRollup extends TenantScopedEntity {
+
+    @Id private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    @Convert(converter = TicketPriorityConverter.class)
+    private TicketPriority priority;
+
+    @Column(name = "assign_user_id")
+    private Long assignUserId;
+
+    /** Tickets created on the day. */
+    @Column(name = "created_count", nullable = false)
+    private int createdCount;
+
+    /** Tickets created on the day that are not completed yet. */
+    @Column(name = "open_count", nullable = false)
+    private int openCount;
+
+    /** Tickets completed on the day. */
+    @Column(name = "closed_count", nullable = false)
+    private int closedCount;
+}
@@ -0,0 +1,157 @@
+package io.flowinquiry.modules.teams.domain;
+
+import io.flowinquiry.tenant.domain.TenantScopedEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Flattened, read-only copy of a ticket for list and board views, with the names of its team,
+ * users, state, iteration and epic and the status of its latest transition. Rows are written by
+ * {@code TicketViewProjector} after the ticket changes, so they may briefly lag behind it.
+ */
+@Entity
+@Immutable
+@Table(name = "fw_ticket_view")
+@Getter
+@NoArgsConstructor
+public class TicketView extends TenantScopedEntity {
+
+    @Id private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "team_name")
+    private String teamName;
+
+    @Column(name = "workflow_id", nullable = false)
+    private Long workflowId;
+
+    @Column(name = "workflow_name")
+    private String workflowName;
+
+    @Column(name = "workflow_request_name")
+    private String workflowRequestName;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "project_name")
+    private String projectName;
+
+    @Column(name = "project_short_name")
+    private String projectShortName;
+
+    @Column(name = "project_ticket_number")
+    private Long projectTicketNumber;
+
+    @Column(name = "request_user_id", nullable = false)
+    private Long requestUserId;
+
+    @Column(name = "request_user_name")
+    private String requestUserName;
+
+    @Column(name = "request_user_image_url")
+    private String requestUserImageUrl;
+
+    @Column(name = "assign_user_id")
+    private Long assignUserId;
+
+    @Column(name = "assign_user_name")
+    private String assignUserName;
+
+    @Column(name = "assign_user_image_url")
+    private String assignUserImageUrl;
+
+    @Column(name = "request_title")
+    private String requestTitle;
+
+    @Column(nullable = false)
+    @Convert(converter = TicketPriorityConverter.class)
+    private TicketPriority priority;
+
+    @Column(name = "channel")
+    @Convert(converter = TicketChannelConverter.class)
+    private TicketChannel channel;
+
+    @Column
+    @Enumerated(EnumType.STRING)
+    private TShirtSize size;
+
+    @Column private Integer estimate;
+
+    @Column(name = "estimated_completion_date")
+    private LocalDate estimatedCompletionDate;
+
+    @Column(name = "actual_completion_date")
+    private LocalDate actualCompletionDate;
+
+    @Column(name = "current_state_id")
+    private Long currentStateId;
+
+    @Column(name = "current_state_name")
+    private String currentStateName;
+
+    @Column(name = "is_final_state", nullable = false)
+    private Boolean isFinalState;
+
+    @Column(name = "is_new", nullable = false)
+    private Boolean isNew;
+
+    @Column(name = "is_completed", nullable = false)
+    private Boolean isCompleted;
+
+    @Column(name = "is_deleted", nullable = false)
+    private Boolean isDeleted;
+
+    @Column(name = "iteration_id")
+    private Long iterationId;
+
+    @Column(name = "iteration_name")
+    private String iterationName;
+
+    @Column(name = "epic_id")
+    private Long epicId;
+
+    @Column(name = "epic_name")
+    private String epicName;
+
+    @Column(name = "parent_ticket_id")
+    private Long parentTicketId;
+
+    @Column(name = "number_attachments", nullable = false)
+    private int numberAttachments;
+
+    @Column(name = "number_watchers", nullable = false)
+    private int numberWatchers;
+
+    @Column(name = "sla_status")
+    @Enumerated(EnumType.STRING)
+    private WorkflowTransitionHistoryStatus slaStatus;
+
+    @Column(name = "sla_due_date")
+    private Instant slaDueDate;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "modified_at")
+    private Instant modifiedAt;
+
+    /** The version of the ticket this row was projected from. */
+    @Column(name = "ticket_version", nullable = false)
+    private Long ticketVersion;
+
+    @Column(name = "projected_at", nullable = false)
+    private Instant projectedAt;
+}
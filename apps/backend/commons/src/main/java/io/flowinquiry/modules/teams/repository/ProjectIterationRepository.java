@@ -6,9 +6,11 @@ import java.time.Instant;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface ProjectIterationRepository
@@ -22,4 +24,78 @@ public interface ProjectIterationRepository
             @Param("projectId") Long projectId,
             @Param("status") ProjectIterationStatus status,
             @Param("endDate") Instant endDate);
+
+    /**
+     * Adds the deltas to the totals of the iteration, see {@link
+     * io.flowinquiry.modules.teams.service.EpicIterationTotals}.
+     */
+    @Modifying
+    @Query(
+            "UPDATE ProjectIteration p SET p.totalTickets = p.totalTickets + :tickets, "
+                    + "p.totalStoryPoints = p.totalStoryPoints + :storyPoints, "
+                    + "p.completedStoryPoints = p.completedStoryPoints + :completedStoryPoints, "
+                    + "p.remainingStoryPoints = p.remainingStoryPoints + :remainingStoryPoints "
+                    + "WHERE p.id = :iterationId")
+    int adjustTotals(
+            @Param("iterationId") Long iterationId,
+            @Param("tickets") long tickets,
+            @Param("storyPoints") long storyPoints,
+            @Param("completedStoryPoints") long completedStoryPoints,
+            @Param("remainingStoryPoints") long remainingStoryPoints);
+
+    /**
+     * Moves the story points of the open tickets of the iteration from remaining to completed.
+     * Called right before {@link TicketRepository#findTicketsByIterationIdAndClose} completes them.
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+                UPDATE fw_project_iteration p
+                SET completed_story_points = p.completed_story_points + c.points,
+                    remaining_story_points = p.remaining_story_points - c.points
+                FROM (
+                    SELECT COALESCE(SUM(t.estimate), 0) AS points
+                    FROM fw_ticket t
+                    WHERE t.iteration_id = :iterationId
+                    AND t.is_completed = false
+                    AND t.is_deleted = false
+                ) c
+                WHERE p.id = :iterationId
+            """,
+            nativeQuery = true)
+    int completeOpenStoryPoints(@Param("iterationId") Long iterationId);
+
+    /**
+     * Recomputes the totals of every iteration from its tickets and fixes the rows that drifted.
+     *
+     * @return the number of iterations whose totals were corrected
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value =
+                    """
+                UPDATE fw_project_iteration p
+                SET total_tickets = c.tickets,
+                    total_story_points = c.points,
+                    completed_story_points = c.completed,
+                    remaining_story_points = c.points - c.completed
+                FROM (
+                    SELECT s.id,
+                           COUNT(t.id) AS tickets,
+                           COALESCE(SUM(t.estimate), 0) AS points,
+                           COALESCE(SUM(t.estimate) FILTER (WHERE t.is_completed), 0) AS completed
+                    FROM fw_project_iteration s
+                    LEFT JOIN fw_ticket t ON t.iteration_id = s.id AND t.is_deleted = false
+                    GROUP BY s.id
+                ) c
+                WHERE p.id = c.id
+                AND (p.total_tickets <> c.tickets
+                    OR p.total_story_points <> c.points
+                    OR p.completed_story_points <> c.completed
+                    OR p.remaining_story_points <> c.points - c.completed)
+            """,
+            nativeQuery = true)
+    int reconcileTotals();
 }
@@ -2,6 +2,27 @@ package io.flowinquiry.modules.teams.repository;
 
 import io.flowinquiry.modules.teams.domain.ProjectTicketSequence;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProjectTicketSequenceRepository
-        extends JpaRepository<ProjectTicketSequence, Long> {}
+        extends JpaRepository<ProjectTicketSequence, Long> {
+
+    /**
+     * Allocates the next ticket number of a project in one statement, creating its sequence on
+     * first use. Concurrent callers queue on the row lock instead of failing an optimistic version
+     * check; the lock is held until the caller's transaction ends, so numbers stay gapless.
+     */
+    @Query(
+            value =
+                    """
+                INSERT INTO fw_project_ticket_seq (project_id, last_ticket_number, version)
+                VALUES (:projectId, 1, 0)
+                ON CONFLICT (project_id) DO UPDATE
+                SET last_ticket_number = fw_project_ticket_seq.last_ticket_number + 1,
+                    version = fw_project_ticket_seq.version + 1
+                RETURNING last_ticket_number
+            """,
+            nativeQuery = true)
+    long allocateNextTicketNumber(@Param("projectId") Long projectId);
+}
@@ -85,6 +85,10 @@ public interface TeamRepository extends JpaRepository<Team, Long>, JpaSpecificat
             "SELECT COUNT(ut) > 0 FROM UserTeam ut WHERE ut.team.id = :teamId AND ut.role.name = 'manager'")
     boolean existsManagerInTeam(@Param("teamId") Long teamId);
 
+    @Query(
+            "SELECT COUNT(ut) > 0 FROM UserTeam ut WHERE ut.team.id = :teamId AND ut.user.id = :userId")
+    boolean existsMemberInTeam(@Param("teamId") Long teamId, @Param("userId") Long userId);
+
     /**
      * Finds all users who have the 'Manager' role in a given team.
      *
@@ -0,0 +1,253 @@
+package io.flowinquiry.modules.teams.repository;
+
+import io.flowinquiry.modules.teams.domain.TicketDailyRollup;
+import io.flowinquiry.modules.teams.service.dto.PriorityDistributionDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketDistributionDTO;
+import io.flowinquiry.modules.usermanagement.service.dto.TicketStatisticsDTO;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads and maintains the daily ticket rollups. Reads take the days from {@code fromDay} up to, not
+ * including, {@code toDay}.
+ */
+@Repository
+public interface TicketDailyRollupRepository extends JpaRepository<TicketDailyRollup, Long> {
+
+    /**
+     * Adds the deltas to the counts of one key, creating its row if needed, see {@link
+     * io.flowinquiry.modules.teams.service.TicketDailyRollups}. The tenant is the team's.
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+                INSERT INTO fw_ticket_daily_rollup (tenant_id, team_id, day, priority,
+                    assign_user_id, created_count, open_count, closed_count)
+                SELECT tm.tenant_id, tm.id, CAST(:day AS DATE), :priority,
+                    CAST(:assignUserId AS BIGINT), :created, :open, :closed
+                FROM fw_team tm
+                WHERE tm.id = :teamId
+                ON CONFLICT (tenant_id, team_id, day, priority, COALESCE(assign_user_id, 0))
+                DO UPDATE SET
+                    created_count = fw_ticket_daily_rollup.created_count + EXCLUDED.created_count,
+                    open_count = fw_ticket_daily_rollup.open_count + EXCLUDED.open_count,
+                    closed_count = fw_ticket_daily_rollup.closed_count + EXCLUDED.closed_count
+            """,
+            nativeQuery = true)
+    int adjustCounts(
+            @Param("teamId") Long teamId,
+            @Param("day") LocalDate day,
+            @Param("priority") int priority,
+            @Param("assignUserId") Long assignUserId,
+            @Param("created") int created,
+            @Param("open") int open,
+            @Param("closed") int closed);
+
+    /**
+     * Removes the open tickets of the iteration from the open counts of their creation days. With
+     * {@link #addClosedTicketsOfIteration(Long)}, counts the tickets the way {@link
+     * TicketRepository#findTicketsByIterationIdAndClose(Long)} completes them; both must be called
+     * right before the tickets are completed.
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+                UPDATE fw_ticket_daily_rollup r
+                SET open_count = r.open_count - c.tickets
+                FROM (
+                    SELECT t.tenant_id, t.team_id,
+                        CAST(t.created_at AT TIME ZONE 'UTC' AS DATE) AS created_day,
+                        t.priority, t.assign_user_id, COUNT(*) AS tickets
+                    FROM fw_ticket t
+                    WHERE t.iteration_id = :iterationId
+                        AND t.is_completed = false
+                        AND t.is_deleted = false
+                        AND t.created_at IS NOT NULL
+                    GROUP BY t.tenant_id, t.team_id, created_day, t.priority, t.assign_user_id
+                ) c
+                WHERE r.tenant_id = c.tenant_id
+                    AND r.team_id = c.team_id
+                    AND r.day = c.created_day
+                    AND r.priority = c.priority
+                    AND COALESCE(r.assign_user_id, 0) = COALESCE(c.assign_user_id, 0)
+            """,
+            nativeQuery = true)
+    int removeOpenTicketsOfIteration(@Param("iterationId") Long iterationId);
+
+    /**
+     * Counts the open tickets of the iteration as closed today, see {@link
+     * #removeOpenTicketsOfIteration(Long)}.
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+                INSERT INTO fw_ticket_daily_rollup (tenant_id, team_id, day, priority,
+                    assign_user_id, created_count, open_count, closed_count)
+                SELECT t.tenant_id, t.team_id, CURRENT_DATE, t.priority, t.assign_user_id, 0, 0,
+                    COUNT(*)
+                FROM fw_ticket t
+                WHERE t.iteration_id = :iterationId
+                    AND t.is_completed = false
+                    AND t.is_deleted = false
+                GROUP BY t.tenant_id, t.team_id, t.priority, t.assign_user_id
+                ON CONFLICT (tenant_id, team_id, day, priority, COALESCE(assign_user_id, 0))
+                DO UPDATE SET
+                    closed_count = fw_ticket_daily_rollup.closed_count + EXCLUDED.closed_count
+            """,
+            nativeQuery = true)
+    int addClosedTicketsOfIteration(@Param("iterationId") Long iterationId);
+
+    /**
+     * Recomputes the rollups of every team from its tickets and fixes the rows that drifted, of all
+     * tenants. The changelog that created the table backfilled it the same way. Runs as a query so
+     * that it can return the count of its data-modifying parts.
+     *
+     * @return the number of rows corrected
+     */
+    @Transactional
+    @Query(
+            value =
+                    """
+                WITH expected AS (
+                    SELECT tenant_id, team_id, day, priority, assign_user_id,
+                        SUM(created) AS created_count, SUM(open) AS open_count,
+                        SUM(closed) AS closed_count
+                    FROM (
+                        SELECT t.tenant_id, t.team_id,
+                            CAST(t.created_at AT TIME ZONE 'UTC' AS DATE) AS day, t.priority,
+                            t.assign_user_id, 1 AS created,
+                            CASE WHEN t.is_completed THEN 0 ELSE 1 END AS open, 0 AS closed
+                        FROM fw_ticket t
+                        WHERE t.is_deleted = false AND t.created_at IS NOT NULL
+                        UNION ALL
+                        SELECT t.tenant_id, t.team_id, t.actual_completion_date, t.priority,
+                            t.assign_user_id, 0, 0, 1
+                        FROM fw_ticket t
+                        WHERE t.is_deleted = false AND t.is_completed = true
+                            AND t.actual_completion_date IS NOT NULL
+                    ) c
+                    GROUP BY tenant_id, team_id, day, priority, assign_user_id
+                ),
+                cleared AS (
+                    UPDATE fw_ticket_daily_rollup r
+                    SET created_count = 0, open_count = 0, closed_count = 0
+                    WHERE (r.created_count <> 0 OR r.open_count <> 0 OR r.closed_count <> 0)
+                        AND NOT EXISTS (
+                            SELECT 1 FROM expected e
+                            WHERE e.tenant_id = r.tenant_id
+                                AND e.team_id = r.team_id
+                                AND e.day = r.day
+                                AND e.priority = r.priority
+                                AND COALESCE(e.assign_user_id, 0) = COALESCE(r.assign_user_id, 0))
+                    RETURNING r.id
+                ),
+                fixed AS (
+                    INSERT INTO fw_ticket_daily_rollup (tenant_id, team_id, day, priority,
+                        assign_user_id, created_count, open_count, closed_count)
+                    SELECT tenant_id, team_id, day, priority, assign_user_id, created_count,
+                        open_count, closed_count
+                    FROM expected
+                    ON CONFLICT (tenant_id, team_id, day, priority, COALESCE(assign_user_id, 0))
+                    DO UPDATE SET
+                        created_count = EXCLUDED.created_count,
+                        open_count = EXCLUDED.open_count,
+                        closed_count = EXCLUDED.closed_count
+                    WHERE (fw_ticket_daily_rollup.created_count,
+                            fw_ticket_daily_rollup.open_count,
+                            fw_ticket_daily_rollup.closed_count)
+                        IS DISTINCT FROM
+                        (EXCLUDED.created_count, EXCLUDED.open_count, EXCLUDED.closed_count)
+                    RETURNING id
+                )
+                SELECT (SELECT COUNT(*) FROM cleared) + (SELECT COUNT(*) FROM fixed)
+            """,
+            nativeQuery = true)
+    long reconcile();
+
+    @Query(
+            """
+                SELECT new io.flowinquiry.modules.usermanagement.service.dto.TicketStatisticsDTO(
+                    COALESCE(SUM(r.createdCount), 0L),
+                    COALESCE(SUM(r.openCount), 0L),
+                    COALESCE(SUM(r.createdCount - r.openCount), 0L))
+                FROM TicketDailyRollup r
+                WHERE r.teamId = :teamId
+                AND r.day >= :fromDay
+                AND r.day < :toDay
+            """)
+    TicketStatisticsDTO getTicketStatisticsByTeamId(
+            @Param("teamId") Long teamId,
+            @Param("fromDay") LocalDate fromDay,
+            @Param("toDay") LocalDate toDay);
+
+    @Query(
+            """
+                SELECT new io.flowinquiry.modules.teams.service.dto.TicketDistributionDTO(
+                    u.id, CONCAT(u.firstName, ' ', u.lastName), SUM(r.openCount))
+                FROM TicketDailyRollup r
+                LEFT JOIN User u ON u.id = r.assignUserId
+                WHERE r.teamId = :teamId
+                AND r.day >= :fromDay
+                AND r.day < :toDay
+                GROUP BY u.id, u.firstName, u.lastName
+                HAVING SUM(r.openCount) > 0
+            """)
+    List<TicketDistributionDTO> findTicketDistributionByTeamId(
+            @Param("teamId") Long teamId,
+            @Param("fromDay") LocalDate fromDay,
+            @Param("toDay") LocalDate toDay);
+
+    @Query(
+            """
+                SELECT new io.flowinquiry.modules.teams.service.dto.PriorityDistributionDTO(
+                    r.priority, SUM(r.openCount))
+                FROM TicketDailyRollup r
+                WHERE r.teamId = :teamId
+                AND r.day >= :fromDay
+                AND r.day < :toDay
+                GROUP BY r.priority
+                HAVING SUM(r.openCount) > 0
+            """)
+    List<PriorityDistributionDTO> findTicketPriorityDistributionByTeamId(
+            @Param("teamId") Long teamId,
+            @Param("fromDay") LocalDate fromDay,
+            @Param("toDay") LocalDate toDay);
+
+    /** The created, closed and open counts of the team per day, for the days that have any. */
+    @Query(
+            """
+                SELECT r.day AS day, SUM(r.createdCount) AS createdCount,
+                    SUM(r.closedCount) AS closedCount, SUM(r.openCount) AS openCount
+                FROM TicketDailyRollup r
+                WHERE r.teamId = :teamId
+                AND r.day >= :fromDay
+                AND r.day < :toDay
+                GROUP BY r.day
+                HAVING SUM(r.createdCount) <> 0 OR SUM(r.closedCount) <> 0
+                ORDER BY r.day
+            """)
+    List<DayCounts> findDayCountsByTeamId(
+            @Param("teamId") Long teamId,
+            @Param("fromDay") LocalDate fromDay,
+            @Param("toDay") LocalDate toDay);
+
+    /** The counts of one day, see {@link #findDayCountsByTeamId}. */
+    interface DayCounts {
+        LocalDate getDay();
+
+        long getCreatedCount();
+
+        long getClosedCount();
+
+        long getOpenCount();
+    }
+}
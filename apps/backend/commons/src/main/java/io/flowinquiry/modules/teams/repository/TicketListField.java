@@ -0,0 +1,277 @@
+package io.flowinquiry.modules.teams.repository;
+
+import io.flowinquiry.modules.teams.service.dto.TicketListItemDTO;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of {@link TicketListItemDTO} that can be requested with {@code fields=}, together with the
+ * ticket attribute paths that have to be selected to fill them. Associations are only joined when
+ * one of their non-id attributes is requested.
+ */
+public enum TicketListField {
+    ID("id", TicketListItemDTO::getId, single(TicketListItemDTO::setId), "id"),
+    TEAM_ID(
+            "teamId",
+            TicketListItemDTO::getTeamId,
+            single(TicketListItemDTO::setTeamId),
+            "team.id"),
+    TEAM_NAME(
+            "teamName",
+            TicketListItemDTO::getTeamName,
+            single(TicketListItemDTO::setTeamName),
+            "team.name"),
+    WORKFLOW_ID(
+            "workflowId",
+            TicketListItemDTO::getWorkflowId,
+            single(TicketListItemDTO::setWorkflowId),
+            "workflow.id"),
+    WORKFLOW_NAME(
+            "workflowName",
+            TicketListItemDTO::getWorkflowName,
+            single(TicketListItemDTO::setWorkflowName),
+            "workflow.name"),
+    WORKFLOW_REQUEST_NAME(
+            "workflowRequestName",
+            TicketListItemDTO::getWorkflowRequestName,
+            single(TicketListItemDTO::setWorkflowRequestName),
+            "workflow.requestName"),
+    PROJECT_ID(
+            "projectId",
+            TicketListItemDTO::getProjectId,
+            single(TicketListItemDTO::setProjectId),
+            "project.id"),
+    PROJECT_NAME(
+            "projectName",
+            TicketListItemDTO::getProjectName,
+            single(TicketListItemDTO::setProjectName),
+            "project.name"),
+    PROJECT_SHORT_NAME(
+            "projectShortName",
+            TicketListItemDTO::getProjectShortName,
+            single(TicketListItemDTO::setProjectShortName),
+            "project.shortName"),
+    PROJECT_TICKET_NUMBER(
+            "projectTicketNumber",
+            TicketListItemDTO::getProjectTicketNumber,
+            single(TicketListItemDTO::setProjectTicketNumber),
+            "projectTicketNumber"),
+    REQUEST_USER_ID(
+            "requestUserId",
+            TicketListItemDTO::getRequestUserId,
+            single(TicketListItemDTO::setRequestUserId),
+            "requestUser.id"),
+    REQUEST_USER_NAME(
+            "requestUserName",
+            TicketListItemDTO::getRequestUserName,
+            fullName(TicketListItemDTO::setRequestUserName),
+            "requestUser.firstName",
+            "requestUser.lastName"),
+    REQUEST_USER_IMAGE_URL(
+            "requestUserImageUrl",
+            TicketListItemDTO::getRequestUserImageUrl,
+            single(TicketListItemDTO::setRequestUserImageUrl),
+            "requestUser.imageUrl"),
+    ASSIGN_USER_ID(
+            "assignUserId",
+            TicketListItemDTO::getAssignUserId,
+            single(TicketListItemDTO::setAssignUserId),
+            "assignUser.id"),
+    ASSIGN_USER_NAME(
+            "assignUserName",
+            TicketListItemDTO::getAssignUserName,
+            fullName(TicketListItemDTO::setAssignUserName),
+            "assignUser.firstName",
+            "assignUser.lastName"),
+    ASSIGN_USER_IMAGE_URL(
+            "assignUserImageUrl",
+            TicketListItemDTO::getAssignUserImageUrl,
+            single(TicketListItemDTO::setAssignUserImageUrl),
+            "assignUser.imageUrl"),
+    REQUEST_TITLE(
+            "requestTitle",
+            TicketListItemDTO::getRequestTitle,
+            single(TicketListItemDTO::setRequestTitle),
+            "requestTitle"),
+    REQUEST_DESCRIPTION(
+            "requestDescription",
+            TicketListItemDTO::getRequestDescription,
+            single(TicketListItemDTO::setRequestDescription),
+            "requestDescription"),
+    PRIORITY(
+            "priority",
+            TicketListItemDTO::getPriority,
+            single(TicketListItemDTO::setPriority),
+            "priority"),
+    ESTIMATED_COMPLETION_DATE(
+            "estimatedCompletionDate",
+            TicketListItemDTO::getEstimatedCompletionDate,
+            single(TicketListItemDTO::setEstimatedCompletionDate),
+            "estimatedCompletionDate"),
+    ACTUAL_COMPLETION_DATE(
+            "actualCompletionDate",
+            TicketListItemDTO::getActualCompletionDate,
+            single(TicketListItemDTO::setActualCompletionDate),
+            "actualCompletionDate"),
+    CURRENT_STATE_ID(
+            "currentStateId",
+            TicketListItemDTO::getCurrentStateId,
+            single(TicketListItemDTO::setCurrentStateId),
+            "currentState.id"),
+    CURRENT_STATE_NAME(
+            "currentStateName",
+            TicketListItemDTO::getCurrentStateName,
+            single(TicketListItemDTO::setCurrentStateName),
+            "currentState.stateName"),
+    ITERATION_ID(
+            "iterationId",
+            TicketListItemDTO::getIterationId,
+            single(TicketListItemDTO::setIterationId),
+            "iteration.id"),
+    ITERATION_NAME(
+            "iterationName",
+            TicketListItemDTO::getIterationName,
+            single(TicketListItemDTO::setIterationName),
+            "iteration.name"),
+    EPIC_ID(
+            "epicId",
+            TicketListItemDTO::getEpicId,
+            single(TicketListItemDTO::setEpicId),
+            "epic.id"),
+    EPIC_NAME(
+            "epicName",
+            TicketListItemDTO::getEpicName,
+            single(TicketListItemDTO::setEpicName),
+            "epic.name"),
+    CHANNEL(
+            "channel",
+            TicketListItemDTO::getChannel,
+            single(TicketListItemDTO::setChannel),
+            "channel"),
+    IS_NEW("isNew", TicketListItemDTO::getIsNew, single(TicketListItemDTO::setIsNew), "isNew"),
+    IS_COMPLETED(
+            "isCompleted",
+            TicketListItemDTO::getIsCompleted,
+            single(TicketListItemDTO::setIsCompleted),
+            "isCompleted"),
+    CREATED_AT(
+            "createdAt",
+            TicketListItemDTO::getCreatedAt,
+            single(TicketListItemDTO::setCreatedAt),
+            "createdAt"),
+    MODIFIED_AT(
+            "modifiedAt",
+            TicketListItemDTO::getModifiedAt,
+            single(TicketListItemDTO::setModifiedAt),
+            "modifiedAt"),
+    NUMBER_ATTACHMENTS(
+            "numberAttachments",
+            TicketListItemDTO::getNumberAttachments,
+            single(TicketListItemDTO::setNumberAttachments),
+            "numberAttachments"),
+    NUMBER_WATCHERS(
+            "numberWatchers",
+            TicketListItemDTO::getNumberWatchers,
+            single(TicketListItemDTO::setNumberWatchers),
+            "numberWatchers"),
+    SIZE("size", TicketListItemDTO::getSize, single(TicketListItemDTO::setSize), "size"),
+    ESTIMATE(
+            "estimate",
+            TicketListItemDTO::getEstimate,
+            single(TicketListItemDTO::setEstimate),
+            "estimate"),
+    PARENT_TICKET_ID(
+            "parentTicketId",
+            TicketListItemDTO::getParentTicketId,
+            single(TicketListItemDTO::setParentTicketId),
+            "parentTicket.id");
+
+    private static final Map<String, TicketListField> BY_PROPERTY =
+            Arrays.stream(values())
+                    .collect(Collectors.toUnmodifiableMap(f -> f.property, Function.identity()));
+
+    private final String property;
+
+    private final Function<TicketListItemDTO, Object> getter;
+
+    private final BiConsumer<TicketListItemDTO, Object[]> assigner;
+
+    private final String[] paths;
+
+    TicketListField(
+            String property,
+            Function<TicketListItemDTO, Object> getter,
+            BiConsumer<TicketListItemDTO, Object[]> assigner,
+            String... paths) {
+        this.property = property;
+        this.getter = getter;
+        this.assigner = assigner;
+        this.paths = paths;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /** Attribute paths of {@code Ticket} to select, e.g. {@code assignUser.firstName}. */
+    String[] getPaths() {
+        return paths;
+    }
+
+    /** Reads this field from {@code dto}. */
+    public Object get(TicketListItemDTO dto) {
+        return getter.apply(dto);
+    }
+
+    /** Sets this field on {@code dto} from the selected values, in the order of the paths. */
+    void assign(TicketListItemDTO dto, Object[] values) {
+        assigner.accept(dto, values);
+    }
+
+    /**
+     * Resolves the requested property names. The id is always included so that clients can link
+     * list rows to the ticket.
+     *
+     * @throws IllegalArgumentException if a property is not a known list field
+     */
+    public static Set<TicketListField> fromProperties(Collection<String> properties) {
+        Set<TicketListField> fields = EnumSet.of(ID);
+        for (String property : properties) {
+            String name = property.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            TicketListField field = BY_PROPERTY.get(name);
+            if (field == null) {
+                throw new IllegalArgumentException("Unknown ticket field: " + name);
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> BiConsumer<TicketListItemDTO, Object[]> single(
+            BiConsumer<TicketListItemDTO, T> setter) {
+        return (dto, values) -> setter.accept(dto, (T) values[0]);
+    }
+
+    /** Same formatting as {@code TicketMapper#mapUserFullName}. */
+    private static BiConsumer<TicketListItemDTO, Object[]> fullName(
+            BiConsumer<TicketListItemDTO, String> setter) {
+        return (dto, values) -> {
+            if (values[0] == null && values[1] == null) {
+                return;
+            }
+            String firstName = values[0] != null ? (String) values[0] : "";
+            String lastName = values[1] != null ? (String) values[1] : "";
+            setter.accept(dto, (firstName + " " + lastName).trim());
+        };
+    }
+}
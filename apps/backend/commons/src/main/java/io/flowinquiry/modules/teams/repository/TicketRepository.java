@@ -4,11 +4,13 @@ import io.flowinquiry.modules.teams.domain.Ticket;
 import io.flowinquiry.modules.teams.domain.WorkflowTransitionHistoryStatus;
 import io.flowinquiry.modules.teams.service.dto.PriorityDistributionDTO;
 import io.flowinquiry.modules.teams.service.dto.TeamTicketPriorityDistributionDTO;
-import io.flowinquiry.modules.teams.service.dto.TicketActionCountByDateDTO;
 import io.flowinquiry.modules.teams.service.dto.TicketDistributionDTO;
 import io.flowinquiry.modules.usermanagement.service.dto.TicketStatisticsDTO;
 import jakarta.persistence.QueryHint;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -17,10 +19,22 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface TicketRepository
-        extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket> {
+        extends JpaRepository<Ticket, Long>,
+                JpaSpecificationExecutor<Ticket>,
+                TicketRepositoryCustom {
+
+    /**
+     * Stand-ins for a missing lower and upper date bound. The dashboard queries always compare
+     * against a bound, never {@code COALESCE(:bound, column)}, so that Postgres can scan an index
+     * range on the column.
+     */
+    Instant NO_LOWER_BOUND = Instant.EPOCH;
+
+    Instant NO_UPPER_BOUND = Instant.parse("9999-12-31T23:59:59Z");
 
     @EntityGraph(attributePaths = {"team", "requestUser", "assignUser", "workflow", "currentState"})
     Page<Ticket> findAll(Specification<Ticket> spec, Pageable pageable);
@@ -40,6 +54,22 @@ public interface TicketRepository
             })
     Optional<Ticket> findById(@Param("id") Long id);
 
+    @EntityGraph(
+            attributePaths = {
+                "team",
+                "project",
+                "requestUser",
+                "assignUser",
+                "modifiedByUser",
+                "workflow",
+                "currentState",
+                "iteration",
+                "epic",
+                "conversationHealth",
+                "childTickets"
+            })
+    List<Ticket> findAllByIdIn(Collection<Long> ids);
+
     @EntityGraph(
             attributePaths = {
                 "team",
@@ -113,14 +143,20 @@ public interface TicketRepository
                     + "WHERE r.team.id = :teamId "
                     + "AND r.isCompleted = false "
                     + "AND r.isDeleted = false "
-                    + "AND r.createdAt >= COALESCE(:fromDate, r.createdAt) "
-                    + "AND r.createdAt <= COALESCE(:toDate, r.createdAt) "
+                    + "AND r.createdAt >= :fromDate "
+                    + "AND r.createdAt <= :toDate "
                     + "GROUP BY u.id, u.firstName, u.lastName")
-    List<TicketDistributionDTO> findTicketDistributionByTeamId(
+    List<TicketDistributionDTO> findTicketDistributionByTeamIdCreatedBetween(
             @Param("teamId") Long teamId,
             @Param("fromDate") Instant fromDate,
             @Param("toDate") Instant toDate);
 
+    default List<TicketDistributionDTO> findTicketDistributionByTeamId(
+            Long teamId, Instant fromDate, Instant toDate) {
+        return findTicketDistributionByTeamIdCreatedBetween(
+                teamId, lowerBound(fromDate), upperBound(toDate));
+    }
+
     @QueryHints({
         @QueryHint(name = "org.hibernate.cacheable", value = "true"),
         @QueryHint(name = "org.hibernate.cacheRegion", value = "queryTickets")
@@ -139,14 +175,20 @@ public interface TicketRepository
                     + "WHERE r.team.id = :teamId "
                     + "AND r.isCompleted = false "
                     + "AND r.isDeleted = false "
-                    + "AND r.createdAt >= COALESCE(:fromDate, r.createdAt) "
-                    + "AND r.createdAt <= COALESCE(:toDate, r.createdAt) "
+                    + "AND r.createdAt >= :fromDate "
+                    + "AND r.createdAt <= :toDate "
                     + "GROUP BY r.priority")
-    List<PriorityDistributionDTO> findTicketPriorityDistributionByTeamId(
+    List<PriorityDistributionDTO> findTicketPriorityDistributionByTeamIdCreatedBetween(
             @Param("teamId") Long teamId,
             @Param("fromDate") Instant fromDate,
             @Param("toDate") Instant toDate);
 
+    default List<PriorityDistributionDTO> findTicketPriorityDistributionByTeamId(
+            Long teamId, Instant fromDate, Instant toDate) {
+        return findTicketPriorityDistributionByTeamIdCreatedBetween(
+                teamId, lowerBound(fromDate), upperBound(toDate));
+    }
+
     @Query(
             "SELECT new io.flowinquiry.modules.usermanagement.service.dto.TicketStatisticsDTO("
                     + "COUNT(tr), "
@@ -155,43 +197,47 @@ public interface TicketRepository
                     + "FROM Ticket tr "
                     + "WHERE tr.isDeleted = false "
                     + "AND tr.team.id = :teamId "
-                    + "AND tr.createdAt >= COALESCE(:fromDate, tr.createdAt) "
-                    + "AND tr.createdAt <= COALESCE(:toDate, tr.createdAt)")
-    TicketStatisticsDTO getTicketStatisticsByTeamId(
+                    + "AND tr.createdAt >= :fromDate "
+                    + "AND tr.createdAt <= :toDate")
+    TicketStatisticsDTO getTicketStatisticsByTeamIdCreatedBetween(
             @Param("teamId") Long teamId,
             @Param("fromDate") Instant fromDate,
             @Param("toDate") Instant toDate);
 
+    default TicketStatisticsDTO getTicketStatisticsByTeamId(
+            Long teamId, Instant fromDate, Instant toDate) {
+        return getTicketStatisticsByTeamIdCreatedBetween(
+                teamId, lowerBound(fromDate), upperBound(toDate));
+    }
+
     @Query(
-            "SELECT r "
-                    + "FROM Ticket r "
-                    + "JOIN WorkflowTransitionHistory h ON h.ticket.id = r.id "
-                    + "WHERE r.isDeleted = false "
-                    + "AND r.isCompleted = false "
-                    + "AND h.status <> :status "
-                    + "AND r.team.id = :teamId "
-                    + "AND ("
-                    + "  (h.slaDueDate IS NOT NULL AND h.slaDueDate < CURRENT_TIMESTAMP) "
-                    + "  OR (r.estimatedCompletionDate IS NOT NULL AND r.estimatedCompletionDate < CURRENT_TIMESTAMP)"
-                    + ")")
+            """
+            SELECT r
+            FROM Ticket r
+            WHERE r.isDeleted = false
+            AND r.isCompleted = false
+            AND r.currentSlaStatus <> :status
+            AND r.team.id = :teamId
+            AND (r.currentSlaDueDate < CURRENT_TIMESTAMP
+                OR r.estimatedCompletionDate <= CURRENT_DATE)
+            """)
     Page<Ticket> findOverdueTicketsByTeamId(
             @Param("teamId") Long teamId,
             @Param("status") WorkflowTransitionHistoryStatus completedStatus,
             Pageable pageable);
 
     @Query(
-            "SELECT r "
-                    + "FROM Ticket r "
-                    + "JOIN WorkflowTransitionHistory h ON h.ticket.id = r.id "
-                    + "JOIN UserTeam ut ON ut.team.id = r.team.id "
-                    + "WHERE r.isDeleted = false "
-                    + "AND r.isCompleted = false "
-                    + "AND h.status <> :status "
-                    + "AND ut.user.id = :userId "
-                    + "AND ("
-                    + "  (h.slaDueDate IS NOT NULL AND h.slaDueDate < CURRENT_TIMESTAMP) "
-                    + "  OR (r.estimatedCompletionDate IS NOT NULL AND r.estimatedCompletionDate < CURRENT_TIMESTAMP)"
-                    + ")")
+            """
+            SELECT r
+            FROM Ticket r
+            JOIN UserTeam ut ON ut.team.id = r.team.id
+            WHERE r.isDeleted = false
+            AND r.isCompleted = false
+            AND r.currentSlaStatus <> :status
+            AND ut.user.id = :userId
+            AND (r.currentSlaDueDate < CURRENT_TIMESTAMP
+                OR r.estimatedCompletionDate <= CURRENT_DATE)
+            """)
     Page<Ticket> findOverdueTicketsByUserId(
             @Param("userId") Long userId,
             @Param("status") WorkflowTransitionHistoryStatus completedStatus,
@@ -199,16 +245,15 @@ public interface TicketRepository
 
     @Query(
             """
-    SELECT DISTINCT r
-    FROM Ticket r
-    JOIN WorkflowTransitionHistory h ON h.ticket.id = r.id
-    WHERE r.isDeleted = false
-      AND r.isCompleted = false
-      AND (
-        (r.estimatedCompletionDate IS NOT NULL AND r.estimatedCompletionDate < CURRENT_TIMESTAMP)
-        OR (h.slaDueDate IS NOT NULL AND h.slaDueDate < CURRENT_TIMESTAMP AND h.status <> :completedStatus)
-      )
-""")
+            SELECT r
+            FROM Ticket r
+            WHERE r.isDeleted = false
+            AND r.isCompleted = false
+            AND r.currentTransitionId IS NOT NULL
+            AND (r.estimatedCompletionDate <= CURRENT_DATE
+                OR (r.currentSlaDueDate < CURRENT_TIMESTAMP
+                    AND r.currentSlaStatus <> :completedStatus))
+            """)
     Page<Ticket> findAllOverdueTickets(
             @Param("completedStatus") WorkflowTransitionHistoryStatus completedStatus,
             Pageable pageable);
@@ -217,57 +262,43 @@ public interface TicketRepository
             """
             SELECT COUNT(r.id)
             FROM Ticket r
-            JOIN WorkflowTransitionHistory h ON h.ticket.id = r.id
             WHERE r.isDeleted = false
             AND r.isCompleted = false
-            AND h.id = (
-                SELECT h2.id
-                FROM WorkflowTransitionHistory h2
-                WHERE h2.ticket.id = r.id
-                ORDER BY h2.transitionDate DESC
-                LIMIT 1
-            )
-            AND h.status <> :status
+            AND r.currentSlaStatus <> :status
             AND r.team.id = :teamId
-            AND (
-                (h.slaDueDate IS NOT NULL AND h.slaDueDate < CURRENT_TIMESTAMP)
-                OR (r.estimatedCompletionDate IS NOT NULL AND r.estimatedCompletionDate < CURRENT_TIMESTAMP)
-            )
-            AND (
-                (h.slaDueDate >= COALESCE(:fromDate, h.slaDueDate) OR r.estimatedCompletionDate >= COALESCE(:fromDate, r.estimatedCompletionDate))
-            )
-            AND (
-                (h.slaDueDate <= COALESCE(:toDate, h.slaDueDate) OR r.estimatedCompletionDate <= COALESCE(:toDate, r.estimatedCompletionDate))
-            )
+            AND (r.currentSlaDueDate < CURRENT_TIMESTAMP
+                OR r.estimatedCompletionDate <= CURRENT_DATE)
+            AND (r.currentSlaDueDate >= :fromDate OR r.estimatedCompletionDate >= :fromDay)
+            AND (r.currentSlaDueDate <= :toDate OR r.estimatedCompletionDate <= :toDay)
             """)
-    Long countOverdueTicketsByTeamId(
+    Long countOverdueTicketsByTeamIdDueBetween(
             @Param("teamId") Long teamId,
             @Param("status") WorkflowTransitionHistoryStatus completedStatus,
             @Param("fromDate") Instant fromDate,
-            @Param("toDate") Instant toDate);
+            @Param("toDate") Instant toDate,
+            @Param("fromDay") LocalDate fromDay,
+            @Param("toDay") LocalDate toDay);
 
-    @Query(
-            "SELECT new io.flowinquiry.modules.teams.service.dto.TicketActionCountByDateDTO("
-                    + "CAST(r.createdAt AS date), "
-                    + "COUNT(r.id), "
-                    + "COALESCE(closedTicketCounts.closedCount, 0)) "
-                    + "FROM Ticket r "
-                    + "LEFT JOIN ("
-                    + "    SELECT CAST(c.actualCompletionDate AS date) AS completionDate, COUNT(c.id) AS closedCount "
-                    + "    FROM Ticket c "
-                    + "    WHERE c.isDeleted = false "
-                    + "    AND c.team.id = :teamId "
-                    + "    AND c.isCompleted = true "
-                    + "    AND c.actualCompletionDate IS NOT NULL "
-                    + "    GROUP BY CAST(c.actualCompletionDate AS date)"
-                    + ") closedTicketCounts ON CAST(r.createdAt AS date) = closedTicketCounts.completionDate "
-                    + "WHERE r.isDeleted = false "
-                    + "AND r.team.id = :teamId "
-                    + "AND r.createdAt >= :startDate "
-                    + "GROUP BY CAST(r.createdAt AS date), closedTicketCounts.closedCount "
-                    + "ORDER BY CAST(r.createdAt AS date) ASC")
-    List<TicketActionCountByDateDTO> findTicketActionByDaySeries(
-            @Param("teamId") Long teamId, @Param("startDate") Instant startDate);
+    default Long countOverdueTicketsByTeamId(
+            Long teamId,
+            WorkflowTransitionHistoryStatus completedStatus,
+            Instant fromDate,
+            Instant toDate) {
+        Instant from = lowerBound(fromDate);
+        Instant to = upperBound(toDate);
+        // The estimated completion date is a day, it falls in the range if its start does
+        LocalDate fromDay = LocalDate.ofInstant(from, ZoneOffset.UTC);
+        if (fromDay.atStartOfDay(ZoneOffset.UTC).toInstant().isBefore(from)) {
+            fromDay = fromDay.plusDays(1);
+        }
+        return countOverdueTicketsByTeamIdDueBetween(
+                teamId,
+                completedStatus,
+                from,
+                to,
+                fromDay,
+                LocalDate.ofInstant(to, ZoneOffset.UTC));
+    }
 
     @Query(
             """
@@ -282,25 +313,121 @@ public interface TicketRepository
             WHERE ut.user.id = :userId
             AND r.isDeleted = false
             AND r.isCompleted = false
-            AND r.createdAt >= COALESCE(:fromDate, r.createdAt)
-            AND r.createdAt <= COALESCE(:toDate, r.createdAt)
+            AND r.createdAt >= :fromDate
+            AND r.createdAt <= :toDate
             GROUP BY r.team.id, r.team.name, r.priority
             """)
-    List<TeamTicketPriorityDistributionDTO> findPriorityDistributionByUserId(
+    List<TeamTicketPriorityDistributionDTO> findPriorityDistributionByUserIdCreatedBetween(
             @Param("userId") Long userId,
             @Param("fromDate") Instant fromDate,
             @Param("toDate") Instant toDate);
 
+    default List<TeamTicketPriorityDistributionDTO> findPriorityDistributionByUserId(
+            Long userId, Instant fromDate, Instant toDate) {
+        return findPriorityDistributionByUserIdCreatedBetween(
+                userId, lowerBound(fromDate), upperBound(toDate));
+    }
+
     boolean existsByWorkflowIdAndIsDeletedFalse(Long workflowId);
 
-    @Query("SELECT SUM(t.estimate) FROM Ticket t WHERE t.epic.id = :epicId")
-    Long getTotalStoryPointsByEpicId(@Param("epicId") Long epicId);
+    /** Ids of the tickets {@link #findTicketsByIterationIdAndClose(Long)} would close. */
+    @Query(
+            "SELECT t.id FROM Ticket t WHERE t.iteration.id = :iterationId"
+                    + " AND t.isCompleted = false AND t.isDeleted = false")
+    List<Long> findOpenTicketIdsByIterationId(@Param("iterationId") Long iterationId);
 
-    @Query("SELECT SUM(t.estimate) FROM Ticket t WHERE t.iteration.id = :iterationId")
-    Long getTotalStoryPointsByIterationId(@Param("iterationId") Long iterationId);
+    /** Teams of the tickets {@link #findTicketsByIterationIdAndClose(Long)} would close. */
+    @Query(
+            "SELECT DISTINCT t.team.id FROM Ticket t WHERE t.iteration.id = :iterationId"
+                    + " AND t.isCompleted = false AND t.isDeleted = false")
+    List<Long> findOpenTicketTeamIdsByIterationId(@Param("iterationId") Long iterationId);
 
+    /**
+     * Completes the open tickets of the iteration. Bumps their version like an entity update would,
+     * so a client still holding the open ticket can not patch it with a stale If-Match.
+     */
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query(
-            "UPDATE Ticket t SET t.isCompleted=true,t.actualCompletionDate= current_date WHERE t.iteration.id = :iterationId and t.isCompleted = false and t.isDeleted = false")
+            "UPDATE Ticket t SET t.isCompleted=true,t.actualCompletionDate= current_date, t.version = t.version + 1 WHERE t.iteration.id = :iterationId and t.isCompleted = false and t.isDeleted = false")
     int findTicketsByIterationIdAndClose(@Param("iterationId") Long iterationId);
+
+    /**
+     * Makes the given transitions the current ones of their tickets, copying their SLA onto the
+     * tickets, in one statement. Each ticket must appear in at most one of the transitions. Does
+     * not bump the version of the tickets: the columns it writes are not updatable through the
+     * entity, so a stale If-Match can not overwrite them, and the state change that leads here
+     * already bumped it.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            """
+            UPDATE Ticket t
+            SET t.currentTransitionId = (
+                    SELECT h.id FROM WorkflowTransitionHistory h
+                    WHERE h.ticket.id = t.id AND h.id IN :transitionIds),
+                t.currentSlaDueDate = (
+                    SELECT h.slaDueDate FROM WorkflowTransitionHistory h
+                    WHERE h.ticket.id = t.id AND h.id IN :transitionIds),
+                t.currentSlaStatus = (
+                    SELECT h.status FROM WorkflowTransitionHistory h
+                    WHERE h.ticket.id = t.id AND h.id IN :transitionIds)
+            WHERE t.id IN (
+                SELECT h.ticket.id FROM WorkflowTransitionHistory h
+                WHERE h.id IN :transitionIds)
+            """)
+    int pointToTransitions(@Param("transitionIds") Collection<Long> transitionIds);
+
+    /** Sets the SLA status of the ticket whose current transition is {@code transitionId}. */
+    @Modifying
+    @Query(
+            "UPDATE Ticket t SET t.currentSlaStatus = :status "
+                    + "WHERE t.currentTransitionId = :transitionId")
+    int updateCurrentSlaStatus(
+            @Param("transitionId") Long transitionId,
+            @Param("status") WorkflowTransitionHistoryStatus status);
+
+    /**
+     * Recomputes the attachment and watcher counters from the source tables and fixes the rows that
+     * drifted.
+     *
+     * @return the number of tickets whose counters were corrected
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value =
+                    """
+                UPDATE fw_ticket t
+                SET number_attachments = c.attachments, number_watchers = c.watchers
+                FROM (
+                    SELECT r.id,
+                           COALESCE(a.cnt, 0) AS attachments,
+                           COALESCE(w.cnt, 0) AS watchers
+                    FROM fw_ticket r
+                    LEFT JOIN (
+                        SELECT entity_id, COUNT(*) AS cnt
+                        FROM fw_entity_attachment
+                        WHERE entity_type = 'Ticket'
+                        GROUP BY entity_id
+                    ) a ON a.entity_id = r.id
+                    LEFT JOIN (
+                        SELECT entity_id, COUNT(*) AS cnt
+                        FROM fw_entity_watchers
+                        WHERE entity_type = 'Ticket'
+                        GROUP BY entity_id
+                    ) w ON w.entity_id = r.id
+                ) c
+                WHERE t.id = c.id
+                AND (t.number_attachments <> c.attachments OR t.number_watchers <> c.watchers)
+            """,
+            nativeQuery = true)
+    int reconcileCounters();
+
+    private static Instant lowerBound(Instant fromDate) {
+        return fromDate != null ? fromDate : NO_LOWER_BOUND;
+    }
+
+    private static Instant upperBound(Instant toDate) {
+        return toDate != null ? toDate : NO_UPPER_BOUND;
+    }
 }
@@ -0,0 +1,52 @@
+package io.flowinquiry.modules.teams.repository;
+
+import io.flowinquiry.modules.teams.domain.Ticket;
+import io.flowinquiry.modules.teams.service.dto.TicketListItemDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketNeighborsDTO;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/** Ticket queries built by hand, see {@link TicketRepositoryCustomImpl}. */
+public interface TicketRepositoryCustom {
+
+    /**
+     * Finds a page of tickets selecting only the columns needed for {@code fields}, instead of
+     * loading {@link Ticket} entities with their associations.
+     */
+    Page<TicketListItemDTO> findListItems(
+            Specification<Ticket> spec, Set<TicketListField> fields, Pageable pageable);
+
+    /**
+     * Streams the tickets matching {@code spec} with the same projection as {@link #findListItems},
+     * reading {@code fetchSize} rows from the database at a time. Rows are not attached to the
+     * persistence context, so memory does not grow with the number of tickets. The stream must be
+     * consumed inside a transaction and closed.
+     */
+    Stream<TicketListItemDTO> streamListItems(
+            Specification<Ticket> spec, Set<TicketListField> fields, Sort sort, int fetchSize);
+
+    /**
+     * Finds the id and title of the tickets right before and after {@code ticketId} in its team,
+     * restricted to {@code projectId} or, when it is null, to tickets without a project. Deleted
+     * tickets are skipped. Empty if the ticket does not exist.
+     */
+    Optional<TicketNeighborsDTO> findNeighbors(Long ticketId, Long projectId);
+
+    /**
+     * Adds {@code delta} to the attachment counter of a ticket in a single atomic update. Only the
+     * ticket itself is evicted from the second level cache.
+     */
+    int adjustNumberAttachments(Long ticketId, int delta);
+
+    /** Same as {@link #adjustNumberAttachments} for the watcher counter. */
+    int adjustNumberWatchers(Long ticketId, int delta);
+
+    /** Same as {@link #adjustNumberAttachments} for the watcher counters of several tickets. */
+    int adjustNumberWatchers(Collection<Long> ticketIds, int delta);
+}
@@ -0,0 +1,245 @@
+package io.flowinquiry.modules.teams.repository;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+import io.flowinquiry.modules.teams.domain.Ticket;
+import io.flowinquiry.modules.teams.service.dto.TicketListItemDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketNeighborDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketNeighborsDTO;
+import io.flowinquiry.tenant.TenantContext;
+import io.flowinquiry.utils.TransactionUtils;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+class TicketRepositoryCustomImpl implements TicketRepositoryCustom {
+
+    /**
+     * Each side is one probe of idx_fw_ticket_team_project_id, so it reads a single index entry
+     * however many tickets the team has. The project predicate is spliced in rather than bound as
+     * {@code (:projectId IS NULL AND ...)} so that both variants can use the index.
+     */
+    private static final String NEIGHBORS_SQL =
+            """
+            SELECT p.id, p.request_title, n.id, n.request_title
+            FROM fw_ticket c
+            LEFT JOIN LATERAL (
+                SELECT t.id, t.request_title
+                FROM fw_ticket t
+                WHERE t.team_id = c.team_id AND %1$s AND t.is_deleted = false AND t.id < c.id
+                ORDER BY t.id DESC
+                LIMIT 1
+            ) p ON true
+            LEFT JOIN LATERAL (
+                SELECT t.id, t.request_title
+                FROM fw_ticket t
+                WHERE t.team_id = c.team_id AND %1$s AND t.is_deleted = false AND t.id > c.id
+                ORDER BY t.id ASC
+                LIMIT 1
+            ) n ON true
+            WHERE c.id = :ticketId %2$s
+            """;
+
+    /**
+     * A bulk update of {@link Ticket} in HQL, or native SQL declaring fw_ticket, evicts every
+     * ticket from the second level cache. Counter updates declare this space instead, which no
+     * entity or cached query reads, and evict the tickets they changed themselves.
+     */
+    private static final String COUNTERS_QUERY_SPACE = "fw_ticket_counters";
+
+    private static final String ADJUST_COUNTER_SQL =
+            "UPDATE fw_ticket SET %1$s = %1$s + :delta WHERE id IN (:ticketIds)";
+
+    private final EntityManager entityManager;
+
+    TicketRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<TicketListItemDTO> findListItems(
+            Specification<Ticket> spec, Set<TicketListField> fields, Pageable pageable) {
+        TypedQuery<Tuple> query = createListQuery(spec, fields, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        List<TicketListItemDTO> content = new ArrayList<>();
+        for (Tuple tuple : query.getResultList()) {
+            content.add(toListItem(tuple, fields));
+        }
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Stream<TicketListItemDTO> streamListItems(
+            Specification<Ticket> spec, Set<TicketListField> fields, Sort sort, int fetchSize) {
+        return createListQuery(spec, fields, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(tuple -> toListItem(tuple, fields));
+    }
+
+    @Override
+    public Optional<TicketNeighborsDTO> findNeighbors(Long ticketId, Long projectId) {
+        Optional<UUID> tenantId = TenantContext.findTenantId();
+        // Native SQL is not covered by the tenant filter, the neighbors share the team of c
+        String sql =
+                NEIGHBORS_SQL.formatted(
+                        projectId == null ? "t.project_id IS NULL" : "t.project_id = :projectId",
+                        tenantId.isPresent() ? "AND c.tenant_id = :tenantId" : "");
+        Query query = entityManager.createNativeQuery(sql).setParameter("ticketId", ticketId);
+        if (projectId != null) {
+            query.setParameter("projectId", projectId);
+        }
+        tenantId.ifPresent(id -> query.setParameter("tenantId", id));
+
+        List<?> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = (Object[]) rows.get(0);
+        return Optional.of(
+                new TicketNeighborsDTO(toNeighbor(row[0], row[1]), toNeighbor(row[2], row[3])));
+    }
+
+    @Override
+    public int adjustNumberAttachments(Long ticketId, int delta) {
+        return adjustCounter("number_attachments", List.of(ticketId), delta);
+    }
+
+    @Override
+    public int adjustNumberWatchers(Long ticketId, int delta) {
+        return adjustCounter("number_watchers", List.of(ticketId), delta);
+    }
+
+    @Override
+    public int adjustNumberWatchers(Collection<Long> ticketIds, int delta) {
+        return adjustCounter("number_watchers", ticketIds, delta);
+    }
+
+    private int adjustCounter(String column, Collection<Long> ticketIds, int delta) {
+        if (ticketIds.isEmpty()) {
+            return 0;
+        }
+        // The query space does not cover fw_ticket, so write tickets created in this transaction
+        entityManager.flush();
+        int updated =
+                entityManager
+                        .createNativeQuery(ADJUST_COUNTER_SQL.formatted(column))
+                        .setHint(HibernateHints.HINT_NATIVE_SPACES, COUNTERS_QUERY_SPACE)
+                        .setParameter("delta", delta)
+                        .setParameter("ticketIds", ticketIds)
+                        .executeUpdate();
+
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        Runnable eviction = () -> ticketIds.forEach(id -> cache.evict(Ticket.class, id));
+        eviction.run();
+        // Again once the transaction ends, in case a concurrent read cached the old counter
+        TransactionUtils.afterCompletion(eviction);
+        return updated;
+    }
+
+    private TypedQuery<Tuple> createListQuery(
+            Specification<Ticket> spec, Set<TicketListField> fields, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Ticket> root = query.from(Ticket.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        Map<String, From<?, ?>> joins = new HashMap<>();
+        for (TicketListField field : fields) {
+            for (String path : field.getPaths()) {
+                selections.add(resolve(root, path, joins));
+            }
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    /**
+     * Resolves an attribute path of the ticket. The id of an association is read from the foreign
+     * key column of the ticket; any other attribute of an association is read through a left join,
+     * so that tickets without e.g. an assignee or a project are still listed.
+     */
+    private static Path<?> resolve(Root<Ticket> root, String path, Map<String, From<?, ?>> joins) {
+        int dot = path.indexOf('.');
+        if (dot < 0) {
+            return root.get(path);
+        }
+        String association = path.substring(0, dot);
+        String attribute = path.substring(dot + 1);
+        if ("id".equals(attribute)) {
+            return root.get(association).get(attribute);
+        }
+        return joins.computeIfAbsent(association, key -> root.join(key, JoinType.LEFT))
+                .get(attribute);
+    }
+
+    private static TicketListItemDTO toListItem(Tuple tuple, Set<TicketListField> fields) {
+        TicketListItemDTO listItem = new TicketListItemDTO();
+        int index = 0;
+        for (TicketListField field : fields) {
+            Object[] values = new Object[field.getPaths().length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = tuple.get(index++);
+            }
+            field.assign(listItem, values);
+        }
+        return listItem;
+    }
+
+    private static TicketNeighborDTO toNeighbor(Object id, Object requestTitle) {
+        return id == null
+                ? null
+                : new TicketNeighborDTO(((Number) id).longValue(), (String) requestTitle);
+    }
+
+    private long count(Specification<Ticket> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Ticket> root = query.from(Ticket.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        // A specification may order by relevance, which has no meaning for a count
+        query.orderBy(List.of());
+        return entityManager.createQuery(query.select(cb.count(root))).getSingleResult();
+    }
+}
@@ -0,0 +1,187 @@
+package io.flowinquiry.modules.teams.repository;
+
+import io.flowinquiry.modules.teams.domain.TicketView;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TicketViewRepository
+        extends JpaRepository<TicketView, Long>, JpaSpecificationExecutor<TicketView> {
+
+    /** Tickets whose view row is missing or behind the ticket, see {@link #findStaleTickets()}. */
+    interface StaleTickets {
+        long getCount();
+
+        Instant getOldestChange();
+    }
+
+    /**
+     * Writes the view rows of the given tickets from the tickets and their associations, in one
+     * statement. Rows that already hold the same values are left alone, so that projecting a ticket
+     * twice costs no write. Ids of deleted tickets are ignored, their rows went with them.
+     *
+     * <p>The same projection backfills the table in changelog 012, which reads the SLA from the
+     * latest transition history as the ticket did not hold it yet.
+     *
+     * @return the number of rows inserted or changed
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+                INSERT INTO fw_ticket_view (id, tenant_id, team_id, team_name, workflow_id,
+                    workflow_name, workflow_request_name, project_id, project_name,
+                    project_short_name, project_ticket_number, request_user_id,
+                    request_user_name, request_user_image_url, assign_user_id, assign_user_name,
+                    assign_user_image_url, request_title, priority, channel, size, estimate,
+                    estimated_completion_date, actual_completion_date, current_state_id,
+                    current_state_name, is_final_state, is_new, is_completed, is_deleted,
+                    iteration_id, iteration_name, epic_id, epic_name, parent_ticket_id,
+                    number_attachments, number_watchers, sla_status, sla_due_date, created_at,
+                    modified_at, ticket_version, projected_at)
+                SELECT t.id, t.tenant_id, t.team_id, tm.name, t.workflow_id, w.name,
+                    w.request_name, t.project_id, p.name, p.short_name, t.project_ticket_number,
+                    t.request_user_id,
+                    CASE WHEN ru.id IS NULL THEN NULL
+                        ELSE TRIM(COALESCE(ru.first_name, '') || ' '
+                            || COALESCE(ru.last_name, ''))
+                    END,
+                    ru.image_url, t.assign_user_id,
+                    CASE WHEN au.id IS NULL THEN NULL
+                        ELSE TRIM(COALESCE(au.first_name, '') || ' '
+                            || COALESCE(au.last_name, ''))
+                    END,
+                    au.image_url, t.request_title, t.priority, t.channel, t.size, t.estimate,
+                    t.estimated_completion_date, t.actual_completion_date, t.current_state_id,
+                    s.state_name, COALESCE(s.is_final, false), t.is_new, t.is_completed,
+                    t.is_deleted, t.iteration_id, i.name, t.epic_id, e.name, t.parent_ticket_id,
+                    t.number_attachments, t.number_watchers, t.current_sla_status,
+                    t.current_sla_due_date,
+                    t.created_at, t.modified_at, t.version, CURRENT_TIMESTAMP
+                FROM fw_ticket t
+                LEFT JOIN fw_team tm ON tm.id = t.team_id
+                LEFT JOIN fw_workflow w ON w.id = t.workflow_id
+                LEFT JOIN fw_project p ON p.id = t.project_id
+                LEFT JOIN fw_user ru ON ru.id = t.request_user_id
+                LEFT JOIN fw_user au ON au.id = t.assign_user_id
+                LEFT JOIN fw_workflow_state s ON s.id = t.current_state_id
+                LEFT JOIN fw_project_iteration i ON i.id = t.iteration_id
+                LEFT JOIN fw_project_epic e ON e.id = t.epic_id
+                WHERE t.id IN (:ticketIds)
+                ON CONFLICT (id) DO UPDATE SET
+                    team_id = EXCLUDED.team_id,
+                    team_name = EXCLUDED.team_name,
+                    workflow_id = EXCLUDED.workflow_id,
+                    workflow_name = EXCLUDED.workflow_name,
+                    workflow_request_name = EXCLUDED.workflow_request_name,
+                    project_id = EXCLUDED.project_id,
+                    project_name = EXCLUDED.project_name,
+                    project_short_name = EXCLUDED.project_short_name,
+                    project_ticket_number = EXCLUDED.project_ticket_number,
+                    request_user_id = EXCLUDED.request_user_id,
+                    request_user_name = EXCLUDED.request_user_name,
+                    request_user_image_url = EXCLUDED.request_user_image_url,
+                    assign_user_id = EXCLUDED.assign_user_id,
+                    assign_user_name = EXCLUDED.assign_user_name,
+                    assign_user_image_url = EXCLUDED.assign_user_image_url,
+                    request_title = EXCLUDED.request_title,
+                    priority = EXCLUDED.priority,
+                    channel = EXCLUDED.channel,
+                    size = EXCLUDED.size,
+                    estimate = EXCLUDED.estimate,
+                    estimated_completion_date = EXCLUDED.estimated_completion_date,
+                    actual_completion_date = EXCLUDED.actual_completion_date,
+                    current_state_id = EXCLUDED.current_state_id,
+                    current_state_name = EXCLUDED.current_state_name,
+                    is_final_state = EXCLUDED.is_final_state,
+                    is_new = EXCLUDED.is_new,
+                    is_completed = EXCLUDED.is_completed,
+                    is_deleted = EXCLUDED.is_deleted,
+                    iteration_id = EXCLUDED.iteration_id,
+                    iteration_name = EXCLUDED.iteration_name,
+                    epic_id = EXCLUDED.epic_id,
+                    epic_name = EXCLUDED.epic_name,
+                    parent_ticket_id = EXCLUDED.parent_ticket_id,
+                    number_attachments = EXCLUDED.number_attachments,
+                    number_watchers = EXCLUDED.number_watchers,
+                    sla_status = EXCLUDED.sla_status,
+                    sla_due_date = EXCLUDED.sla_due_date,
+                    created_at = EXCLUDED.created_at,
+                    modified_at = EXCLUDED.modified_at,
+                    ticket_version = EXCLUDED.ticket_version,
+                    projected_at = EXCLUDED.projected_at
+                WHERE (fw_ticket_view.team_id, fw_ticket_view.team_name,
+                        fw_ticket_view.workflow_id, fw_ticket_view.workflow_name,
+                        fw_ticket_view.workflow_request_name, fw_ticket_view.project_id,
+                        fw_ticket_view.project_name, fw_ticket_view.project_short_name,
+                        fw_ticket_view.project_ticket_number, fw_ticket_view.request_user_id,
+                        fw_ticket_view.request_user_name, fw_ticket_view.request_user_image_url,
+                        fw_ticket_view.assign_user_id, fw_ticket_view.assign_user_name,
+                        fw_ticket_view.assign_user_image_url, fw_ticket_view.request_title,
+                        fw_ticket_view.priority, fw_ticket_view.channel, fw_ticket_view.size,
+                        fw_ticket_view.estimate, fw_ticket_view.estimated_completion_date,
+                        fw_ticket_view.actual_completion_date, fw_ticket_view.current_state_id,
+                        fw_ticket_view.current_state_name, fw_ticket_view.is_final_state,
+                        fw_ticket_view.is_new, fw_ticket_view.is_completed,
+                        fw_ticket_view.is_deleted, fw_ticket_view.iteration_id,
+                        fw_ticket_view.iteration_name, fw_ticket_view.epic_id,
+                        fw_ticket_view.epic_name, fw_ticket_view.parent_ticket_id,
+                        fw_ticket_view.number_attachments, fw_ticket_view.number_watchers,
+                        fw_ticket_view.sla_status, fw_ticket_view.sla_due_date,
+                        fw_ticket_view.created_at, fw_ticket_view.modified_at,
+                        fw_ticket_view.ticket_version)
+                    IS DISTINCT FROM
+                    (EXCLUDED.team_id, EXCLUDED.team_name, EXCLUDED.workflow_id,
+                        EXCLUDED.workflow_name, EXCLUDED.workflow_request_name,
+                        EXCLUDED.project_id, EXCLUDED.project_name, EXCLUDED.project_short_name,
+                        EXCLUDED.project_ticket_number, EXCLUDED.request_user_id,
+                        EXCLUDED.request_user_name, EXCLUDED.request_user_image_url,
+                        EXCLUDED.assign_user_id, EXCLUDED.assign_user_name,
+                        EXCLUDED.assign_user_image_url, EXCLUDED.request_title,
+                        EXCLUDED.priority, EXCLUDED.channel, EXCLUDED.size, EXCLUDED.estimate,
+                        EXCLUDED.estimated_completion_date, EXCLUDED.actual_completion_date,
+                        EXCLUDED.current_state_id, EXCLUDED.current_state_name,
+                        EXCLUDED.is_final_state, EXCLUDED.is_new, EXCLUDED.is_completed,
+                        EXCLUDED.is_deleted, EXCLUDED.iteration_id, EXCLUDED.iteration_name,
+                        EXCLUDED.epic_id, EXCLUDED.epic_name, EXCLUDED.parent_ticket_id,
+                        EXCLUDED.number_attachments, EXCLUDED.number_watchers,
+                        EXCLUDED.sla_status, EXCLUDED.sla_due_date, EXCLUDED.created_at,
+                        EXCLUDED.modified_at, EXCLUDED.ticket_version)
+            """,
+            nativeQuery = true)
+    int project(@Param("ticketIds") Collection<Long> ticketIds);
+
+    /**
+     * Ids of the tickets after {@code afterId} in id order, of all tenants, to rebuild the view in
+     * batches.
+     */
+    @Query(
+            value = "SELECT id FROM fw_ticket WHERE id > :afterId ORDER BY id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findTicketIdsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * Counts the tickets of the current tenant whose row is missing or was projected from an older
+     * version of the ticket or its counters. Renamed users, states, iterations or epics are not
+     * detected here, they are caught up by the next rebuild.
+     */
+    @Query(
+            """
+                SELECT COUNT(t) AS count, MIN(t.modifiedAt) AS oldestChange
+                FROM Ticket t
+                LEFT JOIN TicketView v ON v.id = t.id
+                WHERE v.id IS NULL
+                    OR v.ticketVersion <> t.version
+                    OR v.isCompleted <> t.isCompleted
+                    OR v.numberAttachments <> t.numberAttachments
+                    OR v.numberWatchers <> t.numberWatchers
+            """)
+    StaleTickets findStaleTickets();
+}
@@ -35,20 +35,22 @@ public interface WorkflowTransitionRepository extends JpaRepository<WorkflowTran
             @Param("workflowId") Long workflowId, @Param("sourceStateId") Long sourceStateId);
 
     /**
-     * @param workflowId
-     * @param sourceStateId
-     * @return
+     * Finds the shortest SLA duration, in hours, of the transitions leaving a state.
+     *
+     * @param workflowId the ID of the workflow
+     * @param sourceStateId the ID of the state
+     * @return the shortest SLA duration, or null if no transition leaving the state has one
      */
     @QueryHints({
         @QueryHint(name = "org.hibernate.cacheable", value = "true"),
         @QueryHint(name = "org.hibernate.cacheRegion", value = "queryWorkflowStates")
     })
     @Query(
-            "SELECT wt "
+            "SELECT MIN(wt.slaDuration) "
                     + "FROM WorkflowTransition wt "
                     + "WHERE wt.sourceState.id = :sourceStateId "
                     + "AND wt.workflow.id = :workflowId")
-    List<WorkflowTransition> findTransitionsBySourceState(
+    Long findMinSlaDurationBySourceState(
             @Param("workflowId") Long workflowId, @Param("sourceStateId") Long sourceStateId);
 
     /**
@@ -64,6 +66,12 @@ public interface WorkflowTransitionRepository extends JpaRepository<WorkflowTran
     Optional<WorkflowTransition> findByWorkflowIdAndSourceStateIdAndTargetStateId(
             Long workflowId, Long sourceStateId, Long targetStateId);
 
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheRegion", value = "queryWorkflowStates")
+    })
+    List<WorkflowTransition> findByWorkflowIdAndTargetStateId(Long workflowId, Long targetStateId);
+
     List<WorkflowTransition> findByWorkflowId(Long workflowId);
 
     @Transactional
@@ -0,0 +1,126 @@
+package io.flowinquiry.modules.teams.service;
+
+import io.flowinquiry.modules.teams.repository.ProjectEpicRepository;
+import io.flowinquiry.modules.teams.repository.ProjectIterationRepository;
+import io.flowinquiry.modules.teams.service.dto.TicketDTO;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintains the ticket and story point totals stored on epics and iterations.
+ *
+ * <p>Ticket writes report each ticket as it was before and after the change, and the difference of
+ * its contributions is added to the totals of the epics and iterations it left or joined, with one
+ * update per epic or iteration however many tickets changed. Updates are issued in id order so that
+ * concurrent writers lock the rows in the same order.
+ *
+ * <p>Writes outside the ticket service, such as deleting an epic with its tickets, are not tracked
+ * and are repaired by {@link
+ * io.flowinquiry.modules.teams.service.job.EpicIterationTotalsReconciliationJob}.
+ */
+@Component
+public class EpicIterationTotals {
+
+    /** What a ticket, or the difference between two of its versions, adds to the totals. */
+    private record Totals(
+            long tickets, long storyPoints, long completedStoryPoints, long remainingStoryPoints) {
+
+        static final Totals ZERO = new Totals(0, 0, 0, 0);
+
+        static Totals of(TicketDTO ticket) {
+            long storyPoints = ticket.getEstimate();
+            boolean completed = Boolean.TRUE.equals(ticket.getIsCompleted());
+            return completed
+                    ? new Totals(1, storyPoints, storyPoints, 0)
+                    : new Totals(1, storyPoints, 0, storyPoints);
+        }
+
+        Totals plus(Totals other, int sign) {
+            return new Totals(
+                    tickets + sign * other.tickets,
+                    storyPoints + sign * other.storyPoints,
+                    completedStoryPoints + sign * other.completedStoryPoints,
+                    remainingStoryPoints + sign * other.remainingStoryPoints);
+        }
+    }
+
+    private final ProjectEpicRepository projectEpicRepository;
+
+    private final ProjectIterationRepository projectIterationRepository;
+
+    public EpicIterationTotals(
+            ProjectEpicRepository projectEpicRepository,
+            ProjectIterationRepository projectIterationRepository) {
+        this.projectEpicRepository = projectEpicRepository;
+        this.projectIterationRepository = projectIterationRepository;
+    }
+
+    /**
+     * Applies the change of one ticket.
+     *
+     * @param before the ticket before the change, {@code null} when it is created
+     * @param after the ticket after the change, {@code null} when it is deleted
+     */
+    public void ticketChanged(TicketDTO before, TicketDTO after) {
+        ticketsChanged(
+                before == null ? List.of() : List.of(before),
+                after == null ? List.of() : List.of(after));
+    }
+
+    /**
+     * Applies the change of many tickets. The tickets of {@code before} have been removed from
+     * their epics and iterations and those of {@code after} added, so the same ticket is passed in
+     * both lists when it is updated.
+     */
+    public void ticketsChanged(List<TicketDTO> before, List<TicketDTO> after) {
+        Map<Long, Totals> epicDeltas = deltas(before, after, TicketDTO::getEpicId);
+        epicDeltas.forEach(
+                (epicId, delta) ->
+                        projectEpicRepository.adjustTotals(
+                                epicId,
+                                delta.tickets(),
+                                delta.storyPoints(),
+                                delta.completedStoryPoints(),
+                                delta.remainingStoryPoints()));
+        Map<Long, Totals> iterationDeltas = deltas(before, after, TicketDTO::getIterationId);
+        iterationDeltas.forEach(
+                (iterationId, delta) ->
+                        projectIterationRepository.adjustTotals(
+                                iterationId,
+                                delta.tickets(),
+                                delta.storyPoints(),
+                                delta.completedStoryPoints(),
+                                delta.remainingStoryPoints()));
+    }
+
+    /**
+     * Counts the open tickets of the iteration as completed in the iteration and their epics, with
+     * one statement for each. Must be called right before the tickets are completed.
+     */
+    public void iterationClosing(Long iterationId) {
+        projectEpicRepository.completeOpenStoryPointsOfIteration(iterationId);
+        projectIterationRepository.completeOpenStoryPoints(iterationId);
+    }
+
+    private static Map<Long, Totals> deltas(
+            List<TicketDTO> before, List<TicketDTO> after, Function<TicketDTO, Long> scopeId) {
+        Map<Long, Totals> deltas = new TreeMap<>();
+        for (TicketDTO ticket : before) {
+            add(deltas, scopeId.apply(ticket), Totals.of(ticket), -1);
+        }
+        for (TicketDTO ticket : after) {
+            add(deltas, scopeId.apply(ticket), Totals.of(ticket), 1);
+        }
+        deltas.values().removeIf(Totals.ZERO::equals);
+        return deltas;
+    }
+
+    private static void add(Map<Long, Totals> deltas, Long id, Totals totals, int sign) {
+        if (id != null) {
+            deltas.merge(id, Totals.ZERO.plus(totals, sign), (a, b) -> a.plus(b, 1));
+        }
+    }
+}
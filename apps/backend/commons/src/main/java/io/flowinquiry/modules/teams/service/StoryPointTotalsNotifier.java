@@ -0,0 +1,159 @@
+package io.flowinquiry.modules.teams.service;
+
+import static io.flowinquiry.modules.shared.domain.EventPayloadType.UPDATED_EPIC;
+import static io.flowinquiry.modules.shared.domain.EventPayloadType.UPDATED_ITERATION;
+
+import io.flowinquiry.modules.shared.controller.SseController;
+import io.flowinquiry.modules.teams.repository.TeamRepository;
+import io.flowinquiry.modules.usermanagement.service.dto.UserWithTeamRoleDTO;
+import io.flowinquiry.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Pushes the story point totals of epics and iterations to the members of their team.
+ *
+ * <p>Every ticket update in an epic or iteration asks for its totals to be pushed, and a grooming
+ * session updates hundreds of tickets of the same epic within seconds. Requests are therefore
+ * coalesced: the first one for an epic or iteration schedules a push {@link #WINDOW} later, which
+ * reads the totals stored by {@link EpicIterationTotals}, and the requests arriving until it starts
+ * share it. A request made while the totals are being read schedules the next push, so the last
+ * change is never missed.
+ *
+ * <p>The {@code flowinquiry.story.points.recompute.requests} and {@code
+ * flowinquiry.story.points.recompute.executions} counters, tagged by {@code scope}, give the
+ * coalescing ratio.
+ */
+@Component
+@Slf4j
+public class StoryPointTotalsNotifier {
+
+    public static final Duration WINDOW = Duration.ofMillis(500);
+
+    private enum Scope {
+        EPIC,
+        ITERATION
+    }
+
+    private record Key(UUID tenantId, Scope scope, Long id) {}
+
+    private final TeamRepository teamRepository;
+
+    private final ProjectEpicService projectEpicService;
+
+    private final ProjectIterationService projectIterationService;
+
+    private final SseController sseController;
+
+    private final TaskScheduler taskScheduler;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /** The team of each epic or iteration waiting for its recomputation. */
+    private final Map<Key, Long> pending = new ConcurrentHashMap<>();
+
+    private final Map<Scope, Counter> requests;
+
+    private final Map<Scope, Counter> executions;
+
+    public StoryPointTotalsNotifier(
+            TeamRepository teamRepository,
+            ProjectEpicService projectEpicService,
+            ProjectIterationService projectIterationService,
+            SseController sseController,
+            TaskScheduler taskScheduler,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.teamRepository = teamRepository;
+        this.projectEpicService = projectEpicService;
+        this.projectIterationService = projectIterationService;
+        this.sseController = sseController;
+        this.taskScheduler = taskScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.requests =
+                Map.of(
+                        Scope.EPIC, requestCounter(meterRegistry, Scope.EPIC),
+                        Scope.ITERATION, requestCounter(meterRegistry, Scope.ITERATION));
+        this.executions =
+                Map.of(
+                        Scope.EPIC, executionCounter(meterRegistry, Scope.EPIC),
+                        Scope.ITERATION, executionCounter(meterRegistry, Scope.ITERATION));
+    }
+
+    public void epicChanged(Long teamId, Long epicId) {
+        request(Scope.EPIC, teamId, epicId);
+    }
+
+    public void iterationChanged(Long teamId, Long iterationId) {
+        request(Scope.ITERATION, teamId, iterationId);
+    }
+
+    private void request(Scope scope, Long teamId, Long id) {
+        requests.get(scope).increment();
+        Key key = new Key(TenantContext.findTenantId().orElse(null), scope, id);
+        if (pending.putIfAbsent(key, teamId) == null) {
+            taskScheduler.schedule(() -> recompute(key), Instant.now().plus(WINDOW));
+        }
+    }
+
+    private void recompute(Key key) {
+        Long teamId = pending.remove(key);
+        if (teamId == null) {
+            return;
+        }
+        executions.get(key.scope()).increment();
+        TenantContext.setTenantId(key.tenantId());
+        try {
+            transactionTemplate.executeWithoutResult(status -> push(key, teamId));
+        } catch (RuntimeException e) {
+            log.error("Can not push the story point total of {} {}", key.scope(), key.id(), e);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private void push(Key key, Long teamId) {
+        List<Long> userIds =
+                teamRepository.findUsersByTeamId(teamId).stream()
+                        .map(UserWithTeamRoleDTO::getId)
+                        .toList();
+        if (key.scope() == Scope.EPIC) {
+            projectEpicService
+                    .getEpicById(key.id())
+                    .ifPresent(epic -> sseController.sendEventToUsers(userIds, UPDATED_EPIC, epic));
+        } else {
+            projectIterationService
+                    .getIterationById(key.id())
+                    .ifPresent(
+                            iteration ->
+                                    sseController.sendEventToUsers(
+                                            userIds, UPDATED_ITERATION, iteration));
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, Scope scope) {
+        return Counter.builder("flowinquiry.story.points.recompute.requests")
+                .description("Story point totals asked for by ticket changes")
+                .tag("scope", scope.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    private static Counter executionCounter(MeterRegistry meterRegistry, Scope scope) {
+        return Counter.builder("flowinquiry.story.points.recompute.executions")
+                .description("Story point totals computed and pushed after coalescing")
+                .tag("scope", scope.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,144 @@
+package io.flowinquiry.modules.teams.service;
+
+import static io.flowinquiry.modules.shared.domain.EventPayloadType.DASHBOARD_DELTA;
+
+import io.flowinquiry.modules.shared.controller.SseController;
+import io.flowinquiry.modules.teams.domain.TicketPriority;
+import io.flowinquiry.modules.teams.repository.TicketRepository;
+import io.flowinquiry.modules.teams.service.dto.TeamDashboardDeltaDTO;
+import io.flowinquiry.tenant.TenantContext;
+import io.flowinquiry.utils.TransactionUtils;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+
+/**
+ * Pushes the changes of the ticket counts of teams to the users who have their dashboard open, so
+ * that open dashboards stay current without polling the statistics endpoints.
+ *
+ * <p>{@link TicketDailyRollups} reports what each ticket write adds to its rollups. The entries are
+ * summed per team, day, priority and assignee until the transaction commits, and then sent as one
+ * {@link TeamDashboardDeltaDTO} per team to the subscribers of the team, see {@link
+ * TeamDashboardSubscriptions}. Nothing is sent when the transaction rolls back. Closing an
+ * iteration completes its tickets in bulk, so the teams of those tickets are asked to reload their
+ * dashboard instead.
+ *
+ * <p>Deltas are not kept for later: a dashboard that reconnects loads itself again, which also
+ * picks up the writes the rollups only learn about from the reconciliation job.
+ */
+@Component
+public class TeamDashboardDeltas {
+
+    private record Key(LocalDate day, TicketPriority priority, Long assignUserId) {}
+
+    /** The changes of the current transaction. */
+    private static final class Pending {
+
+        private final UUID tenantId = TenantContext.findTenantId().orElse(null);
+
+        private final Map<Long, Map<Key, TeamDashboardDeltaDTO.Entry>> entries = new TreeMap<>();
+
+        private final Set<Long> resyncTeamIds = new TreeSet<>();
+    }
+
+    private final TicketRepository ticketRepository;
+
+    private final TeamDashboardSubscriptions subscriptions;
+
+    private final SseController sseController;
+
+    public TeamDashboardDeltas(
+            TicketRepository ticketRepository,
+            TeamDashboardSubscriptions subscriptions,
+            SseController sseController) {
+        this.ticketRepository = ticketRepository;
+        this.subscriptions = subscriptions;
+        this.sseController = sseController;
+    }
+
+    /** Adds the entry to what the current transaction changed on the dashboard of the team. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void countsChanged(Long teamId, TeamDashboardDeltaDTO.Entry entry) {
+        pending()
+                .entries
+                .computeIfAbsent(teamId, id -> new LinkedHashMap<>())
+                .merge(
+                        new Key(entry.day(), entry.priority(), entry.assignUserId()),
+                        entry,
+                        TeamDashboardDeltas::plus);
+    }
+
+    /** Asks the teams of the open tickets of the iteration to reload their dashboard. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void iterationClosing(Long iterationId) {
+        pending()
+                .resyncTeamIds
+                .addAll(ticketRepository.findOpenTicketTeamIdsByIterationId(iterationId));
+    }
+
+    private void push(Pending pending) {
+        Set<Long> teamIds = new TreeSet<>(pending.entries.keySet());
+        teamIds.addAll(pending.resyncTeamIds);
+        for (Long teamId : teamIds) {
+            List<Long> userIds = subscriptions.subscriberIds(pending.tenantId, teamId);
+            if (userIds.isEmpty()) {
+                continue;
+            }
+            if (pending.resyncTeamIds.contains(teamId)) {
+                sseController.sendEventToUsers(
+                        userIds,
+                        DASHBOARD_DELTA,
+                        new TeamDashboardDeltaDTO(teamId, true, List.of()));
+                continue;
+            }
+            List<TeamDashboardDeltaDTO.Entry> entries =
+                    pending.entries.get(teamId).values().stream()
+                            .filter(entry -> !isZero(entry))
+                            .toList();
+            if (!entries.isEmpty()) {
+                sseController.sendEventToUsers(
+                        userIds,
+                        DASHBOARD_DELTA,
+                        new TeamDashboardDeltaDTO(teamId, false, entries));
+            }
+        }
+    }
+
+    /** The changes of the current transaction, pushed once it commits. */
+    private Pending pending() {
+        return TransactionUtils.resource(
+                this,
+                Pending::new,
+                pending ->
+                        new TransactionSynchronization() {
+                            @Override
+                            public void afterCommit() {
+                                push(pending);
+                            }
+                        });
+    }
+
+    private static TeamDashboardDeltaDTO.Entry plus(
+            TeamDashboardDeltaDTO.Entry a, TeamDashboardDeltaDTO.Entry b) {
+        return new TeamDashboardDeltaDTO.Entry(
+                a.day(),
+                a.priority(),
+                a.assignUserId(),
+                a.createdCount() + b.createdCount(),
+                a.openCount() + b.openCount(),
+                a.closedCount() + b.closedCount());
+    }
+
+    private static boolean isZero(TeamDashboardDeltaDTO.Entry entry) {
+        return entry.createdCount() == 0 && entry.openCount() == 0 && entry.closedCount() == 0;
+    }
+}
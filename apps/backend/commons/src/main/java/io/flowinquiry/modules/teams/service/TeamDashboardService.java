@@ -0,0 +1,137 @@
+package io.flowinquiry.modules.teams.service;
+
+import io.flowinquiry.modules.teams.domain.WorkflowTransitionHistoryStatus;
+import io.flowinquiry.modules.teams.service.dto.PriorityDistributionDTO;
+import io.flowinquiry.modules.teams.service.dto.TeamDashboardDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketActionCountByDateDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketDistributionDTO;
+import io.flowinquiry.modules.usermanagement.service.dto.TicketStatisticsDTO;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Builds the team dashboard in one call. The sections are independent reads, so they run at the
+ * same time on the dashboard executor, each in its own read transaction, and the dashboard takes
+ * about as long as its slowest section. When the executor is saturated a section runs on the
+ * calling thread instead.
+ */
+@Service
+@Slf4j
+public class TeamDashboardService {
+
+    public static final String STATISTICS = "statistics";
+
+    public static final String PRIORITY_DISTRIBUTION = "priority-distribution";
+
+    public static final String TICKET_DISTRIBUTION = "ticket-distribution";
+
+    public static final String OVERDUE_TICKET_COUNT = "overdue-tickets-count";
+
+    public static final String TICKET_CREATION_DAY_SERIES = "ticket-creations-day-series";
+
+    public static final String UNASSIGNED_TICKETS = "unassigned-tickets";
+
+    private final TicketService ticketService;
+
+    private final TaskExecutor dashboardTaskExecutor;
+
+    public TeamDashboardService(
+            TicketService ticketService,
+            @Qualifier("dashboardTaskExecutor") TaskExecutor dashboardTaskExecutor) {
+        this.ticketService = ticketService;
+        this.dashboardTaskExecutor = dashboardTaskExecutor;
+    }
+
+    /**
+     * Reads every section of the dashboard of the team. The date range applies to the sections that
+     * take one on their own endpoint.
+     *
+     * @param days number of days of the ticket creation series
+     * @param unassignedPageable the page of unassigned tickets to return
+     */
+    public TeamDashboardDTO getDashboard(
+            Long teamId, Instant fromDate, Instant toDate, int days, Pageable unassignedPageable) {
+        long start = System.nanoTime();
+        CompletableFuture<Timed<TicketStatisticsDTO>> statistics =
+                submit(() -> ticketService.getTicketStatisticsByTeamId(teamId, fromDate, toDate));
+        CompletableFuture<Timed<List<PriorityDistributionDTO>>> priorityDistribution =
+                submit(() -> ticketService.getPriorityDistribution(teamId, fromDate, toDate));
+        CompletableFuture<Timed<List<TicketDistributionDTO>>> ticketDistribution =
+                submit(() -> ticketService.getTicketDistribution(teamId, fromDate, toDate));
+        CompletableFuture<Timed<Long>> overdueTicketCount =
+                submit(
+                        () ->
+                                ticketService.countOverdueTickets(
+                                        teamId,
+                                        WorkflowTransitionHistoryStatus.COMPLETED,
+                                        fromDate,
+                                        toDate));
+        CompletableFuture<Timed<List<TicketActionCountByDateDTO>>> ticketCreationDaySeries =
+                submit(() -> ticketService.getTicketCreationTimeSeries(teamId, days));
+        CompletableFuture<Timed<Page<TicketDTO>>> unassignedTickets =
+                submit(() -> ticketService.getUnassignedTickets(teamId, unassignedPageable));
+
+        Map<String, Long> timings = new LinkedHashMap<>();
+        TeamDashboardDTO dashboard =
+                new TeamDashboardDTO(
+                        join(STATISTICS, statistics, timings),
+                        join(PRIORITY_DISTRIBUTION, priorityDistribution, timings),
+                        join(TICKET_DISTRIBUTION, ticketDistribution, timings),
+                        join(OVERDUE_TICKET_COUNT, overdueTicketCount, timings),
+                        join(TICKET_CREATION_DAY_SERIES, ticketCreationDaySeries, timings),
+                        join(UNASSIGNED_TICKETS, unassignedTickets, timings),
+                        timings);
+        log.debug(
+                "Built the dashboard of team {} in {} ms, sections {}",
+                teamId,
+                Duration.ofNanos(System.nanoTime() - start).toMillis(),
+                timings);
+        return dashboard;
+    }
+
+    private <T> CompletableFuture<Timed<T>> submit(Supplier<T> section) {
+        Supplier<Timed<T>> timed =
+                () -> {
+                    long start = System.nanoTime();
+                    T value = section.get();
+                    return new Timed<>(
+                            value, Duration.ofNanos(System.nanoTime() - start).toMillis());
+                };
+        try {
+            return CompletableFuture.supplyAsync(timed, dashboardTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(timed.get());
+        }
+    }
+
+    /** Waits for a section, rethrowing its exception as it was thrown. */
+    private static <T> T join(
+            String name, CompletableFuture<Timed<T>> section, Map<String, Long> timings) {
+        try {
+            Timed<T> timed = section.join();
+            timings.put(name, timed.millis());
+            return timed.value();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Timed<T>(T value, long millis) {}
+}
@@ -0,0 +1,45 @@
+package io.flowinquiry.modules.teams.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * The users who have the dashboard of a team open, counted per stream so that a user with the
+ * dashboard open in several tabs stays subscribed until the last one closes.
+ */
+@Component
+public class TeamDashboardSubscriptions {
+
+    private record Key(UUID tenantId, Long teamId) {}
+
+    /** The open streams of each user, by team. Teams without streams are removed. */
+    private final Map<Key, Map<Long, Integer>> streams = new ConcurrentHashMap<>();
+
+    public void subscribe(UUID tenantId, Long teamId, Long userId) {
+        streams.compute(
+                new Key(tenantId, teamId),
+                (key, users) -> {
+                    Map<Long, Integer> subscribed =
+                            users == null ? new ConcurrentHashMap<>() : users;
+                    subscribed.merge(userId, 1, Integer::sum);
+                    return subscribed;
+                });
+    }
+
+    public void unsubscribe(UUID tenantId, Long teamId, Long userId) {
+        streams.computeIfPresent(
+                new Key(tenantId, teamId),
+                (key, users) -> {
+                    users.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+                    return users.isEmpty() ? null : users;
+                });
+    }
+
+    public List<Long> subscriberIds(UUID tenantId, Long teamId) {
+        Map<Long, Integer> users = streams.get(new Key(tenantId, teamId));
+        return users == null ? List.of() : List.copyOf(users.keySet());
+    }
+}
@@ -3,6 +3,7 @@ package io.flowinquiry.modules.teams.service;
 import static io.flowinquiry.query.QueryUtils.createSpecification;
 
 import io.flowinquiry.exceptions.ResourceNotFoundException;
+import io.flowinquiry.modules.shared.service.outbox.OutboxService;
 import io.flowinquiry.modules.teams.domain.Team;
 import io.flowinquiry.modules.teams.domain.TeamRole;
 import io.flowinquiry.modules.teams.repository.TeamRepository;
@@ -20,6 +21,9 @@ import io.flowinquiry.modules.usermanagement.repository.UserTeamRepository;
 import io.flowinquiry.modules.usermanagement.service.dto.UserDTO;
 import io.flowinquiry.modules.usermanagement.service.dto.UserWithTeamRoleDTO;
 import io.flowinquiry.modules.usermanagement.service.mapper.UserMapper;
+import io.flowinquiry.query.CountMode;
+import io.flowinquiry.query.CountedPage;
+import io.flowinquiry.query.PagedQueryExecutor;
 import io.flowinquiry.query.QueryDTO;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
@@ -54,6 +58,8 @@ public class TeamService {
 
     private final UserMapper userMapper;
 
+    private final PagedQueryExecutor pagedQueryExecutor;
+
     private final ApplicationEventPublisher eventPublisher;
 
     public TeamService(
@@ -63,14 +69,17 @@ public class TeamService {
             TeamRoleRepository teamRoleRepository,
             TeamMapper teamMapper,
             UserMapper userMapper,
-            ApplicationEventPublisher eventPublisher) {
+            PagedQueryExecutor pagedQueryExecutor,
+            ApplicationEventPublisher eventPublisher,
+            OutboxService outboxService) {
         this.teamRepository = teamRepository;
         this.userRepository = userRepository;
         this.userTeamRepository = userTeamRepository;
         this.teamRoleRepository = teamRoleRepository;
         this.teamMapper = teamMapper;
         this.userMapper = userMapper;
-        this.eventPublisher = eventPublisher;
+        this.pagedQueryExecutor = pagedQueryExecutor;
+        this.eventPublisher = outboxService.publisherFor(eventPublisher);
     }
 
     public TeamDTO createTeam(TeamDTO teamDTO) {
@@ -115,8 +124,16 @@ public class TeamService {
 
     @Transactional(readOnly = true)
     public Page<TeamDTO> findTeams(Optional<QueryDTO> queryDTO, Pageable pageable) {
+        return findTeams(queryDTO, pageable, CountMode.EXACT);
+    }
+
+    @Transactional(readOnly = true)
+    public CountedPage<TeamDTO> findTeams(
+            Optional<QueryDTO> queryDTO, Pageable pageable, CountMode countMode) {
         Specification<Team> spec = createSpecification(queryDTO.orElse(null));
-        return teamRepository.findAll(spec, pageable).map(teamMapper::toDto);
+        return pagedQueryExecutor
+                .findPage(teamRepository, Team.class, spec, pageable, countMode)
+                .map(teamMapper::toDto);
     }
 
     @Transactional(readOnly = true)
@@ -213,6 +230,12 @@ public class TeamService {
         return teamRepository.existsManagerInTeam(teamId);
     }
 
+    /** Whether the user belongs to the team, with any role. */
+    @Transactional(readOnly = true)
+    public boolean isMember(Long userId, Long teamId) {
+        return teamRepository.existsMemberInTeam(teamId, userId);
+    }
+
     /**
      * Retrieves all users who have the 'Manager' role in the specified team.
      *
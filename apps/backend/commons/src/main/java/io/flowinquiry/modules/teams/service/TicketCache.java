@@ -0,0 +1,86 @@
+package io.flowinquiry.modules.teams.service;
+
+import io.flowinquiry.config.CacheConfig;
+import io.flowinquiry.modules.teams.service.dto.TicketDTO;
+import io.flowinquiry.tenant.TenantContext;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through cache of mapped {@link TicketDTO}s keyed by tenant and ticket id.
+ *
+ * <p>Writers evict a ticket right away and again when their transaction completes, so a value read
+ * by a concurrent request before the commit, or inside a transaction that rolls back, does not
+ * outlive it. Names of related entities (team, users, states) are only refreshed by the expiry
+ * configured in {@link CacheConfig}.
+ *
+ * <p>Lookups without a tenant bypass the cache, and evictions without a tenant clear it.
+ */
+@Component
+public class TicketCache {
+
+    private final Cache cache;
+
+    public TicketCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheConfig.TICKETS_CACHE);
+    }
+
+    public TicketDTO get(Long ticketId, Supplier<TicketDTO> loader) {
+        Optional<SimpleKey> key = keyOf(ticketId);
+        if (key.isEmpty()) {
+            return loader.get();
+        }
+        try {
+            return cache.get(key.get(), loader::get);
+        } catch (Cache.ValueRetrievalException e) {
+            // Rethrow what the loader threw, such as a ResourceNotFoundException, as it is
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void evict(Long ticketId) {
+        Optional<SimpleKey> key = keyOf(ticketId);
+        if (key.isEmpty()) {
+            evictAll();
+            return;
+        }
+        cache.evict(key.get());
+        afterCompletion(() -> cache.evict(key.get()));
+    }
+
+    public void evict(Collection<Long> ticketIds) {
+        ticketIds.forEach(this::evict);
+    }
+
+    /** Evicts every ticket, for writes that do not know which tickets they changed. */
+    public void evictAll() {
+        cache.clear();
+        afterCompletion(cache::clear);
+    }
+
+    private static Optional<SimpleKey> keyOf(Long ticketId) {
+        return TenantContext.findTenantId().map(tenantId -> new SimpleKey(tenantId, ticketId));
+    }
+
+    private static void afterCompletion(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            eviction.run();
+                        }
+                    });
+        }
+    }
+}
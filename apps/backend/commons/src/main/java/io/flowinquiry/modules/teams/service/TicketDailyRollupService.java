@@ -0,0 +1,149 @@
+package io.flowinquiry.modules.teams.service;
+
+import io.flowinquiry.modules.teams.repository.TicketDailyRollupRepository;
+import io.flowinquiry.modules.teams.repository.TicketDailyRollupRepository.DayCounts;
+import io.flowinquiry.modules.teams.service.dto.PriorityDistributionDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketActionCountByDateDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketDistributionDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketRollupDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketRollupGranularity;
+import io.flowinquiry.modules.usermanagement.service.dto.TicketStatisticsDTO;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads the team dashboard figures from the daily ticket rollups, so that a read costs one row per
+ * day, priority and assignee instead of one per ticket. Tickets are counted by the UTC day they
+ * were created, so ranges are whole UTC days.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TicketDailyRollupService {
+
+    /** The most periods {@link #getRollups} returns. */
+    public static final int MAX_PERIODS = 1000;
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(1970, 1, 1);
+
+    private static final LocalDate LAST_DAY = LocalDate.of(9999, 12, 31);
+
+    private final TicketDailyRollupRepository ticketDailyRollupRepository;
+
+    public TicketDailyRollupService(TicketDailyRollupRepository ticketDailyRollupRepository) {
+        this.ticketDailyRollupRepository = ticketDailyRollupRepository;
+    }
+
+    /**
+     * Whether the rollups can answer a range of creation times: both bounds are {@code null} or at
+     * midnight UTC.
+     */
+    public static boolean coversWholeDays(Instant fromDate, Instant toDate) {
+        return isMidnight(fromDate) && isMidnight(toDate);
+    }
+
+    /**
+     * Counts the tickets created from {@code fromDate} until, not including, {@code toDate}. The
+     * bounds must be whole days, see {@link #coversWholeDays}.
+     */
+    public TicketStatisticsDTO getTicketStatisticsByTeamId(
+            Long teamId, Instant fromDate, Instant toDate) {
+        return ticketDailyRollupRepository.getTicketStatisticsByTeamId(
+                teamId, fromDay(fromDate), toDay(toDate));
+    }
+
+    /** Counts the open tickets per assignee, by creation time like the statistics. */
+    public List<TicketDistributionDTO> getTicketDistribution(
+            Long teamId, Instant fromDate, Instant toDate) {
+        return ticketDailyRollupRepository.findTicketDistributionByTeamId(
+                teamId, fromDay(fromDate), toDay(toDate));
+    }
+
+    /** Counts the open tickets per priority, by creation time like the statistics. */
+    public List<PriorityDistributionDTO> getPriorityDistribution(
+            Long teamId, Instant fromDate, Instant toDate) {
+        return ticketDailyRollupRepository.findTicketPriorityDistributionByTeamId(
+                teamId, fromDay(fromDate), toDay(toDate));
+    }
+
+    /** The tickets created and closed on each of the days, including the days without any. */
+    public List<TicketActionCountByDateDTO> getTicketActionDaySeries(
+            Long teamId, LocalDate fromDay, LocalDate toDay) {
+        List<TicketActionCountByDateDTO> series = new ArrayList<>();
+        for (TicketRollupDTO rollup :
+                getRollups(teamId, TicketRollupGranularity.DAY, fromDay, toDay)) {
+            series.add(
+                    new TicketActionCountByDateDTO(
+                            rollup.periodStart(), rollup.createdCount(), rollup.closedCount()));
+        }
+        return series;
+    }
+
+    /**
+     * Sums up the rollups of the team to periods of the given granularity. Every period holding a
+     * day from {@code fromDay} to {@code toDay}, both included, is returned in order, with zero
+     * counts when nothing happened in it; the first and last periods only count their days inside
+     * the range.
+     *
+     * @throws IllegalArgumentException if the range is reversed or spans more than {@value
+     *     #MAX_PERIODS} periods
+     */
+    public List<TicketRollupDTO> getRollups(
+            Long teamId, TicketRollupGranularity granularity, LocalDate fromDay, LocalDate toDay) {
+        if (toDay.isBefore(fromDay)) {
+            throw new IllegalArgumentException("The range ends before it starts");
+        }
+        LocalDate firstPeriod = granularity.periodStart(fromDay);
+        LocalDate lastPeriod = granularity.periodStart(toDay);
+        long periods =
+                switch (granularity) {
+                    case DAY -> ChronoUnit.DAYS.between(firstPeriod, lastPeriod);
+                    case WEEK -> ChronoUnit.WEEKS.between(firstPeriod, lastPeriod);
+                    case MONTH -> ChronoUnit.MONTHS.between(firstPeriod, lastPeriod);
+                };
+        if (periods >= MAX_PERIODS) {
+            throw new IllegalArgumentException(
+                    "Can not return more than " + MAX_PERIODS + " periods");
+        }
+
+        Map<LocalDate, long[]> countsByPeriod = new TreeMap<>();
+        for (LocalDate period = firstPeriod;
+                !period.isAfter(lastPeriod);
+                period = granularity.nextPeriodStart(period)) {
+            countsByPeriod.put(period, new long[3]);
+        }
+        for (DayCounts day :
+                ticketDailyRollupRepository.findDayCountsByTeamId(
+                        teamId, fromDay, toDay.plusDays(1))) {
+            long[] counts = countsByPeriod.get(granularity.periodStart(day.getDay()));
+            counts[0] += day.getCreatedCount();
+            counts[1] += day.getClosedCount();
+            counts[2] += day.getOpenCount();
+        }
+
+        List<TicketRollupDTO> rollups = new ArrayList<>(countsByPeriod.size());
+        countsByPeriod.forEach(
+                (period, counts) ->
+                        rollups.add(new TicketRollupDTO(period, counts[0], counts[1], counts[2])));
+        return rollups;
+    }
+
+    private static boolean isMidnight(Instant instant) {
+        return instant == null || instant.truncatedTo(ChronoUnit.DAYS).equals(instant);
+    }
+
+    private static LocalDate fromDay(Instant fromDate) {
+        return fromDate == null ? FIRST_DAY : LocalDate.ofInstant(fromDate, ZoneOffset.UTC);
+    }
+
+    private static LocalDate toDay(Instant toDate) {
+        return toDate == null ? LAST_DAY : LocalDate.ofInstant(toDate, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,162 @@
+package io.flowinquiry.modules.teams.service;
+
+import io.flowinquiry.modules.teams.domain.TicketPriority;
+import io.flowinquiry.modules.teams.repository.TicketDailyRollupRepository;
+import io.flowinquiry.modules.teams.service.dto.TeamDashboardDeltaDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketDTO;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintains the daily ticket rollups of teams.
+ *
+ * <p>A ticket counts as created on the UTC day it was created, and as open there until it is
+ * completed; a completed ticket counts as closed on its completion date. Each count is kept per
+ * team, day, priority and assignee. Ticket writes report each ticket as it was before and after the
+ * change, and the difference of its counts is added to the rollups, with one upsert per key however
+ * many tickets changed. Upserts are issued in key order so that concurrent writers lock the rows in
+ * the same order. The same differences are handed to {@link TeamDashboardDeltas} for the open
+ * dashboards.
+ *
+ * <p>Writes outside the ticket service are not tracked and are repaired by {@link
+ * io.flowinquiry.modules.teams.service.job.TicketDailyRollupReconciliationJob}.
+ */
+@Component
+public class TicketDailyRollups {
+
+    /** The rollup row a count goes to. */
+    private record Key(Long teamId, LocalDate day, int priority, Long assignUserId)
+            implements Comparable<Key> {
+
+        private static final Comparator<Key> ORDER =
+                Comparator.comparing(Key::teamId)
+                        .thenComparing(Key::day)
+                        .thenComparingInt(Key::priority)
+                        .thenComparing(
+                                Key::assignUserId,
+                                Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /** What a ticket, or the difference between two of its versions, adds to one rollup row. */
+    private record Counts(int created, int open, int closed) {
+
+        static final Counts ZERO = new Counts(0, 0, 0);
+
+        Counts plus(Counts other, int sign) {
+            return new Counts(
+                    created + sign * other.created,
+                    open + sign * other.open,
+                    closed + sign * other.closed);
+        }
+    }
+
+    private final TicketDailyRollupRepository ticketDailyRollupRepository;
+
+    private final TeamDashboardDeltas teamDashboardDeltas;
+
+    public TicketDailyRollups(
+            TicketDailyRollupRepository ticketDailyRollupRepository,
+            TeamDashboardDeltas teamDashboardDeltas) {
+        this.ticketDailyRollupRepository = ticketDailyRollupRepository;
+        this.teamDashboardDeltas = teamDashboardDeltas;
+    }
+
+    /**
+     * Applies the change of one ticket.
+     *
+     * @param before the ticket before the change, {@code null} when it is created
+     * @param after the ticket after the change, {@code null} when it is deleted
+     */
+    public void ticketChanged(TicketDTO before, TicketDTO after) {
+        ticketsChanged(
+                before == null ? List.of() : List.of(before),
+                after == null ? List.of() : List.of(after));
+    }
+
+    /**
+     * Applies the change of many tickets. The tickets of {@code before} have been removed from the
+     * rollups and those of {@code after} added, so the same ticket is passed in both lists when it
+     * is updated.
+     */
+    public void ticketsChanged(List<TicketDTO> before, List<TicketDTO> after) {
+        Map<Key, Counts> deltas = new TreeMap<>();
+        for (TicketDTO ticket : before) {
+            addCounts(deltas, ticket, -1);
+        }
+        for (TicketDTO ticket : after) {
+            addCounts(deltas, ticket, 1);
+        }
+        deltas.values().removeIf(Counts.ZERO::equals);
+        deltas.forEach(
+                (key, delta) -> {
+                    ticketDailyRollupRepository.adjustCounts(
+                            key.teamId(),
+                            key.day(),
+                            key.priority(),
+                            key.assignUserId(),
+                            delta.created(),
+                            delta.open(),
+                            delta.closed());
+                    teamDashboardDeltas.countsChanged(
+                            key.teamId(),
+                            new TeamDashboardDeltaDTO.Entry(
+                                    key.day(),
+                                    TicketPriority.fromCode(key.priority()),
+                                    key.assignUserId(),
+                                    delta.created(),
+                                    delta.open(),
+                                    delta.closed()));
+                });
+    }
+
+    /**
+     * Counts the open tickets of the iteration as closed today, with one statement for the open and
+     * one for the closed counts. Must be called right before the tickets are completed.
+     */
+    public void iterationClosing(Long iterationId) {
+        teamDashboardDeltas.iterationClosing(iterationId);
+        ticketDailyRollupRepository.removeOpenTicketsOfIteration(iterationId);
+        ticketDailyRollupRepository.addClosedTicketsOfIteration(iterationId);
+    }
+
+    private static void addCounts(Map<Key, Counts> deltas, TicketDTO ticket, int sign) {
+        if (ticket.getTeamId() == null || ticket.getPriority() == null) {
+            return;
+        }
+        int priority = ticket.getPriority().getCode();
+        boolean completed = Boolean.TRUE.equals(ticket.getIsCompleted());
+        if (ticket.getCreatedAt() != null) {
+            LocalDate createdDay = LocalDate.ofInstant(ticket.getCreatedAt(), ZoneOffset.UTC);
+            add(
+                    deltas,
+                    new Key(ticket.getTeamId(), createdDay, priority, ticket.getAssignUserId()),
+                    new Counts(1, completed ? 0 : 1, 0),
+                    sign);
+        }
+        if (completed && ticket.getActualCompletionDate() != null) {
+            add(
+                    deltas,
+                    new Key(
+                            ticket.getTeamId(),
+                            ticket.getActualCompletionDate(),
+                            priority,
+                            ticket.getAssignUserId()),
+                    new Counts(0, 0, 1),
+                    sign);
+        }
+    }
+
+    private static void add(Map<Key, Counts> deltas, Key key, Counts counts, int sign) {
+        deltas.merge(key, Counts.ZERO.plus(counts, sign), (a, b) -> a.plus(b, 1));
+    }
+}
@@ -0,0 +1,191 @@
+package io.flowinquiry.modules.teams.service;
+
+import static io.flowinquiry.query.QueryUtils.createSpecification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.flowinquiry.modules.teams.domain.Ticket;
+import io.flowinquiry.modules.teams.repository.TicketListField;
+import io.flowinquiry.modules.teams.repository.TicketRepository;
+import io.flowinquiry.modules.teams.service.dto.TicketExportFormat;
+import io.flowinquiry.modules.teams.service.dto.TicketListItemDTO;
+import io.flowinquiry.query.QueryDTO;
+import io.flowinquiry.tenant.TenantContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Exports ticket search results as CSV or newline delimited JSON.
+ *
+ * <p>Rows are streamed from a database cursor straight to the response, {@value #FETCH_SIZE} at a
+ * time, so memory use does not depend on the number of exported tickets. The response body is
+ * written on an async request thread after the controller returned, which has neither the request
+ * transaction nor its tenant filter: the export opens its own read-only transaction and enables the
+ * tenant filter of the requesting user in it.
+ */
+@Service
+@Slf4j
+public class TicketExportService {
+
+    static final int FETCH_SIZE = 500;
+
+    @PersistenceContext private EntityManager entityManager;
+
+    private final TicketRepository ticketRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public TicketExportService(
+            TicketRepository ticketRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper) {
+        this.ticketRepository = ticketRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Prepares the export of the tickets matching {@code queryDTO}. The query and the fields are
+     * validated right away, so that invalid requests are rejected before the response is committed.
+     *
+     * @param fields property names of {@link TicketListItemDTO} to export, all when empty
+     * @throws IllegalArgumentException if the query or a field is invalid
+     */
+    public StreamingResponseBody exportTickets(
+            QueryDTO queryDTO, List<String> fields, TicketExportFormat format, Sort sort) {
+        Specification<Ticket> spec = createSpecification(queryDTO);
+        Set<TicketListField> exportFields =
+                fields == null || fields.isEmpty()
+                        ? EnumSet.allOf(TicketListField.class)
+                        : TicketListField.fromProperties(fields);
+        UUID tenantId = TenantContext.getTenantId().orElse(null);
+        return outputStream ->
+                writeTickets(spec, exportFields, format, sort, tenantId, outputStream);
+    }
+
+    private void writeTickets(
+            Specification<Ticket> spec,
+            Set<TicketListField> fields,
+            TicketExportFormat format,
+            Sort sort,
+            UUID tenantId,
+            OutputStream outputStream)
+            throws IOException {
+        Writer writer =
+                new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        if (tenantId != null) {
+                            entityManager
+                                    .unwrap(Session.class)
+                                    .enableFilter("tenantFilter")
+                                    .setParameter("tenantId", tenantId);
+                        }
+                        try (Stream<TicketListItemDTO> rows =
+                                ticketRepository.streamListItems(spec, fields, sort, FETCH_SIZE)) {
+                            writeRows(writer, rows.iterator(), fields, format);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            // Most likely the client went away, the response is already committed
+            log.debug("Ticket export aborted: {}", e.getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeRows(
+            Writer writer,
+            Iterator<TicketListItemDTO> rows,
+            Set<TicketListField> fields,
+            TicketExportFormat format)
+            throws IOException {
+        if (format == TicketExportFormat.CSV) {
+            writeCsvHeader(writer, fields);
+        }
+        while (rows.hasNext()) {
+            TicketListItemDTO row = rows.next();
+            if (format == TicketExportFormat.CSV) {
+                writeCsvRow(writer, fields, row);
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+        }
+    }
+
+    private static void writeCsvHeader(Writer writer, Set<TicketListField> fields)
+            throws IOException {
+        boolean first = true;
+        for (TicketListField field : fields) {
+            if (!first) {
+                writer.write(',');
+            }
+            writer.write(field.getProperty());
+            first = false;
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvRow(Writer writer, Set<TicketListField> fields, TicketListItemDTO row)
+            throws IOException {
+        boolean first = true;
+        for (TicketListField field : fields) {
+            if (!first) {
+                writer.write(',');
+            }
+            Object value = field.get(row);
+            if (value instanceof Enum<?>) {
+                // Same representation as in the JSON responses
+                writer.write(escapeCsv(objectMapper.convertValue(value, String.class)));
+            } else if (value instanceof String text) {
+                writer.write(escapeCsv(text));
+            } else if (value != null) {
+                writer.write(value.toString());
+            }
+            first = false;
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quotes a text cell when needed (RFC 4180). Text starting with a formula character is prefixed
+     * with a quote so that spreadsheets do not evaluate user input as a formula.
+     */
+    static String escapeCsv(String text) {
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0
+                || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0
+                || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -20,12 +20,15 @@ public class TicketHealthEvalService {
 
     private final TicketConversationHealthRepository ticketConversationHealthRepository;
     private final ChatModelService chatModelService;
+    private final TicketCache ticketCache;
 
     public TicketHealthEvalService(
             ChatModelService chatModelService,
-            TicketConversationHealthRepository ticketConversationHealthRepository) {
+            TicketConversationHealthRepository ticketConversationHealthRepository,
+            TicketCache ticketCache) {
         this.chatModelService = chatModelService;
         this.ticketConversationHealthRepository = ticketConversationHealthRepository;
+        this.ticketCache = ticketCache;
     }
 
     public String summarizeTicket(String description) {
@@ -105,6 +108,7 @@ public class TicketHealthEvalService {
 
         // Step 9: Save the updated conversation health record
         ticketConversationHealthRepository.save(health);
+        ticketCache.evict(ticketId);
     }
 
     /** Determines if the message contains a question using AI. */
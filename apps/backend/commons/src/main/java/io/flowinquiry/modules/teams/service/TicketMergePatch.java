@@ -0,0 +1,118 @@
+package io.flowinquiry.modules.teams.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.flowinquiry.modules.teams.service.dto.TicketDTO;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies JSON merge patches (RFC 7396) to tickets. A patch is an object holding the fields to
+ * change, a {@code null} value clears a field. Only the fields a user edits can be patched; the
+ * others, such as the team, workflow or counters, are rejected.
+ */
+@Component
+public class TicketMergePatch {
+
+    public static final List<String> PATCHABLE_FIELDS =
+            List.of(
+                    "requestTitle",
+                    "requestDescription",
+                    "priority",
+                    "assignUserId",
+                    "estimatedCompletionDate",
+                    "actualCompletionDate",
+                    "currentStateId",
+                    "iterationId",
+                    "epicId",
+                    "channel",
+                    "size",
+                    "estimate",
+                    "parentTicketId");
+
+    /** Fields the ticket service derives from a state change, besides the completion date. */
+    private static final List<String> DERIVED_FIELDS = List.of("isNew", "isCompleted");
+
+    private static final Set<String> REQUIRED_FIELDS = Set.of("priority", "currentStateId");
+
+    /** The patched ticket, and the fields whose value the patch changed. */
+    public record Result(TicketDTO ticket, Set<String> changedFields) {}
+
+    private final ObjectMapper objectMapper;
+
+    public TicketMergePatch(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Applies {@code patch} to a copy of {@code ticket}. Fields sent with their current value are
+     * not reported as changed.
+     *
+     * @throws IllegalArgumentException if the patch is not an object, sets a field that can not be
+     *     patched, clears a required field or holds a value of the wrong type
+     */
+    public Result apply(TicketDTO ticket, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("A ticket patch must be a JSON object");
+        }
+        ObjectNode previous = objectMapper.valueToTree(ticket);
+        ObjectNode patched = previous.deepCopy();
+        for (Iterator<String> names = patch.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!PATCHABLE_FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Ticket field can not be patched: " + name);
+            }
+            if (patch.get(name).isNull() && REQUIRED_FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Ticket field can not be cleared: " + name);
+            }
+            patched.set(name, patch.get(name));
+        }
+
+        TicketDTO patchedTicket;
+        try {
+            patchedTicket = objectMapper.treeToValue(patched, TicketDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid ticket patch: " + e.getOriginalMessage());
+        }
+        // Compare the values as the DTO writes them, e.g. ids parsed as ints with the DTO's longs
+        ObjectNode updated = objectMapper.valueToTree(patchedTicket);
+        Set<String> changedFields = new LinkedHashSet<>();
+        for (Iterator<String> names = patch.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!Objects.equals(previous.get(name), updated.get(name))) {
+                changedFields.add(name);
+            }
+        }
+        return new Result(patchedTicket, changedFields);
+    }
+
+    /**
+     * Returns the patchable and derived fields whose value differs between the two tickets, with
+     * their value in {@code updated}.
+     */
+    public ObjectNode changes(TicketDTO previous, TicketDTO updated) {
+        ObjectNode previousNode = objectMapper.valueToTree(previous);
+        ObjectNode updatedNode = objectMapper.valueToTree(updated);
+        ObjectNode changes = objectMapper.createObjectNode();
+        for (String name : PATCHABLE_FIELDS) {
+            addIfChanged(changes, name, previousNode, updatedNode);
+        }
+        for (String name : DERIVED_FIELDS) {
+            addIfChanged(changes, name, previousNode, updatedNode);
+        }
+        return changes;
+    }
+
+    private static void addIfChanged(
+            ObjectNode changes, String name, ObjectNode previous, ObjectNode updated) {
+        if (!Objects.equals(previous.get(name), updated.get(name))) {
+            changes.set(name, updated.get(name));
+        }
+    }
+}
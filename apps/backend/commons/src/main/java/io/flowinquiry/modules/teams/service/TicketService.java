@@ -3,18 +3,26 @@ package io.flowinquiry.modules.teams.service;
 import static io.flowinquiry.modules.teams.domain.WorkflowTransitionHistoryStatus.COMPLETED;
 import static io.flowinquiry.query.QueryUtils.createSpecification;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import io.flowinquiry.exceptions.PreconditionFailedException;
 import io.flowinquiry.exceptions.ResourceNotFoundException;
+import io.flowinquiry.modules.audit.service.event.AuditLogBulkUpdateEvent;
 import io.flowinquiry.modules.audit.service.event.AuditLogUpdateEvent;
 import io.flowinquiry.modules.collab.domain.EntityType;
 import io.flowinquiry.modules.collab.domain.EntityWatcher;
 import io.flowinquiry.modules.collab.repository.EntityWatcherRepository;
-import io.flowinquiry.modules.teams.domain.ProjectTicketSequence;
+import io.flowinquiry.modules.shared.service.outbox.OutboxService;
+import io.flowinquiry.modules.teams.domain.ProjectEpic;
+import io.flowinquiry.modules.teams.domain.ProjectIteration;
 import io.flowinquiry.modules.teams.domain.Ticket;
 import io.flowinquiry.modules.teams.domain.WorkflowState;
 import io.flowinquiry.modules.teams.domain.WorkflowTransition;
 import io.flowinquiry.modules.teams.domain.WorkflowTransitionHistory;
 import io.flowinquiry.modules.teams.domain.WorkflowTransitionHistoryStatus;
+import io.flowinquiry.modules.teams.repository.ProjectEpicRepository;
+import io.flowinquiry.modules.teams.repository.ProjectIterationRepository;
 import io.flowinquiry.modules.teams.repository.ProjectTicketSequenceRepository;
+import io.flowinquiry.modules.teams.repository.TicketListField;
 import io.flowinquiry.modules.teams.repository.TicketRepository;
 import io.flowinquiry.modules.teams.repository.WorkflowStateRepository;
 import io.flowinquiry.modules.teams.repository.WorkflowTransitionHistoryRepository;
@@ -22,15 +30,26 @@ import io.flowinquiry.modules.teams.repository.WorkflowTransitionRepository;
 import io.flowinquiry.modules.teams.service.dto.PriorityDistributionDTO;
 import io.flowinquiry.modules.teams.service.dto.TeamTicketPriorityDistributionDTO;
 import io.flowinquiry.modules.teams.service.dto.TicketActionCountByDateDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketBulkUpdateDTO;
 import io.flowinquiry.modules.teams.service.dto.TicketDTO;
 import io.flowinquiry.modules.teams.service.dto.TicketDistributionDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketListItemDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketNeighborsDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketPatchResult;
 import io.flowinquiry.modules.teams.service.event.NewTicketCreatedEvent;
 import io.flowinquiry.modules.teams.service.event.ProjectEpicChangedByTicketEvent;
 import io.flowinquiry.modules.teams.service.event.ProjectIterationChangedByTicketEvent;
+import io.flowinquiry.modules.teams.service.event.TicketBulkWorkStateTransitionEvent;
 import io.flowinquiry.modules.teams.service.event.TicketWorkStateTransitionEvent;
 import io.flowinquiry.modules.teams.service.mapper.TicketMapper;
 import io.flowinquiry.modules.usermanagement.domain.User;
+import io.flowinquiry.modules.usermanagement.repository.UserRepository;
 import io.flowinquiry.modules.usermanagement.service.dto.TicketStatisticsDTO;
+import io.flowinquiry.query.CountMode;
+import io.flowinquiry.query.CountedPage;
+import io.flowinquiry.query.CursorSlice;
+import io.flowinquiry.query.KeysetCursorCodec;
+import io.flowinquiry.query.PagedQueryExecutor;
 import io.flowinquiry.query.QueryDTO;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -39,28 +58,47 @@ import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.ConcurrentModificationException;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
 public class TicketService {
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
+
+    /** The most tickets {@link #getTicketsByIds(List)} returns at once. */
+    public static final int MAX_TICKETS_BY_IDS = 100;
+
+    private static final Sort DEFAULT_CURSOR_SORT = Sort.by(Sort.Direction.DESC, "id");
+
+    /**
+     * The properties tickets can be scrolled by. A keyset seeks past the values of the last row, so
+     * only columns that can not be null qualify: a row with a null key would never be reached.
+     */
+    private static final Set<String> CURSOR_SORT_PROPERTIES =
+            Set.of("id", "projectTicketNumber", "priority");
+
     @PersistenceContext private EntityManager entityManager;
 
     private final TicketRepository ticketRepository;
@@ -71,6 +109,17 @@ public class TicketService {
     private final WorkflowTransitionHistoryRepository workflowTransitionHistoryRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final ProjectTicketSequenceRepository projectTicketSequenceRepository;
+    private final KeysetCursorCodec keysetCursorCodec;
+    private final UserRepository userRepository;
+    private final ProjectIterationRepository projectIterationRepository;
+    private final ProjectEpicRepository projectEpicRepository;
+    private final TicketCache ticketCache;
+    private final EpicIterationTotals epicIterationTotals;
+    private final TicketMergePatch ticketMergePatch;
+    private final TicketViewProjector ticketViewProjector;
+    private final TicketDailyRollups ticketDailyRollups;
+    private final TicketDailyRollupService ticketDailyRollupService;
+    private final PagedQueryExecutor pagedQueryExecutor;
 
     @Autowired
     public TicketService(
@@ -81,7 +130,19 @@ public class TicketService {
             WorkflowStateRepository workflowStateRepository,
             WorkflowTransitionHistoryRepository workflowTransitionHistoryRepository,
             ProjectTicketSequenceRepository projectTicketSequenceRepository,
-            ApplicationEventPublisher eventPublisher) {
+            KeysetCursorCodec keysetCursorCodec,
+            UserRepository userRepository,
+            ProjectIterationRepository projectIterationRepository,
+            ProjectEpicRepository projectEpicRepository,
+            TicketCache ticketCache,
+            EpicIterationTotals epicIterationTotals,
+            TicketMergePatch ticketMergePatch,
+            TicketViewProjector ticketViewProjector,
+            TicketDailyRollups ticketDailyRollups,
+            TicketDailyRollupService ticketDailyRollupService,
+            PagedQueryExecutor pagedQueryExecutor,
+            ApplicationEventPublisher eventPublisher,
+            OutboxService outboxService) {
         this.ticketRepository = ticketRepository;
         this.entityWatcherRepository = entityWatcherRepository;
         this.ticketMapper = ticketMapper;
@@ -89,24 +150,160 @@ public class TicketService {
         this.workflowStateRepository = workflowStateRepository;
         this.workflowTransitionHistoryRepository = workflowTransitionHistoryRepository;
         this.projectTicketSequenceRepository = projectTicketSequenceRepository;
-        this.eventPublisher = eventPublisher;
+        this.keysetCursorCodec = keysetCursorCodec;
+        this.userRepository = userRepository;
+        this.projectIterationRepository = projectIterationRepository;
+        this.projectEpicRepository = projectEpicRepository;
+        this.ticketCache = ticketCache;
+        this.epicIterationTotals = epicIterationTotals;
+        this.ticketMergePatch = ticketMergePatch;
+        this.ticketViewProjector = ticketViewProjector;
+        this.ticketDailyRollups = ticketDailyRollups;
+        this.ticketDailyRollupService = ticketDailyRollupService;
+        this.pagedQueryExecutor = pagedQueryExecutor;
+        this.eventPublisher = outboxService.publisherFor(eventPublisher);
     }
 
     public Page<TicketDTO> findTickets(QueryDTO queryDTO, Pageable pageable) {
+        return findTickets(queryDTO, pageable, CountMode.EXACT);
+    }
+
+    /**
+     * Finds a page of tickets, computing the total as requested by {@code countMode}.
+     *
+     * @see PagedQueryExecutor
+     */
+    @Transactional(readOnly = true)
+    public CountedPage<TicketDTO> findTickets(
+            QueryDTO queryDTO, Pageable pageable, CountMode countMode) {
         Specification<Ticket> spec = createSpecification(queryDTO);
-        return ticketRepository.findAll(spec, pageable).map(ticketMapper::toDto);
+        return pagedQueryExecutor
+                .findPage(
+                        ticketRepository,
+                        Ticket.class,
+                        spec,
+                        pageable,
+                        countMode,
+                        "team",
+                        "requestUser",
+                        "assignUser",
+                        "workflow",
+                        "currentState")
+                .map(ticketMapper::toDto);
+    }
+
+    /**
+     * Finds tickets for list views, selecting only the requested fields instead of whole tickets.
+     *
+     * @param queryDTO the search filters, same as {@link #findTickets(QueryDTO, Pageable)}
+     * @param fields property names of {@link TicketListItemDTO}; the id is always returned
+     * @throws IllegalArgumentException if a field is unknown
+     */
+    @Transactional(readOnly = true)
+    public Page<TicketListItemDTO> findTicketListItems(
+            QueryDTO queryDTO, List<String> fields, Pageable pageable) {
+        Specification<Ticket> spec = createSpecification(queryDTO);
+        return ticketRepository.findListItems(
+                spec, TicketListField.fromProperties(fields), pageable);
+    }
+
+    /**
+     * Finds tickets using keyset pagination. Instead of skipping {@code offset} rows and counting
+     * the whole filtered set, each slice seeks past the sort key of the last row returned by the
+     * previous slice, so the cost of a slice does not grow with its depth.
+     *
+     * @param queryDTO the search filters, same as {@link #findTickets(QueryDTO, Pageable)}
+     * @param after the cursor returned with the previous slice, or null for the first slice
+     * @param size the maximum number of tickets to return
+     * @param sort the requested ordering; the ticket id is always appended as a tie-breaker
+     * @throws IllegalArgumentException if the cursor is invalid or the sort is on a property that
+     *     can be null
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<TicketDTO> findTicketsByCursor(
+            QueryDTO queryDTO, String after, int size, Sort sort) {
+        Specification<Ticket> spec = createSpecification(queryDTO);
+        Sort keysetSort = cursorSort(sort);
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        KeysetScrollPosition position = keysetCursorCodec.decode(after, Ticket.class, keysetSort);
+
+        Window<Ticket> window =
+                ticketRepository.findBy(
+                        spec,
+                        query ->
+                                query.sortBy(keysetSort)
+                                        .limit(limit)
+                                        .project(
+                                                "team",
+                                                "requestUser",
+                                                "assignUser",
+                                                "workflow",
+                                                "currentState")
+                                        .scroll(position));
+
+        String nextCursor =
+                window.hasNext()
+                        ? keysetCursorCodec.encode(window.positionAt(window.size() - 1))
+                        : null;
+        return new CursorSlice<>(window.getContent(), window.hasNext(), nextCursor)
+                .map(ticketMapper::toDto);
+    }
+
+    private static Sort cursorSort(Sort sort) {
+        if (sort.isUnsorted()) {
+            return DEFAULT_CURSOR_SORT;
+        }
+        for (Sort.Order order : sort) {
+            if (!CURSOR_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException(
+                        "Tickets can not be scrolled by " + order.getProperty());
+            }
+        }
+        return sort.getOrderFor("id") != null ? sort : sort.and(Sort.by("id"));
     }
 
+    /**
+     * Returns the ticket from {@link TicketCache}, loading and mapping it on a miss. The returned
+     * DTO is shared with other callers and must not be modified.
+     */
     @Transactional(readOnly = true)
     public TicketDTO getTicketById(Long id) {
-        Ticket ticket =
-                ticketRepository
-                        .findById(id)
-                        .orElseThrow(
-                                () ->
-                                        new ResourceNotFoundException(
-                                                "Ticket not found with id: " + id));
-        return ticketMapper.toDto(ticket);
+        return ticketCache.get(
+                id,
+                () ->
+                        ticketRepository
+                                .findById(id)
+                                .map(ticketMapper::toDto)
+                                .orElseThrow(
+                                        () ->
+                                                new ResourceNotFoundException(
+                                                        "Ticket not found with id: " + id)));
+    }
+
+    /**
+     * Gets the tickets with the given ids in one query, in the order of {@code ids}. Duplicate ids
+     * are returned once and ids of missing tickets are skipped.
+     *
+     * @throws IllegalArgumentException if more than {@value #MAX_TICKETS_BY_IDS} ids are given
+     */
+    @Transactional(readOnly = true)
+    public List<TicketDTO> getTicketsByIds(List<Long> ids) {
+        Set<Long> ticketIds = new LinkedHashSet<>(ids);
+        if (ticketIds.size() > MAX_TICKETS_BY_IDS) {
+            throw new IllegalArgumentException(
+                    "Can not get more than " + MAX_TICKETS_BY_IDS + " tickets at once");
+        }
+        if (ticketIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Ticket> ticketsById =
+                ticketRepository.findAllByIdIn(ticketIds).stream()
+                        .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+        return ticketIds.stream()
+                .map(ticketsById::get)
+                .filter(Objects::nonNull)
+                .map(ticketMapper::toDto)
+                .toList();
     }
 
     @Transactional
@@ -128,11 +325,6 @@ public class TicketService {
             ticketDTO.setProjectTicketNumber(nextNumber);
         }
 
-        Ticket ticket = ticketMapper.toEntity(ticketDTO);
-        ticket = ticketRepository.save(ticket);
-
-        Long ticketId = ticket.getId();
-
         Set<Long> uniqueWatcherIds = new HashSet<>();
         uniqueWatcherIds.add(ticketDTO.getRequestUserId());
 
@@ -140,6 +332,13 @@ public class TicketService {
             uniqueWatcherIds.add(ticketDTO.getAssignUserId());
         }
 
+        Ticket ticket = ticketMapper.toEntity(ticketDTO);
+        ticket.setNumberAttachments(0);
+        ticket.setNumberWatchers(uniqueWatcherIds.size());
+        ticket = ticketRepository.save(ticket);
+
+        Long ticketId = ticket.getId();
+
         List<EntityWatcher> entityWatchers =
                 uniqueWatcherIds.stream()
                         .map(
@@ -153,9 +352,6 @@ public class TicketService {
                         .collect(Collectors.toList());
         entityWatcherRepository.saveAll(entityWatchers);
 
-        // Clear the persistence context to force a reload
-        entityManager.clear();
-
         Instant slaDueDate =
                 calculateEarliestSlaDueDate(
                         ticket.getWorkflow().getId(), initialStateByWorkflowId.getId());
@@ -169,8 +365,21 @@ public class TicketService {
         history.setSlaDueDate(slaDueDate);
         history.setStatus(WorkflowTransitionHistoryStatus.IN_PROGRESS);
         workflowTransitionHistoryRepository.save(history);
+        ticketRepository.pointToTransitions(List.of(history.getId()));
 
         TicketDTO savedTicketDTO = ticketMapper.toDto(ticket);
+        epicIterationTotals.ticketChanged(null, savedTicketDTO);
+        ticketDailyRollups.ticketChanged(null, savedTicketDTO);
+        ticketViewProjector.ticketChanged(savedTicketDTO.getId());
+        // The associations of the new ticket are stubs holding only an id. Detach it so that a
+        // later read in this transaction loads them instead of finding the stubs; the eviction
+        // also runs at commit, in case such a read fills the cache.
+        entityManager.flush();
+        entityManager.detach(ticket);
+        ticketCache.evict(ticketId);
+        if (ticketDTO.getParentTicketId() != null) {
+            ticketCache.evict(ticketDTO.getParentTicketId());
+        }
         eventPublisher.publishEvent(new NewTicketCreatedEvent(this, savedTicketDTO));
 
         if (ticketDTO.getEstimate() > 0 && ticketDTO.getEpicId() != null) {
@@ -194,6 +403,11 @@ public class TicketService {
                                                 "Ticket not found with id: " + ticketDTO.getId()));
         TicketDTO previousTicket = ticketMapper.toDto(existingTicket);
         Long previousState = previousTicket.getCurrentStateId();
+        ticketCache.evict(ticketDTO.getId());
+        if (!Objects.equals(previousTicket.getParentTicketId(), ticketDTO.getParentTicketId())) {
+            evictIfPresent(previousTicket.getParentTicketId());
+            evictIfPresent(ticketDTO.getParentTicketId());
+        }
 
         ticketMapper.updateEntity(ticketDTO, existingTicket);
 
@@ -201,35 +415,20 @@ public class TicketService {
         existingTicket.setIsNew(!isStateChanged);
 
         if (isStateChanged) {
-            boolean finalState =
-                    workflowStateRepository.isFinalState(
-                            ticketDTO.getWorkflowId(), ticketDTO.getCurrentStateId());
-            existingTicket.setIsCompleted(finalState);
-            if (ticketDTO.getActualCompletionDate() == null) {
-                existingTicket.setActualCompletionDate(LocalDate.now());
-            }
+            completeIfFinalState(existingTicket, ticketDTO);
         }
 
-        if (ticketDTO.getAssignUserId() != null) {
-            Long assignedUserId = ticketDTO.getAssignUserId();
-
-            // Check if assigned user is already a watcher
-            boolean isWatcherPresent =
-                    entityWatcherRepository.existsByEntityTypeAndEntityIdAndWatchUserId(
-                            EntityType.Ticket, ticketDTO.getId(), assignedUserId);
-            if (!isWatcherPresent) {
-                EntityWatcher watcher = new EntityWatcher();
-                watcher.setEntityType(EntityType.Ticket);
-                watcher.setEntityId(ticketDTO.getId());
-                watcher.setWatchUser(User.builder().id(assignedUserId).build());
-                entityWatcherRepository.save(watcher);
-                // Flush & Clear the persistence context to ensure fresh retrieval
-                entityManager.flush();
-                entityManager.clear();
-            }
+        if (ticketDTO.getAssignUserId() != null
+                && addWatcherIfAbsent(ticketDTO.getId(), ticketDTO.getAssignUserId())) {
+            // Flush & Clear the persistence context to ensure fresh retrieval
+            entityManager.flush();
+            entityManager.clear();
         }
 
         TicketDTO savedTicket = ticketMapper.toDto(ticketRepository.save(existingTicket));
+        epicIterationTotals.ticketChanged(previousTicket, savedTicket);
+        ticketDailyRollups.ticketChanged(previousTicket, savedTicket);
+        ticketViewProjector.ticketChanged(savedTicket.getId());
 
         eventPublisher.publishEvent(new AuditLogUpdateEvent(this, previousTicket, ticketDTO));
 
@@ -251,6 +450,401 @@ public class TicketService {
         return savedTicket;
     }
 
+    /**
+     * Applies a JSON merge patch to a ticket, see {@link TicketMergePatch}. The changed fields are
+     * computed once: a patch that changes nothing writes nothing and publishes no event, and the
+     * epic, iteration and state events are only published when their fields changed.
+     *
+     * @param expectedVersion the version the patch was made against, or {@code null} to patch
+     *     whatever the current version is
+     * @return the changed fields, including those derived from a state change, and the new version
+     * @throws PreconditionFailedException if the ticket is not at {@code expectedVersion}
+     */
+    @Transactional
+    public TicketPatchResult patchTicket(Long id, JsonNode patch, Long expectedVersion) {
+        Ticket existingTicket =
+                ticketRepository
+                        .findById(id)
+                        .orElseThrow(
+                                () ->
+                                        new ResourceNotFoundException(
+                                                "Ticket not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(existingTicket.getVersion())) {
+            throw new PreconditionFailedException(
+                    "Ticket "
+                            + id
+                            + " is at version "
+                            + existingTicket.getVersion()
+                            + ", not "
+                            + expectedVersion);
+        }
+        TicketDTO previousTicket = ticketMapper.toDto(existingTicket);
+        TicketMergePatch.Result result = ticketMergePatch.apply(previousTicket, patch);
+        Set<String> changedFields = result.changedFields();
+        if (changedFields.isEmpty()) {
+            return new TicketPatchResult(
+                    ticketMergePatch.changes(previousTicket, previousTicket),
+                    existingTicket.getVersion());
+        }
+
+        TicketDTO ticketDTO = result.ticket();
+        ticketCache.evict(id);
+        if (changedFields.contains("parentTicketId")) {
+            evictIfPresent(previousTicket.getParentTicketId());
+            evictIfPresent(ticketDTO.getParentTicketId());
+        }
+        ticketMapper.updateEntity(ticketDTO, existingTicket);
+        boolean isStateChanged = changedFields.contains("currentStateId");
+        if (isStateChanged) {
+            existingTicket.setIsNew(false);
+            completeIfFinalState(existingTicket, ticketDTO);
+        }
+        if (changedFields.contains("assignUserId") && ticketDTO.getAssignUserId() != null) {
+            addWatcherIfAbsent(id, ticketDTO.getAssignUserId());
+        }
+        // Flushed so that the version is incremented
+        existingTicket = ticketRepository.saveAndFlush(existingTicket);
+        ticketDTO.setIsNew(existingTicket.getIsNew());
+        ticketDTO.setIsCompleted(existingTicket.getIsCompleted());
+        ticketDTO.setActualCompletionDate(existingTicket.getActualCompletionDate());
+        epicIterationTotals.ticketChanged(previousTicket, ticketDTO);
+        ticketDailyRollups.ticketChanged(previousTicket, ticketDTO);
+        ticketViewProjector.ticketChanged(id);
+
+        eventPublisher.publishEvent(new AuditLogUpdateEvent(this, previousTicket, ticketDTO));
+        // A state change can complete the ticket, which moves its points to completed
+        boolean isPointsChanged = changedFields.contains("estimate") || isStateChanged;
+        for (TicketDTO ticket :
+                scopesChangedBy(previousTicket, ticketDTO, TicketDTO::getEpicId, isPointsChanged)) {
+            eventPublisher.publishEvent(new ProjectEpicChangedByTicketEvent(this, ticket));
+        }
+        for (TicketDTO ticket :
+                scopesChangedBy(
+                        previousTicket, ticketDTO, TicketDTO::getIterationId, isPointsChanged)) {
+            eventPublisher.publishEvent(new ProjectIterationChangedByTicketEvent(this, ticket));
+        }
+        if (isStateChanged) {
+            eventPublisher.publishEvent(
+                    new TicketWorkStateTransitionEvent(
+                            this,
+                            id,
+                            previousTicket.getCurrentStateId(),
+                            ticketDTO.getCurrentStateId()));
+        }
+
+        return new TicketPatchResult(
+                ticketMergePatch.changes(previousTicket, ticketDTO), existingTicket.getVersion());
+    }
+
+    /**
+     * Returns the tickets whose epic (or iteration) totals changed: the ticket before and after the
+     * change when it moved to another one, or after it when only its points changed.
+     */
+    private static List<TicketDTO> scopesChangedBy(
+            TicketDTO previous,
+            TicketDTO updated,
+            Function<TicketDTO, Long> scopeId,
+            boolean isPointsChanged) {
+        List<TicketDTO> tickets = new ArrayList<>();
+        if (!Objects.equals(scopeId.apply(previous), scopeId.apply(updated))) {
+            if (scopeId.apply(previous) != null) {
+                tickets.add(previous);
+            }
+            if (scopeId.apply(updated) != null) {
+                tickets.add(updated);
+            }
+        } else if (isPointsChanged && scopeId.apply(updated) != null) {
+            tickets.add(updated);
+        }
+        return tickets;
+    }
+
+    /**
+     * Marks the ticket completed when it moved to a final state of its workflow, and dates the
+     * completion unless the update sets it.
+     */
+    private void completeIfFinalState(Ticket ticket, TicketDTO ticketDTO) {
+        boolean finalState =
+                workflowStateRepository.isFinalState(
+                        ticketDTO.getWorkflowId(), ticketDTO.getCurrentStateId());
+        ticket.setIsCompleted(finalState);
+        if (ticketDTO.getActualCompletionDate() == null) {
+            ticket.setActualCompletionDate(LocalDate.now());
+        }
+    }
+
+    /**
+     * Adds the user as a watcher of the ticket unless they already watch it.
+     *
+     * @return whether the watcher was added
+     */
+    private boolean addWatcherIfAbsent(Long ticketId, Long userId) {
+        if (entityWatcherRepository.existsByEntityTypeAndEntityIdAndWatchUserId(
+                EntityType.Ticket, ticketId, userId)) {
+            return false;
+        }
+        EntityWatcher watcher = new EntityWatcher();
+        watcher.setEntityType(EntityType.Ticket);
+        watcher.setEntityId(ticketId);
+        watcher.setWatchUser(User.builder().id(userId).build());
+        entityWatcherRepository.save(watcher);
+        ticketRepository.adjustNumberWatchers(ticketId, 1);
+        return true;
+    }
+
+    /**
+     * Applies the same changes to many tickets in one transaction. The tickets are loaded with one
+     * query, the workflow transitions are resolved once for the whole batch, and one aggregated
+     * event is published per change type instead of one event per ticket.
+     *
+     * @throws ResourceNotFoundException if a ticket or a referenced entity does not exist
+     * @throws IllegalArgumentException if nothing is changed, or a ticket can not move to the
+     *     requested state
+     */
+    @Transactional
+    public List<TicketDTO> bulkUpdateTickets(TicketBulkUpdateDTO bulkUpdate) {
+        if (!bulkUpdate.hasChanges()) {
+            throw new IllegalArgumentException("No ticket changes requested");
+        }
+        Set<Long> ticketIds = new LinkedHashSet<>(bulkUpdate.getTicketIds());
+        if (ticketIds.size() > TicketBulkUpdateDTO.MAX_TICKETS) {
+            throw new IllegalArgumentException(
+                    "Can not update more than " + TicketBulkUpdateDTO.MAX_TICKETS + " tickets");
+        }
+
+        Map<Long, Ticket> ticketsById =
+                ticketRepository.findAllByIdIn(ticketIds).stream()
+                        .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+        if (ticketsById.size() != ticketIds.size()) {
+            Set<Long> missingIds = new TreeSet<>(ticketIds);
+            missingIds.removeAll(ticketsById.keySet());
+            throw new ResourceNotFoundException("Tickets not found with ids: " + missingIds);
+        }
+        List<Ticket> tickets = ticketIds.stream().map(ticketsById::get).toList();
+        ticketCache.evict(ticketIds);
+        List<TicketDTO> previousTickets = tickets.stream().map(ticketMapper::toDto).toList();
+
+        StateChange stateChange =
+                bulkUpdate.getCurrentStateId() == null
+                        ? StateChange.NONE
+                        : changeState(tickets, bulkUpdate.getCurrentStateId());
+
+        if (bulkUpdate.getAssignUserId() != null) {
+            User assignUser =
+                    userRepository
+                            .findById(bulkUpdate.getAssignUserId())
+                            .orElseThrow(
+                                    () ->
+                                            new ResourceNotFoundException(
+                                                    "User not found with id: "
+                                                            + bulkUpdate.getAssignUserId()));
+            tickets.forEach(ticket -> ticket.setAssignUser(assignUser));
+            addWatcher(tickets, assignUser);
+        }
+        if (bulkUpdate.getPriority() != null) {
+            tickets.forEach(ticket -> ticket.setPriority(bulkUpdate.getPriority()));
+        }
+        if (bulkUpdate.getIterationId() != null) {
+            ProjectIteration iteration =
+                    projectIterationRepository
+                            .findById(bulkUpdate.getIterationId())
+                            .orElseThrow(
+                                    () ->
+                                            new ResourceNotFoundException(
+                                                    "Iteration not found with id: "
+                                                            + bulkUpdate.getIterationId()));
+            tickets.forEach(ticket -> ticket.setIteration(iteration));
+        }
+        if (bulkUpdate.getEpicId() != null) {
+            ProjectEpic epic =
+                    projectEpicRepository
+                            .findById(bulkUpdate.getEpicId())
+                            .orElseThrow(
+                                    () ->
+                                            new ResourceNotFoundException(
+                                                    "Epic not found with id: "
+                                                            + bulkUpdate.getEpicId()));
+            tickets.forEach(ticket -> ticket.setEpic(epic));
+        }
+
+        if (!stateChange.histories().isEmpty()) {
+            // Flushes the changes above first, so each ticket is still written once
+            ticketRepository.pointToTransitions(
+                    stateChange.histories().stream()
+                            .map(WorkflowTransitionHistory::getId)
+                            .toList());
+        }
+        List<TicketDTO> updatedTickets =
+                ticketRepository.saveAll(tickets).stream().map(ticketMapper::toDto).toList();
+        epicIterationTotals.ticketsChanged(previousTickets, updatedTickets);
+        ticketDailyRollups.ticketsChanged(previousTickets, updatedTickets);
+        ticketViewProjector.ticketsChanged(ticketIds);
+
+        eventPublisher.publishEvent(
+                new AuditLogBulkUpdateEvent(this, previousTickets, updatedTickets));
+        if (!stateChange.transitions().isEmpty()) {
+            eventPublisher.publishEvent(
+                    new TicketBulkWorkStateTransitionEvent(this, stateChange.transitions()));
+        }
+        if (bulkUpdate.getEpicId() != null) {
+            for (TicketDTO ticket :
+                    changedScopes(previousTickets, updatedTickets, TicketDTO::getEpicId)) {
+                eventPublisher.publishEvent(new ProjectEpicChangedByTicketEvent(this, ticket));
+            }
+        }
+        if (bulkUpdate.getIterationId() != null) {
+            for (TicketDTO ticket :
+                    changedScopes(previousTickets, updatedTickets, TicketDTO::getIterationId)) {
+                eventPublisher.publishEvent(new ProjectIterationChangedByTicketEvent(this, ticket));
+            }
+        }
+        return updatedTickets;
+    }
+
+    /**
+     * Moves the tickets to {@code stateId} and records their transition history. Every ticket must
+     * belong to the workflow of the target state and have a transition from its current state.
+     */
+    private StateChange changeState(List<Ticket> tickets, Long stateId) {
+        WorkflowState targetState =
+                workflowStateRepository
+                        .findById(stateId)
+                        .orElseThrow(
+                                () ->
+                                        new ResourceNotFoundException(
+                                                "Can not find workflow state " + stateId));
+        Long workflowId = targetState.getWorkflow().getId();
+        boolean finalState = Boolean.TRUE.equals(targetState.getIsFinal());
+        Map<Long, WorkflowTransition> transitionsBySource =
+                workflowTransitionRepository
+                        .findByWorkflowIdAndTargetStateId(workflowId, stateId)
+                        .stream()
+                        .collect(
+                                Collectors.toMap(
+                                        transition -> transition.getSourceState().getId(),
+                                        Function.identity(),
+                                        (first, second) -> first));
+
+        Instant now = Instant.now();
+        List<WorkflowTransitionHistory> histories = new ArrayList<>();
+        List<TicketBulkWorkStateTransitionEvent.Transition> transitions = new ArrayList<>();
+        for (Ticket ticket : tickets) {
+            Long sourceStateId =
+                    ticket.getCurrentState() == null ? null : ticket.getCurrentState().getId();
+            if (Objects.equals(sourceStateId, stateId)) {
+                continue;
+            }
+            WorkflowTransition transition =
+                    Objects.equals(ticket.getWorkflow().getId(), workflowId)
+                            ? transitionsBySource.get(sourceStateId)
+                            : null;
+            if (transition == null) {
+                throw new IllegalArgumentException(
+                        "Ticket "
+                                + ticket.getId()
+                                + " can not move from state "
+                                + sourceStateId
+                                + " to state "
+                                + stateId);
+            }
+
+            ticket.setCurrentState(targetState);
+            ticket.setIsNew(false);
+            ticket.setIsCompleted(finalState);
+            if (finalState && ticket.getActualCompletionDate() == null) {
+                ticket.setActualCompletionDate(LocalDate.now());
+            }
+
+            WorkflowTransitionHistory history = new WorkflowTransitionHistory();
+            history.setTicket(ticket);
+            history.setFromState(transition.getSourceState());
+            history.setToState(targetState);
+            history.setEventName(transition.getEventName());
+            history.setTransitionDate(now);
+            if (transition.getSlaDuration() != null && transition.getSlaDuration() > 0) {
+                history.setSlaDueDate(now.plus(transition.getSlaDuration(), ChronoUnit.HOURS));
+            }
+            history.setStatus(finalState ? COMPLETED : WorkflowTransitionHistoryStatus.IN_PROGRESS);
+            histories.add(history);
+            transitions.add(
+                    new TicketBulkWorkStateTransitionEvent.Transition(
+                            ticket.getId(), sourceStateId, stateId));
+        }
+        workflowTransitionHistoryRepository.saveAll(histories);
+        return new StateChange(transitions, histories);
+    }
+
+    /** The transitions of a bulk state change and the history rows recording them. */
+    private record StateChange(
+            List<TicketBulkWorkStateTransitionEvent.Transition> transitions,
+            List<WorkflowTransitionHistory> histories) {
+
+        static final StateChange NONE = new StateChange(List.of(), List.of());
+    }
+
+    /**
+     * Adds {@code user} as a watcher of the tickets it does not watch yet, with one lookup and one
+     * counter update for the whole batch.
+     */
+    private void addWatcher(List<Ticket> tickets, User user) {
+        Set<Long> watchedTicketIds =
+                new HashSet<>(
+                        entityWatcherRepository.findEntityIdsWatchedByUser(
+                                EntityType.Ticket,
+                                tickets.stream().map(Ticket::getId).toList(),
+                                user.getId()));
+        List<Ticket> unwatchedTickets =
+                tickets.stream()
+                        .filter(ticket -> !watchedTicketIds.contains(ticket.getId()))
+                        .toList();
+        if (unwatchedTickets.isEmpty()) {
+            return;
+        }
+
+        List<EntityWatcher> watchers =
+                unwatchedTickets.stream()
+                        .map(
+                                ticket -> {
+                                    EntityWatcher watcher = new EntityWatcher();
+                                    watcher.setEntityType(EntityType.Ticket);
+                                    watcher.setEntityId(ticket.getId());
+                                    watcher.setWatchUser(user);
+                                    return watcher;
+                                })
+                        .toList();
+        entityWatcherRepository.saveAll(watchers);
+        ticketRepository.adjustNumberWatchers(
+                unwatchedTickets.stream().map(Ticket::getId).toList(), 1);
+        // The counter column is not updatable, so keep the loaded tickets in step with the rows
+        unwatchedTickets.forEach(
+                ticket -> ticket.setNumberWatchers(ticket.getNumberWatchers() + 1));
+    }
+
+    /**
+     * Returns one ticket per distinct team and epic (or iteration) that a ticket left or joined, so
+     * that the totals of each affected epic or iteration are recomputed once.
+     */
+    private static Collection<TicketDTO> changedScopes(
+            List<TicketDTO> previousTickets,
+            List<TicketDTO> updatedTickets,
+            Function<TicketDTO, Long> scopeId) {
+        Map<List<Long>, TicketDTO> scopes = new LinkedHashMap<>();
+        for (int i = 0; i < updatedTickets.size(); i++) {
+            TicketDTO previous = previousTickets.get(i);
+            TicketDTO updated = updatedTickets.get(i);
+            if (Objects.equals(scopeId.apply(previous), scopeId.apply(updated))) {
+                continue;
+            }
+            for (TicketDTO ticket : List.of(previous, updated)) {
+                Long id = scopeId.apply(ticket);
+                if (id != null) {
+                    scopes.putIfAbsent(List.of(ticket.getTeamId(), id), ticket);
+                }
+            }
+        }
+        return scopes.values();
+    }
+
     @Transactional
     public void deleteTicket(Long id) {
         Ticket ticket =
@@ -260,13 +854,19 @@ public class TicketService {
                                 () ->
                                         new ResourceNotFoundException(
                                                 "Ticket not found with id: " + id));
+        ticketCache.evict(id);
+        if (ticket.getParentTicket() != null) {
+            ticketCache.evict(ticket.getParentTicket().getId());
+        }
+        TicketDTO deletedTicket = ticketMapper.toDto(ticket);
+        epicIterationTotals.ticketChanged(deletedTicket, null);
+        ticketDailyRollups.ticketChanged(deletedTicket, null);
         if (ticket.getEpic() != null) {
-            eventPublisher.publishEvent(
-                    new ProjectEpicChangedByTicketEvent(this, ticketMapper.toDto(ticket)));
+            eventPublisher.publishEvent(new ProjectEpicChangedByTicketEvent(this, deletedTicket));
         }
         if (ticket.getIteration() != null) {
             eventPublisher.publishEvent(
-                    new ProjectIterationChangedByTicketEvent(this, ticketMapper.toDto(ticket)));
+                    new ProjectIterationChangedByTicketEvent(this, deletedTicket));
         }
         ticketRepository.deleteById(id);
     }
@@ -279,13 +879,23 @@ public class TicketService {
         return ticketRepository.findPreviousTicket(ticketId, projectId).map(ticketMapper::toDto);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<TicketNeighborsDTO> getTicketNeighbors(Long ticketId, Long projectId) {
+        return ticketRepository.findNeighbors(ticketId, projectId);
+    }
+
     // Fetch ticket distribution by team member
+    @Transactional(readOnly = true)
     public List<TicketDistributionDTO> getTicketDistribution(
             Long teamId, Instant fromDate, Instant toDate) {
+        if (TicketDailyRollupService.coversWholeDays(fromDate, toDate)) {
+            return ticketDailyRollupService.getTicketDistribution(teamId, fromDate, toDate);
+        }
         return ticketRepository.findTicketDistributionByTeamId(teamId, fromDate, toDate);
     }
 
     // Fetch unassigned tickets
+    @Transactional(readOnly = true)
     public Page<TicketDTO> getUnassignedTickets(Long teamId, Pageable pageable) {
         return ticketRepository
                 .findUnassignedTicketsByTeamId(teamId, pageable)
@@ -293,45 +903,37 @@ public class TicketService {
     }
 
     // Fetch ticket priority distribution
+    @Transactional(readOnly = true)
     public List<PriorityDistributionDTO> getPriorityDistribution(
             Long teamId, Instant fromDate, Instant toDate) {
+        if (TicketDailyRollupService.coversWholeDays(fromDate, toDate)) {
+            return ticketDailyRollupService.getPriorityDistribution(teamId, fromDate, toDate);
+        }
         return ticketRepository.findTicketPriorityDistributionByTeamId(teamId, fromDate, toDate);
     }
 
+    /**
+     * Counts the tickets of the team created in the range. Ranges of whole days, as the dashboard
+     * requests them, are read from the daily rollups.
+     */
+    @Transactional(readOnly = true)
     public TicketStatisticsDTO getTicketStatisticsByTeamId(
             Long teamId, Instant fromDate, Instant toDate) {
+        if (TicketDailyRollupService.coversWholeDays(fromDate, toDate)) {
+            return ticketDailyRollupService.getTicketStatisticsByTeamId(teamId, fromDate, toDate);
+        }
         return ticketRepository.getTicketStatisticsByTeamId(teamId, fromDate, toDate);
     }
 
     private Instant calculateEarliestSlaDueDate(Long workflowId, Long sourceStateId) {
-        // Fetch all transitions from the current state
-        List<WorkflowTransition> transitions =
-                workflowTransitionRepository.findTransitionsBySourceState(
+        Long slaDuration =
+                workflowTransitionRepository.findMinSlaDurationBySourceState(
                         workflowId, sourceStateId);
-
-        if (transitions.isEmpty()) {
+        // No SLA defined for any transition leaving the state
+        if (slaDuration == null) {
             return null;
         }
-
-        // Find the transition with the lowest SLA duration
-        WorkflowTransition earliestTransition =
-                transitions.stream()
-                        .filter(
-                                t ->
-                                        t.getSlaDuration()
-                                                != null) // Exclude transitions without SLA duration
-                        .min(
-                                Comparator.comparing(
-                                        WorkflowTransition
-                                                ::getSlaDuration)) // Find the minimum SLA duration
-                        .orElse(null);
-
-        if (earliestTransition == null) {
-            return null; // No SLA defined for any transition
-        }
-
-        // Calculate the SLA due date for the earliest transition
-        return Instant.now().plus(earliestTransition.getSlaDuration(), ChronoUnit.HOURS);
+        return Instant.now().plus(slaDuration, ChronoUnit.HOURS);
     }
 
     public Page<TicketDTO> getOverdueTicketsByTeam(Long teamId, Pageable pageable) {
@@ -350,36 +952,21 @@ public class TicketService {
         return ticketRepository.findAllOverdueTickets(COMPLETED, pageable).map(ticketMapper::toDto);
     }
 
+    @Transactional(readOnly = true)
     public Long countOverdueTickets(
             Long teamId, WorkflowTransitionHistoryStatus status, Instant fromDate, Instant toDate) {
         return ticketRepository.countOverdueTicketsByTeamId(teamId, status, fromDate, toDate);
     }
 
+    @Transactional(readOnly = true)
     public List<TicketActionCountByDateDTO> getTicketCreationTimeSeries(Long teamId, int days) {
         if (days <= 0) {
             days = 7; // Default to 7 days
         }
 
-        LocalDate startDate = LocalDate.now().minusDays(days - 1);
-        List<TicketActionCountByDateDTO> trends =
-                ticketRepository.findTicketActionByDaySeries(
-                        teamId, startDate.atStartOfDay().toInstant(ZoneOffset.UTC));
-
-        // Fill missing dates with zero counts
-        Map<LocalDate, TicketActionCountByDateDTO> trendMap = new HashMap<>();
-        for (TicketActionCountByDateDTO trend : trends) {
-            trendMap.put(trend.getDate(), trend);
-        }
-
-        List<TicketActionCountByDateDTO> ticketByDaySeries = new ArrayList<>();
-        for (int i = 0; i < days; i++) {
-            LocalDate date = startDate.plusDays(i);
-            TicketActionCountByDateDTO trend =
-                    trendMap.getOrDefault(date, new TicketActionCountByDateDTO(date, 0L, 0L));
-            ticketByDaySeries.add(trend);
-        }
-
-        return ticketByDaySeries;
+        LocalDate endDate = LocalDate.now(ZoneOffset.UTC);
+        return ticketDailyRollupService.getTicketActionDaySeries(
+                teamId, endDate.minusDays(days - 1), endDate);
     }
 
     public List<TeamTicketPriorityDistributionDTO> getPriorityDistributionForUser(
@@ -402,30 +989,22 @@ public class TicketService {
     }
 
     private Long getNextProjectTicketNumber(Long projectId) {
-        try {
-            ProjectTicketSequence sequence =
-                    projectTicketSequenceRepository
-                            .findById(projectId)
-                            .orElseGet(
-                                    () -> {
-                                        ProjectTicketSequence newSeq = new ProjectTicketSequence();
-                                        newSeq.setProjectId(projectId);
-                                        newSeq.setLastTicketNumber(0L);
-                                        return newSeq;
-                                    });
-
-            sequence.setLastTicketNumber(sequence.getLastTicketNumber() + 1);
-            projectTicketSequenceRepository.saveAndFlush(sequence);
-            return sequence.getLastTicketNumber();
-
-        } catch (ObjectOptimisticLockingFailureException e) {
-            throw new ConcurrentModificationException(
-                    "Concurrent project ticket creation detected. Please retry.", e);
-        }
+        return projectTicketSequenceRepository.allocateNextTicketNumber(projectId);
     }
 
     @Transactional
     public void closeTicketsWithIteration(Long iterationId) {
+        epicIterationTotals.iterationClosing(iterationId);
+        ticketDailyRollups.iterationClosing(iterationId);
+        ticketViewProjector.ticketsChanged(
+                ticketRepository.findOpenTicketIdsByIterationId(iterationId));
         ticketRepository.findTicketsByIterationIdAndClose(iterationId);
+        ticketCache.evictAll();
+    }
+
+    private void evictIfPresent(Long ticketId) {
+        if (ticketId != null) {
+            ticketCache.evict(ticketId);
+        }
     }
 }
@@ -0,0 +1,98 @@
+package io.flowinquiry.modules.teams.service;
+
+import io.flowinquiry.modules.shared.service.outbox.OutboxService;
+import io.flowinquiry.modules.teams.repository.TicketViewRepository;
+import io.flowinquiry.modules.teams.service.event.TicketViewRefreshEvent;
+import io.flowinquiry.utils.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+
+/**
+ * Keeps the ticket view in step with the tickets.
+ *
+ * <p>Ticket writes report the tickets they changed. The ids are collected until the transaction
+ * commits and then stored in the outbox as a single {@link TicketViewRefreshEvent}, so a request
+ * costs one outbox row however many writes it makes, and the rows are projected from committed data
+ * once the event is delivered. The time between the commit and the projection is recorded as
+ * {@value #LAG_METRIC}.
+ *
+ * <p>Changes made elsewhere, such as a renamed user or workflow state, are not reported and are
+ * caught up by {@link io.flowinquiry.modules.teams.service.job.TicketViewReconciliationJob}.
+ */
+@Component
+public class TicketViewProjector {
+
+    public static final String LAG_METRIC = "flowinquiry.ticket.view.projection.lag";
+
+    private final TicketViewRepository ticketViewRepository;
+
+    private final OutboxService outboxService;
+
+    private final Timer projectionLag;
+
+    public TicketViewProjector(
+            TicketViewRepository ticketViewRepository,
+            OutboxService outboxService,
+            MeterRegistry meterRegistry) {
+        this.ticketViewRepository = ticketViewRepository;
+        this.outboxService = outboxService;
+        this.projectionLag =
+                Timer.builder(LAG_METRIC)
+                        .description("Time from a ticket change to its projection in the view")
+                        .register(meterRegistry);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void ticketChanged(Long ticketId) {
+        ticketsChanged(List.of(ticketId));
+    }
+
+    /** Schedules the projection of {@code ticketIds} once the current transaction commits. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void ticketsChanged(Collection<Long> ticketIds) {
+        if (!ticketIds.isEmpty()) {
+            pendingTicketIds().addAll(ticketIds);
+        }
+    }
+
+    /**
+     * Projects the tickets of a {@link TicketViewRefreshEvent}.
+     *
+     * @param changedAt when the tickets were changed
+     * @return the number of rows written
+     */
+    @Transactional
+    public int project(List<Long> ticketIds, Instant changedAt) {
+        int written = ticketViewRepository.project(ticketIds);
+        projectionLag.record(Duration.between(changedAt, Instant.now()));
+        return written;
+    }
+
+    /** The ids collected in the current transaction, handed to the outbox before it commits. */
+    private Set<Long> pendingTicketIds() {
+        return TransactionUtils.resource(
+                this,
+                TreeSet::new,
+                ticketIds ->
+                        new TransactionSynchronization() {
+                            @Override
+                            public void beforeCommit(boolean readOnly) {
+                                outboxService.append(
+                                        new TicketViewRefreshEvent(
+                                                TicketViewProjector.this,
+                                                List.copyOf(ticketIds),
+                                                Instant.now()));
+                            }
+                        });
+    }
+}
@@ -0,0 +1,196 @@
+package io.flowinquiry.modules.teams.service;
+
+import static io.flowinquiry.query.QueryUtils.createSpecification;
+import static java.util.Map.entry;
+
+import io.flowinquiry.modules.teams.domain.TicketView;
+import io.flowinquiry.modules.teams.repository.TicketViewRepository;
+import io.flowinquiry.modules.teams.repository.TicketViewRepository.StaleTickets;
+import io.flowinquiry.modules.teams.service.dto.TicketViewDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketViewRebuildDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketViewStatusDTO;
+import io.flowinquiry.modules.teams.service.mapper.TicketViewMapper;
+import io.flowinquiry.query.CountMode;
+import io.flowinquiry.query.CountedPage;
+import io.flowinquiry.query.Filter;
+import io.flowinquiry.query.GroupFilter;
+import io.flowinquiry.query.PagedQueryExecutor;
+import io.flowinquiry.query.QueryDTO;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reads tickets from the ticket view for read-only list and board endpoints, and checks and
+ * rebuilds the view. Searches take the same filters and sort as ticket searches: association paths
+ * such as {@code team.id} or {@code assignUser.id} are read from the flat columns of the view.
+ */
+@Service
+@Slf4j
+public class TicketViewService {
+
+    public static final int REBUILD_BATCH_SIZE = 500;
+
+    /** Ticket attribute paths and the view attribute holding the same value. */
+    private static final Map<String, String> TICKET_PATHS =
+            Map.ofEntries(
+                    entry("team.id", "teamId"),
+                    entry("team.name", "teamName"),
+                    entry("workflow.id", "workflowId"),
+                    entry("workflow.name", "workflowName"),
+                    entry("workflow.requestName", "workflowRequestName"),
+                    entry("project.id", "projectId"),
+                    entry("project.name", "projectName"),
+                    entry("project.shortName", "projectShortName"),
+                    entry("requestUser.id", "requestUserId"),
+                    entry("assignUser.id", "assignUserId"),
+                    entry("currentState.id", "currentStateId"),
+                    entry("currentState.stateName", "currentStateName"),
+                    entry("currentState.isFinal", "isFinalState"),
+                    entry("iteration.id", "iterationId"),
+                    entry("iteration.name", "iterationName"),
+                    entry("epic.id", "epicId"),
+                    entry("epic.name", "epicName"),
+                    entry("parentTicket.id", "parentTicketId"));
+
+    private final TicketViewRepository ticketViewRepository;
+
+    private final TicketViewMapper ticketViewMapper;
+
+    private final PagedQueryExecutor pagedQueryExecutor;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TicketViewService(
+            TicketViewRepository ticketViewRepository,
+            TicketViewMapper ticketViewMapper,
+            PagedQueryExecutor pagedQueryExecutor,
+            PlatformTransactionManager transactionManager) {
+        this.ticketViewRepository = ticketViewRepository;
+        this.ticketViewMapper = ticketViewMapper;
+        this.pagedQueryExecutor = pagedQueryExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Finds a page of tickets in the view, computing the total as requested by {@code countMode}.
+     *
+     * @throws IllegalArgumentException if a filter or sort uses an association path the view does
+     *     not hold
+     */
+    @Transactional(readOnly = true)
+    public CountedPage<TicketViewDTO> findTickets(
+            QueryDTO queryDTO, Pageable pageable, CountMode countMode) {
+        Specification<TicketView> spec = createSpecification(toViewQuery(queryDTO));
+        Pageable viewPageable =
+                pageable.isPaged()
+                        ? PageRequest.of(
+                                pageable.getPageNumber(),
+                                pageable.getPageSize(),
+                                toViewSort(pageable.getSort()))
+                        : pageable;
+        return pagedQueryExecutor
+                .findPage(ticketViewRepository, TicketView.class, spec, viewPageable, countMode)
+                .map(ticketViewMapper::toDto);
+    }
+
+    @Transactional(readOnly = true)
+    public TicketViewStatusDTO getStatus() {
+        StaleTickets staleTickets = ticketViewRepository.findStaleTickets();
+        Instant oldestChange = staleTickets.getOldestChange();
+        long lagSeconds =
+                oldestChange == null
+                        ? 0
+                        : Math.max(0, Duration.between(oldestChange, Instant.now()).toSeconds());
+        return new TicketViewStatusDTO(staleTickets.getCount(), oldestChange, lagSeconds);
+    }
+
+    /**
+     * Projects every ticket again, in batches of {@value #REBUILD_BATCH_SIZE} each committed on its
+     * own so that writers are never blocked for long. Only rows that are missing or differ from
+     * their ticket are written.
+     */
+    public TicketViewRebuildDTO rebuild() {
+        long start = System.nanoTime();
+        long rewritten = 0;
+        long afterId = 0;
+        List<Long> ticketIds;
+        do {
+            ticketIds = ticketViewRepository.findTicketIdsAfter(afterId, REBUILD_BATCH_SIZE);
+            if (!ticketIds.isEmpty()) {
+                List<Long> batch = ticketIds;
+                rewritten += transactionTemplate.execute(s -> ticketViewRepository.project(batch));
+                afterId = ticketIds.get(ticketIds.size() - 1);
+            }
+        } while (ticketIds.size() == REBUILD_BATCH_SIZE);
+
+        long durationMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        log.info("Rebuilt the ticket view, {} rows rewritten in {} ms", rewritten, durationMillis);
+        return new TicketViewRebuildDTO(rewritten, durationMillis);
+    }
+
+    private static QueryDTO toViewQuery(QueryDTO queryDTO) {
+        if (queryDTO == null) {
+            return null;
+        }
+        QueryDTO viewQuery = new QueryDTO();
+        viewQuery.setFilters(toViewFilters(queryDTO.getFilters()));
+        viewQuery.setGroups(toViewGroups(queryDTO.getGroups()));
+        return viewQuery;
+    }
+
+    private static List<GroupFilter> toViewGroups(List<GroupFilter> groups) {
+        if (groups == null) {
+            return null;
+        }
+        return groups.stream()
+                .map(
+                        group -> {
+                            GroupFilter viewGroup = new GroupFilter();
+                            viewGroup.setLogicalOperator(group.getLogicalOperator());
+                            viewGroup.setFilters(toViewFilters(group.getFilters()));
+                            viewGroup.setGroups(toViewGroups(group.getGroups()));
+                            return viewGroup;
+                        })
+                .toList();
+    }
+
+    private static List<Filter> toViewFilters(List<Filter> filters) {
+        if (filters == null) {
+            return null;
+        }
+        return filters.stream()
+                .map(
+                        filter ->
+                                new Filter(
+                                        toViewPath(filter.getField()),
+                                        filter.getOperator(),
+                                        filter.getValue()))
+                .toList();
+    }
+
+    private static Sort toViewSort(Sort sort) {
+        return Sort.by(
+                sort.stream()
+                        .map(order -> order.withProperty(toViewPath(order.getProperty())))
+                        .toList());
+    }
+
+    private static String toViewPath(String path) {
+        String viewPath = TICKET_PATHS.getOrDefault(path, path);
+        if (viewPath.contains(".")) {
+            throw new IllegalArgumentException("Field is not part of the ticket view: " + path);
+        }
+        return viewPath;
+    }
+}
@@ -23,6 +23,9 @@ import io.flowinquiry.modules.teams.service.dto.WorkflowTransitionDTO;
 import io.flowinquiry.modules.teams.service.mapper.WorkflowMapper;
 import io.flowinquiry.modules.teams.service.mapper.WorkflowStateMapper;
 import io.flowinquiry.modules.teams.service.mapper.WorkflowTransitionMapper;
+import io.flowinquiry.query.CountMode;
+import io.flowinquiry.query.CountedPage;
+import io.flowinquiry.query.PagedQueryExecutor;
 import io.flowinquiry.query.QueryDTO;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
@@ -63,6 +66,8 @@ public class WorkflowService {
 
     private final WorkflowTransitionMapper workflowTransitionMapper;
 
+    private final PagedQueryExecutor pagedQueryExecutor;
+
     public WorkflowService(
             WorkflowRepository workflowRepository,
             WorkflowStateRepository workflowStateRepository,
@@ -72,7 +77,8 @@ public class WorkflowService {
             TicketRepository ticketRepository,
             WorkflowMapper workflowMapper,
             WorkflowStateMapper workflowStateMapper,
-            WorkflowTransitionMapper workflowTransitionMapper) {
+            WorkflowTransitionMapper workflowTransitionMapper,
+            PagedQueryExecutor pagedQueryExecutor) {
         this.workflowRepository = workflowRepository;
         this.workflowStateRepository = workflowStateRepository;
         this.workflowTransitionRepository = workflowTransitionRepository;
@@ -82,6 +88,7 @@ public class WorkflowService {
         this.workflowMapper = workflowMapper;
         this.workflowStateMapper = workflowStateMapper;
         this.workflowTransitionMapper = workflowTransitionMapper;
+        this.pagedQueryExecutor = pagedQueryExecutor;
     }
 
     @Transactional(readOnly = true)
@@ -135,8 +142,16 @@ public class WorkflowService {
 
     @Transactional(readOnly = true)
     public Page<WorkflowDTO> findWorkflows(Optional<QueryDTO> queryDTO, Pageable pageable) {
+        return findWorkflows(queryDTO, pageable, CountMode.EXACT);
+    }
+
+    @Transactional(readOnly = true)
+    public CountedPage<WorkflowDTO> findWorkflows(
+            Optional<QueryDTO> queryDTO, Pageable pageable, CountMode countMode) {
         Specification<Workflow> spec = createSpecification(queryDTO.orElse(null));
-        return workflowRepository.findAll(spec, pageable).map(workflowMapper::toDto);
+        return pagedQueryExecutor
+                .findPage(workflowRepository, Workflow.class, spec, pageable, countMode)
+                .map(workflowMapper::toDto);
     }
 
     @Transactional
@@ -28,16 +28,19 @@ public class WorkflowTransitionHistoryService {
     private final TicketRepository ticketRepository;
     private final WorkflowTransitionRepository workflowTransitionRepository;
     private final WorkflowTransitionHistoryMapper workflowTransitionHistoryMapper;
+    private final TicketViewProjector ticketViewProjector;
 
     public WorkflowTransitionHistoryService(
             WorkflowTransitionHistoryRepository workflowTransitionHistoryRepository,
             TicketRepository ticketRepository,
             WorkflowTransitionRepository workflowTransitionRepository,
-            WorkflowTransitionHistoryMapper workflowTransitionHistoryMapper) {
+            WorkflowTransitionHistoryMapper workflowTransitionHistoryMapper,
+            TicketViewProjector ticketViewProjector) {
         this.workflowTransitionHistoryRepository = workflowTransitionHistoryRepository;
         this.ticketRepository = ticketRepository;
         this.workflowTransitionRepository = workflowTransitionRepository;
         this.workflowTransitionHistoryMapper = workflowTransitionHistoryMapper;
+        this.ticketViewProjector = ticketViewProjector;
     }
 
     /**
@@ -88,6 +91,8 @@ public class WorkflowTransitionHistoryService {
         }
 
         workflowTransitionHistoryRepository.save(history);
+        ticketRepository.pointToTransitions(List.of(history.getId()));
+        ticketViewProjector.ticketChanged(ticketId);
     }
 
     public TransitionItemCollectionDTO getTransitionHistoryByTicketId(Long ticketId) {
@@ -133,5 +138,7 @@ public class WorkflowTransitionHistoryService {
 
         violatedTicket.setStatus(ESCALATED);
         workflowTransitionHistoryRepository.save(violatedTicket);
+        ticketRepository.updateCurrentSlaStatus(transitionId, ESCALATED);
+        ticketViewProjector.ticketChanged(violatedTicket.getTicket().getId());
     }
 }
@@ -19,4 +19,6 @@ public class ProjectEpicDTO {
     private Instant endDate;
     private Long totalTickets;
     private Long totalStoryPoints;
+    private Long completedStoryPoints;
+    private Long remainingStoryPoints;
 }
@@ -21,4 +21,6 @@ public class ProjectIterationDTO {
     private Instant endDate;
     private Long totalTickets;
     private Long totalStoryPoints;
+    private Long completedStoryPoints;
+    private Long remainingStoryPoints;
 }
@@ -0,0 +1,20 @@
+package io.flowinquiry.modules.teams.service.dto;
+
+import io.flowinquiry.modules.usermanagement.service.dto.TicketStatisticsDTO;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Page;
+
+/**
+ * The sections of the team dashboard, each holding what its own endpoint returns.
+ *
+ * @param timings milliseconds each section took, by section name, in the order of the fields
+ */
+public record TeamDashboardDTO(
+        TicketStatisticsDTO statistics,
+        List<PriorityDistributionDTO> priorityDistribution,
+        List<TicketDistributionDTO> ticketDistribution,
+        Long overdueTicketCount,
+        List<TicketActionCountByDateDTO> ticketCreationDaySeries,
+        Page<TicketDTO> unassignedTickets,
+        Map<String, Long> timings) {}
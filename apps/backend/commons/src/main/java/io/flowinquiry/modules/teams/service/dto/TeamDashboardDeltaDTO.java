@@ -0,0 +1,32 @@
+package io.flowinquiry.modules.teams.service.dto;
+
+import io.flowinquiry.modules.teams.domain.TicketPriority;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * What the tickets changed by one transaction add to the dashboard of their team. Dashboards add
+ * each entry to the sections whose date range holds its day: the created count to the total tickets
+ * and the creation series, the open count to the pending tickets and to the distributions by
+ * priority and assignee, the created minus the open count to the completed tickets, and the closed
+ * count to the closed tickets of the series.
+ *
+ * @param resync whether the tickets changed in a way the entries can not describe, in which case
+ *     the dashboard should be loaded again
+ */
+public record TeamDashboardDeltaDTO(Long teamId, boolean resync, List<Entry> entries) {
+
+    /**
+     * The change of the tickets of one day, priority and assignee, counted as in {@link
+     * TicketRollupDTO}.
+     *
+     * @param day the UTC day the tickets were created, or completed for the closed count
+     */
+    public record Entry(
+            LocalDate day,
+            TicketPriority priority,
+            Long assignUserId,
+            int createdCount,
+            int openCount,
+            int closedCount) {}
+}
@@ -0,0 +1,43 @@
+package io.flowinquiry.modules.teams.service.dto;
+
+import io.flowinquiry.modules.teams.domain.TicketPriority;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Changes applied to every ticket in {@link #ticketIds}. Null fields are left unchanged, so a bulk
+ * update can set but not clear a value.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketBulkUpdateDTO {
+
+    public static final int MAX_TICKETS = 500;
+
+    @NotEmpty @Size(max = MAX_TICKETS) private List<Long> ticketIds;
+
+    private Long currentStateId;
+
+    private Long assignUserId;
+
+    private TicketPriority priority;
+
+    private Long iterationId;
+
+    private Long epicId;
+
+    public boolean hasChanges() {
+        return currentStateId != null
+                || assignUserId != null
+                || priority != null
+                || iterationId != null
+                || epicId != null;
+    }
+}
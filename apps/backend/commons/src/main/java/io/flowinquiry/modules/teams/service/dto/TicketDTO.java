@@ -66,6 +66,7 @@ public class TicketDTO {
 
     private Instant createdAt;
     private Instant modifiedAt;
+    private Long version;
     private int numberAttachments;
     private int numberWatchers;
     private TShirtSize size;
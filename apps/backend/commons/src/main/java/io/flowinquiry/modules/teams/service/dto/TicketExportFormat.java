@@ -0,0 +1,35 @@
+package io.flowinquiry.modules.teams.service.dto;
+
+import org.springframework.http.MediaType;
+
+/** File formats of the ticket export. */
+public enum TicketExportFormat {
+    CSV("csv", new MediaType("text", "csv")),
+    NDJSON("ndjson", new MediaType("application", "x-ndjson"));
+
+    private final String extension;
+
+    private final MediaType mediaType;
+
+    TicketExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static TicketExportFormat fromValue(String value) {
+        for (TicketExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Invalid export format: " + value);
+    }
+}
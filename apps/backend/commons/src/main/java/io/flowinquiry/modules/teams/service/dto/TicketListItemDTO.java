@@ -0,0 +1,58 @@
+package io.flowinquiry.modules.teams.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.flowinquiry.modules.teams.domain.TShirtSize;
+import io.flowinquiry.modules.teams.domain.TicketChannel;
+import io.flowinquiry.modules.teams.domain.TicketPriority;
+import java.time.Instant;
+import java.time.LocalDate;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sparse list view of a ticket. Only the fields requested through {@code fields=} are selected from
+ * the database and set; the others stay null and are left out of the JSON response. Property names
+ * are the same as in {@link TicketDTO}.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TicketListItemDTO {
+    private Long id;
+    private Long teamId;
+    private String teamName;
+    private Long workflowId;
+    private String workflowName;
+    private String workflowRequestName;
+    private Long projectId;
+    private String projectName;
+    private String projectShortName;
+    private Long projectTicketNumber;
+    private Long requestUserId;
+    private String requestUserName;
+    private String requestUserImageUrl;
+    private Long assignUserId;
+    private String assignUserName;
+    private String assignUserImageUrl;
+    private String requestTitle;
+    private String requestDescription;
+    private TicketPriority priority;
+    private LocalDate estimatedCompletionDate;
+    private LocalDate actualCompletionDate;
+    private Long currentStateId;
+    private String currentStateName;
+    private Long iterationId;
+    private String iterationName;
+    private Long epicId;
+    private String epicName;
+    private TicketChannel channel;
+    private Boolean isNew;
+    private Boolean isCompleted;
+    private Instant createdAt;
+    private Instant modifiedAt;
+    private Integer numberAttachments;
+    private Integer numberWatchers;
+    private TShirtSize size;
+    private Integer estimate;
+    private Long parentTicketId;
+}
@@ -0,0 +1,17 @@
+package io.flowinquiry.modules.teams.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The tickets before and after a ticket in its team, ordered by id. Either side is null when the
+ * ticket is the first or last one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketNeighborsDTO {
+    private TicketNeighborDTO previous;
+    private TicketNeighborDTO next;
+}
@@ -0,0 +1,9 @@
+package io.flowinquiry.modules.teams.service.dto;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Outcome of a ticket merge patch: the fields whose value changed, with their new value, and the
+ * version of the ticket after the patch.
+ */
+public record TicketPatchResult(ObjectNode changes, Long version) {}
@@ -0,0 +1,14 @@
+package io.flowinquiry.modules.teams.service.dto;
+
+import java.time.LocalDate;
+
+/**
+ * The ticket counts of a team for one period.
+ *
+ * @param periodStart the first day of the period
+ * @param createdCount tickets created in the period
+ * @param closedCount tickets completed in the period
+ * @param openCount tickets created in the period that are not completed yet
+ */
+public record TicketRollupDTO(
+        LocalDate periodStart, long createdCount, long closedCount, long openCount) {}
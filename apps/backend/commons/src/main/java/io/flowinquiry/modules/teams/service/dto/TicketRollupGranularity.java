@@ -0,0 +1,50 @@
+package io.flowinquiry.modules.teams.service.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/** The length of the periods the daily ticket rollups are summed up to. */
+public enum TicketRollupGranularity {
+    DAY("day"),
+    /** Weeks starting on Monday. */
+    WEEK("week"),
+    MONTH("month");
+
+    private final String value;
+
+    TicketRollupGranularity(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /** The first day of the period holding {@code day}. */
+    public LocalDate periodStart(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    /** The first day of the period after the one starting on {@code periodStart}. */
+    public LocalDate nextPeriodStart(LocalDate periodStart) {
+        return switch (this) {
+            case DAY -> periodStart.plusDays(1);
+            case WEEK -> periodStart.plusWeeks(1);
+            case MONTH -> periodStart.plusMonths(1);
+        };
+    }
+
+    public static TicketRollupGranularity fromValue(String value) {
+        for (TicketRollupGranularity granularity : values()) {
+            if (granularity.value.equalsIgnoreCase(value)) {
+                return granularity;
+            }
+        }
+        throw new IllegalArgumentException("Invalid granularity: " + value);
+    }
+}
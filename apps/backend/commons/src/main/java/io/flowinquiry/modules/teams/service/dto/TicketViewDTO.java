@@ -0,0 +1,59 @@
+package io.flowinquiry.modules.teams.service.dto;
+
+import io.flowinquiry.modules.teams.domain.TShirtSize;
+import io.flowinquiry.modules.teams.domain.TicketChannel;
+import io.flowinquiry.modules.teams.domain.TicketPriority;
+import io.flowinquiry.modules.teams.domain.WorkflowTransitionHistoryStatus;
+import java.time.Instant;
+import java.time.LocalDate;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A ticket as read from the ticket view. Property names are the same as in {@link TicketDTO}; the
+ * description and conversation health are not part of the view.
+ */
+@Data
+@NoArgsConstructor
+public class TicketViewDTO {
+    private Long id;
+    private Long teamId;
+    private String teamName;
+    private Long workflowId;
+    private String workflowName;
+    private String workflowRequestName;
+    private Long projectId;
+    private String projectName;
+    private String projectShortName;
+    private Long projectTicketNumber;
+    private Long requestUserId;
+    private String requestUserName;
+    private String requestUserImageUrl;
+    private Long assignUserId;
+    private String assignUserName;
+    private String assignUserImageUrl;
+    private String requestTitle;
+    private TicketPriority priority;
+    private TicketChannel channel;
+    private TShirtSize size;
+    private Integer estimate;
+    private LocalDate estimatedCompletionDate;
+    private LocalDate actualCompletionDate;
+    private Long currentStateId;
+    private String currentStateName;
+    private Boolean isFinalState;
+    private Boolean isNew;
+    private Boolean isCompleted;
+    private Long iterationId;
+    private String iterationName;
+    private Long epicId;
+    private String epicName;
+    private Long parentTicketId;
+    private int numberAttachments;
+    private int numberWatchers;
+    private WorkflowTransitionHistoryStatus slaStatus;
+    private Instant slaDueDate;
+    private Instant createdAt;
+    private Instant modifiedAt;
+    private Instant projectedAt;
+}
@@ -0,0 +1,9 @@
+package io.flowinquiry.modules.teams.service.dto;
+
+/**
+ * Outcome of a rebuild of the ticket view.
+ *
+ * @param rewrittenTickets rows that were missing or differed from their ticket
+ * @param durationMillis how long the rebuild took
+ */
+public record TicketViewRebuildDTO(long rewrittenTickets, long durationMillis) {}
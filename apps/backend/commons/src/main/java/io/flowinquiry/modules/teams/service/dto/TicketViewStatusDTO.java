@@ -0,0 +1,12 @@
+package io.flowinquiry.modules.teams.service.dto;
+
+import java.time.Instant;
+
+/**
+ * How far the ticket view is behind the tickets.
+ *
+ * @param staleTickets tickets whose row is missing or older than the ticket
+ * @param oldestStaleChange when the longest waiting of these tickets was changed, null if none
+ * @param lagSeconds seconds since {@code oldestStaleChange}, 0 if the view is up to date
+ */
+public record TicketViewStatusDTO(long staleTickets, Instant oldestStaleChange, long lagSeconds) {}
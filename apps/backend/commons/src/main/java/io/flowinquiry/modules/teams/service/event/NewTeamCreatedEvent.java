@@ -1,14 +1,19 @@
 package io.flowinquiry.modules.teams.service.event;
 
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.flowinquiry.modules.shared.service.event.DurableEvent;
 import io.flowinquiry.modules.teams.service.dto.TeamDTO;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 @Getter
-public class NewTeamCreatedEvent extends ApplicationEvent {
+public class NewTeamCreatedEvent extends ApplicationEvent implements DurableEvent {
     private final TeamDTO team;
 
-    public NewTeamCreatedEvent(Object source, TeamDTO team) {
+    @JsonCreator
+    public NewTeamCreatedEvent(@JacksonInject Object source, @JsonProperty("team") TeamDTO team) {
         super(source);
         this.team = team;
     }
@@ -1,11 +1,15 @@
 package io.flowinquiry.modules.teams.service.event;
 
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.flowinquiry.modules.shared.service.event.DurableEvent;
 import java.util.List;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 @Getter
-public class NewUsersAddedIntoTeamEvent extends ApplicationEvent {
+public class NewUsersAddedIntoTeamEvent extends ApplicationEvent implements DurableEvent {
 
     private List<Long> userIds;
 
@@ -13,8 +17,12 @@ public class NewUsersAddedIntoTeamEvent extends ApplicationEvent {
 
     private String roleName;
 
+    @JsonCreator
     public NewUsersAddedIntoTeamEvent(
-            Object source, List<Long> userIds, Long teamId, String roleName) {
+            @JacksonInject Object source,
+            @JsonProperty("userIds") List<Long> userIds,
+            @JsonProperty("teamId") Long teamId,
+            @JsonProperty("roleName") String roleName) {
         super(source);
         this.userIds = userIds;
         this.teamId = teamId;
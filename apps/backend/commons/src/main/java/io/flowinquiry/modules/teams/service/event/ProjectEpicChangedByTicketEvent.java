@@ -1,14 +1,20 @@
 package io.flowinquiry.modules.teams.service.event;
 
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.flowinquiry.modules.shared.service.event.DurableEvent;
 import io.flowinquiry.modules.teams.service.dto.TicketDTO;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 @Getter
-public class ProjectEpicChangedByTicketEvent extends ApplicationEvent {
+public class ProjectEpicChangedByTicketEvent extends ApplicationEvent implements DurableEvent {
     private TicketDTO ticket;
 
-    public ProjectEpicChangedByTicketEvent(Object source, TicketDTO ticket) {
+    @JsonCreator
+    public ProjectEpicChangedByTicketEvent(
+            @JacksonInject Object source, @JsonProperty("ticket") TicketDTO ticket) {
         super(source);
         this.ticket = ticket;
     }
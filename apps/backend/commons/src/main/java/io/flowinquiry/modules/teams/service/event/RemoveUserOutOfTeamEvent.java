@@ -1,15 +1,23 @@
 package io.flowinquiry.modules.teams.service.event;
 
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.flowinquiry.modules.shared.service.event.DurableEvent;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 @Getter
-public class RemoveUserOutOfTeamEvent extends ApplicationEvent {
+public class RemoveUserOutOfTeamEvent extends ApplicationEvent implements DurableEvent {
     private final Long teamId;
 
     private final Long userId;
 
-    public RemoveUserOutOfTeamEvent(Object source, Long teamId, Long userId) {
+    @JsonCreator
+    public RemoveUserOutOfTeamEvent(
+            @JacksonInject Object source,
+            @JsonProperty("teamId") Long teamId,
+            @JsonProperty("userId") Long userId) {
         super(source);
         this.teamId = teamId;
         this.userId = userId;
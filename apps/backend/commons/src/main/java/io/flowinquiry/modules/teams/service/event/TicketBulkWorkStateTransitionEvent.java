@@ -0,0 +1,29 @@
+package io.flowinquiry.modules.teams.service.event;
+
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.flowinquiry.modules.shared.service.event.DurableEvent;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published once for a bulk state change instead of one {@link TicketWorkStateTransitionEvent} per
+ * ticket. The transition history rows are already written by the bulk update itself.
+ */
+@Getter
+public class TicketBulkWorkStateTransitionEvent extends ApplicationEvent implements DurableEvent {
+
+    private final List<Transition> transitions;
+
+    @JsonCreator
+    public TicketBulkWorkStateTransitionEvent(
+            @JacksonInject Object source,
+            @JsonProperty("transitions") List<Transition> transitions) {
+        super(source);
+        this.transitions = transitions;
+    }
+
+    public record Transition(Long ticketId, Long sourceStateId, Long targetStateId) {}
+}
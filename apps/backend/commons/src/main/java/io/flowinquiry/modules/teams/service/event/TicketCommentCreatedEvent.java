@@ -1,14 +1,20 @@
 package io.flowinquiry.modules.teams.service.event;
 
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.flowinquiry.modules.collab.service.dto.CommentDTO;
+import io.flowinquiry.modules.shared.service.event.DurableEvent;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 @Getter
-public class TicketCommentCreatedEvent extends ApplicationEvent {
+public class TicketCommentCreatedEvent extends ApplicationEvent implements DurableEvent {
     private final CommentDTO commentDTO;
 
-    public TicketCommentCreatedEvent(Object source, CommentDTO commentDTO) {
+    @JsonCreator
+    public TicketCommentCreatedEvent(
+            @JacksonInject Object source, @JsonProperty("commentDTO") CommentDTO commentDTO) {
         super(source);
         this.commentDTO = commentDTO;
     }
@@ -0,0 +1,32 @@
+package io.flowinquiry.modules.teams.service.event;
+
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.flowinquiry.modules.shared.service.event.DurableEvent;
+import java.time.Instant;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Asks for the ticket view rows of tickets changed by one transaction to be projected again. {@code
+ * changedAt} is when that transaction committed, to measure the projection lag.
+ */
+@Getter
+public class TicketViewRefreshEvent extends ApplicationEvent implements DurableEvent {
+
+    private final List<Long> ticketIds;
+
+    private final Instant changedAt;
+
+    @JsonCreator
+    public TicketViewRefreshEvent(
+            @JacksonInject Object source,
+            @JsonProperty("ticketIds") List<Long> ticketIds,
+            @JsonProperty("changedAt") Instant changedAt) {
+        super(source);
+        this.ticketIds = ticketIds;
+        this.changedAt = changedAt;
+    }
+}
@@ -1,10 +1,14 @@
 package io.flowinquiry.modules.teams.service.event;
 
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.flowinquiry.modules.shared.service.event.DurableEvent;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 @Getter
-public class TicketWorkStateTransitionEvent extends ApplicationEvent {
+public class TicketWorkStateTransitionEvent extends ApplicationEvent implements DurableEvent {
 
     private final Long ticketId;
 
@@ -12,8 +16,12 @@ public class TicketWorkStateTransitionEvent extends ApplicationEvent {
 
     private final Long targetStateId;
 
+    @JsonCreator
     public TicketWorkStateTransitionEvent(
-            Object source, Long ticketId, Long sourceStateId, Long targetStateId) {
+            @JacksonInject Object source,
+            @JsonProperty("ticketId") Long ticketId,
+            @JsonProperty("sourceStateId") Long sourceStateId,
+            @JsonProperty("targetStateId") Long targetStateId) {
         super(source);
         this.ticketId = ticketId;
         this.sourceStateId = sourceStateId;
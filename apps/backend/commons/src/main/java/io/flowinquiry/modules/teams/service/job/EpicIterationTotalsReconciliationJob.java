@@ -0,0 +1,48 @@
+package io.flowinquiry.modules.teams.service.job;
+
+import io.flowinquiry.modules.teams.repository.ProjectEpicRepository;
+import io.flowinquiry.modules.teams.repository.ProjectIterationRepository;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@Profile("!test")
+public class EpicIterationTotalsReconciliationJob {
+
+    private final ProjectEpicRepository projectEpicRepository;
+
+    private final ProjectIterationRepository projectIterationRepository;
+
+    public EpicIterationTotalsReconciliationJob(
+            ProjectEpicRepository projectEpicRepository,
+            ProjectIterationRepository projectIterationRepository) {
+        this.projectEpicRepository = projectEpicRepository;
+        this.projectIterationRepository = projectIterationRepository;
+    }
+
+    /**
+     * Scheduled job to repair the ticket and story point totals of epics and iterations.
+     *
+     * <p>The totals are maintained with deltas on every ticket write; this job recomputes them from
+     * the tickets daily so that any drift (e.g. tickets deleted with their epic) does not persist.
+     */
+    @Scheduled(cron = "0 45 1 * * ?") // Runs daily at 1:45 AM
+    @SchedulerLock(
+            name = "EpicIterationTotalsReconciliationJob",
+            lockAtMostFor = "10m",
+            lockAtLeastFor = "1s")
+    public void reconcileTotals() {
+        int correctedEpics = projectEpicRepository.reconcileTotals();
+        int correctedIterations = projectIterationRepository.reconcileTotals();
+        if (correctedEpics > 0 || correctedIterations > 0) {
+            log.warn(
+                    "Corrected story point totals of {} epics and {} iterations",
+                    correctedEpics,
+                    correctedIterations);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.flowinquiry.modules.teams.service.job;
+
+import io.flowinquiry.modules.teams.repository.TicketRepository;
+import io.flowinquiry.modules.teams.service.TicketCache;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@Profile("!test")
+public class TicketCounterReconciliationJob {
+
+    private final TicketRepository ticketRepository;
+
+    private final TicketCache ticketCache;
+
+    public TicketCounterReconciliationJob(
+            TicketRepository ticketRepository, TicketCache ticketCache) {
+        this.ticketRepository = ticketRepository;
+        this.ticketCache = ticketCache;
+    }
+
+    /**
+     * Scheduled job to repair the denormalized attachment and watcher counters of tickets.
+     *
+     * <p>The counters are maintained incrementally on every write; this job recomputes them from
+     * the source tables daily so that any drift (e.g. rows changed outside the application) does
+     * not persist.
+     */
+    @Scheduled(cron = "0 30 1 * * ?") // Runs daily at 1:30 AM
+    @SchedulerLock(
+            name = "TicketCounterReconciliationJob",
+            lockAtMostFor = "10m",
+            lockAtLeastFor = "1s")
+    public void reconcileCounters() {
+        int correctedTickets = ticketRepository.reconcileCounters();
+        if (correctedTickets > 0) {
+            log.warn("Corrected attachment/watcher counters of {} tickets", correctedTickets);
+            ticketCache.evictAll();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.flowinquiry.modules.teams.service.job;
+
+import io.flowinquiry.modules.teams.repository.TicketDailyRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@Profile("!test")
+public class TicketDailyRollupReconciliationJob {
+
+    private final TicketDailyRollupRepository ticketDailyRollupRepository;
+
+    public TicketDailyRollupReconciliationJob(
+            TicketDailyRollupRepository ticketDailyRollupRepository) {
+        this.ticketDailyRollupRepository = ticketDailyRollupRepository;
+    }
+
+    /**
+     * Scheduled job to repair the daily ticket rollups of teams.
+     *
+     * <p>The rollups are maintained with deltas on every ticket write; this job recomputes them
+     * from the tickets daily so that writes made outside the ticket service (e.g. tickets moved by
+     * a script) do not skew the dashboards for long.
+     */
+    @Scheduled(cron = "0 30 2 * * ?") // Runs daily at 2:30 AM
+    @SchedulerLock(
+            name = "TicketDailyRollupReconciliationJob",
+            lockAtMostFor = "10m",
+            lockAtLeastFor = "1s")
+    public void reconcileRollups() {
+        long corrected = ticketDailyRollupRepository.reconcile();
+        if (corrected > 0) {
+            log.warn("Corrected {} daily ticket rollups", corrected);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.flowinquiry.modules.teams.service.job;
+
+import io.flowinquiry.modules.teams.service.TicketViewService;
+import io.flowinquiry.modules.teams.service.dto.TicketViewRebuildDTO;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@Profile("!test")
+public class TicketViewReconciliationJob {
+
+    private final TicketViewService ticketViewService;
+
+    public TicketViewReconciliationJob(TicketViewService ticketViewService) {
+        this.ticketViewService = ticketViewService;
+    }
+
+    /**
+     * Scheduled job to rebuild the ticket view.
+     *
+     * <p>Rows are projected when their ticket changes; this job projects every ticket daily so that
+     * renamed users, states, iterations or epics and any missed change reach the view.
+     */
+    @Scheduled(cron = "0 15 2 * * ?") // Runs daily at 2:15 AM
+    @SchedulerLock(
+            name = "TicketViewReconciliationJob",
+            lockAtMostFor = "30m",
+            lockAtLeastFor = "1s")
+    public void reconcileTicketView() {
+        TicketViewRebuildDTO result = ticketViewService.rebuild();
+        if (result.rewrittenTickets() > 0) {
+            log.warn("Rewrote {} outdated rows of the ticket view", result.rewrittenTickets());
+        }
+    }
+}
@@ -6,7 +6,6 @@ import io.flowinquiry.modules.teams.service.dto.WorkflowDTO;
 import io.flowinquiry.modules.teams.service.event.NewTeamCreatedEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -19,7 +18,6 @@ public class NewTeamCreatedEventListener {
         this.workflowService = workflowService;
     }
 
-    @Async("asyncTaskExecutor")
     @EventListener
     public void onNewTeamCreated(NewTeamCreatedEvent event) {
         TeamDTO teamDTO = event.getTeam();
@@ -1,11 +1,11 @@
 package io.flowinquiry.modules.teams.service.listener;
 
+import io.flowinquiry.modules.shared.service.outbox.OutboxService;
 import io.flowinquiry.modules.teams.service.TicketHealthEvalService;
 import io.flowinquiry.modules.teams.service.dto.TicketDTO;
 import io.flowinquiry.modules.teams.service.event.NewTicketCreatedEvent;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -14,22 +14,29 @@ public class NewTicketCreatedAiSummaryEventListener {
 
     private final TicketHealthEvalService ticketHealthEvalService;
 
-    public NewTicketCreatedAiSummaryEventListener(TicketHealthEvalService ticketHealthEvalService) {
+    private final OutboxService outboxService;
+
+    public NewTicketCreatedAiSummaryEventListener(
+            TicketHealthEvalService ticketHealthEvalService, OutboxService outboxService) {
         this.ticketHealthEvalService = ticketHealthEvalService;
+        this.outboxService = outboxService;
     }
 
-    @Async("asyncTaskExecutor")
+    /** Evaluated once per ticket, as the evaluation adds to the health of the conversation. */
     @EventListener
     public void onNewTicketCreated(NewTicketCreatedEvent event) {
         TicketDTO ticketDTO = event.getTicket();
-        ticketHealthEvalService.evaluateConversationHealth(
-                ticketDTO.getId(),
-                "Title: "
-                        + ticketDTO.getRequestTitle()
-                        + "\n"
-                        + "Description: "
-                        + ticketDTO.getRequestDescription()
-                        + "\n",
-                true);
+        outboxService.runOnce(
+                "new-ticket-ai-summary",
+                () ->
+                        ticketHealthEvalService.evaluateConversationHealth(
+                                ticketDTO.getId(),
+                                "Title: "
+                                        + ticketDTO.getRequestTitle()
+                                        + "\n"
+                                        + "Description: "
+                                        + ticketDTO.getRequestDescription()
+                                        + "\n",
+                                true));
     }
 }
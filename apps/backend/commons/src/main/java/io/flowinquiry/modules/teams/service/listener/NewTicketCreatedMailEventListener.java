@@ -7,6 +7,7 @@ import io.flowinquiry.modules.collab.domain.EntityType;
 import io.flowinquiry.modules.collab.domain.EntityWatcher;
 import io.flowinquiry.modules.collab.repository.EntityWatcherRepository;
 import io.flowinquiry.modules.collab.service.MailService;
+import io.flowinquiry.modules.shared.service.outbox.OutboxService;
 import io.flowinquiry.modules.teams.service.TicketService;
 import io.flowinquiry.modules.teams.service.dto.TicketDTO;
 import io.flowinquiry.modules.teams.service.event.NewTicketCreatedEvent;
@@ -15,14 +16,14 @@ import java.util.List;
 import java.util.Locale;
 import org.springframework.context.MessageSource;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Event listener for new ticket creation events. This listener is responsible for sending email
- * notifications to watchers of a ticket when a new ticket is created. Emails are sent
- * asynchronously to all watchers of the ticket.
+ * notifications to watchers of a ticket when a new ticket is created. Emails are sent to all
+ * watchers of the ticket as steps of the event's delivery, so each is sent once even when the
+ * delivery is retried.
  */
 @Component
 public class NewTicketCreatedMailEventListener {
@@ -32,18 +33,21 @@ public class NewTicketCreatedMailEventListener {
     private final TicketService ticketService;
     private final MailService mailService;
     private final MessageSource messageSource;
+    private final OutboxService outboxService;
 
     public NewTicketCreatedMailEventListener(
             EntityWatcherRepository entityWatcherRepository,
             TicketService ticketService,
             MailService mailService,
             UserMapper userMapper,
-            MessageSource messageSource) {
+            MessageSource messageSource,
+            OutboxService outboxService) {
         this.entityWatcherRepository = entityWatcherRepository;
         this.ticketService = ticketService;
         this.mailService = mailService;
         this.userMapper = userMapper;
         this.messageSource = messageSource;
+        this.outboxService = outboxService;
     }
 
     /**
@@ -53,7 +57,6 @@ public class NewTicketCreatedMailEventListener {
      *
      * @param event The event containing information about the created ticket
      */
-    @Async("asyncTaskExecutor")
     @Transactional
     @EventListener
     public void onNewTicketCreated(NewTicketCreatedEvent event) {
@@ -78,7 +81,9 @@ public class NewTicketCreatedMailEventListener {
                                         .addVariable("ticket", ticketDTO)
                                         .addVariable("ticketPath", ticketPath)
                                         .setTemplate("mail/newTicketEmail");
-                        mailService.sendEmail(emailContext);
+                        outboxService.runOnce(
+                                "new-ticket-mail:" + watcher.getWatchUser().getId(),
+                                () -> mailService.sendEmailSync(emailContext));
                     });
         }
     }
@@ -22,11 +22,11 @@ import io.flowinquiry.modules.usermanagement.domain.User;
 import io.flowinquiry.modules.usermanagement.repository.UserRepository;
 import io.flowinquiry.modules.usermanagement.service.dto.UserWithTeamRoleDTO;
 import io.flowinquiry.utils.Obfuscator;
+import io.flowinquiry.utils.TransactionUtils;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,7 +40,6 @@ public class NewTicketCreatedNotificationEventListener {
     private final UserRepository userRepository;
     private final SseController sseController;
 
-    @Async("asyncTaskExecutor")
     @Transactional
     @EventListener
     public void onNewTicketCreated(NewTicketCreatedEvent event) {
@@ -83,9 +82,14 @@ public class NewTicketCreatedNotificationEventListener {
         }
 
         List<Notification> savedNotifications = notificationRepository.saveAll(notifications);
-        for (Notification notification : savedNotifications) {
-            sseController.sendEventToUser(notification.getUser().getId(), NEW_TICKET, notification);
-        }
+        // Pushed only once the notifications are stored, a failed delivery is retried
+        TransactionUtils.afterCommit(
+                () -> {
+                    for (Notification notification : savedNotifications) {
+                        sseController.sendEventToUser(
+                                notification.getUser().getId(), NEW_TICKET, notification);
+                    }
+                });
 
         ActivityLog activityLog =
                 ActivityLog.builder()
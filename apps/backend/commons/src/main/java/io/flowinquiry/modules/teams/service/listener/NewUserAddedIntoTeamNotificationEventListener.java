@@ -20,7 +20,6 @@ import j2html.tags.specialized.DivTag;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,7 +39,6 @@ public class NewUserAddedIntoTeamNotificationEventListener {
         this.userRepository = userRepository;
     }
 
-    @Async("asyncTaskExecutor")
     @EventListener
     @Transactional
     public void onNewUsersAddedIntoTeam(NewUsersAddedIntoTeamEvent event) {
@@ -15,7 +15,6 @@ import io.flowinquiry.security.SecurityUtils;
 import io.flowinquiry.utils.Obfuscator;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,7 +34,6 @@ public class RemoveUserOutOfTeamNotificationEventListener {
         this.activityLogRepository = activityLogRepository;
     }
 
-    @Async("asyncTaskExecutor")
     @EventListener
     @Transactional
     public void onRemoveUserOutOfTeam(RemoveUserOutOfTeamEvent event) {
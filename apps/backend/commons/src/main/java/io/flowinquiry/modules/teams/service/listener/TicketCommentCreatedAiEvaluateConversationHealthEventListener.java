@@ -1,6 +1,7 @@
 package io.flowinquiry.modules.teams.service.listener;
 
 import io.flowinquiry.modules.collab.service.dto.CommentDTO;
+import io.flowinquiry.modules.shared.service.outbox.OutboxService;
 import io.flowinquiry.modules.teams.service.TicketHealthEvalService;
 import io.flowinquiry.modules.teams.service.TicketService;
 import io.flowinquiry.modules.teams.service.dto.TicketDTO;
@@ -8,7 +9,6 @@ import io.flowinquiry.modules.teams.service.event.TicketCommentCreatedEvent;
 import java.util.Objects;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -19,21 +19,30 @@ public class TicketCommentCreatedAiEvaluateConversationHealthEventListener {
 
     private final TicketHealthEvalService ticketHealthEvalService;
 
+    private final OutboxService outboxService;
+
     public TicketCommentCreatedAiEvaluateConversationHealthEventListener(
-            TicketService ticketService, TicketHealthEvalService ticketHealthEvalService) {
+            TicketService ticketService,
+            TicketHealthEvalService ticketHealthEvalService,
+            OutboxService outboxService) {
         this.ticketHealthEvalService = ticketHealthEvalService;
         this.ticketService = ticketService;
+        this.outboxService = outboxService;
     }
 
-    @Async("asyncTaskExecutor")
+    /** Evaluated once per comment, as the evaluation adds to the health of the conversation. */
     @EventListener
     public void onTicketNewCommentAiEvaluateConversationHealthEvent(
             TicketCommentCreatedEvent event) {
         CommentDTO comment = event.getCommentDTO();
         TicketDTO ticketDTO = ticketService.getTicketById(comment.getEntityId());
-        ticketHealthEvalService.evaluateConversationHealth(
-                comment.getEntityId(),
-                comment.getContent(),
-                Objects.equals(ticketDTO.getRequestUserId(), comment.getCreatedById()));
+        outboxService.runOnce(
+                "ticket-comment-ai-conversation-health",
+                () ->
+                        ticketHealthEvalService.evaluateConversationHealth(
+                                comment.getEntityId(),
+                                comment.getContent(),
+                                Objects.equals(
+                                        ticketDTO.getRequestUserId(), comment.getCreatedById())));
     }
 }
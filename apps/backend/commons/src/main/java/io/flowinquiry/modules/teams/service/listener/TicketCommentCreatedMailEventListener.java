@@ -9,6 +9,7 @@ import io.flowinquiry.modules.collab.repository.EntityWatcherRepository;
 import io.flowinquiry.modules.collab.service.CommentService;
 import io.flowinquiry.modules.collab.service.MailService;
 import io.flowinquiry.modules.collab.service.dto.CommentDTO;
+import io.flowinquiry.modules.shared.service.outbox.OutboxService;
 import io.flowinquiry.modules.teams.service.TicketService;
 import io.flowinquiry.modules.teams.service.dto.TicketDTO;
 import io.flowinquiry.modules.teams.service.event.TicketCommentCreatedEvent;
@@ -17,14 +18,14 @@ import java.util.List;
 import java.util.Locale;
 import org.springframework.context.MessageSource;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Event listener for ticket comment creation events. This listener is responsible for sending email
  * notifications to watchers of a ticket when a new comment is added to the ticket. Emails are sent
- * asynchronously to all watchers except the comment creator.
+ * to all watchers except the comment creator as steps of the event's delivery, so each is sent once
+ * even when the delivery is retried.
  */
 @Component
 public class TicketCommentCreatedMailEventListener {
@@ -34,6 +35,7 @@ public class TicketCommentCreatedMailEventListener {
     private final TicketService ticketService;
     private final MailService mailService;
     private final MessageSource messageSource;
+    private final OutboxService outboxService;
 
     public TicketCommentCreatedMailEventListener(
             CommentService commentService,
@@ -41,13 +43,15 @@ public class TicketCommentCreatedMailEventListener {
             EntityWatcherRepository entityWatcherRepository,
             TicketService ticketService,
             MailService mailService,
-            MessageSource messageSource) {
+            MessageSource messageSource,
+            OutboxService outboxService) {
         this.commentService = commentService;
         this.userMapper = userMapper;
         this.entityWatcherRepository = entityWatcherRepository;
         this.ticketService = ticketService;
         this.mailService = mailService;
         this.messageSource = messageSource;
+        this.outboxService = outboxService;
     }
 
     /**
@@ -57,7 +61,6 @@ public class TicketCommentCreatedMailEventListener {
      *
      * @param event The event containing information about the created comment
      */
-    @Async("asyncTaskExecutor")
     @Transactional
     @EventListener
     public void onTicketCommentCreated(TicketCommentCreatedEvent event) {
@@ -91,7 +94,9 @@ public class TicketCommentCreatedMailEventListener {
                                 .addVariable("ticketPath", ticketPath)
                                 .setTemplate("mail/newTicketCommentEmail");
 
-                mailService.sendEmail(emailContext);
+                outboxService.runOnce(
+                        "ticket-comment-mail:" + watcher.getWatchUser().getId(),
+                        () -> mailService.sendEmailSync(emailContext));
             }
         }
     }
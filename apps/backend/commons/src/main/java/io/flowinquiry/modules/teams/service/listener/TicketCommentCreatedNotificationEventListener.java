@@ -24,11 +24,11 @@ import io.flowinquiry.modules.usermanagement.repository.UserRepository;
 import io.flowinquiry.modules.usermanagement.service.dto.UserWithTeamRoleDTO;
 import io.flowinquiry.utils.Obfuscator;
 import io.flowinquiry.utils.StringUtils;
+import io.flowinquiry.utils.TransactionUtils;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,7 +43,6 @@ public class TicketCommentCreatedNotificationEventListener {
     private final ActivityLogRepository activityLogRepository;
     private final SseController sseController;
 
-    @Async("asyncTaskExecutor")
     @Transactional
     @EventListener
     public void onTicketCommentCreated(TicketCommentCreatedEvent event) {
@@ -97,10 +96,14 @@ public class TicketCommentCreatedNotificationEventListener {
 
         List<Notification> savedNotifications = notificationRepository.saveAll(notifications);
 
-        for (Notification notification : savedNotifications) {
-            sseController.sendEventToUser(
-                    notification.getUser().getId(), NEW_TICKET_COMMENT, notification);
-        }
+        // Pushed only once the notifications are stored, a failed delivery is retried
+        TransactionUtils.afterCommit(
+                () -> {
+                    for (Notification notification : savedNotifications) {
+                        sseController.sendEventToUser(
+                                notification.getUser().getId(), NEW_TICKET_COMMENT, notification);
+                    }
+                });
 
         ActivityLog activityLog =
                 ActivityLog.builder()
@@ -0,0 +1,23 @@
+package io.flowinquiry.modules.teams.service.listener;
+
+import io.flowinquiry.modules.teams.service.TicketViewProjector;
+import io.flowinquiry.modules.teams.service.event.TicketViewRefreshEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class TicketViewRefreshEventListener {
+
+    private final TicketViewProjector ticketViewProjector;
+
+    public TicketViewRefreshEventListener(TicketViewProjector ticketViewProjector) {
+        this.ticketViewProjector = ticketViewProjector;
+    }
+
+    @EventListener
+    @Transactional
+    public void onTicketViewRefresh(TicketViewRefreshEvent event) {
+        ticketViewProjector.project(event.getTicketIds(), event.getChangedAt());
+    }
+}
@@ -13,11 +13,19 @@ import io.flowinquiry.modules.teams.domain.WorkflowState;
 import io.flowinquiry.modules.teams.repository.TicketRepository;
 import io.flowinquiry.modules.teams.repository.WorkflowStateRepository;
 import io.flowinquiry.modules.teams.service.WorkflowTransitionHistoryService;
+import io.flowinquiry.modules.teams.service.event.TicketBulkWorkStateTransitionEvent;
+import io.flowinquiry.modules.teams.service.event.TicketBulkWorkStateTransitionEvent.Transition;
 import io.flowinquiry.modules.teams.service.event.TicketWorkStateTransitionEvent;
 import io.flowinquiry.utils.Obfuscator;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,7 +48,6 @@ public class TicketWorkStateTransitionEventListener {
         this.workflowTransitionHistoryService = workflowTransitionHistoryService;
     }
 
-    @Async("asyncTaskExecutor")
     @EventListener
     @Transactional
     public void onWorkflowStateTransition(TicketWorkStateTransitionEvent event) {
@@ -75,6 +82,43 @@ public class TicketWorkStateTransitionEventListener {
                                 () ->
                                         new EntityNotFoundException(
                                                 "Can not find ticket with id " + ticketId));
+        activityLogRepository.save(toActivityLog(ticket, sourceState, targetState));
+    }
+
+    @EventListener
+    @Transactional
+    public void onBulkWorkflowStateTransition(TicketBulkWorkStateTransitionEvent event) {
+        List<Transition> transitions = event.getTransitions();
+        Set<Long> stateIds = new HashSet<>();
+        for (Transition transition : transitions) {
+            stateIds.add(transition.sourceStateId());
+            stateIds.add(transition.targetStateId());
+        }
+        Map<Long, WorkflowState> states =
+                workflowStateRepository.findAllById(stateIds).stream()
+                        .collect(Collectors.toMap(WorkflowState::getId, Function.identity()));
+        Map<Long, Ticket> tickets =
+                ticketRepository
+                        .findAllByIdIn(transitions.stream().map(Transition::ticketId).toList())
+                        .stream()
+                        .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+
+        List<ActivityLog> activityLogs = new ArrayList<>();
+        for (Transition transition : transitions) {
+            Ticket ticket = tickets.get(transition.ticketId());
+            if (ticket != null) {
+                activityLogs.add(
+                        toActivityLog(
+                                ticket,
+                                states.get(transition.sourceStateId()),
+                                states.get(transition.targetStateId())));
+            }
+        }
+        activityLogRepository.saveAll(activityLogs);
+    }
+
+    private ActivityLog toActivityLog(
+            Ticket ticket, WorkflowState sourceState, WorkflowState targetState) {
         // Handle case when modifiedByUser is null
         String userName = "System";
         String userLink = "";
@@ -103,12 +147,10 @@ public class TicketWorkStateTransitionEventListener {
                                 text(" to "),
                                 span(targetState.getStateName()).withClass("status-new"))
                         .render();
-        ActivityLog activityLog =
-                ActivityLog.builder()
-                        .entityId(ticket.getTeam().getId())
-                        .entityType(EntityType.Team)
-                        .content(html)
-                        .build();
-        activityLogRepository.save(activityLog);
+        return ActivityLog.builder()
+                .entityId(ticket.getTeam().getId())
+                .entityType(EntityType.Team)
+                .content(html)
+                .build();
     }
 }
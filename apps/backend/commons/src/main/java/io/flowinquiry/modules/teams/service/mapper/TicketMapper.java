@@ -71,6 +71,12 @@ public interface TicketMapper extends BaseMapper {
             target = "parentTicket",
             expression = "java(toStub(ticketDTO.getParentTicketId(), Ticket.class))")
     @Mapping(target = "childTickets", ignore = true)
+    @Mapping(target = "numberAttachments", ignore = true)
+    @Mapping(target = "numberWatchers", ignore = true)
+    @Mapping(target = "currentTransitionId", ignore = true)
+    @Mapping(target = "currentSlaDueDate", ignore = true)
+    @Mapping(target = "currentSlaStatus", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Ticket toEntity(TicketDTO ticketDTO);
 
     @Mapping(target = "team", source = "teamId", qualifiedByName = "toTeam")
@@ -94,6 +100,12 @@ public interface TicketMapper extends BaseMapper {
             target = "parentTicket",
             expression = "java(toStub(dto.getParentTicketId(), Ticket.class))")
     @Mapping(target = "childTickets", ignore = true)
+    @Mapping(target = "numberAttachments", ignore = true)
+    @Mapping(target = "numberWatchers", ignore = true)
+    @Mapping(target = "currentTransitionId", ignore = true)
+    @Mapping(target = "currentSlaDueDate", ignore = true)
+    @Mapping(target = "currentSlaStatus", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntity(TicketDTO dto, @MappingTarget Ticket entity);
 
     @Named("toTeam")
@@ -0,0 +1,10 @@
+package io.flowinquiry.modules.teams.service.mapper;
+
+import io.flowinquiry.modules.teams.domain.TicketView;
+import io.flowinquiry.modules.teams.service.dto.TicketViewDTO;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface TicketViewMapper {
+    TicketViewDTO toDto(TicketView ticketView);
+}
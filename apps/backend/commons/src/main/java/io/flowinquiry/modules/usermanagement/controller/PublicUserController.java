@@ -12,11 +12,13 @@ import io.flowinquiry.modules.usermanagement.service.dto.ResourcePermissionDTO;
 import io.flowinquiry.modules.usermanagement.service.dto.UserDTO;
 import io.flowinquiry.modules.usermanagement.service.dto.UserHierarchyDTO;
 import io.flowinquiry.modules.usermanagement.service.mapper.UserMapper;
+import io.flowinquiry.query.CountMode;
 import io.flowinquiry.query.Filter;
 import io.flowinquiry.query.FilterOperator;
 import io.flowinquiry.query.QueryDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -111,8 +113,12 @@ public class PublicUserController {
     public ResponseEntity<Page<UserDTO>> searchAllPublicUsers(
             @Parameter(description = "Query parameters for filtering users") @Valid @RequestBody
                     Optional<QueryDTO> queryDTO,
-            @Parameter(description = "Pagination information") Pageable pageable) {
+            @Parameter(description = "Pagination information") Pageable pageable,
+            @Parameter(description = "How to count the total: exact, estimate or none")
+                    @RequestParam(value = "count", defaultValue = "exact")
+                    String count) {
         log.debug("REST request to get all public User names");
+        CountMode countMode = CountMode.fromValue(count);
 
         // Check for allowed properties in pageable
         if (!onlyContainsAllowedProperties(pageable)) {
@@ -137,7 +143,7 @@ public class PublicUserController {
         }
 
         // Fetch public users and generate pagination headers
-        final Page<UserDTO> page = userService.findAllPublicUsers(queryDTO, pageable);
+        final Page<UserDTO> page = userService.findAllPublicUsers(queryDTO, pageable, countMode);
         HttpHeaders headers =
                 PaginationUtil.generatePaginationHttpHeaders(
                         ServletUriComponentsBuilder.fromCurrentRequest(), page);
@@ -207,6 +213,42 @@ public class PublicUserController {
         return ResponseEntity.ok(updatedUser);
     }
 
+    @Operation(
+            summary = "Get users by IDs",
+            description =
+                    "Retrieves the users with the given IDs in one request, in the order of the"
+                            + " IDs. IDs of users that do not exist are skipped")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successfully retrieved users",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        array =
+                                                @ArraySchema(
+                                                        schema =
+                                                                @Schema(
+                                                                        implementation =
+                                                                                UserDTO.class)))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Bad request - too many IDs",
+                        content = @Content)
+            })
+    @GetMapping(params = "ids")
+    public List<UserDTO> getUsersByIds(
+            @Parameter(
+                            description =
+                                    "IDs of the users to retrieve, at most "
+                                            + UserService.MAX_USERS_BY_IDS,
+                            required = true)
+                    @RequestParam("ids")
+                    List<Long> ids) {
+        return userService.getUsersWithManagerByIds(ids);
+    }
+
     @Operation(summary = "Get user by ID", description = "Retrieves a user by their ID")
     @ApiResponses(
             value = {
@@ -1,5 +1,6 @@
 package io.flowinquiry.modules.usermanagement.controller.errors;
 
+import io.flowinquiry.exceptions.PreconditionFailedException;
 import io.flowinquiry.exceptions.ResourceConstraintException;
 import io.flowinquiry.exceptions.ResourceNotFoundException;
 import io.flowinquiry.exceptions.UserException;
@@ -9,6 +10,7 @@ import io.flowinquiry.modules.usermanagement.InvalidPasswordException;
 import java.util.HashMap;
 import java.util.Map;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
@@ -34,6 +36,9 @@ public class ExceptionStatusMapper {
         exceptionToStatusMap.put(ResourceNotFoundException.class, HttpStatus.NOT_FOUND);
         exceptionToStatusMap.put(IllegalStateException.class, HttpStatus.CONFLICT);
         exceptionToStatusMap.put(ResourceConstraintException.class, HttpStatus.CONFLICT);
+        exceptionToStatusMap.put(
+                ObjectOptimisticLockingFailureException.class, HttpStatus.CONFLICT);
+        exceptionToStatusMap.put(PreconditionFailedException.class, HttpStatus.PRECONDITION_FAILED);
     }
 
     public static HttpStatus getHttpStatus(Throwable ex) {
@@ -3,6 +3,7 @@ package io.flowinquiry.modules.usermanagement.repository;
 import io.flowinquiry.modules.usermanagement.domain.User;
 import io.flowinquiry.modules.usermanagement.service.dto.UserHierarchyDTO;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -37,6 +38,9 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     @EntityGraph(attributePaths = {"manager"})
     Optional<User> findOneWithManagerById(Long id);
 
+    @EntityGraph(attributePaths = {"manager", "authorities"})
+    List<User> findAllWithManagerByIdIn(Collection<Long> ids);
+
     /**
      * Find users where the search term matches any part of firstName, lastName, or email
      *
@@ -23,6 +23,9 @@ import io.flowinquiry.modules.usermanagement.service.dto.UserKey;
 import io.flowinquiry.modules.usermanagement.service.event.CreatedUserEvent;
 import io.flowinquiry.modules.usermanagement.service.event.DeleteUserEvent;
 import io.flowinquiry.modules.usermanagement.service.mapper.UserMapper;
+import io.flowinquiry.query.CountMode;
+import io.flowinquiry.query.CountedPage;
+import io.flowinquiry.query.PagedQueryExecutor;
 import io.flowinquiry.query.QueryDTO;
 import io.flowinquiry.security.SecurityUtils;
 import io.flowinquiry.utils.Random;
@@ -30,10 +33,13 @@ import jakarta.persistence.EntityNotFoundException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -53,6 +59,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class UserService {
 
+    /** The most users {@link #getUsersWithManagerByIds(List)} returns at once. */
+    public static final int MAX_USERS_BY_IDS = 100;
+
     private final UserRepository userRepository;
 
     private final UserAuthRepository userAuthRepository;
@@ -63,6 +72,8 @@ public class UserService {
 
     private final UserMapper userMapper;
 
+    private final PagedQueryExecutor pagedQueryExecutor;
+
     private final ApplicationEventPublisher eventPublisher;
 
     public UserService(
@@ -71,12 +82,14 @@ public class UserService {
             PasswordEncoder passwordEncoder,
             AuthorityRepository authorityRepository,
             UserMapper userMapper,
+            PagedQueryExecutor pagedQueryExecutor,
             ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.userAuthRepository = userAuthRepository;
         this.passwordEncoder = passwordEncoder;
         this.authorityRepository = authorityRepository;
         this.userMapper = userMapper;
+        this.pagedQueryExecutor = pagedQueryExecutor;
         this.eventPublisher = eventPublisher;
     }
 
@@ -355,6 +368,12 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public Page<UserDTO> findAllPublicUsers(Optional<QueryDTO> queryDTO, Pageable pageable) {
+        return findAllPublicUsers(queryDTO, pageable, CountMode.EXACT);
+    }
+
+    @Transactional(readOnly = true)
+    public CountedPage<UserDTO> findAllPublicUsers(
+            Optional<QueryDTO> queryDTO, Pageable pageable, CountMode countMode) {
         Specification<User> spec = createSpecification(queryDTO.orElse(null));
         if (spec == null) {
             // Create an empty specification that matches all entities
@@ -368,7 +387,9 @@ public class UserService {
                                 (root, query, criteriaBuilder) ->
                                         criteriaBuilder.equal(
                                                 root.get(User_.STATUS), UserStatus.ACTIVE));
-        return userRepository.findAll(spec, pageable).map(userMapper::toDto);
+        return pagedQueryExecutor
+                .findPage(userRepository, User.class, spec, pageable, countMode)
+                .map(userMapper::toDto);
     }
 
     @Transactional(readOnly = true)
@@ -376,6 +397,32 @@ public class UserService {
         return userRepository.findOneWithManagerById(id).map(userMapper::toDto);
     }
 
+    /**
+     * Gets the users with the given ids in one query, in the order of {@code ids}. Duplicate ids
+     * are returned once and ids of missing users are skipped.
+     *
+     * @throws IllegalArgumentException if more than {@value #MAX_USERS_BY_IDS} ids are given
+     */
+    @Transactional(readOnly = true)
+    public List<UserDTO> getUsersWithManagerByIds(List<Long> ids) {
+        Set<Long> userIds = new LinkedHashSet<>(ids);
+        if (userIds.size() > MAX_USERS_BY_IDS) {
+            throw new IllegalArgumentException(
+                    "Can not get more than " + MAX_USERS_BY_IDS + " users at once");
+        }
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, User> usersById =
+                userRepository.findAllWithManagerByIdIn(userIds).stream()
+                        .collect(Collectors.toMap(User::getId, Function.identity()));
+        return userIds.stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .map(userMapper::toDto)
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public Optional<UserDTO> getUserById(Long id) {
         return userRepository.findOneById(id).map(userMapper::toDto);
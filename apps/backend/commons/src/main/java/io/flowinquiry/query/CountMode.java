@@ -0,0 +1,33 @@
+package io.flowinquiry.query;
+
+/** How the total of a paged search is computed, see {@link PagedQueryExecutor}. */
+public enum CountMode {
+    /** Counts every matching row. */
+    EXACT("exact"),
+    /**
+     * Counts up to {@link PagedQueryExecutor#ESTIMATE_CAP} rows; beyond that the total is a lower
+     * bound.
+     */
+    ESTIMATE("estimate"),
+    /** Runs no count; the total only tells whether a next page exists. */
+    NONE("none");
+
+    private final String value;
+
+    CountMode(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static CountMode fromValue(String value) {
+        for (CountMode mode : values()) {
+            if (mode.value.equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Invalid count mode: " + value);
+    }
+}
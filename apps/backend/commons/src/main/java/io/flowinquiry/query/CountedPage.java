@@ -0,0 +1,34 @@
+package io.flowinquiry.query;
+
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * A page of search results whose total may not be exact. When {@code totalExact} is false, {@link
+ * #getTotalElements()} is a lower bound: there are at least that many results, so clients should
+ * show it as e.g. "10,000+" and keep paging while {@link #hasNext()} is true.
+ */
+public class CountedPage<T> extends PageImpl<T> {
+
+    private final boolean totalExact;
+
+    public CountedPage(List<T> content, Pageable pageable, long total, boolean totalExact) {
+        super(content, pageable, total);
+        this.totalExact = totalExact;
+    }
+
+    public boolean isTotalExact() {
+        return totalExact;
+    }
+
+    @Override
+    public <U> CountedPage<U> map(Function<? super T, ? extends U> converter) {
+        return new CountedPage<>(
+                getContent().stream().<U>map(converter).toList(),
+                getPageable(),
+                getTotalElements(),
+                totalExact);
+    }
+}
@@ -0,0 +1,25 @@
+package io.flowinquiry.query;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A slice of search results addressed by an opaque keyset cursor rather than a page offset. No
+ * total count is computed; clients follow {@code nextCursor} until {@code hasNext} is false.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorSlice<T> {
+
+    private final List<T> content;
+
+    private final boolean hasNext;
+
+    private final String nextCursor;
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> converter) {
+        return new CursorSlice<>(content.stream().<R>map(converter).toList(), hasNext, nextCursor);
+    }
+}
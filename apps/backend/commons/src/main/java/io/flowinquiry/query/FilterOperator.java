@@ -10,7 +10,8 @@ public enum FilterOperator {
     EQ("eq"), // Equals
     NE("ne"), // Not Equals
     LK("lk"), // Like
-    IN("in"); // In
+    IN("in"), // In
+    FT("ft"); // Full-text search
 
     private final String value;
 
@@ -0,0 +1,52 @@
+package io.flowinquiry.query;
+
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Joins created while building the predicate of one query, keyed by association path (e.g. {@code
+ * team} or {@code team.organization}). Filters on the same to-one path share a single join instead
+ * of each adding another join to the same table.
+ *
+ * <p>A registry must not outlive the {@link jakarta.persistence.criteria.CriteriaQuery} it was
+ * created for; Spring Data builds the content and the count query from separate roots.
+ */
+final class JoinRegistry {
+
+    private final Map<String, From<?, ?>> joins = new HashMap<>();
+
+    /**
+     * Returns the inner join for {@code path}, creating it from {@code parent} on first use.
+     *
+     * @param parent the root or join the association belongs to
+     * @param path the full association path from the root, used as the registry key
+     * @param attribute the association attribute of {@code parent}
+     */
+    From<?, ?> join(From<?, ?> parent, String path, String attribute) {
+        return joins.computeIfAbsent(path, key -> parent.join(attribute, JoinType.INNER));
+    }
+
+    /**
+     * Returns the type an association refers to, the element type for a to-many association.
+     *
+     * @throws IllegalArgumentException if {@code attribute} is not an association
+     */
+    static ManagedType<?> targetOf(Attribute<?, ?> attribute) {
+        Type<?> type =
+                attribute instanceof PluralAttribute<?, ?, ?> pluralAttribute
+                        ? pluralAttribute.getElementType()
+                        : ((SingularAttribute<?, ?>) attribute).getType();
+        if (type instanceof ManagedType<?> managedType) {
+            return managedType;
+        }
+        throw new IllegalArgumentException(
+                "Attribute " + attribute.getName() + " is not an association");
+    }
+}
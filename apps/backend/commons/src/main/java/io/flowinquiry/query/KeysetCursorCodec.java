@@ -0,0 +1,97 @@
+package io.flowinquiry.query;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encodes keyset scroll positions as opaque, URL-safe cursor tokens and decodes them back. The
+ * token carries the sort key values of the last returned row (the entity id is always part of the
+ * key), so the next slice can be fetched with a seek predicate instead of an offset.
+ */
+@Component
+public class KeysetCursorCodec {
+
+    private static final String ID_PROPERTY = "id";
+
+    private static final TypeReference<LinkedHashMap<String, Object>> KEYS_TYPE =
+            new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    public KeysetCursorCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keysetPosition)) {
+            throw new IllegalArgumentException("Only keyset positions can be encoded as cursor");
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(keysetPosition.getKeys());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("Can not encode cursor", e);
+        }
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode(ScrollPosition)}. A blank cursor addresses the
+     * first slice. The keys in the cursor must be exactly the properties of the requested sort,
+     * which ends with the id, otherwise the cursor was issued for a different ordering and is
+     * rejected. Keys can not be null, as a seek predicate never matches a null value.
+     */
+    public KeysetScrollPosition decode(String cursor, Class<?> domainClass, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> rawKeys;
+        try {
+            rawKeys = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), KEYS_TYPE);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+        if (rawKeys == null || !rawKeys.containsKey(ID_PROPERTY)) {
+            throw new IllegalArgumentException("Cursor has no " + ID_PROPERTY);
+        }
+
+        Set<String> sortProperties =
+                sort.stream().map(Sort.Order::getProperty).collect(Collectors.toSet());
+        if (!rawKeys.keySet().equals(sortProperties)) {
+            throw new IllegalArgumentException(
+                    "Cursor keys " + rawKeys.keySet() + " do not match sort " + sortProperties);
+        }
+        rawKeys.forEach(
+                (property, value) -> {
+                    if (value == null) {
+                        throw new IllegalArgumentException("Cursor has no value for " + property);
+                    }
+                });
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        rawKeys.forEach(
+                (property, value) -> keys.put(property, convert(property, value, domainClass)));
+        return ScrollPosition.forward(keys);
+    }
+
+    private Object convert(String property, Object value, Class<?> domainClass) {
+        try {
+            Class<?> type = PropertyPath.from(property, domainClass).getLeafProperty().getType();
+            return objectMapper.convertValue(value, type);
+        } catch (PropertyReferenceException e) {
+            throw new IllegalArgumentException("Invalid cursor property: " + property, e);
+        }
+    }
+}
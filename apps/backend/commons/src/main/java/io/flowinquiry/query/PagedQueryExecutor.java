@@ -0,0 +1,102 @@
+package io.flowinquiry.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs paged searches with a {@link CountMode}. An exact count scans the whole filtered set, which
+ * on large tenants costs more than fetching the page itself, so the other modes avoid it:
+ *
+ * <ul>
+ *   <li>{@link CountMode#NONE} fetches one row past the page to tell whether a next page exists.
+ *   <li>{@link CountMode#ESTIMATE} does the same, and only when there is a next page counts the
+ *       matching rows up to {@link #ESTIMATE_CAP} + 1 in the database, so the scan stops early.
+ * </ul>
+ */
+@Component
+public class PagedQueryExecutor {
+
+    public static final int ESTIMATE_CAP = 10_000;
+
+    private final EntityManager entityManager;
+
+    public PagedQueryExecutor(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Finds a page of {@code domainClass}.
+     *
+     * @param fetchPaths associations to load with the page when the count is not exact, matching
+     *     the entity graph of the repository's {@code findAll(Specification, Pageable)}
+     */
+    public <T> CountedPage<T> findPage(
+            JpaSpecificationExecutor<T> repository,
+            Class<T> domainClass,
+            Specification<T> spec,
+            Pageable pageable,
+            CountMode countMode,
+            String... fetchPaths) {
+        if (countMode == CountMode.EXACT || pageable.isUnpaged()) {
+            Page<T> page = repository.findAll(spec, pageable);
+            return new CountedPage<>(page.getContent(), pageable, page.getTotalElements(), true);
+        }
+
+        Window<T> window =
+                repository.findBy(
+                        spec,
+                        query ->
+                                query.sortBy(pageable.getSort())
+                                        .limit(pageable.getPageSize())
+                                        .project(fetchPaths)
+                                        .scroll(pageable.toScrollPosition()));
+        List<T> content = window.getContent();
+        long fetched = pageable.getOffset() + content.size();
+        if (!window.hasNext()) {
+            return new CountedPage<>(content, pageable, fetched, true);
+        }
+        if (countMode == CountMode.NONE) {
+            return new CountedPage<>(content, pageable, fetched + 1, false);
+        }
+
+        long count = countUpTo(domainClass, spec, ESTIMATE_CAP + 1);
+        if (count <= ESTIMATE_CAP) {
+            return new CountedPage<>(content, pageable, count, true);
+        }
+        return new CountedPage<>(content, pageable, Math.max(count, fetched + 1), false);
+    }
+
+    /**
+     * Counts the rows matching {@code spec}, stopping at {@code limit}. The matching rows are
+     * selected up to the limit in a CTE and counted by the outer query, so the database stops the
+     * scan at the limit and returns a single number.
+     */
+    <T> long countUpTo(Class<T> domainClass, Specification<T> spec, int limit) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        JpaCriteriaQuery<Integer> matching = cb.createQuery(Integer.class);
+        Root<T> root = matching.from(domainClass);
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, matching, cb);
+        if (predicate != null) {
+            matching.where(predicate);
+        }
+        // A specification may order by relevance, which has no meaning for a count
+        matching.orderBy(List.of());
+        // Columns of a CTE need a name, even one that is never read
+        matching.select(cb.literal(1).alias("matched")).fetch(limit);
+
+        JpaCriteriaQuery<Long> count = cb.createQuery(Long.class);
+        count.from(count.with(matching));
+        count.select(cb.count());
+        return entityManager.createQuery(count).getSingleResult();
+    }
+}
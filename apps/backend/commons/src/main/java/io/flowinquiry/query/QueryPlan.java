@@ -0,0 +1,442 @@
+package io.flowinquiry.query;
+
+import io.flowinquiry.db.SearchFunctionContributor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled form of a {@link QueryDTO}. A plan only depends on the shape of the query (fields,
+ * operators, logical operators and nesting), never on the filter values, so it can be cached and
+ * shared by every request using the same shape. Values are bound positionally when the predicate is
+ * built.
+ *
+ * <p>The attributes the filters refer to are resolved against the metamodel of the queried entity
+ * the first time the plan is used for that entity: the type of each compared attribute, which
+ * association of a path is a collection and whether a comparison can use a foreign key. The
+ * resolved nodes are kept with the plan, so later requests only build the criteria objects.
+ */
+final class QueryPlan {
+
+    private final Node root;
+
+    private final int valueCount;
+
+    private final Map<Class<?>, Node> resolvedRoots = new ConcurrentHashMap<>();
+
+    QueryPlan(Node root, int valueCount) {
+        this.root = root;
+        this.valueCount = valueCount;
+    }
+
+    int getValueCount() {
+        return valueCount;
+    }
+
+    <Entity> Predicate toPredicate(
+            Root<Entity> root, CriteriaQuery<?> query, CriteriaBuilder cb, Object[] values) {
+        if (values.length != valueCount) {
+            throw new IllegalArgumentException(
+                    "Expected " + valueCount + " values but got " + values.length);
+        }
+        if (this.root == null) {
+            return cb.conjunction();
+        }
+        Node resolvedRoot =
+                resolvedRoots.computeIfAbsent(root.getJavaType(), type -> this.root.resolve(root));
+        return resolvedRoot.toPredicate(new Context(root, query, cb, new JoinRegistry()), values);
+    }
+
+    /** Criteria objects of a single predicate construction. */
+    record Context(Root<?> root, CriteriaQuery<?> query, CriteriaBuilder cb, JoinRegistry joins) {}
+
+    interface Node {
+
+        /**
+         * Returns this node with the attributes it refers to resolved against the entity of {@code
+         * root}. Only resolved nodes can build predicates.
+         *
+         * @throws IllegalArgumentException if the entity has no such attribute
+         */
+        Node resolve(Root<?> root);
+
+        Predicate toPredicate(Context context, Object[] values);
+    }
+
+    /** Combines the predicates of its children with AND or OR. */
+    record GroupNode(LogicalOperator operator, List<Node> children) implements Node {
+
+        @Override
+        public Node resolve(Root<?> root) {
+            List<Node> resolvedChildren = new ArrayList<>(children.size());
+            for (Node child : children) {
+                resolvedChildren.add(child.resolve(root));
+            }
+            return new GroupNode(operator, List.copyOf(resolvedChildren));
+        }
+
+        @Override
+        public Predicate toPredicate(Context context, Object[] values) {
+            Predicate[] predicates = new Predicate[children.size()];
+            for (int i = 0; i < predicates.length; i++) {
+                predicates[i] = children.get(i).toPredicate(context, values);
+            }
+            return operator == LogicalOperator.OR
+                    ? context.cb().or(predicates)
+                    : context.cb().and(predicates);
+        }
+    }
+
+    /** Case-insensitive LIKE over several fields concatenated with spaces. */
+    record ConcatLikeNode(String[] fields, int slot) implements Node {
+
+        @Override
+        public Node resolve(Root<?> root) {
+            return this;
+        }
+
+        @Override
+        public Predicate toPredicate(Context context, Object[] values) {
+            CriteriaBuilder cb = context.cb();
+            Root<?> root = context.root();
+            String likePattern = "%" + values[slot].toString().toLowerCase() + "%";
+
+            Expression<String> concatenatedFields = cb.lower(root.get(fields[0]));
+            for (int i = 1; i < fields.length; i++) {
+                concatenatedFields =
+                        cb.concat(
+                                concatenatedFields, cb.concat(" ", cb.lower(root.get(fields[i]))));
+            }
+            return cb.like(concatenatedFields, likePattern);
+        }
+    }
+
+    /**
+     * Full-text search over one or more text attributes, e.g. {@code
+     * requestTitle,requestDescription}. The attributes are turned into a search document with the
+     * {@code fw_search_document} database function, which a GIN index is defined on for tickets,
+     * and matched with {@code websearch_to_tsquery}. Words are not stemmed, so a partial word would
+     * not match; every attribute is additionally matched with the LIKE semantics of {@link
+     * FilterOperator#LK}, which the trigram indexes on the ticket title and description serve.
+     *
+     * <p>When the query has no explicit ordering, the results are ordered by relevance.
+     */
+    record FullTextNode(String[] fields, int slot) implements Node {
+
+        @Override
+        public Node resolve(Root<?> root) {
+            return this;
+        }
+
+        @Override
+        public Predicate toPredicate(Context context, Object[] values) {
+            CriteriaBuilder cb = context.cb();
+            String term = values[slot].toString();
+            Expression<?>[] parts = new Expression<?>[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                parts[i] = context.root().get(fields[i]);
+            }
+            Expression<String> document =
+                    cb.function(SearchFunctionContributor.SEARCH_DOCUMENT, String.class, parts);
+            Expression<String> query = cb.literal(term);
+
+            CriteriaQuery<?> criteriaQuery = context.query();
+            if (criteriaQuery != null && criteriaQuery.getOrderList().isEmpty()) {
+                Expression<Double> rank =
+                        cb.function(SearchFunctionContributor.RANK, Double.class, document, query);
+                criteriaQuery.orderBy(cb.desc(rank));
+            }
+            Expression<Boolean> match =
+                    cb.function(SearchFunctionContributor.MATCH, Boolean.class, document, query);
+            String likePattern = "%" + term.toLowerCase() + "%";
+            Predicate[] predicates = new Predicate[fields.length + 1];
+            predicates[0] = cb.isTrue(match);
+            for (int i = 0; i < fields.length; i++) {
+                predicates[i + 1] = cb.like(cb.lower(context.root().get(fields[i])), likePattern);
+            }
+            return cb.or(predicates);
+        }
+    }
+
+    /**
+     * Filter on an attribute reached through associations, e.g. {@code team.id} or {@code
+     * team.organization.name}. To-one associations are inner joined once per query and shared
+     * between filters, and a comparison on the identifier of a to-one association is done on the
+     * foreign key without a join. A to-many association would multiply the result rows, so the
+     * remainder of the path from that association on is evaluated in a correlated EXISTS subquery
+     * instead.
+     *
+     * <p>{@code collectionIndex} is the index of the first to-many association of the path, or -1,
+     * {@code foreignKey} whether the comparison is done on the foreign key and {@code fieldType}
+     * the type of the compared attribute. They are set by {@link #resolve(Root)}.
+     */
+    record JoinFilterNode(
+            String[] joinPath,
+            String[] joinKeys,
+            String field,
+            FilterOperator operator,
+            boolean nullValue,
+            int slot,
+            int collectionIndex,
+            boolean foreignKey,
+            Class<?> fieldType)
+            implements Node {
+
+        /** An unresolved node, as compiled from the query. */
+        JoinFilterNode(
+                String[] joinPath,
+                String[] joinKeys,
+                String field,
+                FilterOperator operator,
+                boolean nullValue,
+                int slot) {
+            this(joinPath, joinKeys, field, operator, nullValue, slot, -1, false, null);
+        }
+
+        @Override
+        public Node resolve(Root<?> root) {
+            ManagedType<?> type = root.getModel();
+            int firstCollection = -1;
+            Attribute<?, ?> association = null;
+            for (int i = 0; i < joinPath.length; i++) {
+                association = type.getAttribute(joinPath[i]);
+                if (firstCollection < 0 && association.isCollection()) {
+                    firstCollection = i;
+                }
+                type = JoinRegistry.targetOf(association);
+            }
+            Attribute<?, ?> target = type.getAttribute(field);
+            boolean identifier =
+                    !association.isCollection()
+                            && target instanceof SingularAttribute<?, ?> targetAttribute
+                            && targetAttribute.isId();
+            return new JoinFilterNode(
+                    joinPath,
+                    joinKeys,
+                    field,
+                    operator,
+                    nullValue,
+                    slot,
+                    firstCollection,
+                    identifier && comparesForeignKey(),
+                    target.getJavaType());
+        }
+
+        @Override
+        public Predicate toPredicate(Context context, Object[] values) {
+            From<?, ?> from = context.root();
+            int last = joinPath.length - 1;
+            for (int i = 0; i <= last; i++) {
+                if (i == collectionIndex && context.query() != null) {
+                    return existsPredicate(context, from, i, values[slot]);
+                }
+                if (i == last && foreignKey) {
+                    // e.g. team.id = ? only needs the team_id column, no join
+                    return comparison(context.cb(), from.get(joinPath[i]).get(field), values[slot]);
+                }
+                from = context.joins().join(from, joinKeys[i], joinPath[i]);
+            }
+            return comparison(context.cb(), from.get(field), values[slot]);
+        }
+
+        /**
+         * Whether this filter gives the same result on the foreign key column as on the joined
+         * identifier. Comparisons with a value never match a null foreign key, exactly like the
+         * inner join excludes it; NE and null checks would not exclude it, so they keep the join.
+         */
+        private boolean comparesForeignKey() {
+            return !nullValue
+                    && (operator == FilterOperator.EQ
+                            || operator == FilterOperator.IN
+                            || operator == FilterOperator.GT
+                            || operator == FilterOperator.LT);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Predicate existsPredicate(
+                Context context, From<?, ?> parent, int collectionIndex, Object value) {
+            CriteriaBuilder cb = context.cb();
+            Subquery<Integer> subquery = context.query().subquery(Integer.class);
+            From<?, ?> from =
+                    parent instanceof Root<?> root
+                            ? subquery.correlate((Root) root)
+                            : subquery.correlate((Join) parent);
+            for (int i = collectionIndex; i < joinPath.length; i++) {
+                from = from.join(joinPath[i], JoinType.INNER);
+            }
+            subquery.select(cb.literal(1)).where(comparison(cb, from.get(field), value));
+            return cb.exists(subquery);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Predicate comparison(CriteriaBuilder cb, Path<Object> path, Object value) {
+            return switch (operator) {
+                case GT -> cb.greaterThan((Expression) path, (Comparable) value);
+                case LT -> cb.lessThan((Expression) path, (Comparable) value);
+                case EQ -> {
+                    if (nullValue) {
+                        yield cb.isNull(path);
+                    }
+                    Object typedValue = coerceEnum(fieldType, value);
+                    yield typedValue == INVALID ? cb.disjunction() : cb.equal(path, typedValue);
+                }
+                case NE -> {
+                    if (nullValue) {
+                        yield cb.isNotNull(path);
+                    }
+                    Object typedValue = coerceEnum(fieldType, value);
+                    yield typedValue == INVALID ? cb.conjunction() : cb.notEqual(path, typedValue);
+                }
+                case LK -> cb.like((Expression) path, "%" + value + "%");
+                case IN -> path.in((List<?>) value);
+                case FT -> throw new IllegalStateException("FT filters compile to FullTextNode");
+            };
+        }
+    }
+
+    /**
+     * Filter on an attribute of the root entity. {@code fieldType} is the type of the attribute,
+     * set by {@link #resolve(Root)}.
+     */
+    record FieldFilterNode(
+            String field, FilterOperator operator, boolean nullValue, int slot, Class<?> fieldType)
+            implements Node {
+
+        /** An unresolved node, as compiled from the query. */
+        FieldFilterNode(String field, FilterOperator operator, boolean nullValue, int slot) {
+            this(field, operator, nullValue, slot, null);
+        }
+
+        @Override
+        public Node resolve(Root<?> root) {
+            return new FieldFilterNode(
+                    field, operator, nullValue, slot, root.get(field).getJavaType());
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Predicate toPredicate(Context context, Object[] values) {
+            CriteriaBuilder cb = context.cb();
+            Path<Object> path = context.root().get(field);
+            Object value = values[slot];
+
+            return switch (operator) {
+                case GT ->
+                        cb.greaterThan(
+                                (Expression) path, (Comparable) convertValue(value, fieldType));
+                case LT ->
+                        cb.lessThan((Expression) path, (Comparable) convertValue(value, fieldType));
+                case EQ -> {
+                    if (nullValue) {
+                        yield cb.isNull(path);
+                    }
+                    Object typedValue = coerceBooleanOrEnum(fieldType, value);
+                    yield typedValue == INVALID ? cb.disjunction() : cb.equal(path, typedValue);
+                }
+                case NE -> {
+                    if (nullValue) {
+                        yield cb.isNotNull(path);
+                    }
+                    Object typedValue = coerceBooleanOrEnum(fieldType, value);
+                    yield typedValue == INVALID ? cb.conjunction() : cb.notEqual(path, typedValue);
+                }
+                case LK ->
+                        cb.like(
+                                cb.lower((Expression) path),
+                                "%" + value.toString().toLowerCase() + "%");
+                case IN -> {
+                    if (fieldType.isEnum() && value instanceof List<?> valueList) {
+                        List<Object> enumValues = new ArrayList<>(valueList.size());
+                        for (Object item : valueList) {
+                            if (item instanceof String) {
+                                Object enumValue = coerceEnum(fieldType, item);
+                                // Skip invalid enum values
+                                if (enumValue != INVALID) {
+                                    enumValues.add(enumValue);
+                                }
+                            }
+                        }
+                        // Always false if no valid enum values
+                        yield enumValues.isEmpty() ? cb.disjunction() : path.in(enumValues);
+                    }
+                    yield path.in((List<?>) value);
+                }
+                case FT -> throw new IllegalStateException("FT filters compile to FullTextNode");
+            };
+        }
+    }
+
+    /** Marker for a string that does not name a constant of the target enum. */
+    private static final Object INVALID = new Object();
+
+    /** Enum constants by name, resolved once per enum class instead of per filter value. */
+    private static final ClassValue<Map<String, Object>> ENUM_CONSTANTS =
+            new ClassValue<>() {
+                @Override
+                protected Map<String, Object> computeValue(Class<?> type) {
+                    Map<String, Object> constants = new HashMap<>();
+                    for (Object constant : type.getEnumConstants()) {
+                        constants.put(((Enum<?>) constant).name(), constant);
+                    }
+                    return Map.copyOf(constants);
+                }
+            };
+
+    private static Object coerceEnum(Class<?> fieldType, Object value) {
+        if (fieldType.isEnum() && value instanceof String name) {
+            return ENUM_CONSTANTS.get(fieldType).getOrDefault(name, INVALID);
+        }
+        return value;
+    }
+
+    private static Object coerceBooleanOrEnum(Class<?> fieldType, Object value) {
+        if (fieldType.equals(Boolean.class) && value instanceof String stringValue) {
+            return Boolean.parseBoolean(stringValue);
+        }
+        return coerceEnum(fieldType, value);
+    }
+
+    private static Object convertValue(Object value, Class<?> targetType) {
+        if (value == null || targetType.isInstance(value)) {
+            return value;
+        }
+
+        if (value instanceof String stringValue) {
+            if (targetType.equals(Instant.class)) {
+                return Instant.parse(stringValue);
+            } else if (targetType.equals(LocalDate.class)) {
+                return LocalDate.parse(stringValue);
+            } else if (targetType.equals(Long.class)) {
+                return Long.valueOf(stringValue);
+            } else if (targetType.equals(Integer.class)) {
+                return Integer.valueOf(stringValue);
+            } else if (targetType.equals(Boolean.class)) {
+                return Boolean.valueOf(stringValue);
+            } else if (targetType.equals(Double.class)) {
+                return Double.valueOf(stringValue);
+            }
+            // fallback
+            return stringValue;
+        }
+
+        throw new IllegalArgumentException(
+                "Unsupported conversion from " + value.getClass() + " to " + targetType);
+    }
+}
@@ -0,0 +1,162 @@
+package io.flowinquiry.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compiles {@link QueryDTO}s into {@link QueryPlan}s and caches the plans by query shape.
+ *
+ * <p>The shape key encodes every field name, operator, logical operator and the nesting of the
+ * groups, plus whether each filter value is null (a null value turns EQ/NE into IS NULL/IS NOT
+ * NULL). The filter values themselves are collected in traversal order, which is the same order the
+ * compiler assigns value slots in.
+ */
+final class QueryPlanCompiler {
+
+    private static final int MAX_CACHED_PLANS = 1_000;
+
+    private static final Cache<String, QueryPlan> PLANS =
+            Caffeine.newBuilder().maximumSize(MAX_CACHED_PLANS).build();
+
+    private QueryPlanCompiler() {}
+
+    /** A cached plan together with the values to bind into it for one request. */
+    record BoundPlan(QueryPlan plan, Object[] values) {}
+
+    static BoundPlan bind(QueryDTO queryDTO) {
+        StringBuilder shape = new StringBuilder(64);
+        List<Object> values = new ArrayList<>();
+        describeQuery(queryDTO, shape, values);
+        QueryPlan plan = PLANS.get(shape.toString(), key -> compile(queryDTO));
+        return new BoundPlan(plan, values.toArray());
+    }
+
+    static void clearCache() {
+        PLANS.invalidateAll();
+    }
+
+    static QueryPlan compile(QueryDTO queryDTO) {
+        int[] nextSlot = {0};
+        QueryPlan.Node root = null;
+        if (queryDTO.getGroups() != null) {
+            List<QueryPlan.Node> children = new ArrayList<>();
+            for (GroupFilter group : queryDTO.getGroups()) {
+                children.add(compileGroup(group, nextSlot));
+            }
+            root = new QueryPlan.GroupNode(LogicalOperator.AND, List.copyOf(children));
+        } else if (queryDTO.getFilters() != null) {
+            List<QueryPlan.Node> children = new ArrayList<>();
+            for (Filter filter : queryDTO.getFilters()) {
+                children.add(compileFilter(filter, nextSlot));
+            }
+            root = new QueryPlan.GroupNode(LogicalOperator.AND, List.copyOf(children));
+        }
+        return new QueryPlan(root, nextSlot[0]);
+    }
+
+    private static QueryPlan.Node compileGroup(GroupFilter group, int[] nextSlot) {
+        List<QueryPlan.Node> children = new ArrayList<>();
+        if (group.getFilters() != null) {
+            for (Filter filter : group.getFilters()) {
+                children.add(compileFilter(filter, nextSlot));
+            }
+        }
+        if (group.getGroups() != null) {
+            for (GroupFilter nestedGroup : group.getGroups()) {
+                children.add(compileGroup(nestedGroup, nextSlot));
+            }
+        }
+        if (group.getLogicalOperator() == null) {
+            throw new IllegalArgumentException("Logical operator cannot be null");
+        }
+        return new QueryPlan.GroupNode(group.getLogicalOperator(), List.copyOf(children));
+    }
+
+    private static QueryPlan.Node compileFilter(Filter filter, int[] nextSlot) {
+        String field = filter.getField();
+        int slot = nextSlot[0]++;
+
+        if (filter.getOperator() == FilterOperator.FT) {
+            if (field.contains(".")) {
+                throw new IllegalArgumentException(
+                        "Full-text search is only supported on attributes of the searched entity: "
+                                + field);
+            }
+            return new QueryPlan.FullTextNode(field.split(","), slot);
+        }
+
+        // Multiple fields to concatenate (e.g., "firstName,lastName")
+        if (field.contains(",")) {
+            return new QueryPlan.ConcatLikeNode(field.split(","), slot);
+        }
+
+        if (filter.getOperator() == null) {
+            throw new IllegalArgumentException("Invalid operator: null");
+        }
+
+        boolean nullValue = filter.getValue() == null;
+        if (field.contains(".")) {
+            String[] pathParts = field.split("\\.");
+            String[] joinPath = Arrays.copyOf(pathParts, pathParts.length - 1);
+            String[] joinKeys = new String[joinPath.length];
+            for (int i = 0; i < joinPath.length; i++) {
+                joinKeys[i] = i == 0 ? joinPath[0] : joinKeys[i - 1] + "." + joinPath[i];
+            }
+            return new QueryPlan.JoinFilterNode(
+                    joinPath,
+                    joinKeys,
+                    pathParts[pathParts.length - 1],
+                    filter.getOperator(),
+                    nullValue,
+                    slot);
+        }
+        return new QueryPlan.FieldFilterNode(field, filter.getOperator(), nullValue, slot);
+    }
+
+    private static void describeQuery(QueryDTO queryDTO, StringBuilder shape, List<Object> values) {
+        if (queryDTO.getGroups() != null) {
+            shape.append("G[");
+            for (GroupFilter group : queryDTO.getGroups()) {
+                describeGroup(group, shape, values);
+            }
+            shape.append(']');
+        } else if (queryDTO.getFilters() != null) {
+            shape.append("F[");
+            for (Filter filter : queryDTO.getFilters()) {
+                describeFilter(filter, shape, values);
+            }
+            shape.append(']');
+        }
+    }
+
+    private static void describeGroup(GroupFilter group, StringBuilder shape, List<Object> values) {
+        shape.append('(').append(group.getLogicalOperator());
+        if (group.getFilters() != null) {
+            for (Filter filter : group.getFilters()) {
+                describeFilter(filter, shape, values);
+            }
+        }
+        if (group.getGroups() != null) {
+            for (GroupFilter nestedGroup : group.getGroups()) {
+                describeGroup(nestedGroup, shape, values);
+            }
+        }
+        shape.append(')');
+    }
+
+    private static void describeFilter(Filter filter, StringBuilder shape, List<Object> values) {
+        String field = filter.getField();
+        // Length-prefix the field so that no field name can forge another shape
+        shape.append('{')
+                .append(field.length())
+                .append(':')
+                .append(field)
+                .append(filter.getOperator())
+                .append(filter.getValue() == null ? 'n' : 'v')
+                .append('}');
+        values.add(filter.getValue());
+    }
+}
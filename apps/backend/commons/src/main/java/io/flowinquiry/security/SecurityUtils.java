@@ -66,6 +66,8 @@ public final class SecurityUtils {
                     };
 
             return new UserKey(jwt.getClaim(USER_ID), jwt.getSubject(), tenantId);
+        } else if (authentication.getPrincipal() instanceof UserKey userKey) {
+            return userKey;
         } else if (authentication.getPrincipal() instanceof UserDetails) {
             return null;
         } else if (authentication.getPrincipal() instanceof String) {
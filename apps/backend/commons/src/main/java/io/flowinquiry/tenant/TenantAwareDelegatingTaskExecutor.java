@@ -1,6 +1,7 @@
 package io.flowinquiry.tenant;
 
 import java.util.UUID;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,8 +16,11 @@ import org.springframework.security.core.context.SecurityContextHolder;
  *
  * <p>After task execution, it cleans up thread-local storage to prevent memory leaks and context
  * contamination between different requests.
+ *
+ * <p>The delegate is usually not a bean of its own, so destroying this executor shuts the delegate
+ * down as well.
  */
-public class TenantAwareDelegatingTaskExecutor implements TaskExecutor {
+public class TenantAwareDelegatingTaskExecutor implements TaskExecutor, DisposableBean {
 
     private final TaskExecutor delegate;
 
@@ -49,4 +53,14 @@ public class TenantAwareDelegatingTaskExecutor implements TaskExecutor {
                     }
                 });
     }
+
+    /** Shuts down the delegate, waiting for its tasks if it is configured to. */
+    @Override
+    public void destroy() throws Exception {
+        if (delegate instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
 }
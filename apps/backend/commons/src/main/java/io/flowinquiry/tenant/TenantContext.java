@@ -68,6 +68,16 @@ public class TenantContext {
         return Optional.of(currentTenant.get());
     }
 
+    /**
+     * Gets the tenant ID for the current thread without failing when it is not set.
+     *
+     * @return the current tenant ID, or empty if it is not set or filtering is suppressed
+     */
+    public static Optional<UUID> findTenantId() {
+        if (suppress.get()) return Optional.empty();
+        return Optional.ofNullable(currentTenant.get());
+    }
+
     /**
      * Clears the tenant ID for the current thread. This should typically be called at the end of
      * request processing to prevent memory leaks and tenant context bleeding between requests.
@@ -0,0 +1,85 @@
+package io.flowinquiry.utils;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+
+    private TransactionUtils() {}
+
+    /**
+     * Runs {@code action} once the current transaction has committed, and not at all if it rolls
+     * back. Used for side effects that can not be undone, such as pushing an event to a browser.
+     * Outside a transaction the action runs right away.
+     *
+     * @param action The action to run after the commit
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+    }
+
+    /**
+     * Runs {@code action} once the current transaction has completed, whether it committed or
+     * rolled back. Used to evict cached values a concurrent reader may have cached while the
+     * transaction was running. Outside a transaction nothing is registered.
+     *
+     * @param action The action to run after the completion
+     */
+    public static void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        action.run();
+                    }
+                });
+    }
+
+    /**
+     * Returns the state {@code key} collects for the current transaction, such as the changes to
+     * publish when it commits. The state is created by {@code factory} on first use and bound to
+     * the transaction until it completes. {@code synchronization} is registered once, with the
+     * created state, to act on it; unbinding is taken care of.
+     *
+     * @param key The key the state is bound to, usually the component that owns it
+     * @param factory Creates the state on first use in a transaction
+     * @param synchronization The callbacks of the transaction that act on the state
+     * @throws IllegalStateException if transaction synchronization is not active
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T resource(
+            Object key,
+            Supplier<T> factory,
+            Function<? super T, ? extends TransactionSynchronization> synchronization) {
+        T resource = (T) TransactionSynchronizationManager.getResource(key);
+        if (resource != null) {
+            return resource;
+        }
+        T created = factory.get();
+        TransactionSynchronizationManager.registerSynchronization(synchronization.apply(created));
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(key);
+                    }
+                });
+        TransactionSynchronizationManager.bindResource(key, created);
+        return created;
+    }
+}
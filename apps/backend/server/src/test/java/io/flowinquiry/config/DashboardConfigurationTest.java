@@ -0,0 +1,64 @@
+package io.flowinquiry.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.flowinquiry.tenant.TenantContext;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.env.MockEnvironment;
+
+/** Unit tests for the {@link DashboardConfiguration} class. */
+class DashboardConfigurationTest {
+
+    private DashboardConfiguration dashboardConfiguration;
+
+    private MockEnvironment env;
+
+    private FlowInquiryProperties props;
+
+    @BeforeEach
+    void setup() {
+        dashboardConfiguration = new DashboardConfiguration();
+        env = new MockEnvironment();
+        props = new FlowInquiryProperties();
+        TenantContext.setTenantId(UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void shouldShutDownThreadPoolWhenDestroyed() throws Exception {
+        TaskExecutor executor = dashboardConfiguration.dashboardTaskExecutor(props, env);
+        CountDownLatch ran = new CountDownLatch(1);
+        executor.execute(ran::countDown);
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(executor).isInstanceOf(DisposableBean.class);
+        ((DisposableBean) executor).destroy();
+
+        assertThatThrownBy(() -> executor.execute(() -> {}))
+                .isInstanceOf(TaskRejectedException.class);
+    }
+
+    @Test
+    void shouldStopVirtualThreadExecutorWhenDestroyed() throws Exception {
+        env.setProperty("spring.threads.virtual.enabled", "true");
+        TaskExecutor executor = dashboardConfiguration.dashboardTaskExecutor(props, env);
+
+        ((DisposableBean) executor).destroy();
+
+        assertThatThrownBy(() -> executor.execute(() -> {}))
+                .isInstanceOf(TaskRejectedException.class);
+    }
+}
@@ -0,0 +1,54 @@
+package io.flowinquiry.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. Registered as the statement
+ * inspector of the test profile so integration tests can assert how many round trips an operation
+ * costs. The statements are kept as well, for tests that look at their SQL or plan.
+ *
+ * <pre>{@code
+ * entityManager.flush();
+ * SqlStatementCounter.reset();
+ * ticketService.bulkUpdateTickets(update);
+ * entityManager.flush();
+ * long statements = SqlStatementCounter.count();
+ * }</pre>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private static final ThreadLocal<String> LAST_STATEMENT = new ThreadLocal<>();
+
+    private static final ThreadLocal<List<String>> STATEMENTS =
+            ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        LAST_STATEMENT.set(sql);
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+        STATEMENTS.get().clear();
+    }
+
+    public static long count() {
+        return COUNT.get()[0];
+    }
+
+    public static String lastStatement() {
+        return LAST_STATEMENT.get();
+    }
+
+    /** The statements prepared since the last {@link #reset()}, in order. */
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+}
@@ -1,5 +1,6 @@
 package io.flowinquiry.modules.audit.service.listener;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -9,6 +10,7 @@ import static org.mockito.Mockito.when;
 import io.flowinquiry.modules.audit.service.EntityFieldHandler;
 import io.flowinquiry.modules.audit.service.EntityFieldHandlerRegistry;
 import io.flowinquiry.modules.audit.service.EntityFieldHandlerRegistryFactory;
+import io.flowinquiry.modules.audit.service.event.AuditLogBulkUpdateEvent;
 import io.flowinquiry.modules.audit.service.event.AuditLogUpdateEvent;
 import io.flowinquiry.modules.collab.domain.ActivityLog;
 import io.flowinquiry.modules.collab.domain.EntityType;
@@ -16,6 +18,7 @@ import io.flowinquiry.modules.collab.repository.ActivityLogRepository;
 import io.flowinquiry.modules.usermanagement.domain.User;
 import io.flowinquiry.security.SecurityUtils;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -183,6 +186,50 @@ public class AuditLogUpdateEventListenerTest {
         verify(activityLogRepository, never()).save(any());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testOnBulkUpdate_SavesOneLogPerChangedEntity() {
+        // Given: the first entity changed, the second did not
+        AuditLogBulkUpdateEvent event =
+                new AuditLogBulkUpdateEvent(
+                        this,
+                        List.of(
+                                new TestEntity(1L, "Old Name", "Description"),
+                                new TestEntity(2L, "Same Name", "Description")),
+                        List.of(
+                                new TestEntity(1L, "New Name", "Description"),
+                                new TestEntity(2L, "Same Name", "Description")));
+
+        EntityFieldHandlerRegistry registry = mock(EntityFieldHandlerRegistry.class);
+        when(registry.getEntityClass()).thenReturn((Class) TestEntity.class);
+        when(registry.getEntityType()).thenReturn(EntityType.Ticket);
+        when(registry.getHandler("name")).thenReturn(new EntityFieldHandler<>("Name"));
+        when(registryFactory.getRegistry(TestEntity.class)).thenReturn(registry);
+
+        try (MockedStatic<SecurityUtils> mockedStatic = Mockito.mockStatic(SecurityUtils.class)) {
+            User testUser = User.builder().id(999L).build();
+            mockedStatic.when(SecurityUtils::getCurrentUserAuditorLogin).thenReturn(testUser);
+
+            // When
+            listener.onBulkUpdate(event);
+
+            // Then
+            ArgumentCaptor<List<ActivityLog>> activityLogsCaptor =
+                    ArgumentCaptor.forClass(List.class);
+            verify(activityLogRepository).saveAll(activityLogsCaptor.capture());
+
+            List<ActivityLog> capturedLogs = activityLogsCaptor.getValue();
+            assertThat(capturedLogs).hasSize(1);
+            ActivityLog capturedLog = capturedLogs.get(0);
+            assertThat(capturedLog.getEntityId()).isEqualTo(1L);
+            assertThat(capturedLog.getEntityType()).isEqualTo(EntityType.Ticket);
+            assertThat(capturedLog.getCreatedBy()).isEqualTo(testUser);
+            assertThat(capturedLog.getContent())
+                    .contains("Name", "Old Name", "New Name")
+                    .doesNotContain("Same Name");
+        }
+    }
+
     // Test entity class for testing
     private static class TestEntity {
         private Long id;
@@ -0,0 +1,53 @@
+package io.flowinquiry.modules.collab.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.flowinquiry.it.IntegrationTest;
+import io.flowinquiry.modules.collab.domain.EntityType;
+import io.flowinquiry.modules.collab.repository.EntityWatcherRepository;
+import io.flowinquiry.modules.teams.repository.TicketRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@IntegrationTest
+@Transactional
+public class EntityWatcherServiceIT {
+
+    @Autowired private EntityWatcherService entityWatcherService;
+    @Autowired private EntityWatcherRepository entityWatcherRepository;
+    @Autowired private TicketRepository ticketRepository;
+    @Autowired private EntityManager entityManager;
+
+    @Test
+    void shouldRemoveSeveralWatchersAndAdjustCounter() {
+        entityWatcherService.addWatchers(EntityType.Ticket, 1L, List.of(1L, 2L, 3L));
+        List<Long> watcherIds =
+                entityWatcherRepository.findWatcherIdsByEntity(EntityType.Ticket, 1L);
+        assertThat(watcherIds).hasSizeGreaterThanOrEqualTo(3);
+
+        entityWatcherService.removeWatchers(EntityType.Ticket, 1L, List.of(1L, 2L));
+        entityManager.clear();
+
+        List<Long> remaining =
+                entityWatcherRepository.findWatcherIdsByEntity(EntityType.Ticket, 1L);
+        assertThat(remaining).hasSize(watcherIds.size() - 2).doesNotContain(1L, 2L);
+        assertThat(ticketRepository.findById(1L).orElseThrow().getNumberWatchers())
+                .isEqualTo(remaining.size());
+    }
+
+    @Test
+    void shouldRemoveWatcherThatDoesNotWatch() {
+        entityWatcherService.removeWatchers(EntityType.Ticket, 1L, List.of(-1L));
+        entityWatcherService.removeWatcher(EntityType.Ticket, 1L, -1L);
+        entityManager.clear();
+
+        assertThat(ticketRepository.findById(1L).orElseThrow().getNumberWatchers())
+                .isEqualTo(
+                        entityWatcherRepository
+                                .findWatcherIdsByEntity(EntityType.Ticket, 1L)
+                                .size());
+    }
+}
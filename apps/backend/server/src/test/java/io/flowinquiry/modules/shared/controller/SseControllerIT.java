@@ -0,0 +1,37 @@
+package io.flowinquiry.modules.shared.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.flowinquiry.it.IntegrationTest;
+import io.flowinquiry.it.WithMockFwUser;
+import io.flowinquiry.modules.usermanagement.AuthoritiesConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.annotation.Transactional;
+
+@IntegrationTest
+@Transactional
+@WithMockFwUser(userId = 1L, authorities = AuthoritiesConstants.USER)
+public class SseControllerIT {
+
+    @Autowired private SseController sseController;
+
+    @Test
+    void shouldStreamDashboardOfOwnTeam() {
+        assertThat(sseController.streamTeamDashboard(1L, 1L)).isNotNull();
+    }
+
+    @Test
+    void shouldRejectDashboardStreamOfAnotherUser() {
+        assertThatThrownBy(() -> sseController.streamTeamDashboard(2L, 1L))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void shouldRejectDashboardStreamOfTeamNotJoined() {
+        assertThatThrownBy(() -> sseController.streamTeamDashboard(1L, 4L))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+}
@@ -0,0 +1,246 @@
+package io.flowinquiry.modules.shared.service.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.flowinquiry.it.IntegrationTest;
+import io.flowinquiry.modules.audit.service.event.AuditLogUpdateEvent;
+import io.flowinquiry.modules.shared.domain.OutboxEvent;
+import io.flowinquiry.modules.shared.domain.OutboxEventStatus;
+import io.flowinquiry.modules.shared.reppository.OutboxEventRepository;
+import io.flowinquiry.modules.teams.service.dto.TicketDTO;
+import io.flowinquiry.modules.teams.service.event.ProjectEpicChangedByTicketEvent;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Not transactional: events are only visible to the dispatcher once the publishing transaction has
+ * committed, and the dispatcher runs its own transactions.
+ */
+@IntegrationTest
+@RecordApplicationEvents
+@Import(OutboxDispatcherIT.StepListener.class)
+public class OutboxDispatcherIT {
+
+    private static final UUID TENANT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Autowired private OutboxService outboxService;
+    @Autowired private OutboxDispatcher outboxDispatcher;
+    @Autowired private OutboxEventCodec outboxEventCodec;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private ApplicationEvents applicationEvents;
+    @Autowired private StepListener stepListener;
+
+    private TransactionTemplate transactionTemplate;
+    private ApplicationEventPublisher publisher;
+    private final List<Object> publishedDirectly = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        publisher = outboxService.publisherFor(publishedDirectly::add);
+        // Tests that commit ticket writes leave the events of the ticket view behind
+        outboxEventRepository.deleteAll();
+        stepListener.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        stepListener.reset();
+    }
+
+    @Test
+    void shouldStoreDurableEventsWithThePublishingTransaction() {
+        transactionTemplate.executeWithoutResult(status -> publisher.publishEvent(epicChanged()));
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    publisher.publishEvent(epicChanged());
+                    status.setRollbackOnly();
+                });
+        publisher.publishEvent("not a durable event");
+
+        assertThat(outboxEventRepository.findAll())
+                .singleElement()
+                .satisfies(
+                        event -> {
+                            assertThat(event.getEventType())
+                                    .isEqualTo(ProjectEpicChangedByTicketEvent.class.getName());
+                            assertThat(event.getTenantId()).isEqualTo(TENANT_ID);
+                            assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+                        });
+        assertThat(publishedDirectly).containsExactly("not a durable event");
+    }
+
+    @Test
+    void shouldDeliverStoredEventsToListenersAndRemoveThem() {
+        transactionTemplate.executeWithoutResult(status -> publisher.publishEvent(epicChanged()));
+        applicationEvents.clear();
+
+        assertThat(outboxDispatcher.dispatchDueEvents()).isEqualTo(1);
+
+        assertThat(applicationEvents.stream(ProjectEpicChangedByTicketEvent.class))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getTicket().getId()).isEqualTo(2L));
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(outboxDispatcher.dispatchDueEvents()).isZero();
+    }
+
+    @Test
+    void shouldRetryFailedDeliveriesLater() {
+        OutboxEvent undeliverable = outboxEventRepository.save(undeliverableEvent(0));
+
+        assertThat(outboxDispatcher.dispatchDueEvents()).isEqualTo(1);
+
+        OutboxEvent failed = outboxEventRepository.findById(undeliverable.getId()).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("is not a durable event");
+        assertThat(failed.getNextAttemptAt()).isAfter(Instant.now());
+        assertThat(outboxDispatcher.dispatchDueEvents()).isZero();
+    }
+
+    @Test
+    void shouldSkipCompletedStepsWhenRetryingDelivery() {
+        transactionTemplate.executeWithoutResult(status -> publisher.publishEvent(epicChanged()));
+        stepListener.failAfterStep = true;
+
+        assertThat(outboxDispatcher.dispatchDueEvents()).isEqualTo(1);
+        assertThat(stepListener.steps).hasValue(1);
+        retryNow(outboxEventRepository.findAll().getFirst());
+
+        assertThat(outboxDispatcher.dispatchDueEvents()).isEqualTo(1);
+        assertThat(stepListener.steps).hasValue(1);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldRepeatFailedStepsWhenRetryingDelivery() {
+        transactionTemplate.executeWithoutResult(status -> publisher.publishEvent(epicChanged()));
+        stepListener.failInStep = true;
+
+        assertThat(outboxDispatcher.dispatchDueEvents()).isEqualTo(1);
+        assertThat(stepListener.steps).hasValue(0);
+        retryNow(outboxEventRepository.findAll().getFirst());
+
+        assertThat(outboxDispatcher.dispatchDueEvents()).isEqualTo(1);
+        assertThat(stepListener.steps).hasValue(1);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldGiveUpAfterTooManyAttempts() {
+        OutboxEvent undeliverable =
+                outboxEventRepository.save(undeliverableEvent(OutboxDispatcher.MAX_ATTEMPTS - 1));
+
+        outboxDispatcher.dispatchDueEvents();
+
+        assertThat(outboxEventRepository.findById(undeliverable.getId()))
+                .hasValueSatisfying(
+                        event -> assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.FAILED));
+    }
+
+    @Test
+    void shouldKeepTheTypesOfAuditedEntities() {
+        AuditLogUpdateEvent event =
+                new AuditLogUpdateEvent(this, epicChanged().getTicket(), ticket("Updated"));
+
+        AuditLogUpdateEvent decoded =
+                (AuditLogUpdateEvent)
+                        outboxEventCodec.decode(
+                                AuditLogUpdateEvent.class.getName(),
+                                outboxEventCodec.encode(event),
+                                this);
+
+        assertThat(decoded.getSource()).isSameAs(this);
+        assertThat(decoded.getPreviousEntity()).isInstanceOf(TicketDTO.class);
+        assertThat(((TicketDTO) decoded.getUpdatedEntity()).getRequestTitle()).isEqualTo("Updated");
+    }
+
+    private void retryNow(OutboxEvent failed) {
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        transactionTemplate.executeWithoutResult(
+                status ->
+                        outboxEventRepository.recordFailedAttempt(
+                                failed.getId(),
+                                OutboxEventStatus.PENDING,
+                                failed.getAttempts(),
+                                Instant.now(),
+                                failed.getLastError()));
+    }
+
+    private ProjectEpicChangedByTicketEvent epicChanged() {
+        // No epic, so the listener has nothing to recompute
+        return new ProjectEpicChangedByTicketEvent(this, ticket("Refund request"));
+    }
+
+    private static TicketDTO ticket(String requestTitle) {
+        return TicketDTO.builder().id(2L).teamId(2L).requestTitle(requestTitle).build();
+    }
+
+    private static OutboxEvent undeliverableEvent(int attempts) {
+        Instant now = Instant.now();
+        return OutboxEvent.builder()
+                .tenantId(TENANT_ID)
+                .eventType(String.class.getName())
+                .payload("{}")
+                .status(OutboxEventStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    /** A listener with one step, which fails either the step or the listener when asked to. */
+    static class StepListener {
+
+        private final OutboxService outboxService;
+
+        private final AtomicInteger steps = new AtomicInteger();
+
+        private volatile boolean failInStep;
+
+        private volatile boolean failAfterStep;
+
+        StepListener(OutboxService outboxService) {
+            this.outboxService = outboxService;
+        }
+
+        @EventListener
+        public void onEpicChanged(ProjectEpicChangedByTicketEvent event) {
+            outboxService.runOnce(
+                    "test-step",
+                    () -> {
+                        if (failInStep) {
+                            failInStep = false;
+                            throw new IllegalStateException("Step failed");
+                        }
+                        steps.incrementAndGet();
+                    });
+            if (failAfterStep) {
+                failAfterStep = false;
+                throw new IllegalStateException("Listener failed after its step");
+            }
+        }
+
+        void reset() {
+            steps.set(0);
+            failInStep = false;
+            failAfterStep = false;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.flowinquiry.modules.teams.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -176,7 +177,8 @@ public class ProjectIterationControllerIT {
                         post("/api/project-iterations/{id}/close", 3L)
                                 .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(5L))
+                // A new iteration; rolled back inserts of other tests also draw its identity
+                .andExpect(jsonPath("$.id").value(greaterThan(3)))
                 .andExpect(jsonPath("$.name").value("Iteration 4"))
                 .andExpect(jsonPath("$.status").value(ProjectIterationStatus.ACTIVE.toString()));
 
@@ -1,14 +1,20 @@
 package io.flowinquiry.modules.teams.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,6 +32,7 @@ import io.flowinquiry.modules.teams.repository.TeamRepository;
 import io.flowinquiry.modules.teams.repository.TicketRepository;
 import io.flowinquiry.modules.teams.repository.WorkflowStateRepository;
 import io.flowinquiry.modules.teams.service.TicketService;
+import io.flowinquiry.modules.teams.service.dto.TicketBulkUpdateDTO;
 import io.flowinquiry.modules.teams.service.dto.TicketDTO;
 import io.flowinquiry.modules.teams.service.mapper.TicketMapper;
 import io.flowinquiry.modules.usermanagement.AuthoritiesConstants;
@@ -40,12 +47,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 @IntegrationTest
@@ -181,6 +192,36 @@ public class TicketControllerIT {
                 .andExpect(jsonPath("$.priority").value(DEFAULT_PRIORITY.toString()));
     }
 
+    @Test
+    @Transactional
+    void getTicketsByIdsInRequestOrder() throws Exception {
+        ticketRepository.saveAndFlush(ticket);
+
+        restTicketMockMvc
+                .perform(
+                        get(
+                                "/api/tickets?ids={ids}",
+                                ticket.getId() + "," + Long.MAX_VALUE + ",1," + ticket.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(ticket.getId().intValue()))
+                .andExpect(jsonPath("$[0].requestTitle").value(DEFAULT_TITLE))
+                .andExpect(jsonPath("$[1].id").value(1));
+    }
+
+    @Test
+    @Transactional
+    void getTooManyTicketsByIdsIsRejected() throws Exception {
+        String ids =
+                LongStream.rangeClosed(1, TicketService.MAX_TICKETS_BY_IDS + 1)
+                        .mapToObj(Long::toString)
+                        .collect(Collectors.joining(","));
+
+        restTicketMockMvc
+                .perform(get("/api/tickets?ids={ids}", ids))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getNonExistingTicket() throws Exception {
@@ -206,6 +247,36 @@ public class TicketControllerIT {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE));
     }
 
+    @Test
+    @Transactional
+    void searchTicketsWithoutCount() throws Exception {
+        ticketRepository.saveAndFlush(ticket);
+
+        restTicketMockMvc
+                .perform(
+                        post("/api/tickets/search")
+                                .param("count", "none")
+                                .param("size", "1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.totalExact").value(false))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    @Transactional
+    void searchTicketsWithUnknownCountModeIsRejected() throws Exception {
+        restTicketMockMvc
+                .perform(
+                        post("/api/tickets/search")
+                                .param("count", "approximate")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void searchTicketsWithQuery() throws Exception {
@@ -228,6 +299,127 @@ public class TicketControllerIT {
                 .andExpect(jsonPath("$.content.[*].requestTitle").value(hasItem(DEFAULT_TITLE)));
     }
 
+    @Test
+    @Transactional
+    void searchTicketsWithFields() throws Exception {
+        // Initialize the database
+        String title = "Ticket listed with sparse fields";
+        ticket.setRequestTitle(title);
+        ticketRepository.saveAndFlush(ticket);
+
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(List.of(new Filter("requestTitle", FilterOperator.EQ, title)));
+
+        // Only the requested fields and the id are returned
+        restTicketMockMvc
+                .perform(
+                        post("/api/tickets/search")
+                                .param("fields", "requestTitle,priority,teamName,assignUserName")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(om.writeValueAsBytes(queryDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(ticket.getId().intValue()))
+                .andExpect(jsonPath("$.content[0].requestTitle").value(title))
+                .andExpect(jsonPath("$.content[0].priority").value(DEFAULT_PRIORITY.name()))
+                .andExpect(jsonPath("$.content[0].teamName").value(team.getName()))
+                .andExpect(
+                        jsonPath("$.content[0].assignUserName")
+                                .value(user.getFirstName() + " " + user.getLastName()))
+                .andExpect(jsonPath("$.content[0].requestDescription").doesNotExist())
+                .andExpect(jsonPath("$.content[0].teamId").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void searchTicketsWithUnknownFieldIsRejected() throws Exception {
+        restTicketMockMvc
+                .perform(
+                        post("/api/tickets/search")
+                                .param("fields", "requestTitle,tenantId")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportTicketsAsCsv() throws Exception {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(
+                List.of(new Filter("requestTitle", FilterOperator.EQ, "New Laptop Request")));
+
+        MvcResult result =
+                restTicketMockMvc
+                        .perform(
+                                post("/api/tickets/export")
+                                        .param("fields", "requestTitle,channel")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(om.writeValueAsBytes(queryDTO)))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+        restTicketMockMvc
+                .perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(
+                        header().string(
+                                        HttpHeaders.CONTENT_DISPOSITION,
+                                        "attachment; filename=\"tickets.csv\""))
+                .andExpect(
+                        content()
+                                .string(
+                                        "id,requestTitle,channel\r\n"
+                                                + "3,New Laptop Request,email\r\n"));
+    }
+
+    @Test
+    void exportTicketsAsNdjson() throws Exception {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(List.of(new Filter("team.id", FilterOperator.EQ, 1L)));
+
+        MvcResult result =
+                restTicketMockMvc
+                        .perform(
+                                post("/api/tickets/export")
+                                        .param("format", "ndjson")
+                                        .param("fields", "requestTitle,teamId")
+                                        .param("sort", "id,asc")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(om.writeValueAsBytes(queryDTO)))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+        String body =
+                restTicketMockMvc
+                        .perform(asyncDispatch(result))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).isNotEmpty();
+        for (String line : lines) {
+            TicketDTO exported = om.readValue(line, TicketDTO.class);
+            assertThat(exported.getTeamId()).isEqualTo(1L);
+            assertThat(exported.getRequestTitle()).isNotBlank();
+            assertThat(line).doesNotContain("requestDescription");
+        }
+    }
+
+    @Test
+    void exportTicketsWithUnknownFormatIsRejected() throws Exception {
+        restTicketMockMvc
+                .perform(
+                        post("/api/tickets/export")
+                                .param("format", "xlsx")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void updateTicket() throws Exception {
@@ -362,6 +554,25 @@ public class TicketControllerIT {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE));
     }
 
+    @Test
+    void getTeamDashboard() throws Exception {
+        restTicketMockMvc
+                .perform(
+                        get("/api/tickets/teams/{teamId}/dashboard", 1L)
+                                .param("range", "30d")
+                                .param("days", "14"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.statistics.totalTickets").isNumber())
+                .andExpect(jsonPath("$.priorityDistribution").isArray())
+                .andExpect(jsonPath("$.ticketDistribution").isArray())
+                .andExpect(jsonPath("$.overdueTicketCount").isNumber())
+                .andExpect(jsonPath("$.ticketCreationDaySeries.length()").value(14))
+                .andExpect(jsonPath("$.unassignedTickets.content").isArray())
+                .andExpect(jsonPath("$.timings.length()").value(6))
+                .andExpect(header().string("Server-Timing", containsString("statistics;dur=")));
+    }
+
     @Test
     @Transactional
     void getOverdueTicketsByTeam() throws Exception {
@@ -468,6 +679,126 @@ public class TicketControllerIT {
         assertThat(updatedTicket.getCurrentState().getId()).isEqualTo(newState.getId());
     }
 
+    @Test
+    @Transactional
+    void bulkUpdateTickets() throws Exception {
+        TicketBulkUpdateDTO bulkUpdate =
+                TicketBulkUpdateDTO.builder()
+                        .ticketIds(List.of(11L, 12L))
+                        .currentStateId(4L)
+                        .priority(UPDATED_PRIORITY)
+                        .build();
+
+        restTicketMockMvc
+                .perform(
+                        patch("/api/tickets/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(om.writeValueAsBytes(bulkUpdate)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(11))
+                .andExpect(jsonPath("$[1].id").value(12))
+                .andExpect(jsonPath("$[*].currentStateId").value(everyItem(is(4))));
+
+        for (Long ticketId : List.of(11L, 12L)) {
+            Ticket updatedTicket = ticketRepository.findById(ticketId).orElseThrow();
+            assertThat(updatedTicket.getCurrentState().getId()).isEqualTo(4L);
+            assertThat(updatedTicket.getPriority()).isEqualTo(UPDATED_PRIORITY);
+        }
+    }
+
+    @Test
+    @Transactional
+    void bulkUpdateTicketsWithoutTicketIdsIsRejected() throws Exception {
+        TicketBulkUpdateDTO bulkUpdate =
+                TicketBulkUpdateDTO.builder()
+                        .ticketIds(List.of())
+                        .priority(UPDATED_PRIORITY)
+                        .build();
+
+        restTicketMockMvc
+                .perform(
+                        patch("/api/tickets/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(om.writeValueAsBytes(bulkUpdate)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void patchTicketReturnsOnlyChangedFields() throws Exception {
+        ticketRepository.saveAndFlush(ticket);
+        long version = ticket.getVersion();
+        Map<String, Object> patchBody = new HashMap<>();
+        patchBody.put("requestTitle", UPDATED_TITLE);
+        patchBody.put("priority", DEFAULT_PRIORITY.toString());
+
+        restTicketMockMvc
+                .perform(
+                        patch("/api/tickets/{id}", ticket.getId())
+                                .contentType(TicketController.MERGE_PATCH_JSON_VALUE)
+                                .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                                .content(om.writeValueAsBytes(patchBody)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""))
+                .andExpect(jsonPath("$.requestTitle").value(UPDATED_TITLE))
+                .andExpect(jsonPath("$.priority").doesNotExist())
+                .andExpect(jsonPath("$.requestDescription").doesNotExist());
+
+        Ticket patchedTicket = ticketRepository.findById(ticket.getId()).orElseThrow();
+        assertThat(patchedTicket.getRequestTitle()).isEqualTo(UPDATED_TITLE);
+        assertThat(patchedTicket.getRequestDescription()).isEqualTo(DEFAULT_DESCRIPTION);
+    }
+
+    @Test
+    @Transactional
+    void patchTicketWithoutChangesReturnsEmptyObject() throws Exception {
+        ticketRepository.saveAndFlush(ticket);
+
+        restTicketMockMvc
+                .perform(
+                        patch("/api/tickets/{id}", ticket.getId())
+                                .contentType(TicketController.MERGE_PATCH_JSON_VALUE)
+                                .content(
+                                        om.writeValueAsBytes(
+                                                Map.of("requestTitle", DEFAULT_TITLE))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + ticket.getVersion() + "\""))
+                .andExpect(content().json("{}"));
+    }
+
+    @Test
+    @Transactional
+    void patchTicketWithStaleVersionIsRejected() throws Exception {
+        ticketRepository.saveAndFlush(ticket);
+
+        restTicketMockMvc
+                .perform(
+                        patch("/api/tickets/{id}", ticket.getId())
+                                .contentType(TicketController.MERGE_PATCH_JSON_VALUE)
+                                .header(
+                                        HttpHeaders.IF_MATCH,
+                                        "\"" + (ticket.getVersion() + 1) + "\"")
+                                .content(
+                                        om.writeValueAsBytes(
+                                                Map.of("requestTitle", UPDATED_TITLE))))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @Transactional
+    void patchTicketReadOnlyFieldIsRejected() throws Exception {
+        ticketRepository.saveAndFlush(ticket);
+
+        restTicketMockMvc
+                .perform(
+                        patch("/api/tickets/{id}", ticket.getId())
+                                .contentType(TicketController.MERGE_PATCH_JSON_VALUE)
+                                .content(om.writeValueAsBytes(Map.of("teamId", 2L))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getNextTicket() throws Exception {
@@ -520,4 +851,33 @@ public class TicketControllerIT {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(jsonPath("$.id").isNumber());
     }
+
+    @Test
+    @Transactional
+    void getTicketNeighbors() throws Exception {
+        Ticket firstTicket = createEntity(em);
+        firstTicket.setId(null);
+        firstTicket = ticketRepository.saveAndFlush(firstTicket);
+
+        Ticket secondTicket = createEntity(em);
+        secondTicket.setId(null);
+        secondTicket = ticketRepository.saveAndFlush(secondTicket);
+
+        restTicketMockMvc
+                .perform(
+                        get("/api/tickets/{currentId}/neighbors", firstTicket.getId())
+                                .param("projectId", firstTicket.getProject().getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.next.id").value(secondTicket.getId().intValue()))
+                .andExpect(jsonPath("$.next.requestTitle").value(secondTicket.getRequestTitle()));
+    }
+
+    @Test
+    @Transactional
+    void getTicketNeighborsOfMissingTicket() throws Exception {
+        restTicketMockMvc
+                .perform(get("/api/tickets/{currentId}/neighbors", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -0,0 +1,95 @@
+package io.flowinquiry.modules.teams.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.flowinquiry.db.SqlStatementCounter;
+import io.flowinquiry.it.IntegrationTest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Checks that the dashboard queries can scan an index range on {@code created_at}. The test tables
+ * are small enough for sequential scans to win, so they are turned off, and the statements are
+ * planned for any parameter values, as a prepared statement is after a few executions.
+ */
+@IntegrationTest
+@Transactional
+public class TicketRepositoryQueryPlanIT {
+
+    private static final Pattern CREATED_AT_INDEX_CONDITION =
+            Pattern.compile("Index Cond: .*created_at >= .*created_at <= ");
+
+    @Autowired private TicketRepository ticketRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void planForIndexes() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+    }
+
+    @Test
+    void shouldScanTeamCreatedAtIndexForStatistics() {
+        Instant toDate = Instant.now().truncatedTo(ChronoUnit.DAYS);
+
+        String plan =
+                planOf(
+                        () ->
+                                ticketRepository.getTicketStatisticsByTeamId(
+                                        1L, toDate.minus(30, ChronoUnit.DAYS), toDate));
+
+        assertThat(plan).contains("idx_fw_ticket_team_created_at");
+        assertThat(plan).containsPattern(CREATED_AT_INDEX_CONDITION);
+    }
+
+    @Test
+    void shouldScanIndexRangeWithoutBounds() {
+        String plan = planOf(() -> ticketRepository.getTicketStatisticsByTeamId(1L, null, null));
+
+        assertThat(plan).contains("idx_fw_ticket_team_created_at");
+        assertThat(plan).containsPattern(CREATED_AT_INDEX_CONDITION);
+    }
+
+    @Test
+    void shouldScanCreatedAtRangeForDistributions() {
+        String priorityPlan =
+                planOf(
+                        () ->
+                                ticketRepository.findTicketPriorityDistributionByTeamId(
+                                        1L, null, null));
+        String assigneePlan =
+                planOf(() -> ticketRepository.findTicketDistributionByTeamId(1L, null, null));
+
+        assertThat(priorityPlan).containsPattern(CREATED_AT_INDEX_CONDITION);
+        assertThat(assigneePlan).containsPattern(CREATED_AT_INDEX_CONDITION);
+    }
+
+    /** Runs the query, then explains the generic plan of the statement Hibernate sent. */
+    private String planOf(Runnable query) {
+        query.run();
+        AtomicInteger parameters = new AtomicInteger();
+        String statement =
+                Pattern.compile("\\?")
+                        .matcher(SqlStatementCounter.lastStatement())
+                        .replaceAll(parameter -> "\\$" + parameters.incrementAndGet());
+
+        jdbcTemplate.execute("PREPARE dashboard_query AS " + statement);
+        try {
+            String nulls = String.join(", ", Collections.nCopies(parameters.get(), "NULL"));
+            return String.join(
+                    "\n",
+                    jdbcTemplate.queryForList(
+                            "EXPLAIN EXECUTE dashboard_query(" + nulls + ")", String.class));
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE dashboard_query");
+        }
+    }
+}
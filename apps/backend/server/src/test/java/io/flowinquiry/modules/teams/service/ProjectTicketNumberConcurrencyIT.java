@@ -0,0 +1,184 @@
+package io.flowinquiry.modules.teams.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.flowinquiry.it.IntegrationTest;
+import io.flowinquiry.modules.collab.domain.EntityType;
+import io.flowinquiry.modules.collab.repository.EntityWatcherRepository;
+import io.flowinquiry.modules.shared.reppository.OutboxEventRepository;
+import io.flowinquiry.modules.teams.domain.ProjectTicketSequence;
+import io.flowinquiry.modules.teams.repository.ProjectTicketSequenceRepository;
+import io.flowinquiry.modules.teams.repository.TicketDailyRollupRepository;
+import io.flowinquiry.modules.teams.repository.TicketRepository;
+import io.flowinquiry.modules.teams.service.dto.TicketDTO;
+import io.flowinquiry.modules.teams.service.mapper.TicketMapper;
+import io.flowinquiry.tenant.TenantContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Creates tickets of one project from many threads, each in its own committed transaction, to check
+ * that project ticket numbers are allocated without conflicts or gaps.
+ *
+ * <p>Nothing is rolled back, so the test undoes what the creations committed besides the tickets:
+ * the project sequence, the daily rollups and the outbox rows of the ticket view.
+ */
+@IntegrationTest
+public class ProjectTicketNumberConcurrencyIT {
+
+    private static final Long PROJECT_ID = 4L;
+
+    private static final int CREATORS = 8;
+
+    private static final int TICKETS_PER_CREATOR = 5;
+
+    @Autowired private TicketService ticketService;
+    @Autowired private TicketRepository ticketRepository;
+    @Autowired private TicketMapper ticketMapper;
+    @Autowired private ProjectTicketSequenceRepository projectTicketSequenceRepository;
+    @Autowired private EntityWatcherRepository entityWatcherRepository;
+    @Autowired private TicketDailyRollupRepository ticketDailyRollupRepository;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private Long initialTicketNumber;
+    private final List<Long> createdTicketIds = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // The listeners of the creation events are not under test
+        eventPublisher =
+                (ApplicationEventPublisher)
+                        ReflectionTestUtils.getField(ticketService, "eventPublisher");
+        ReflectionTestUtils.setField(
+                ticketService, "eventPublisher", (ApplicationEventPublisher) event -> {});
+        initialTicketNumber =
+                projectTicketSequenceRepository
+                        .findById(PROJECT_ID)
+                        .map(ProjectTicketSequence::getLastTicketNumber)
+                        .orElse(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(ticketService, "eventPublisher", eventPublisher);
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    for (Long ticketId : createdTicketIds) {
+                        entityWatcherRepository.deleteByEntityTypeAndEntityIdAndWatchUser_IdIn(
+                                EntityType.Ticket,
+                                ticketId,
+                                entityWatcherRepository.findWatcherIdsByEntity(
+                                        EntityType.Ticket, ticketId));
+                    }
+                    ticketRepository.deleteAllById(createdTicketIds);
+                    projectTicketSequenceRepository
+                            .findById(PROJECT_ID)
+                            .ifPresent(
+                                    sequence -> {
+                                        if (initialTicketNumber == null) {
+                                            projectTicketSequenceRepository.delete(sequence);
+                                        } else {
+                                            sequence.setLastTicketNumber(initialTicketNumber);
+                                        }
+                                    });
+                    outboxEventRepository.deleteAll();
+                });
+        // Takes the created tickets back out of the rollups of the team
+        ticketDailyRollupRepository.reconcile();
+    }
+
+    @Test
+    void shouldAllocateDistinctConsecutiveNumbersToParallelCreators() throws Exception {
+        long lastNumber = initialTicketNumber == null ? 0L : initialTicketNumber;
+        List<TicketDTO> tickets =
+                transactionTemplate.execute(
+                        status -> {
+                            List<TicketDTO> dtos = new ArrayList<>();
+                            for (int i = 0; i < CREATORS * TICKETS_PER_CREATOR; i++) {
+                                TicketDTO dto =
+                                        ticketMapper.toDto(
+                                                ticketRepository.findById(1L).orElseThrow());
+                                dto.setId(null);
+                                dto.setConversationHealth(null);
+                                dto.setProjectId(PROJECT_ID);
+                                dto.setProjectTicketNumber(null);
+                                dto.setIterationId(null);
+                                dto.setEpicId(null);
+                                dtos.add(dto);
+                            }
+                            return dtos;
+                        });
+
+        UUID tenantId = TenantContext.getTenantId().orElseThrow();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Long> numbers = new CopyOnWriteArrayList<>();
+        List<Callable<Void>> creators = new ArrayList<>();
+        for (int creator = 0; creator < CREATORS; creator++) {
+            List<TicketDTO> batch =
+                    tickets.subList(
+                            creator * TICKETS_PER_CREATOR, (creator + 1) * TICKETS_PER_CREATOR);
+            creators.add(
+                    () -> {
+                        TenantContext.setTenantId(tenantId);
+                        try {
+                            start.await();
+                            for (TicketDTO ticket : batch) {
+                                TicketDTO saved = ticketService.createTicket(ticket);
+                                createdTicketIds.add(saved.getId());
+                                numbers.add(saved.getProjectTicketNumber());
+                            }
+                            return null;
+                        } finally {
+                            TenantContext.clear();
+                        }
+                    });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CREATORS);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (Callable<Void> creator : creators) {
+                results.add(executor.submit(creator));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                // Rethrows the failure of a creator, e.g. a lost update on the sequence
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long created = CREATORS * TICKETS_PER_CREATOR;
+        assertThat(numbers)
+                .containsExactlyInAnyOrderElementsOf(
+                        LongStream.rangeClosed(lastNumber + 1, lastNumber + created)
+                                .boxed()
+                                .toList());
+        assertThat(projectTicketSequenceRepository.findById(PROJECT_ID))
+                .hasValueSatisfying(
+                        sequence ->
+                                assertThat(sequence.getLastTicketNumber())
+                                        .isEqualTo(lastNumber + created));
+    }
+}
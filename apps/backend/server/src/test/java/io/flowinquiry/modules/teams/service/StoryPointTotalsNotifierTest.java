@@ -0,0 +1,133 @@
+package io.flowinquiry.modules.teams.service;
+
+import static io.flowinquiry.modules.shared.domain.EventPayloadType.UPDATED_EPIC;
+import static io.flowinquiry.modules.shared.domain.EventPayloadType.UPDATED_ITERATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.flowinquiry.modules.shared.controller.SseController;
+import io.flowinquiry.modules.teams.repository.TeamRepository;
+import io.flowinquiry.modules.teams.service.dto.ProjectEpicDTO;
+import io.flowinquiry.modules.teams.service.dto.ProjectIterationDTO;
+import io.flowinquiry.modules.usermanagement.service.dto.UserWithTeamRoleDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class StoryPointTotalsNotifierTest {
+
+    @Mock private TeamRepository teamRepository;
+
+    @Mock private ProjectEpicService projectEpicService;
+
+    @Mock private ProjectIterationService projectIterationService;
+
+    @Mock private SseController sseController;
+
+    @Mock private TaskScheduler taskScheduler;
+
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private StoryPointTotalsNotifier notifier;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        notifier =
+                new StoryPointTotalsNotifier(
+                        teamRepository,
+                        projectEpicService,
+                        projectIterationService,
+                        sseController,
+                        taskScheduler,
+                        transactionManager,
+                        meterRegistry);
+        UserWithTeamRoleDTO member =
+                new UserWithTeamRoleDTO(
+                        7L,
+                        "jane.doe@example.com",
+                        "Jane",
+                        "Doe",
+                        "UTC",
+                        null,
+                        "Developer",
+                        1L,
+                        "MEMBER");
+        when(teamRepository.findUsersByTeamId(1L)).thenReturn(List.of(member));
+    }
+
+    @Test
+    public void testCoalescesRequestsPerEpicAndIteration() {
+        when(projectEpicService.getEpicById(10L))
+                .thenReturn(
+                        Optional.of(
+                                ProjectEpicDTO.builder().id(10L).totalStoryPoints(21L).build()));
+        when(projectIterationService.getIterationById(20L))
+                .thenReturn(Optional.of(ProjectIterationDTO.builder().id(20L).build()));
+
+        notifier.epicChanged(1L, 10L);
+        notifier.epicChanged(1L, 10L);
+        notifier.epicChanged(1L, 10L);
+        notifier.iterationChanged(1L, 20L);
+        scheduledRecomputations(2).forEach(Runnable::run);
+
+        verify(projectEpicService).getEpicById(10L);
+        verify(projectIterationService).getIterationById(20L);
+        ArgumentCaptor<ProjectEpicDTO> epic = ArgumentCaptor.forClass(ProjectEpicDTO.class);
+        verify(sseController).sendEventToUsers(eq(List.of(7L)), eq(UPDATED_EPIC), epic.capture());
+        assertThat(epic.getValue().getTotalStoryPoints()).isEqualTo(21L);
+        verify(sseController).sendEventToUsers(eq(List.of(7L)), eq(UPDATED_ITERATION), any());
+
+        assertThat(count("flowinquiry.story.points.recompute.requests", "epic")).isEqualTo(3);
+        assertThat(count("flowinquiry.story.points.recompute.executions", "epic")).isEqualTo(1);
+        assertThat(count("flowinquiry.story.points.recompute.executions", "iteration"))
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void testSchedulesAgainWhenChangedDuringRecomputation() {
+        when(projectEpicService.getEpicById(10L))
+                .thenReturn(Optional.of(ProjectEpicDTO.builder().id(10L).build()));
+        doAnswer(
+                        invocation -> {
+                            notifier.epicChanged(1L, 10L);
+                            return null;
+                        })
+                .doNothing()
+                .when(sseController)
+                .sendEventToUsers(any(), eq(UPDATED_EPIC), any());
+
+        notifier.epicChanged(1L, 10L);
+        scheduledRecomputations(1).get(0).run();
+        scheduledRecomputations(2).get(1).run();
+
+        verify(projectEpicService, times(2)).getEpicById(10L);
+    }
+
+    private List<Runnable> scheduledRecomputations(int expected) {
+        ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(expected)).schedule(tasks.capture(), any(Instant.class));
+        return tasks.getAllValues();
+    }
+
+    private double count(String name, String scope) {
+        return meterRegistry.get(name).tag("scope", scope).counter().count();
+    }
+}
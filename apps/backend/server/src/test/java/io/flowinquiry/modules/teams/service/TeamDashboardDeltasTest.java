@@ -0,0 +1,129 @@
+package io.flowinquiry.modules.teams.service;
+
+import static io.flowinquiry.modules.shared.domain.EventPayloadType.DASHBOARD_DELTA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.flowinquiry.modules.shared.controller.SseController;
+import io.flowinquiry.modules.teams.domain.TicketPriority;
+import io.flowinquiry.modules.teams.repository.TicketRepository;
+import io.flowinquiry.modules.teams.service.dto.TeamDashboardDeltaDTO;
+import io.flowinquiry.modules.teams.service.dto.TeamDashboardDeltaDTO.Entry;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class TeamDashboardDeltasTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Mock private TicketRepository ticketRepository;
+
+    @Mock private SseController sseController;
+
+    private TeamDashboardSubscriptions subscriptions;
+
+    private TeamDashboardDeltas deltas;
+
+    @BeforeEach
+    public void setup() {
+        subscriptions = new TeamDashboardSubscriptions();
+        deltas = new TeamDashboardDeltas(ticketRepository, subscriptions, sseController);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+
+    @Test
+    public void testPushesSummedEntriesToSubscribersAfterCommit() {
+        subscriptions.subscribe(null, 1L, 7L);
+
+        deltas.countsChanged(1L, new Entry(DAY, TicketPriority.High, 3L, 1, 1, 0));
+        deltas.countsChanged(1L, new Entry(DAY, TicketPriority.High, 3L, 1, 1, 0));
+        deltas.countsChanged(1L, new Entry(DAY, TicketPriority.Low, null, 0, -1, 0));
+        deltas.countsChanged(1L, new Entry(DAY, TicketPriority.Low, null, 0, 1, 0));
+        deltas.countsChanged(2L, new Entry(DAY, TicketPriority.High, 3L, 1, 1, 0));
+        verify(sseController, never()).sendEventToUsers(any(), any(), any());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        ArgumentCaptor<TeamDashboardDeltaDTO> delta =
+                ArgumentCaptor.forClass(TeamDashboardDeltaDTO.class);
+        verify(sseController)
+                .sendEventToUsers(eq(List.of(7L)), eq(DASHBOARD_DELTA), delta.capture());
+        assertThat(delta.getValue())
+                .isEqualTo(
+                        new TeamDashboardDeltaDTO(
+                                1L,
+                                false,
+                                List.of(new Entry(DAY, TicketPriority.High, 3L, 2, 2, 0))));
+    }
+
+    @Test
+    public void testAsksTeamsOfClosedIterationToResync() {
+        subscriptions.subscribe(null, 1L, 7L);
+        when(ticketRepository.findOpenTicketTeamIdsByIterationId(5L)).thenReturn(List.of(1L));
+
+        deltas.countsChanged(1L, new Entry(DAY, TicketPriority.High, 3L, 0, 1, 0));
+        deltas.iterationClosing(5L);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(sseController)
+                .sendEventToUsers(
+                        List.of(7L),
+                        DASHBOARD_DELTA,
+                        new TeamDashboardDeltaDTO(1L, true, List.of()));
+    }
+
+    @Test
+    public void testSendsNothingWhenRolledBack() {
+        subscriptions.subscribe(null, 1L, 7L);
+
+        deltas.countsChanged(1L, new Entry(DAY, TicketPriority.High, 3L, 1, 1, 0));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(sseController, never()).sendEventToUsers(any(), any(), any());
+    }
+
+    @Test
+    public void testKeepsUserSubscribedUntilLastStreamCloses() {
+        subscriptions.subscribe(null, 1L, 7L);
+        subscriptions.subscribe(null, 1L, 7L);
+        subscriptions.subscribe(null, 1L, 8L);
+
+        subscriptions.unsubscribe(null, 1L, 7L);
+        subscriptions.unsubscribe(null, 1L, 8L);
+        assertThat(subscriptions.subscriberIds(null, 1L)).containsExactly(7L);
+
+        subscriptions.unsubscribe(null, 1L, 7L);
+        assertThat(subscriptions.subscriberIds(null, 1L)).isEmpty();
+    }
+
+    /** Runs the synchronizations the way a transaction manager does when it completes. */
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations =
+                TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
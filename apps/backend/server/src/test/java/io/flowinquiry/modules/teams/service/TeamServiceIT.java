@@ -10,6 +10,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import io.flowinquiry.db.SqlStatementCounter;
 import io.flowinquiry.exceptions.ResourceNotFoundException;
 import io.flowinquiry.it.IntegrationTest;
 import io.flowinquiry.modules.teams.service.dto.TeamDTO;
@@ -18,8 +19,12 @@ import io.flowinquiry.modules.teams.service.event.RemoveUserOutOfTeamEvent;
 import io.flowinquiry.modules.usermanagement.domain.User;
 import io.flowinquiry.modules.usermanagement.service.dto.UserDTO;
 import io.flowinquiry.modules.usermanagement.service.dto.UserWithTeamRoleDTO;
+import io.flowinquiry.query.Filter;
+import io.flowinquiry.query.FilterOperator;
+import io.flowinquiry.query.QueryDTO;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -35,6 +40,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class TeamServiceIT {
 
+    /** An inner join of organizations, which only filters add. */
+    private static final Pattern FILTER_JOIN = Pattern.compile("(?<!left) join fw_organization ");
+
     @Autowired private TeamService teamService;
 
     @Autowired private ApplicationEventPublisher realEventPublisher;
@@ -274,6 +282,67 @@ public class TeamServiceIT {
                 .isGreaterThanOrEqualTo(teamsPage.getContent().size());
     }
 
+    @Test
+    void shouldFindTeamsByMembersWithoutDuplicates() {
+        // Users 1 and 2 are members of both team 1 and team 2 (fw_user_team_test.csv)
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(List.of(new Filter("users.id", FilterOperator.IN, List.of(1L, 2L))));
+
+        Page<TeamDTO> teamsPage =
+                teamService.findTeams(Optional.of(queryDTO), PageRequest.of(0, 50));
+
+        List<Long> teamIds = teamsPage.getContent().stream().map(TeamDTO::getId).toList();
+        assertThat(teamIds).contains(1L, 2L).doesNotHaveDuplicates();
+        assertThat(teamsPage.getTotalElements()).isEqualTo(teamIds.size());
+    }
+
+    @Test
+    void shouldFilterTeamsByMembersInExistsSubquery() {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(List.of(new Filter("users.id", FilterOperator.IN, List.of(1L, 2L))));
+
+        SqlStatementCounter.reset();
+        // A page smaller than the result, so that the count query runs as well
+        teamService.findTeams(Optional.of(queryDTO), PageRequest.of(0, 1));
+
+        List<String> teamQueries = teamQueries();
+        assertThat(teamQueries).hasSize(2);
+        for (String sql : teamQueries) {
+            assertThat(sql).doesNotContainIgnoringCase("distinct").contains("where exists(");
+            // The members are only read in the subquery, the outer query joins no membership
+            String outerFrom = sql.substring(sql.indexOf(" from fw_team "), sql.indexOf(" where "));
+            assertThat(outerFrom).doesNotContain("fw_user");
+        }
+    }
+
+    @Test
+    void shouldJoinAssociationOnceForSeveralFilters() {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(
+                List.of(
+                        new Filter("organization.name", FilterOperator.LK, "Tech"),
+                        new Filter("organization.slogan", FilterOperator.NE, "Sustainability")));
+
+        SqlStatementCounter.reset();
+        Page<TeamDTO> teamsPage =
+                teamService.findTeams(Optional.of(queryDTO), PageRequest.of(0, 1));
+
+        assertThat(teamsPage.getTotalElements()).isGreaterThan(1);
+        List<String> teamQueries = teamQueries();
+        assertThat(teamQueries).hasSize(2);
+        for (String sql : teamQueries) {
+            // The select also left joins the organization it fetches eagerly
+            assertThat(FILTER_JOIN.matcher(sql).results().count()).as(sql).isEqualTo(1);
+        }
+    }
+
+    /** The page and count queries of teams prepared since the last reset. */
+    private static List<String> teamQueries() {
+        return SqlStatementCounter.statements().stream()
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from fw_team "))
+                .toList();
+    }
+
     @Test
     void shouldFindAllTeamsByUserIdSuccessfully() {
         // Using userId 1 as suggested in the issue description
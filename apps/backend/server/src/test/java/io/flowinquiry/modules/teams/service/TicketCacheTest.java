@@ -0,0 +1,91 @@
+package io.flowinquiry.modules.teams.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.flowinquiry.config.CacheConfig;
+import io.flowinquiry.modules.teams.service.dto.TicketDTO;
+import io.flowinquiry.tenant.TenantContext;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TicketCacheTest {
+
+    private static final UUID TENANT = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private static final UUID OTHER_TENANT =
+            UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    private TicketCache ticketCache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setup() {
+        ticketCache = new TicketCache(new ConcurrentMapCacheManager(CacheConfig.TICKETS_CACHE));
+        loads = new AtomicInteger();
+        TenantContext.setTenantId(TENANT);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TenantContext.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testLoadsOncePerTenantUntilEvicted() {
+        TicketDTO first = ticketCache.get(1L, this::load);
+        assertThat(ticketCache.get(1L, this::load)).isSameAs(first);
+        assertThat(loads).hasValue(1);
+
+        TenantContext.setTenantId(OTHER_TENANT);
+        ticketCache.get(1L, this::load);
+        assertThat(loads).hasValue(2);
+
+        TenantContext.setTenantId(TENANT);
+        ticketCache.evict(1L);
+        assertThat(ticketCache.get(1L, this::load)).isNotSameAs(first);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    public void testEvictsAgainWhenTransactionCompletes() {
+        TransactionSynchronizationManager.initSynchronization();
+        ticketCache.evict(1L);
+        // Read by the writing transaction before it completes
+        ticketCache.get(1L, this::load);
+
+        for (TransactionSynchronization synchronization :
+                TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        ticketCache.get(1L, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void testBypassesCacheWithoutTenant() {
+        TenantContext.clear();
+
+        ticketCache.get(1L, this::load);
+        ticketCache.get(1L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private TicketDTO load() {
+        loads.incrementAndGet();
+        TicketDTO ticketDTO = new TicketDTO();
+        ticketDTO.setId(1L);
+        return ticketDTO;
+    }
+}
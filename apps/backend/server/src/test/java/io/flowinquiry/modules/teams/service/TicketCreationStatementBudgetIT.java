@@ -0,0 +1,154 @@
+package io.flowinquiry.modules.teams.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.flowinquiry.db.SqlStatementCounter;
+import io.flowinquiry.it.IntegrationTest;
+import io.flowinquiry.modules.collab.domain.EntityType;
+import io.flowinquiry.modules.collab.repository.EntityWatcherRepository;
+import io.flowinquiry.modules.shared.reppository.OutboxEventRepository;
+import io.flowinquiry.modules.shared.service.outbox.OutboxDispatcher;
+import io.flowinquiry.modules.shared.service.outbox.OutboxService;
+import io.flowinquiry.modules.teams.repository.TicketDailyRollupRepository;
+import io.flowinquiry.modules.teams.repository.TicketRepository;
+import io.flowinquiry.modules.teams.service.dto.TicketDTO;
+import io.flowinquiry.modules.teams.service.mapper.TicketMapper;
+import io.flowinquiry.tenant.TenantContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Counts the statements of creating a ticket, up to and including the commit that stores its events
+ * in the outbox, and of delivering those events afterwards.
+ *
+ * <p>Not transactional, so the creation and the deliveries commit as they do outside of tests. The
+ * test deletes the tickets it created and the notifications and activity logs their delivery wrote.
+ */
+@IntegrationTest
+public class TicketCreationStatementBudgetIT {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail =
+            new GreenMailExtension(ServerSetupTest.SMTP)
+                    .withConfiguration(
+                            GreenMailConfiguration.aConfig()
+                                    .withUser("noreply@flowinquiry.io", "user", "pass"))
+                    .withPerMethodLifecycle(true);
+
+    @Autowired private TicketService ticketService;
+    @Autowired private TicketRepository ticketRepository;
+    @Autowired private TicketMapper ticketMapper;
+    @Autowired private EntityWatcherRepository entityWatcherRepository;
+    @Autowired private TicketDailyRollupRepository ticketDailyRollupRepository;
+    @Autowired private OutboxService outboxService;
+    @Autowired private OutboxDispatcher outboxDispatcher;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+    @Autowired private ApplicationEventPublisher applicationEventPublisher;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private long lastNotificationId;
+    private long lastActivityLogId;
+    private final List<Long> createdTicketIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // Other tests replace the publisher, wire it the way the service does
+        eventPublisher =
+                (ApplicationEventPublisher)
+                        ReflectionTestUtils.getField(ticketService, "eventPublisher");
+        ReflectionTestUtils.setField(
+                ticketService,
+                "eventPublisher",
+                outboxService.publisherFor(applicationEventPublisher));
+        outboxEventRepository.deleteAll();
+        lastNotificationId = lastId("fw_notification");
+        lastActivityLogId = lastId("fw_activity_log");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(ticketService, "eventPublisher", eventPublisher);
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    for (Long ticketId : createdTicketIds) {
+                        entityWatcherRepository.deleteByEntityTypeAndEntityIdAndWatchUser_IdIn(
+                                EntityType.Ticket,
+                                ticketId,
+                                entityWatcherRepository.findWatcherIdsByEntity(
+                                        EntityType.Ticket, ticketId));
+                        ticketService.deleteTicket(ticketId);
+                    }
+                });
+        outboxEventRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM fw_notification WHERE id > ?", lastNotificationId);
+        jdbcTemplate.update("DELETE FROM fw_activity_log WHERE id > ?", lastActivityLogId);
+        ticketDailyRollupRepository.reconcile();
+    }
+
+    @Test
+    void shouldCreateTicketWithinStatementBudget() {
+        TicketDTO ticketDTO =
+                transactionTemplate.execute(
+                        status -> ticketMapper.toDto(ticketRepository.findById(2L).orElseThrow()));
+        ticketDTO.setId(null);
+        ticketDTO.setConversationHealth(null);
+        // Draws the first block of ids from each sequence, so the measured runs call none
+        createTicket(ticketDTO);
+        deliverEvents();
+
+        SqlStatementCounter.reset();
+        TicketDTO savedTicket = createTicket(ticketDTO);
+        // Initial state, SLA, the totals of its iteration, its day in the rollups, one batch each
+        // for the ticket, its watchers and its history, then its current transition and the batch
+        // of its events in the outbox
+        assertThat(SqlStatementCounter.statements()).hasSizeLessThanOrEqualTo(9);
+
+        SqlStatementCounter.reset();
+        // The creation, the iteration change and the refresh of the ticket view
+        assertThat(deliverEvents()).isEqualTo(3);
+        // The claim, then for each event its reads, a step row per mail and summary, its writes
+        // and the removal of its outbox row
+        assertThat(SqlStatementCounter.statements()).hasSizeLessThanOrEqualTo(16);
+        assertThat(ticketService.getTicketById(savedTicket.getId()).getTeamName()).isNotNull();
+    }
+
+    private TicketDTO createTicket(TicketDTO ticketDTO) {
+        ticketDTO.setId(null);
+        TicketDTO saved =
+                transactionTemplate.execute(status -> ticketService.createTicket(ticketDTO));
+        createdTicketIds.add(saved.getId());
+        return saved;
+    }
+
+    private int deliverEvents() {
+        // The dispatcher clears the tenant of its thread after each delivery
+        UUID tenantId = TenantContext.getTenantId().orElseThrow();
+        try {
+            return outboxDispatcher.dispatchDueEvents();
+        } finally {
+            TenantContext.setTenantId(tenantId);
+        }
+    }
+
+    private long lastId(String table) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+    }
+}
@@ -0,0 +1,118 @@
+package io.flowinquiry.modules.teams.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.flowinquiry.it.IntegrationTest;
+import io.flowinquiry.modules.teams.repository.TicketDailyRollupRepository;
+import io.flowinquiry.modules.teams.repository.TicketRepository;
+import io.flowinquiry.modules.teams.service.dto.TicketDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketRollupDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketRollupGranularity;
+import io.flowinquiry.modules.teams.service.mapper.TicketMapper;
+import io.flowinquiry.modules.usermanagement.service.dto.TicketStatisticsDTO;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@IntegrationTest
+@Transactional
+public class TicketDailyRollupServiceIT {
+
+    @Autowired private TicketDailyRollupService ticketDailyRollupService;
+    @Autowired private TicketDailyRollupRepository ticketDailyRollupRepository;
+    @Autowired private TicketService ticketService;
+    @Autowired private TicketRepository ticketRepository;
+    @Autowired private TicketMapper ticketMapper;
+    @Autowired private EntityManager entityManager;
+
+    @Test
+    void shouldCountCreatedTicketOnTheDayItWasCreated() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        TicketRollupDTO before =
+                ticketDailyRollupService
+                        .getRollups(1L, TicketRollupGranularity.DAY, today, today)
+                        .get(0);
+
+        TicketDTO ticketDTO = ticketMapper.toDto(ticketRepository.findById(11L).orElseThrow());
+        ticketDTO.setId(null);
+        ticketDTO.setConversationHealth(null);
+        ticketService.createTicket(ticketDTO);
+        entityManager.flush();
+
+        TicketRollupDTO after =
+                ticketDailyRollupService
+                        .getRollups(1L, TicketRollupGranularity.DAY, today, today)
+                        .get(0);
+        assertThat(after.periodStart()).isEqualTo(today);
+        assertThat(after.createdCount()).isEqualTo(before.createdCount() + 1);
+        assertThat(after.openCount()).isEqualTo(before.openCount() + 1);
+        assertThat(after.closedCount()).isEqualTo(before.closedCount());
+    }
+
+    @Test
+    void shouldAnswerDashboardQueriesLikeTheTickets() {
+        ticketDailyRollupRepository.reconcile();
+        ticketService.closeTicketsWithIteration(3L);
+        entityManager.flush();
+
+        TicketStatisticsDTO statistics =
+                ticketDailyRollupService.getTicketStatisticsByTeamId(1L, null, null);
+        assertThat(statistics)
+                .isEqualTo(ticketRepository.getTicketStatisticsByTeamId(1L, null, null));
+        assertThat(ticketDailyRollupService.getPriorityDistribution(1L, null, null))
+                .containsExactlyInAnyOrderElementsOf(
+                        ticketRepository.findTicketPriorityDistributionByTeamId(1L, null, null));
+        assertThat(ticketDailyRollupRepository.reconcile()).isZero();
+    }
+
+    @Test
+    void shouldSumDaysToZeroFilledMonths() {
+        LocalDate fromDay = LocalDate.of(2025, 1, 15);
+        LocalDate toDay = LocalDate.of(2025, 3, 10);
+
+        List<TicketRollupDTO> days =
+                ticketDailyRollupService.getRollups(
+                        1L, TicketRollupGranularity.DAY, fromDay, toDay);
+        List<TicketRollupDTO> months =
+                ticketDailyRollupService.getRollups(
+                        1L, TicketRollupGranularity.MONTH, fromDay, toDay);
+
+        assertThat(days).hasSize(55);
+        assertThat(months)
+                .extracting(TicketRollupDTO::periodStart)
+                .containsExactly(
+                        LocalDate.of(2025, 1, 1),
+                        LocalDate.of(2025, 2, 1),
+                        LocalDate.of(2025, 3, 1));
+        assertThat(months.stream().mapToLong(TicketRollupDTO::createdCount).sum())
+                .isEqualTo(days.stream().mapToLong(TicketRollupDTO::createdCount).sum());
+        assertThat(months.stream().mapToLong(TicketRollupDTO::closedCount).sum())
+                .isEqualTo(days.stream().mapToLong(TicketRollupDTO::closedCount).sum());
+    }
+
+    @Test
+    void shouldRejectReversedOrTooLongRanges() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        assertThatThrownBy(
+                        () ->
+                                ticketDailyRollupService.getRollups(
+                                        1L, TicketRollupGranularity.DAY, today, today.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(
+                        () ->
+                                ticketDailyRollupService.getRollups(
+                                        1L,
+                                        TicketRollupGranularity.DAY,
+                                        today.minusDays(TicketDailyRollupService.MAX_PERIODS),
+                                        today))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TicketRollupGranularity.fromValue("year"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,46 +1,79 @@
 package io.flowinquiry.modules.teams.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.flowinquiry.db.SqlStatementCounter;
+import io.flowinquiry.exceptions.PreconditionFailedException;
+import io.flowinquiry.exceptions.ResourceNotFoundException;
 import io.flowinquiry.it.IntegrationTest;
+import io.flowinquiry.modules.audit.service.event.AuditLogBulkUpdateEvent;
 import io.flowinquiry.modules.audit.service.event.AuditLogUpdateEvent;
 import io.flowinquiry.modules.collab.domain.EntityType;
 import io.flowinquiry.modules.collab.domain.EntityWatcher;
 import io.flowinquiry.modules.collab.repository.EntityWatcherRepository;
+import io.flowinquiry.modules.teams.domain.ProjectEpic;
+import io.flowinquiry.modules.teams.domain.ProjectIteration;
 import io.flowinquiry.modules.teams.domain.TShirtSize;
 import io.flowinquiry.modules.teams.domain.Ticket;
 import io.flowinquiry.modules.teams.domain.TicketChannel;
+import io.flowinquiry.modules.teams.domain.TicketPriority;
+import io.flowinquiry.modules.teams.domain.WorkflowTransitionHistory;
 import io.flowinquiry.modules.teams.domain.WorkflowTransitionHistoryStatus;
+import io.flowinquiry.modules.teams.repository.ProjectEpicRepository;
+import io.flowinquiry.modules.teams.repository.ProjectIterationRepository;
 import io.flowinquiry.modules.teams.repository.TicketRepository;
+import io.flowinquiry.modules.teams.repository.WorkflowTransitionHistoryRepository;
 import io.flowinquiry.modules.teams.service.dto.PriorityDistributionDTO;
 import io.flowinquiry.modules.teams.service.dto.TeamTicketPriorityDistributionDTO;
 import io.flowinquiry.modules.teams.service.dto.TicketActionCountByDateDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketBulkUpdateDTO;
 import io.flowinquiry.modules.teams.service.dto.TicketDTO;
 import io.flowinquiry.modules.teams.service.dto.TicketDistributionDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketNeighborDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketNeighborsDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketPatchResult;
 import io.flowinquiry.modules.teams.service.event.NewTicketCreatedEvent;
+import io.flowinquiry.modules.teams.service.event.ProjectEpicChangedByTicketEvent;
+import io.flowinquiry.modules.teams.service.event.ProjectIterationChangedByTicketEvent;
+import io.flowinquiry.modules.teams.service.event.TicketBulkWorkStateTransitionEvent;
 import io.flowinquiry.modules.teams.service.event.TicketWorkStateTransitionEvent;
 import io.flowinquiry.modules.teams.service.mapper.TicketMapper;
 import io.flowinquiry.modules.usermanagement.service.dto.TicketStatisticsDTO;
+import io.flowinquiry.query.CountMode;
+import io.flowinquiry.query.CountedPage;
+import io.flowinquiry.query.CursorSlice;
 import io.flowinquiry.query.Filter;
 import io.flowinquiry.query.FilterOperator;
 import io.flowinquiry.query.QueryDTO;
+import jakarta.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -52,7 +85,11 @@ public class TicketServiceIT {
     @Autowired private TicketRepository ticketRepository;
     @Autowired private TicketMapper ticketMapper;
     @Autowired private EntityWatcherRepository entityWatcherRepository;
+    @Autowired private ProjectEpicRepository projectEpicRepository;
+    @Autowired private ProjectIterationRepository projectIterationRepository;
+    @Autowired private WorkflowTransitionHistoryRepository workflowTransitionHistoryRepository;
     @Autowired private ApplicationEventPublisher realEventPublisher;
+    @Autowired private EntityManager entityManager;
     private ApplicationEventPublisher spyEventPublisher;
 
     @BeforeEach
@@ -75,6 +112,208 @@ public class TicketServiceIT {
         verify(spyEventPublisher, times(1)).publishEvent(eventCaptor.capture());
     }
 
+    @Test
+    void shouldInitializeCountersWhenCreatingTicket() {
+        TicketDTO ticketDTO = ticketMapper.toDto(ticketRepository.findById(2L).orElseThrow());
+        ticketDTO.setId(null);
+        ticketDTO.setConversationHealth(null);
+        ticketDTO.setNumberAttachments(7);
+        ticketDTO.setNumberWatchers(9);
+
+        TicketDTO savedTicket = ticketService.createTicket(ticketDTO);
+
+        int watchers =
+                entityWatcherRepository
+                        .findWatcherIdsByEntity(EntityType.Ticket, savedTicket.getId())
+                        .size();
+        Ticket ticket = ticketRepository.findById(savedTicket.getId()).orElseThrow();
+        assertThat(ticket.getNumberWatchers()).isEqualTo(watchers).isPositive();
+        assertThat(ticket.getNumberAttachments()).isZero();
+    }
+
+    @Test
+    void shouldPointCreatedTicketToItsFirstTransition() {
+        TicketDTO ticketDTO = ticketMapper.toDto(ticketRepository.findById(2L).orElseThrow());
+        ticketDTO.setId(null);
+        ticketDTO.setConversationHealth(null);
+
+        TicketDTO savedTicket = ticketService.createTicket(ticketDTO);
+        entityManager.flush();
+        entityManager.clear();
+
+        Ticket ticket = ticketRepository.findById(savedTicket.getId()).orElseThrow();
+        // Loading a history by id inner joins its from state, which the first one does not have
+        List<WorkflowTransitionHistory> histories =
+                workflowTransitionHistoryRepository.findByTicketId(ticket.getId());
+        assertThat(histories).hasSize(1);
+        WorkflowTransitionHistory history = histories.get(0);
+        assertThat(ticket.getCurrentTransitionId()).isEqualTo(history.getId());
+        assertThat(ticket.getCurrentSlaStatus()).isEqualTo(history.getStatus());
+        assertThat(ticket.getCurrentSlaDueDate()).isEqualTo(history.getSlaDueDate());
+    }
+
+    @Test
+    void shouldReconcileDriftedTicketCounters() {
+        int watchers = entityWatcherRepository.findWatcherIdsByEntity(EntityType.Ticket, 1L).size();
+        ticketRepository.adjustNumberWatchers(1L, 5);
+
+        assertThat(ticketRepository.reconcileCounters()).isPositive();
+        entityManager.clear();
+
+        Ticket ticket = ticketRepository.findById(1L).orElseThrow();
+        assertThat(ticket.getNumberWatchers()).isEqualTo(watchers);
+    }
+
+    @Test
+    void shouldMoveStoryPointsBetweenEpicsWithTicket() {
+        ProjectEpic alpha = projectEpicRepository.findById(1L).orElseThrow();
+        ProjectEpic beta = projectEpicRepository.findById(2L).orElseThrow();
+        ProjectIteration iteration = projectIterationRepository.findById(3L).orElseThrow();
+        TicketDTO ticketDTO = ticketMapper.toDto(ticketRepository.findById(1L).orElseThrow());
+        int estimate = ticketDTO.getEstimate();
+        entityManager.clear();
+
+        ticketDTO.setEpicId(1L);
+        ticketDTO.setEstimate(estimate + 5);
+        ticketService.updateTicket(ticketDTO);
+        entityManager.flush();
+        entityManager.clear();
+
+        ProjectEpic updatedAlpha = projectEpicRepository.findById(1L).orElseThrow();
+        assertThat(updatedAlpha.getTotalTickets()).isEqualTo(alpha.getTotalTickets() + 1);
+        assertThat(updatedAlpha.getTotalStoryPoints())
+                .isEqualTo(alpha.getTotalStoryPoints() + estimate + 5);
+        assertThat(updatedAlpha.getRemainingStoryPoints())
+                .isEqualTo(alpha.getRemainingStoryPoints() + estimate + 5);
+        assertThat(projectIterationRepository.findById(3L).orElseThrow().getTotalStoryPoints())
+                .isEqualTo(iteration.getTotalStoryPoints() + 5);
+
+        ticketDTO.setEpicId(2L);
+        ticketService.updateTicket(ticketDTO);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(projectEpicRepository.findById(1L).orElseThrow().getTotalStoryPoints())
+                .isEqualTo(alpha.getTotalStoryPoints());
+        assertThat(projectEpicRepository.findById(2L).orElseThrow().getTotalTickets())
+                .isEqualTo(beta.getTotalTickets() + 1);
+        assertThat(projectEpicRepository.reconcileTotals()).isZero();
+        assertThat(projectIterationRepository.reconcileTotals()).isZero();
+    }
+
+    @Test
+    void shouldCompleteStoryPointsWhenClosingIteration() {
+        ticketService.bulkUpdateTickets(
+                TicketBulkUpdateDTO.builder().ticketIds(List.of(1L, 2L)).epicId(1L).build());
+        entityManager.flush();
+        entityManager.clear();
+        ProjectIteration iteration = projectIterationRepository.findById(3L).orElseThrow();
+
+        ticketService.closeTicketsWithIteration(3L);
+        entityManager.clear();
+
+        ProjectIteration closed = projectIterationRepository.findById(3L).orElseThrow();
+        assertThat(closed.getCompletedStoryPoints())
+                .isGreaterThan(iteration.getCompletedStoryPoints());
+        assertThat(closed.getCompletedStoryPoints() + closed.getRemainingStoryPoints())
+                .isEqualTo(closed.getTotalStoryPoints());
+        assertThat(projectEpicRepository.findById(1L).orElseThrow().getRemainingStoryPoints())
+                .isZero();
+        assertThat(projectEpicRepository.reconcileTotals()).isZero();
+        assertThat(projectIterationRepository.reconcileTotals()).isZero();
+    }
+
+    @Test
+    void shouldReconcileDriftedEpicAndIterationTotals() {
+        long tickets = projectIterationRepository.findById(3L).orElseThrow().getTotalTickets();
+        projectIterationRepository.adjustTotals(3L, 2, 8, 0, 8);
+
+        assertThat(projectIterationRepository.reconcileTotals()).isPositive();
+        entityManager.clear();
+
+        assertThat(projectIterationRepository.findById(3L).orElseThrow().getTotalTickets())
+                .isEqualTo(tickets);
+    }
+
+    @Test
+    void shouldLeaveSoftDeletedTicketsOutOfReconciledTotals() {
+        ProjectIteration iteration = projectIterationRepository.findById(3L).orElseThrow();
+        entityManager
+                .createNativeQuery("UPDATE fw_ticket SET is_deleted = true WHERE id = 3")
+                .executeUpdate();
+
+        assertThat(projectIterationRepository.reconcileTotals()).isPositive();
+        entityManager.clear();
+
+        ProjectIteration reconciled = projectIterationRepository.findById(3L).orElseThrow();
+        assertThat(reconciled.getTotalTickets()).isEqualTo(iteration.getTotalTickets() - 1);
+        assertThat(reconciled.getTotalStoryPoints()).isEqualTo(iteration.getTotalStoryPoints() - 5);
+    }
+
+    @Test
+    void shouldPatchOnlyChangedFieldsAndTheirEpics() {
+        Ticket ticket = ticketRepository.findById(1L).orElseThrow();
+        long version = ticket.getVersion();
+        ObjectNode patch =
+                JsonNodeFactory.instance
+                        .objectNode()
+                        .put("requestTitle", "Patched Request Title")
+                        .put("epicId", 1L)
+                        .put("estimate", ticket.getEstimate());
+
+        TicketPatchResult result = ticketService.patchTicket(1L, patch, version);
+
+        assertThat(result.changes().size()).isEqualTo(2);
+        assertThat(result.changes().get("requestTitle").asText())
+                .isEqualTo("Patched Request Title");
+        assertThat(result.changes().get("epicId").asLong()).isEqualTo(1L);
+        assertThat(result.version()).isEqualTo(version + 1);
+        assertThat(ticketRepository.findById(1L).orElseThrow().getRequestTitle())
+                .isEqualTo("Patched Request Title");
+
+        ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(spyEventPublisher, atLeastOnce()).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(Object::getClass)
+                .containsExactlyInAnyOrder(
+                        AuditLogUpdateEvent.class, ProjectEpicChangedByTicketEvent.class);
+        assertThat(events.getAllValues())
+                .noneMatch(ProjectIterationChangedByTicketEvent.class::isInstance);
+    }
+
+    @Test
+    void shouldSkipWritesAndEventsForNoOpPatch() {
+        Ticket ticket = ticketRepository.findById(1L).orElseThrow();
+        ObjectNode patch =
+                JsonNodeFactory.instance
+                        .objectNode()
+                        .put("requestTitle", ticket.getRequestTitle())
+                        .put("priority", ticket.getPriority().toString());
+
+        TicketPatchResult result = ticketService.patchTicket(1L, patch, null);
+
+        assertThat(result.changes().isEmpty()).isTrue();
+        assertThat(result.version()).isEqualTo(ticket.getVersion());
+        verify(spyEventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldRejectPatchOfReadOnlyFieldOrStaleVersion() {
+        Ticket ticket = ticketRepository.findById(1L).orElseThrow();
+
+        ObjectNode readOnlyPatch = JsonNodeFactory.instance.objectNode().put("teamId", 2L);
+        assertThatThrownBy(() -> ticketService.patchTicket(1L, readOnlyPatch, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("teamId");
+        assertThatThrownBy(
+                        () ->
+                                ticketService.patchTicket(
+                                        1L,
+                                        JsonNodeFactory.instance.objectNode().put("estimate", 3),
+                                        ticket.getVersion() + 1))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
     @Test
     void shouldUpdateTicketSuccessfully() {
         TicketDTO ticketDTO = ticketMapper.toDto(ticketRepository.findById(1L).orElseThrow());
@@ -187,6 +426,21 @@ public class TicketServiceIT {
         assertThat(previousEntity.getNumberAttachments()).isGreaterThanOrEqualTo(0);
     }
 
+    @Test
+    void shouldFindTicketNeighborsSuccessfully() {
+        TicketNeighborsDTO neighbors = ticketService.getTicketNeighbors(11L, null).orElseThrow();
+
+        assertThat(neighbors.getPrevious())
+                .isEqualTo(new TicketNeighborDTO(1L, "Customer Refund Issue"));
+        assertThat(neighbors.getNext())
+                .isEqualTo(new TicketNeighborDTO(12L, "Refund Status Inquiry"));
+    }
+
+    @Test
+    void shouldNotFindNeighborsOfMissingTicket() {
+        assertThat(ticketService.getTicketNeighbors(Long.MAX_VALUE, null)).isEmpty();
+    }
+
     @Test
     void shouldFindTicketsSuccessfully() {
         QueryDTO queryDTO = new QueryDTO();
@@ -201,6 +455,188 @@ public class TicketServiceIT {
         assertThat(tickets.getContent().get(0).getTeamId()).isEqualTo(1L);
     }
 
+    @Test
+    void shouldFindTicketsWithEstimatedOrNoCount() {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(List.of(new Filter("team.id", FilterOperator.EQ, 1L)));
+        Pageable firstPage = PageRequest.of(0, 1, Sort.by("id"));
+
+        CountedPage<TicketDTO> exact =
+                ticketService.findTickets(queryDTO, firstPage, CountMode.EXACT);
+        CountedPage<TicketDTO> estimate =
+                ticketService.findTickets(queryDTO, firstPage, CountMode.ESTIMATE);
+        CountedPage<TicketDTO> none =
+                ticketService.findTickets(queryDTO, firstPage, CountMode.NONE);
+
+        assertThat(exact.getTotalElements()).isGreaterThan(2);
+        // Below the cap the estimate is the exact count
+        assertThat(estimate.isTotalExact()).isTrue();
+        assertThat(estimate.getTotalElements()).isEqualTo(exact.getTotalElements());
+        assertThat(estimate.getContent())
+                .extracting(TicketDTO::getId)
+                .containsExactly(exact.getContent().get(0).getId());
+        // Without a count the total only says that there is a next page
+        assertThat(none.isTotalExact()).isFalse();
+        assertThat(none.getTotalElements()).isEqualTo(2);
+        assertThat(none.hasNext()).isTrue();
+        assertThat(none.getContent())
+                .extracting(TicketDTO::getId)
+                .containsExactly(exact.getContent().get(0).getId());
+
+        Pageable lastPage = PageRequest.of((int) exact.getTotalElements() - 1, 1, Sort.by("id"));
+        CountedPage<TicketDTO> last = ticketService.findTickets(queryDTO, lastPage, CountMode.NONE);
+        assertThat(last.isTotalExact()).isTrue();
+        assertThat(last.getTotalElements()).isEqualTo(exact.getTotalElements());
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldFindTicketsByFullTextSearchOrderedByRelevance() {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(
+                List.of(
+                        new Filter(
+                                "requestTitle,requestDescription", FilterOperator.FT, "laptop")));
+
+        Page<TicketDTO> tickets = ticketService.findTickets(queryDTO, Pageable.unpaged());
+
+        // Ticket 3 has the word in its title, ticket 7 only in its description
+        assertThat(tickets.getContent()).extracting(TicketDTO::getId).containsExactly(3L, 7L);
+    }
+
+    @Test
+    void shouldMatchPartialWordsInFullTextSearch() {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(
+                List.of(new Filter("requestTitle,requestDescription", FilterOperator.FT, "lapt")));
+
+        Page<TicketDTO> tickets = ticketService.findTickets(queryDTO, Pageable.unpaged());
+
+        // Ticket 3 has "Laptop" in its title, ticket 7 only in its description
+        assertThat(tickets.getContent())
+                .extracting(TicketDTO::getId)
+                .containsExactlyInAnyOrder(3L, 7L);
+    }
+
+    @Test
+    void shouldFindTicketByDescriptionSubstringInFullTextSearch() {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(
+                List.of(new Filter("requestTitle,requestDescription", FilterOperator.FT, "EMOT")));
+
+        Page<TicketDTO> tickets = ticketService.findTickets(queryDTO, Pageable.unpaged());
+
+        // Only the description of ticket 3 has it, inside "remote"
+        assertThat(tickets.getContent()).extracting(TicketDTO::getId).containsExactly(3L);
+    }
+
+    @Test
+    void shouldFindTicketsByCursorSuccessfully() {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(List.of(new Filter("team.id", FilterOperator.EQ, 1L)));
+
+        List<Long> expectedIds =
+                ticketService
+                        .findTickets(queryDTO, Pageable.unpaged(Sort.by(Sort.Direction.DESC, "id")))
+                        .map(TicketDTO::getId)
+                        .getContent();
+
+        List<Long> scrolledIds = new ArrayList<>();
+        String after = null;
+        int slices = 0;
+        do {
+            CursorSlice<TicketDTO> slice =
+                    ticketService.findTicketsByCursor(queryDTO, after, 2, Sort.unsorted());
+            assertThat(slice.getContent()).hasSizeLessThanOrEqualTo(2);
+            slice.getContent().forEach(ticket -> assertThat(ticket.getTeamId()).isEqualTo(1L));
+            slice.getContent().forEach(ticket -> scrolledIds.add(ticket.getId()));
+            after = slice.getNextCursor();
+            assertThat(slice.isHasNext()).isEqualTo(after != null);
+            slices++;
+        } while (after != null && slices < 100);
+
+        assertThat(scrolledIds).isNotEmpty().containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    void shouldRejectCursorIssuedForDifferentSort() {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(List.of(new Filter("team.id", FilterOperator.EQ, 1L)));
+
+        CursorSlice<TicketDTO> firstSlice =
+                ticketService.findTicketsByCursor(queryDTO, null, 1, Sort.unsorted());
+        assertThat(firstSlice.getNextCursor()).isNotNull();
+
+        assertThatThrownBy(
+                        () ->
+                                ticketService.findTicketsByCursor(
+                                        queryDTO,
+                                        firstSlice.getNextCursor(),
+                                        1,
+                                        Sort.by("priority")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldScrollTicketsBySortWithIdAppended() {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(List.of(new Filter("team.id", FilterOperator.EQ, 1L)));
+        Sort sort = Sort.by(Sort.Direction.DESC, "priority");
+
+        List<Long> expectedIds =
+                ticketService
+                        .findTickets(queryDTO, Pageable.unpaged(sort.and(Sort.by("id"))))
+                        .map(TicketDTO::getId)
+                        .getContent();
+
+        List<Long> scrolledIds = new ArrayList<>();
+        String after = null;
+        int slices = 0;
+        do {
+            CursorSlice<TicketDTO> slice =
+                    ticketService.findTicketsByCursor(queryDTO, after, 2, sort);
+            slice.getContent().forEach(ticket -> scrolledIds.add(ticket.getId()));
+            after = slice.getNextCursor();
+            slices++;
+        } while (after != null && slices < 100);
+
+        assertThat(scrolledIds).isNotEmpty().containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    void shouldRejectCursorSortOnNullableProperty() {
+        assertThatThrownBy(
+                        () ->
+                                ticketService.findTicketsByCursor(
+                                        new QueryDTO(),
+                                        null,
+                                        1,
+                                        Sort.by("estimatedCompletionDate")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectTamperedCursor() {
+        Sort sort = Sort.by("priority");
+        for (String keys :
+                List.of(
+                        "{\"priority\":\"High\"}",
+                        "{\"priority\":\"High\",\"id\":3,\"requestTitle\":\"a\"}",
+                        "{\"priority\":null,\"id\":3}")) {
+            String cursor =
+                    Base64.getUrlEncoder()
+                            .withoutPadding()
+                            .encodeToString(keys.getBytes(StandardCharsets.UTF_8));
+
+            assertThatThrownBy(
+                            () ->
+                                    ticketService.findTicketsByCursor(
+                                            new QueryDTO(), cursor, 1, sort))
+                    .as(keys)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Test
     void shouldGetTicketByIdSuccessfully() {
         TicketDTO ticket = ticketService.getTicketById(1L);
@@ -211,6 +647,29 @@ public class TicketServiceIT {
         assertThat(ticket.getChannel()).isEqualTo(TicketChannel.WEB_PORTAL);
     }
 
+    @Test
+    void shouldGetTicketsByIdsInOneQueryAndRequestOrder() {
+        entityManager.clear();
+        SqlStatementCounter.reset();
+
+        List<TicketDTO> tickets =
+                ticketService.getTicketsByIds(List.of(2L, 1L, Long.MAX_VALUE, 2L));
+
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+        assertThat(tickets).extracting(TicketDTO::getId).containsExactly(2L, 1L);
+        assertThat(tickets.get(1).getRequestTitle()).isEqualTo("Customer Refund Issue");
+        assertThat(tickets.get(1).getTeamName()).isNotNull();
+    }
+
+    @Test
+    void shouldRejectTooManyTicketIds() {
+        List<Long> ids =
+                LongStream.rangeClosed(1, TicketService.MAX_TICKETS_BY_IDS + 1).boxed().toList();
+
+        assertThatThrownBy(() -> ticketService.getTicketsByIds(ids))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void shouldDeleteTicketSuccessfully() {
         // Create a ticket to delete
@@ -372,13 +831,107 @@ public class TicketServiceIT {
         assertThat(capturedEvent.getTargetStateId()).isEqualTo(newStateId);
     }
 
+    @Test
+    void shouldBulkUpdateTicketStateAndAssignee() {
+        int watchersBefore = ticketRepository.findById(11L).orElseThrow().getNumberWatchers();
+
+        List<TicketDTO> updatedTickets =
+                ticketService.bulkUpdateTickets(
+                        TicketBulkUpdateDTO.builder()
+                                .ticketIds(List.of(12L, 1L, 11L))
+                                .currentStateId(5L)
+                                .assignUserId(5L)
+                                .build());
+
+        assertThat(updatedTickets).extracting(TicketDTO::getId).containsExactly(12L, 1L, 11L);
+        assertThat(updatedTickets)
+                .allSatisfy(
+                        ticket -> {
+                            assertThat(ticket.getCurrentStateId()).isEqualTo(5L);
+                            assertThat(ticket.getIsCompleted()).isTrue();
+                            assertThat(ticket.getAssignUserId()).isEqualTo(5L);
+                        });
+        // User 5 already watched ticket 1 but not ticket 11
+        assertThat(entityWatcherRepository.findWatcherIdsByEntity(EntityType.Ticket, 1L))
+                .containsOnlyOnce(5L);
+        assertThat(entityWatcherRepository.findWatcherIdsByEntity(EntityType.Ticket, 11L))
+                .contains(5L);
+        assertThat(updatedTickets.get(2).getNumberWatchers()).isEqualTo(watchersBefore + 1);
+        assertThat(workflowTransitionHistoryRepository.findByTicketId(12L))
+                .anyMatch(history -> history.getToState().getId().equals(5L));
+
+        ArgumentCaptor<ApplicationEvent> eventCaptor =
+                ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(spyEventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues())
+                .hasExactlyElementsOfTypes(
+                        AuditLogBulkUpdateEvent.class, TicketBulkWorkStateTransitionEvent.class);
+        TicketBulkWorkStateTransitionEvent transitionEvent =
+                (TicketBulkWorkStateTransitionEvent) eventCaptor.getAllValues().get(1);
+        assertThat(transitionEvent.getTransitions())
+                .extracting(TicketBulkWorkStateTransitionEvent.Transition::sourceStateId)
+                .containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    void shouldRejectBulkStateChangeOutsideTheTicketWorkflow() {
+        // Ticket 2 belongs to another workflow than state 5
+        TicketBulkUpdateDTO bulkUpdate =
+                TicketBulkUpdateDTO.builder().ticketIds(List.of(1L, 2L)).currentStateId(5L).build();
+
+        assertThatThrownBy(() -> ticketService.bulkUpdateTickets(bulkUpdate))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Ticket 2");
+    }
+
+    @Test
+    void shouldRejectBulkUpdateOfMissingTickets() {
+        TicketBulkUpdateDTO bulkUpdate =
+                TicketBulkUpdateDTO.builder()
+                        .ticketIds(List.of(1L, 9999L))
+                        .priority(TicketPriority.High)
+                        .build();
+
+        assertThatThrownBy(() -> ticketService.bulkUpdateTickets(bulkUpdate))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("9999");
+    }
+
+    @Test
+    void shouldIssueFewerStatementsForBulkUpdateThanPerTicketLoop() {
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter.reset();
+        for (Long ticketId : List.of(1L, 11L)) {
+            ticketService.updateTicketState(ticketId, 5L);
+        }
+        entityManager.flush();
+        // Excludes the history rows, which the loop writes later from an event listener
+        long loopStatements = SqlStatementCounter.count();
+
+        entityManager.clear();
+        SqlStatementCounter.reset();
+        ticketService.bulkUpdateTickets(
+                TicketBulkUpdateDTO.builder()
+                        .ticketIds(List.of(5L, 12L))
+                        .currentStateId(5L)
+                        .build());
+        entityManager.flush();
+        long bulkStatements = SqlStatementCounter.count();
+
+        assertThat(bulkStatements).isLessThan(loopStatements);
+    }
+
     @Test
     void shouldCloseTicketsForGivenIterationId() {
+        long version = ticketRepository.findById(1L).orElseThrow().getVersion();
+
         ticketService.closeTicketsWithIteration(3L);
 
         Ticket ticket = ticketRepository.findById(1L).get();
         assertThat(ticket.getIteration().getId()).isEqualTo(3L);
         assertThat(ticket.getIsCompleted()).isTrue();
+        assertThat(ticket.getVersion()).isEqualTo(version + 1);
 
         ticket = ticketRepository.findById(2L).get();
         assertThat(ticket.getIteration().getTotalTickets()).isEqualTo(3L);
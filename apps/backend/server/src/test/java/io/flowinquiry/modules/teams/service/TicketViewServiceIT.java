@@ -0,0 +1,111 @@
+package io.flowinquiry.modules.teams.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.flowinquiry.it.IntegrationTest;
+import io.flowinquiry.modules.teams.domain.TicketView;
+import io.flowinquiry.modules.teams.repository.TicketViewRepository;
+import io.flowinquiry.modules.teams.service.dto.TicketDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketViewDTO;
+import io.flowinquiry.modules.teams.service.dto.TicketViewRebuildDTO;
+import io.flowinquiry.query.CountMode;
+import io.flowinquiry.query.CountedPage;
+import io.flowinquiry.query.Filter;
+import io.flowinquiry.query.FilterOperator;
+import io.flowinquiry.query.QueryDTO;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+@IntegrationTest
+@Transactional
+public class TicketViewServiceIT {
+
+    @Autowired private TicketViewService ticketViewService;
+    @Autowired private TicketViewProjector ticketViewProjector;
+    @Autowired private TicketViewRepository ticketViewRepository;
+    @Autowired private TicketService ticketService;
+    @Autowired private EntityManager entityManager;
+
+    @Test
+    void shouldProjectUpdatedTicketWithTheNamesOfItsAssociations() {
+        TicketDTO ticket = ticketService.getTicketById(1L);
+        ticket.setRequestTitle("Projected title");
+        ticketService.updateTicket(ticket);
+        entityManager.flush();
+
+        ticketViewProjector.project(List.of(1L), Instant.now());
+        entityManager.clear();
+
+        TicketDTO updated = ticketService.getTicketById(1L);
+        TicketView view = ticketViewRepository.findById(1L).orElseThrow();
+        assertThat(view.getRequestTitle()).isEqualTo("Projected title");
+        assertThat(view.getTicketVersion()).isEqualTo(updated.getVersion());
+        assertThat(view.getTeamName()).isEqualTo(updated.getTeamName());
+        assertThat(view.getAssignUserName()).isEqualTo(updated.getAssignUserName());
+        assertThat(view.getCurrentStateId()).isEqualTo(updated.getCurrentStateId());
+        assertThat(view.getCurrentStateName()).isEqualTo(updated.getCurrentStateName());
+        assertThat(view.getIterationName()).isEqualTo(updated.getIterationName());
+    }
+
+    @Test
+    void shouldNotRewriteRowsThatAreUpToDate() {
+        ticketViewProjector.project(List.of(1L), Instant.now());
+
+        assertThat(ticketViewProjector.project(List.of(1L), Instant.now())).isZero();
+    }
+
+    @Test
+    void shouldSearchViewWithTicketFieldPaths() {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(List.of(new Filter("team.id", FilterOperator.EQ, 1L)));
+
+        CountedPage<TicketViewDTO> tickets =
+                ticketViewService.findTickets(
+                        queryDTO,
+                        PageRequest.of(0, 10, Sort.by("currentState.id", "id")),
+                        CountMode.EXACT);
+
+        assertThat(tickets.getContent()).isNotEmpty();
+        assertThat(tickets.getContent()).allMatch(ticket -> ticket.getTeamId().equals(1L));
+        assertThat(tickets.getContent())
+                .extracting(TicketViewDTO::getTeamName)
+                .doesNotContainNull();
+    }
+
+    @Test
+    void shouldRejectSearchOnFieldOutsideTheView() {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(List.of(new Filter("team.organization.id", FilterOperator.EQ, 1L)));
+
+        assertThatThrownBy(
+                        () ->
+                                ticketViewService.findTickets(
+                                        queryDTO, PageRequest.of(0, 10), CountMode.NONE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReportAndRepairStaleRows() {
+        TicketDTO ticket = ticketService.getTicketById(1L);
+        ticket.setRequestTitle("Not yet projected");
+        ticketService.updateTicket(ticket);
+        entityManager.flush();
+
+        assertThat(ticketViewService.getStatus().staleTickets()).isPositive();
+
+        TicketViewRebuildDTO result = ticketViewService.rebuild();
+        entityManager.clear();
+
+        assertThat(result.rewrittenTickets()).isGreaterThanOrEqualTo(1);
+        assertThat(ticketViewRepository.findById(1L).orElseThrow().getRequestTitle())
+                .isEqualTo("Not yet projected");
+        assertThat(ticketViewService.getStatus().staleTickets()).isZero();
+    }
+}
@@ -0,0 +1,54 @@
+package io.flowinquiry.modules.teams.service.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.flowinquiry.it.IntegrationTest;
+import io.flowinquiry.modules.collab.domain.EntityType;
+import io.flowinquiry.modules.collab.repository.EntityWatcherRepository;
+import io.flowinquiry.modules.teams.domain.Ticket;
+import io.flowinquiry.modules.teams.repository.TicketRepository;
+import io.flowinquiry.modules.teams.service.TicketCache;
+import io.flowinquiry.modules.teams.service.TicketService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@IntegrationTest
+@Transactional
+public class TicketCounterReconciliationJobIT {
+
+    @Autowired private TicketRepository ticketRepository;
+    @Autowired private EntityWatcherRepository entityWatcherRepository;
+    @Autowired private TicketCache ticketCache;
+    @Autowired private TicketService ticketService;
+    @Autowired private EntityManager entityManager;
+
+    private TicketCounterReconciliationJob job;
+
+    @BeforeEach
+    void setup() {
+        // The scheduled bean is not created for the test profile
+        job = new TicketCounterReconciliationJob(ticketRepository, ticketCache);
+    }
+
+    @Test
+    void shouldRepairDriftedCounters() {
+        int watchers = entityWatcherRepository.findWatcherIdsByEntity(EntityType.Ticket, 1L).size();
+        int attachments = ticketRepository.findById(2L).orElseThrow().getNumberAttachments();
+        ticketRepository.adjustNumberWatchers(1L, 5);
+        ticketRepository.adjustNumberAttachments(2L, 3);
+        entityManager.clear();
+        assertThat(ticketService.getTicketById(1L).getNumberWatchers()).isEqualTo(watchers + 5);
+
+        job.reconcileCounters();
+        entityManager.clear();
+
+        Ticket watched = ticketRepository.findById(1L).orElseThrow();
+        assertThat(watched.getNumberWatchers()).isEqualTo(watchers);
+        Ticket attached = ticketRepository.findById(2L).orElseThrow();
+        assertThat(attached.getNumberAttachments()).isEqualTo(attachments);
+        assertThat(ticketService.getTicketById(1L).getNumberWatchers()).isEqualTo(watchers);
+    }
+}
@@ -0,0 +1,37 @@
+package io.flowinquiry.modules.teams.service.job;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.flowinquiry.modules.teams.repository.TicketRepository;
+import io.flowinquiry.modules.teams.service.TicketCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketCounterReconciliationJobTest {
+
+    @Mock private TicketRepository ticketRepository;
+
+    @Mock private TicketCache ticketCache;
+
+    private TicketCounterReconciliationJob job;
+
+    @BeforeEach
+    public void setup() {
+        job = new TicketCounterReconciliationJob(ticketRepository, ticketCache);
+    }
+
+    @Test
+    public void testReconcileCounters() {
+        when(ticketRepository.reconcileCounters()).thenReturn(3);
+
+        job.reconcileCounters();
+
+        verify(ticketRepository).reconcileCounters();
+        verify(ticketCache).evictAll();
+    }
+}
@@ -1,7 +1,12 @@
 package io.flowinquiry.modules.teams.service.listener;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 
+import io.flowinquiry.modules.shared.service.outbox.OutboxService;
 import io.flowinquiry.modules.teams.service.TicketHealthEvalService;
 import io.flowinquiry.modules.teams.service.dto.TicketDTO;
 import io.flowinquiry.modules.teams.service.event.NewTicketCreatedEvent;
@@ -16,11 +21,22 @@ public class NewTicketCreatedAiSummaryEventListenerTest {
 
     @Mock private TicketHealthEvalService ticketHealthEvalService;
 
+    @Mock private OutboxService outboxService;
+
     private NewTicketCreatedAiSummaryEventListener listener;
 
     @BeforeEach
     public void setup() {
-        listener = new NewTicketCreatedAiSummaryEventListener(ticketHealthEvalService);
+        listener =
+                new NewTicketCreatedAiSummaryEventListener(ticketHealthEvalService, outboxService);
+        lenient()
+                .doAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(1).run();
+                            return null;
+                        })
+                .when(outboxService)
+                .runOnce(anyString(), any());
     }
 
     @Test
@@ -44,6 +60,7 @@ public class NewTicketCreatedAiSummaryEventListenerTest {
 
         // Then
         String expectedContent = "Title: " + title + "\n" + "Description: " + description + "\n";
+        verify(outboxService).runOnce(eq("new-ticket-ai-summary"), any());
         verify(ticketHealthEvalService).evaluateConversationHealth(ticketId, expectedContent, true);
     }
 }
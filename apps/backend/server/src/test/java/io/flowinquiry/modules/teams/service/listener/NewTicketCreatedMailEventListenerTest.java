@@ -1,6 +1,9 @@
 package io.flowinquiry.modules.teams.service.listener;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -11,6 +14,7 @@ import io.flowinquiry.modules.collab.domain.EntityType;
 import io.flowinquiry.modules.collab.domain.EntityWatcher;
 import io.flowinquiry.modules.collab.repository.EntityWatcherRepository;
 import io.flowinquiry.modules.collab.service.MailService;
+import io.flowinquiry.modules.shared.service.outbox.OutboxService;
 import io.flowinquiry.modules.teams.service.TicketService;
 import io.flowinquiry.modules.teams.service.dto.TicketDTO;
 import io.flowinquiry.modules.teams.service.event.NewTicketCreatedEvent;
@@ -41,6 +45,8 @@ public class NewTicketCreatedMailEventListenerTest {
 
     @Mock private MessageSource messageSource;
 
+    @Mock private OutboxService outboxService;
+
     private NewTicketCreatedMailEventListener listener;
 
     @BeforeEach
@@ -51,7 +57,16 @@ public class NewTicketCreatedMailEventListenerTest {
                         ticketService,
                         mailService,
                         userMapper,
-                        messageSource);
+                        messageSource,
+                        outboxService);
+        lenient()
+                .doAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(1).run();
+                            return null;
+                        })
+                .when(outboxService)
+                .runOnce(anyString(), any());
     }
 
     @Test
@@ -75,7 +90,7 @@ public class NewTicketCreatedMailEventListenerTest {
         // Then
         verify(ticketService).getTicketById(ticketId);
         verify(entityWatcherRepository).findByEntityTypeAndEntityId(EntityType.Ticket, ticketId);
-        verify(mailService, never()).sendEmail(any(EmailContext.class));
+        verify(mailService, never()).sendEmailSync(any(EmailContext.class));
     }
 
     @Test
@@ -135,7 +150,9 @@ public class NewTicketCreatedMailEventListenerTest {
 
         ArgumentCaptor<EmailContext> emailContextCaptor =
                 ArgumentCaptor.forClass(EmailContext.class);
-        verify(mailService, times(2)).sendEmail(emailContextCaptor.capture());
+        verify(outboxService).runOnce(eq("new-ticket-mail:101"), any());
+        verify(outboxService).runOnce(eq("new-ticket-mail:102"), any());
+        verify(mailService, times(2)).sendEmailSync(emailContextCaptor.capture());
 
         List<EmailContext> capturedContexts = emailContextCaptor.getAllValues();
         assert capturedContexts.size() == 2;
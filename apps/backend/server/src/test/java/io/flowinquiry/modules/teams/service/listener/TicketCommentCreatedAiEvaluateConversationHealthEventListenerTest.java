@@ -1,11 +1,15 @@
 package io.flowinquiry.modules.teams.service.listener;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.flowinquiry.modules.collab.domain.EntityType;
 import io.flowinquiry.modules.collab.service.dto.CommentDTO;
+import io.flowinquiry.modules.shared.service.outbox.OutboxService;
 import io.flowinquiry.modules.teams.service.TicketHealthEvalService;
 import io.flowinquiry.modules.teams.service.TicketService;
 import io.flowinquiry.modules.teams.service.dto.TicketDTO;
@@ -24,13 +28,23 @@ public class TicketCommentCreatedAiEvaluateConversationHealthEventListenerTest {
 
     @Mock private TicketHealthEvalService ticketHealthEvalService;
 
+    @Mock private OutboxService outboxService;
+
     private TicketCommentCreatedAiEvaluateConversationHealthEventListener listener;
 
     @BeforeEach
     public void setup() {
         listener =
                 new TicketCommentCreatedAiEvaluateConversationHealthEventListener(
-                        ticketService, ticketHealthEvalService);
+                        ticketService, ticketHealthEvalService, outboxService);
+        lenient()
+                .doAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(1).run();
+                            return null;
+                        })
+                .when(outboxService)
+                .runOnce(anyString(), any());
     }
 
     @Test
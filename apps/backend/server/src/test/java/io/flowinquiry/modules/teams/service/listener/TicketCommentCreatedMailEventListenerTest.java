@@ -1,6 +1,9 @@
 package io.flowinquiry.modules.teams.service.listener;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -13,6 +16,7 @@ import io.flowinquiry.modules.collab.repository.EntityWatcherRepository;
 import io.flowinquiry.modules.collab.service.CommentService;
 import io.flowinquiry.modules.collab.service.MailService;
 import io.flowinquiry.modules.collab.service.dto.CommentDTO;
+import io.flowinquiry.modules.shared.service.outbox.OutboxService;
 import io.flowinquiry.modules.teams.service.TicketService;
 import io.flowinquiry.modules.teams.service.dto.TicketDTO;
 import io.flowinquiry.modules.teams.service.event.TicketCommentCreatedEvent;
@@ -44,6 +48,8 @@ public class TicketCommentCreatedMailEventListenerTest {
 
     @Mock private MessageSource messageSource;
 
+    @Mock private OutboxService outboxService;
+
     private TicketCommentCreatedMailEventListener listener;
 
     @BeforeEach
@@ -55,7 +61,16 @@ public class TicketCommentCreatedMailEventListenerTest {
                         entityWatcherRepository,
                         ticketService,
                         mailService,
-                        messageSource);
+                        messageSource,
+                        outboxService);
+        lenient()
+                .doAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(1).run();
+                            return null;
+                        })
+                .when(outboxService)
+                .runOnce(anyString(), any());
     }
 
     @Test
@@ -87,7 +102,7 @@ public class TicketCommentCreatedMailEventListenerTest {
         verify(commentService).getCommentById(commentId);
         verify(entityWatcherRepository).findByEntityTypeAndEntityId(EntityType.Ticket, ticketId);
         verify(ticketService).getTicketById(ticketId);
-        verify(mailService, never()).sendEmail(any(EmailContext.class));
+        verify(mailService, never()).sendEmailSync(any(EmailContext.class));
     }
 
     @Test
@@ -153,6 +168,8 @@ public class TicketCommentCreatedMailEventListenerTest {
         verify(userMapper).toDto(watcher1User);
         verify(userMapper).toDto(watcher2User);
         verify(userMapper, never()).toDto(commenterUser); // Commenter should not receive email
-        verify(mailService, times(2)).sendEmail(any(EmailContext.class));
+        verify(outboxService).runOnce(eq("ticket-comment-mail:" + watcher1Id), any());
+        verify(outboxService).runOnce(eq("ticket-comment-mail:" + watcher2Id), any());
+        verify(mailService, times(2)).sendEmailSync(any(EmailContext.class));
     }
 }
@@ -1,6 +1,7 @@
 package io.flowinquiry.modules.teams.service.listener;
 
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.flowinquiry.modules.collab.domain.ActivityLog;
@@ -12,10 +13,14 @@ import io.flowinquiry.modules.teams.domain.WorkflowState;
 import io.flowinquiry.modules.teams.repository.TicketRepository;
 import io.flowinquiry.modules.teams.repository.WorkflowStateRepository;
 import io.flowinquiry.modules.teams.service.WorkflowTransitionHistoryService;
+import io.flowinquiry.modules.teams.service.event.TicketBulkWorkStateTransitionEvent;
+import io.flowinquiry.modules.teams.service.event.TicketBulkWorkStateTransitionEvent.Transition;
 import io.flowinquiry.modules.teams.service.event.TicketWorkStateTransitionEvent;
 import io.flowinquiry.modules.usermanagement.domain.User;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -185,4 +190,39 @@ public class TicketWorkStateTransitionEventListenerTest {
         verify(workflowStateRepository).findById(targetStateId);
         verify(ticketRepository).findById(ticketId);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testOnBulkWorkflowStateTransition_SavesActivityLogsInOneBatch() {
+        // Given
+        Team team = Team.builder().id(100L).name("Test Team").build();
+        Ticket first = Ticket.builder().id(1L).team(team).requestTitle("First Ticket").build();
+        Ticket second = Ticket.builder().id(2L).team(team).requestTitle("Second Ticket").build();
+        WorkflowState inProgress = WorkflowState.builder().id(10L).stateName("In Progress").build();
+        WorkflowState review = WorkflowState.builder().id(11L).stateName("Review").build();
+        WorkflowState done = WorkflowState.builder().id(12L).stateName("Done").build();
+
+        TicketBulkWorkStateTransitionEvent event =
+                new TicketBulkWorkStateTransitionEvent(
+                        this, List.of(new Transition(1L, 10L, 12L), new Transition(2L, 11L, 12L)));
+
+        when(workflowStateRepository.findAllById(Set.of(10L, 11L, 12L)))
+                .thenReturn(List.of(inProgress, review, done));
+        when(ticketRepository.findAllByIdIn(List.of(1L, 2L))).thenReturn(List.of(first, second));
+
+        // When
+        listener.onBulkWorkflowStateTransition(event);
+
+        // Then
+        verifyNoInteractions(workflowTransitionHistoryService);
+        ArgumentCaptor<List<ActivityLog>> activityLogsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(activityLogRepository).saveAll(activityLogsCaptor.capture());
+
+        List<ActivityLog> activityLogs = activityLogsCaptor.getValue();
+        assert activityLogs.size() == 2;
+        assert activityLogs.get(0).getContent().contains("First Ticket");
+        assert activityLogs.get(0).getContent().contains("In Progress");
+        assert activityLogs.get(1).getContent().contains("Review");
+        assert activityLogs.get(1).getContent().contains("Done");
+    }
 }
@@ -13,6 +13,8 @@ import io.flowinquiry.modules.usermanagement.domain.User;
 import io.flowinquiry.modules.usermanagement.repository.UserRepository;
 import io.flowinquiry.modules.usermanagement.service.UserService;
 import jakarta.persistence.EntityManager;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -99,6 +101,33 @@ class PublicUserControllerIT {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @Transactional
+    void getUsersByIdsInRequestOrder() throws Exception {
+        userRepository.saveAndFlush(user);
+
+        restUserMockMvc
+                .perform(get("/api/users?ids={ids}", user.getId() + ",123456,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(user.getId().intValue()))
+                .andExpect(jsonPath("$[0].email").value(user.getEmail()))
+                .andExpect(jsonPath("$[1].id").value(1));
+    }
+
+    @Test
+    @Transactional
+    void getTooManyUsersByIdsIsRejected() throws Exception {
+        String ids =
+                LongStream.rangeClosed(1, UserService.MAX_USERS_BY_IDS + 1)
+                        .mapToObj(Long::toString)
+                        .collect(Collectors.joining(","));
+
+        restUserMockMvc
+                .perform(get("/api/users?ids={ids}", ids))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getNonExistingUser() throws Exception {
@@ -0,0 +1,61 @@
+package io.flowinquiry.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.flowinquiry.it.IntegrationTest;
+import io.flowinquiry.modules.teams.domain.Ticket;
+import io.flowinquiry.modules.teams.repository.TicketRepository;
+import io.flowinquiry.modules.usermanagement.domain.User;
+import io.flowinquiry.modules.usermanagement.repository.UserRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+@IntegrationTest
+@Transactional
+public class PagedQueryExecutorIT {
+
+    @Autowired private PagedQueryExecutor pagedQueryExecutor;
+    @Autowired private TicketRepository ticketRepository;
+    @Autowired private UserRepository userRepository;
+
+    @Test
+    void shouldStopCountingAtTheLimit() {
+        Specification<Ticket> spec = specificationOf(new Filter("team.id", FilterOperator.EQ, 1L));
+        long total = ticketRepository.count(spec);
+
+        assertThat(total).isGreaterThan(2);
+        assertThat(pagedQueryExecutor.countUpTo(Ticket.class, spec, 2)).isEqualTo(2);
+        assertThat(pagedQueryExecutor.countUpTo(Ticket.class, spec, (int) total + 1))
+                .isEqualTo(total);
+    }
+
+    @Test
+    void shouldCountRowsMatchedThroughCollections() {
+        Specification<User> spec =
+                specificationOf(new Filter("userTeams.team.id", FilterOperator.EQ, 1L));
+
+        assertThat(pagedQueryExecutor.countUpTo(User.class, spec, 10_001))
+                .isPositive()
+                .isEqualTo(userRepository.count(spec));
+    }
+
+    @Test
+    void shouldCountRowsOfSpecificationsOrderedByRelevance() {
+        Specification<Ticket> spec =
+                specificationOf(
+                        new Filter("requestTitle,requestDescription", FilterOperator.FT, "laptop"));
+
+        assertThat(pagedQueryExecutor.countUpTo(Ticket.class, spec, 10_001))
+                .isPositive()
+                .isEqualTo(ticketRepository.count(spec));
+    }
+
+    private static <T> Specification<T> specificationOf(Filter filter) {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(List.of(filter));
+        return QueryUtils.createSpecification(queryDTO);
+    }
+}
@@ -0,0 +1,110 @@
+package io.flowinquiry.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class QueryPlanCompilerTest {
+
+    @BeforeEach
+    public void setup() {
+        QueryPlanCompiler.clearCache();
+    }
+
+    @Test
+    public void testSameShapeReusesPlanAndBindsValuesInOrder() {
+        QueryPlanCompiler.BoundPlan first =
+                QueryPlanCompiler.bind(
+                        groupQuery(
+                                new Filter("team.id", FilterOperator.EQ, 1L),
+                                new Filter("requestTitle", FilterOperator.LK, "refund")));
+        QueryPlanCompiler.BoundPlan second =
+                QueryPlanCompiler.bind(
+                        groupQuery(
+                                new Filter("team.id", FilterOperator.EQ, 2L),
+                                new Filter("requestTitle", FilterOperator.LK, "invoice")));
+
+        assertThat(second.plan()).isSameAs(first.plan());
+        assertThat(first.plan().getValueCount()).isEqualTo(2);
+        assertThat(first.values()).containsExactly(1L, "refund");
+        assertThat(second.values()).containsExactly(2L, "invoice");
+    }
+
+    @Test
+    public void testNullValueCompilesToDifferentPlan() {
+        QueryPlanCompiler.BoundPlan withValue =
+                QueryPlanCompiler.bind(filterQuery(new Filter("project", FilterOperator.EQ, 1L)));
+        QueryPlanCompiler.BoundPlan withNull =
+                QueryPlanCompiler.bind(filterQuery(new Filter("project", FilterOperator.EQ, null)));
+
+        assertThat(withNull.plan()).isNotSameAs(withValue.plan());
+    }
+
+    @Test
+    public void testDifferentShapesDoNotCollide() {
+        QueryPlanCompiler.BoundPlan operator =
+                QueryPlanCompiler.bind(filterQuery(new Filter("name", FilterOperator.EQ, "a")));
+        QueryPlanCompiler.BoundPlan otherOperator =
+                QueryPlanCompiler.bind(filterQuery(new Filter("name", FilterOperator.NE, "a")));
+        QueryPlanCompiler.BoundPlan filters =
+                QueryPlanCompiler.bind(
+                        filterQuery(
+                                new Filter("name", FilterOperator.EQ, "a"),
+                                new Filter("name", FilterOperator.EQ, "b")));
+        QueryPlanCompiler.BoundPlan groups =
+                QueryPlanCompiler.bind(
+                        groupQuery(
+                                new Filter("name", FilterOperator.EQ, "a"),
+                                new Filter("name", FilterOperator.EQ, "b")));
+
+        assertThat(List.of(operator.plan(), otherOperator.plan(), filters.plan(), groups.plan()))
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void testEmptyQueryHasNoValues() {
+        QueryPlanCompiler.BoundPlan boundPlan = QueryPlanCompiler.bind(new QueryDTO());
+
+        assertThat(boundPlan.plan().getValueCount()).isZero();
+        assertThat(boundPlan.values()).isEmpty();
+    }
+
+    @Test
+    public void testGroupWithoutLogicalOperatorIsRejected() {
+        GroupFilter group = new GroupFilter();
+        group.setFilters(List.of(new Filter("name", FilterOperator.EQ, "a")));
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setGroups(List.of(group));
+
+        assertThatThrownBy(() -> QueryPlanCompiler.bind(queryDTO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Logical operator cannot be null");
+    }
+
+    @Test
+    public void testFullTextSearchOnAssociationIsRejected() {
+        QueryDTO queryDTO = filterQuery(new Filter("team.name", FilterOperator.FT, "support"));
+
+        assertThatThrownBy(() -> QueryPlanCompiler.bind(queryDTO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("team.name");
+    }
+
+    private static QueryDTO filterQuery(Filter... filters) {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(List.of(filters));
+        return queryDTO;
+    }
+
+    private static QueryDTO groupQuery(Filter... filters) {
+        GroupFilter group = new GroupFilter();
+        group.setLogicalOperator(LogicalOperator.AND);
+        group.setFilters(List.of(filters));
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setGroups(List.of(group));
+        return queryDTO;
+    }
+}
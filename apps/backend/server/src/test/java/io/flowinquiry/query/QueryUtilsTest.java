@@ -0,0 +1,85 @@
+package io.flowinquiry.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class QueryUtilsTest {
+
+    @Mock private Root<Object> root;
+
+    @Mock private CriteriaQuery<Object> query;
+
+    @Mock private CriteriaBuilder cb;
+
+    @Mock private Path<Object> path;
+
+    @Test
+    public void testInFilterOnLongFieldTakesList() {
+        fieldOfType("id", Long.class);
+
+        toPredicate(new Filter("id", FilterOperator.IN, List.of(1L, 2L)));
+
+        verify(path).in(List.of(1L, 2L));
+    }
+
+    @Test
+    public void testEqFilterOnLongFieldTakesJsonNumber() {
+        fieldOfType("id", Long.class);
+
+        toPredicate(new Filter("id", FilterOperator.EQ, 5));
+
+        verify(cb).equal(path, 5);
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void testGtFilterConvertsStringToFieldType() {
+        fieldOfType("createdAt", Instant.class);
+
+        toPredicate(new Filter("createdAt", FilterOperator.GT, "2025-01-01T00:00:00Z"));
+
+        ArgumentCaptor<Comparable> value = ArgumentCaptor.forClass(Comparable.class);
+        verify(cb).greaterThan(any(Expression.class), value.capture());
+        assertThat(value.getValue()).isEqualTo(Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    @Test
+    public void testAttributeTypeIsResolvedOncePerEntity() {
+        QueryPlanCompiler.clearCache();
+        fieldOfType("priority", Integer.class);
+
+        toPredicate(new Filter("priority", FilterOperator.GT, "1"));
+        toPredicate(new Filter("priority", FilterOperator.GT, "2"));
+
+        verify(path, times(1)).getJavaType();
+    }
+
+    private void fieldOfType(String field, Class<?> type) {
+        doReturn(Object.class).when(root).getJavaType();
+        doReturn(path).when(root).get(field);
+        doReturn(type).when(path).getJavaType();
+    }
+
+    private void toPredicate(Filter filter) {
+        QueryDTO queryDTO = new QueryDTO();
+        queryDTO.setFilters(List.of(filter));
+        QueryUtils.createSpecification(queryDTO).toPredicate(root, query, cb);
+    }
+}
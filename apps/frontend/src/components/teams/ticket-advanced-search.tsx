@@ -315,23 +315,18 @@ const TicketAdvancedSearch: React.FC<TicketAdvancedSearchProps> = ({
       });
     }
 
-    // Search text filter
+    // Search text filter: words of the title or description, or a substring of either
     if (searchText?.trim()) {
       groups.push({
         filters: [
           {
-            field: "requestTitle",
-            operator: "lk",
-            value: `%${searchText}%`,
-          },
-          {
-            field: "requestDescription",
-            operator: "lk",
-            value: `%${searchText}%`,
+            field: "requestTitle,requestDescription",
+            operator: "ft",
+            value: searchText.trim(),
           },
         ],
         groups: [],
-        logicalOperator: "OR",
+        logicalOperator: "AND",
       });
     }
 
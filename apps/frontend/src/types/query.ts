@@ -1,6 +1,6 @@
 import * as z from "zod/v4";
 
-export type Operator = "gt" | "lt" | "eq" | "ne" | "in" | "lk";
+export type Operator = "gt" | "lt" | "eq" | "ne" | "in" | "lk" | "ft";
 
 export type Filter = {
   field: string;
@@ -29,7 +29,7 @@ export type Pagination = {
 // Zod schema for filters
 const filterSchema = z.object({
   field: z.string(),
-  operator: z.enum(["eq", "ne", "gt", "lt", "lk", "in"]),
+  operator: z.enum(["eq", "ne", "gt", "lt", "lk", "in", "ft"]),
   value: z.union([
     z.string(),
     z.number(),